@@ -44,7 +44,7 @@ public interface ExternalTaskClient {
   TopicSubscriptionBuilder subscribe(String topicName);
 
   /**
-   * Stops continuous fetching and locking of tasks
+   * Stops continuous fetching and locking of tasks and releases the connections to the engine
    */
   void stop();
 
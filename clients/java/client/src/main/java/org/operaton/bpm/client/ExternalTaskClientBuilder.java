@@ -16,8 +16,10 @@
  */
 package org.operaton.bpm.client;
 
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 
 import org.operaton.bpm.client.backoff.BackoffStrategy;
@@ -213,6 +215,38 @@ public interface ExternalTaskClientBuilder {
    */
   ExternalTaskClientBuilder disableBackoffStrategy();
 
+  /**
+   * Executes the external task handlers on the given executor, e.g. an executor creating
+   * a virtual thread per task, instead of the thread fetching the tasks. The next tasks
+   * are fetched while the handlers of the previous ones are still running, so a slow task
+   * does not stall the other topics.
+   * This information is optional. By default the handlers are executed one after another
+   * by the fetching thread.
+   * <p>
+   * NOTE: The executor is not shut down by the client.
+   *
+   * @param handlerExecutor the executor which executes the task handlers
+   * @return the builder
+   */
+  ExternalTaskClientBuilder handlerExecutor(Executor handlerExecutor);
+
+  /**
+   * Limits the number of tasks per topic which are fetched but whose handlers did not
+   * finish yet. Tasks of a topic are only fetched again once the topic is below its limit.
+   * Since the tasks of a fetch may be distributed arbitrarily among the topics, a topic
+   * may exceed its limit by the tasks of a single fetch.
+   * Only applies if a {@link #handlerExecutor(Executor)} is configured.
+   *
+   * @param maxTasksInFlightPerTopic
+   *                     <ul>
+   *                       <li> must be greater than zero
+   *                       <li> the default is twice the {@link #maxTasks(int) maximum amount of tasks}
+   *                            fetched within one request
+   *                     </ul>
+   * @return the builder
+   */
+  ExternalTaskClientBuilder maxTasksInFlightPerTopic(int maxTasksInFlightPerTopic);
+
   /**
    * Exposes the internal Apache {@link HttpClientBuilder} for custom client configurations.
    * <p>
@@ -223,6 +257,36 @@ public interface ExternalTaskClientBuilder {
    */
   ExternalTaskClientBuilder customizeHttpClient(Consumer<HttpClientBuilder> httpClientConsumer);
 
+  /**
+   * Sends the requests to the engine over a non-blocking Apache HTTP client instead of the
+   * blocking one. Connections are pooled and kept alive, and HTTP/2 is negotiated for
+   * secured connections, so that concurrent requests (e.g. of handlers executed by a
+   * {@link #handlerExecutor(Executor)}) are multiplexed over few connections. Besides that,
+   * {@link org.operaton.bpm.client.task.ExternalTaskService#completeAsync(org.operaton.bpm.client.task.ExternalTask, java.util.Map, java.util.Map)}
+   * and its siblings do not block the handler while waiting for the response of the engine;
+   * their futures are completed by the {@link #handlerExecutor(Executor)} if one is configured.
+   * The HTTP client is closed when the client is {@link ExternalTaskClient#stop() stopped}
+   * and created again by the next request. This information is optional. By default the blocking HTTP client is used and
+   * {@link #customizeHttpClient(Consumer)} does not apply to the non-blocking one.
+   *
+   * @return the builder
+   */
+  ExternalTaskClientBuilder useAsyncHttpClient();
+
+  /**
+   * Exposes the internal Apache {@link HttpAsyncClientBuilder} for custom client configurations,
+   * e.g. to limit the connections per route or to force HTTP/2 for unsecured connections.
+   * Implies {@link #useAsyncHttpClient()}.
+   * <p>
+   * Interceptors added via {@link #addInterceptor(ClientRequestInterceptor)} are added as last in the {@link #build()} method.
+   * The builder is used again whenever the HTTP client is created after the client was stopped,
+   * so a connection manager configured here must not be closed along with the HTTP client.
+   *
+   * @param asyncHttpClientConsumer the parameter that accepts the {@link HttpAsyncClientBuilder}
+   * @return the builder
+   */
+  ExternalTaskClientBuilder customizeAsyncHttpClient(Consumer<HttpAsyncClientBuilder> asyncHttpClientConsumer);
+
   /**
    * Bootstraps the Operaton client
    *
@@ -233,6 +297,7 @@ public interface ExternalTaskClientBuilder {
    *   <li> if maximum amount of tasks is not greater than zero
    *   <li> if maximum asynchronous response timeout is not greater than zero
    *   <li> if lock duration is not greater than zero
+   *   <li> if maximum amount of tasks in flight per topic is not greater than zero
    * </ul>
    * @return the builder
    */
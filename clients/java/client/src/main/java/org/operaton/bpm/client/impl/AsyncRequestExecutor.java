@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.client.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.io.CloseMode;
+
+import org.operaton.bpm.client.exception.RestException;
+
+/**
+ * Sends the requests of the external task client over a non-blocking HTTP client.
+ * Connections are pooled and kept alive by the underlying client, and HTTP/2 is
+ * negotiated for secured connections so that concurrent requests of the worker
+ * (e.g. completing tasks while a fetch and lock request is pending) are multiplexed
+ * instead of occupying a connection each.
+ *
+ * <p>Blocking calls wait for the response of the asynchronous exchange, while
+ * {@link #postRequestAsync(String, RequestDto, Class)} returns immediately. The futures
+ * returned by the latter are completed by the given completion executor (e.g. the handler
+ * executor of the client), so that their dependent stages never run on the I/O threads
+ * of the HTTP client.</p>
+ *
+ * <p>The HTTP client is created on the first request and released by {@link #close()};
+ * a request after closing creates a new one.</p>
+ */
+public class AsyncRequestExecutor extends RequestExecutor {
+
+  protected Supplier<CloseableHttpAsyncClient> asyncHttpClientFactory;
+  protected CloseableHttpAsyncClient asyncHttpClient;
+
+  /** completes the futures of asynchronous requests, if null the common fork join pool is used */
+  protected Executor completionExecutor;
+
+  protected AsyncRequestExecutor(Supplier<CloseableHttpAsyncClient> asyncHttpClientFactory, ObjectMapper objectMapper,
+                                 Executor completionExecutor) {
+    super(null, objectMapper);
+    this.asyncHttpClientFactory = asyncHttpClientFactory;
+    this.completionExecutor = completionExecutor;
+  }
+
+  @Override
+  protected <T> T postRequest(String resourceUrl, RequestDto requestDto, Class<T> responseClass) {
+    SimpleHttpRequest httpRequest = createPostRequest(resourceUrl, requestDto);
+    return handleResponse(httpRequest, await(executeRequestAsync(httpRequest)), responseClass);
+  }
+
+  @Override
+  protected <T> CompletableFuture<T> postRequestAsync(String resourceUrl, RequestDto requestDto, Class<T> responseClass) {
+    SimpleHttpRequest httpRequest;
+    try {
+      httpRequest = createPostRequest(resourceUrl, requestDto);
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    Executor executor = completionExecutor != null ? completionExecutor : ForkJoinPool.commonPool();
+    return executeRequestAsync(httpRequest)
+        .thenApplyAsync(response -> handleResponse(httpRequest, response, responseClass), executor);
+  }
+
+  @Override
+  protected byte[] getRequest(String resourceUrl) {
+    SimpleHttpRequest httpRequest = SimpleRequestBuilder.get(URI.create(resourceUrl).normalize())
+      .addHeader(HEADER_USER_AGENT)
+      .addHeader(HEADER_CONTENT_TYPE_JSON)
+      .build();
+
+    return handleResponse(httpRequest, await(executeRequestAsync(httpRequest)), byte[].class);
+  }
+
+  @Override
+  protected synchronized void close() {
+    if (asyncHttpClient != null) {
+      asyncHttpClient.close(CloseMode.GRACEFUL);
+      asyncHttpClient = null;
+    }
+  }
+
+  protected SimpleHttpRequest createPostRequest(String resourceUrl, RequestDto requestDto) {
+    return SimpleRequestBuilder.post(URI.create(resourceUrl).normalize())
+      .addHeader(HEADER_USER_AGENT)
+      .addHeader(HEADER_CONTENT_TYPE_JSON)
+      .setBody(serializeRequestBody(requestDto), ContentType.APPLICATION_JSON)
+      .build();
+  }
+
+  /**
+   * The returned future is completed on an I/O thread, so no dependent stages must be
+   * added to it which could block that thread.
+   */
+  protected CompletableFuture<SimpleHttpResponse> executeRequestAsync(SimpleHttpRequest httpRequest) {
+    CompletableFuture<SimpleHttpResponse> result = new CompletableFuture<>();
+
+    getAsyncHttpClient().execute(httpRequest, new FutureCallback<>() {
+
+      @Override
+      public void completed(SimpleHttpResponse response) {
+        result.complete(response);
+      }
+
+      @Override
+      public void failed(Exception e) { // connection was aborted
+        IOException cause = e instanceof IOException ioException ? ioException : new IOException(e);
+        result.completeExceptionally(LOG.exceptionWhileEstablishingConnection(httpRequest, cause));
+      }
+
+      @Override
+      public void cancelled() {
+        result.cancel(false);
+      }
+
+    });
+
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected <T> T handleResponse(SimpleHttpRequest httpRequest, SimpleHttpResponse response, Class<T> responseClass) {
+    byte[] body = response.getBodyBytes();
+
+    if (response.getCode() >= 300) { // >= 300 HTTP status responses
+      EngineRestExceptionDto exceptionDto = body == null || body.length == 0
+          ? new EngineRestExceptionDto()
+          : deserializeResponse(new ByteArrayInputStream(body), EngineRestExceptionDto.class);
+
+      RestException engineException = exceptionDto.toRestException();
+      engineException.setHttpStatusCode(response.getCode());
+      throw LOG.exceptionWhileReceivingResponse(httpRequest, engineException);
+    }
+
+    if (body == null || responseClass.isAssignableFrom(Void.class)) {
+      return null;
+    } else if (responseClass.isAssignableFrom(byte[].class)) {
+      return (T) body;
+    } else {
+      return deserializeResponse(new ByteArrayInputStream(body), responseClass);
+    }
+  }
+
+  protected <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  public synchronized CloseableHttpAsyncClient getAsyncHttpClient() {
+    if (asyncHttpClient == null) {
+      asyncHttpClient = asyncHttpClientFactory.get();
+      asyncHttpClient.start();
+    }
+    return asyncHttpClient;
+  }
+
+}
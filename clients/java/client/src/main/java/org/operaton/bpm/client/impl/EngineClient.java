@@ -19,6 +19,7 @@ package org.operaton.bpm.client.impl;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.operaton.bpm.client.UrlResolver;
 import org.operaton.bpm.client.task.ExternalTask;
@@ -115,6 +116,10 @@ public class EngineClient {
   }
 
   public List<ExternalTask> fetchAndLock(List<TopicRequestDto> topics) {
+    return fetchAndLock(topics, maxTasks);
+  }
+
+  public List<ExternalTask> fetchAndLock(List<TopicRequestDto> topics, int maxTasks) {
     FetchAndLockRequestDto payload = new FetchAndLockRequestDto(workerId, maxTasks, asyncResponseTimeout, topics,
         usePriority, orderingConfig);
 
@@ -137,15 +142,26 @@ public class EngineClient {
   }
 
   public void complete(String taskId, Map<String, Object> variables, Map<String, Object> localVariables) {
-    Map<String, TypedValueField> typedValueDtoMap = typedValues.serializeVariables(variables);
-    Map<String, TypedValueField> localTypedValueDtoMap = typedValues.serializeVariables(localVariables);
-
-    CompleteRequestDto payload = new CompleteRequestDto(workerId, typedValueDtoMap, localTypedValueDtoMap);
+    CompleteRequestDto payload = createCompleteRequest(variables, localVariables);
     String resourcePath = COMPLETE_RESOURCE_PATH.replace("{id}", taskId);
     String resourceUrl = getBaseUrl() + resourcePath;
     engineInteraction.postRequest(resourceUrl, payload, Void.class);
   }
 
+  public CompletableFuture<Void> completeAsync(String taskId, Map<String, Object> variables, Map<String, Object> localVariables) {
+    CompleteRequestDto payload = createCompleteRequest(variables, localVariables);
+    String resourcePath = COMPLETE_RESOURCE_PATH.replace("{id}", taskId);
+    String resourceUrl = getBaseUrl() + resourcePath;
+    return engineInteraction.postRequestAsync(resourceUrl, payload, Void.class);
+  }
+
+  protected CompleteRequestDto createCompleteRequest(Map<String, Object> variables, Map<String, Object> localVariables) {
+    Map<String, TypedValueField> typedValueDtoMap = typedValues.serializeVariables(variables);
+    Map<String, TypedValueField> localTypedValueDtoMap = typedValues.serializeVariables(localVariables);
+
+    return new CompleteRequestDto(workerId, typedValueDtoMap, localTypedValueDtoMap);
+  }
+
   public void setVariables(String processId, Map<String, Object> variables) {
     Map<String, TypedValueField> typedValueDtoMap = typedValues.serializeVariables(variables);
     SetVariablesRequestDto payload = new SetVariablesRequestDto(workerId, typedValueDtoMap);
@@ -161,16 +177,40 @@ public class EngineClient {
                       long retryTimeout,
                       Map<String, Object> variables,
                       Map<String, Object> localVariables) {
-    Map<String, TypedValueField> typedValueDtoMap = typedValues.serializeVariables(variables);
-    Map<String, TypedValueField> localTypedValueDtoMap = typedValues.serializeVariables(localVariables);
-
-    FailureRequestDto payload = new FailureRequestDto(workerId, errorMessage, errorDetails, retries, retryTimeout,
-        typedValueDtoMap, localTypedValueDtoMap);
+    FailureRequestDto payload = createFailureRequest(errorMessage, errorDetails, retries, retryTimeout, variables,
+        localVariables);
     String resourcePath = FAILURE_RESOURCE_PATH.replace("{id}", taskId);
     String resourceUrl = getBaseUrl() + resourcePath;
     engineInteraction.postRequest(resourceUrl, payload, Void.class);
   }
 
+  public CompletableFuture<Void> failureAsync(String taskId,
+                                              String errorMessage,
+                                              String errorDetails,
+                                              int retries,
+                                              long retryTimeout,
+                                              Map<String, Object> variables,
+                                              Map<String, Object> localVariables) {
+    FailureRequestDto payload = createFailureRequest(errorMessage, errorDetails, retries, retryTimeout, variables,
+        localVariables);
+    String resourcePath = FAILURE_RESOURCE_PATH.replace("{id}", taskId);
+    String resourceUrl = getBaseUrl() + resourcePath;
+    return engineInteraction.postRequestAsync(resourceUrl, payload, Void.class);
+  }
+
+  protected FailureRequestDto createFailureRequest(String errorMessage,
+                                                   String errorDetails,
+                                                   int retries,
+                                                   long retryTimeout,
+                                                   Map<String, Object> variables,
+                                                   Map<String, Object> localVariables) {
+    Map<String, TypedValueField> typedValueDtoMap = typedValues.serializeVariables(variables);
+    Map<String, TypedValueField> localTypedValueDtoMap = typedValues.serializeVariables(localVariables);
+
+    return new FailureRequestDto(workerId, errorMessage, errorDetails, retries, retryTimeout, typedValueDtoMap,
+        localTypedValueDtoMap);
+  }
+
   public void bpmnError(String taskId, String errorCode, String errorMessage, Map<String, Object> variables) {
     Map<String, TypedValueField> typeValueDtoMap = typedValues.serializeVariables(variables);
     BpmnErrorRequestDto payload = new BpmnErrorRequestDto(workerId, errorCode, errorMessage, typeValueDtoMap);
@@ -194,6 +234,17 @@ public class EngineClient {
     return engineInteraction.getRequest(resourcePath);
   }
 
+  /**
+   * Releases the connections to the engine, they are established again by the next request.
+   */
+  public void close() {
+    engineInteraction.close();
+  }
+
+  public int getMaxTasks() {
+    return maxTasks;
+  }
+
   public String getBaseUrl() {
     return urlResolver.getBaseUrl();
   }
@@ -25,11 +25,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 
@@ -91,12 +94,15 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
   protected EngineClient engineClient;
   protected TopicSubscriptionManager topicSubscriptionManager;
   protected HttpClientBuilder httpClientBuilder;
+  protected HttpAsyncClientBuilder asyncHttpClientBuilder;
 
   protected List<ClientRequestInterceptor> interceptors;
   protected boolean isAutoFetchingEnabled;
   protected BackoffStrategy backoffStrategy;
   protected boolean isBackoffStrategyDisabled;
   protected UrlResolver urlResolver;
+  protected Executor handlerExecutor;
+  protected Integer maxTasksInFlightPerTopic;
 
   public ExternalTaskClientBuilderImpl() {
     // default values
@@ -205,6 +211,18 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     return this;
   }
 
+  @Override
+  public ExternalTaskClientBuilder handlerExecutor(Executor handlerExecutor) {
+    this.handlerExecutor = handlerExecutor;
+    return this;
+  }
+
+  @Override
+  public ExternalTaskClientBuilder maxTasksInFlightPerTopic(int maxTasksInFlightPerTopic) {
+    this.maxTasksInFlightPerTopic = maxTasksInFlightPerTopic;
+    return this;
+  }
+
   @Override
   public ExternalTaskClientBuilder defaultSerializationFormat(String defaultSerializationFormat) {
     this.defaultSerializationFormat = defaultSerializationFormat;
@@ -223,6 +241,21 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     return this;
   }
 
+  @Override
+  public ExternalTaskClientBuilder useAsyncHttpClient() {
+    if (asyncHttpClientBuilder == null) {
+      asyncHttpClientBuilder = HttpAsyncClients.custom().useSystemProperties();
+    }
+    return this;
+  }
+
+  @Override
+  public ExternalTaskClientBuilder customizeAsyncHttpClient(Consumer<HttpAsyncClientBuilder> asyncHttpClientConsumer) {
+    useAsyncHttpClient();
+    asyncHttpClientConsumer.accept(asyncHttpClientBuilder);
+    return this;
+  }
+
   @Override
   public ExternalTaskClient build() {
     if (maxTasks <= 0) {
@@ -237,6 +270,10 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
       throw LOG.lockDurationIsNotGreaterThanZeroException(lockDuration);
     }
 
+    if (maxTasksInFlightPerTopic != null && maxTasksInFlightPerTopic <= 0) {
+      throw LOG.maxTasksInFlightPerTopicNotGreaterThanZeroException(maxTasksInFlightPerTopic);
+    }
+
     if (urlResolver == null || getBaseUrl() == null || getBaseUrl().isEmpty()) {
       throw LOG.baseUrlNullException();
     }
@@ -329,8 +366,14 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
 
   protected void initEngineClient() {
     RequestInterceptorHandler requestInterceptorHandler = new RequestInterceptorHandler(interceptors);
-    httpClientBuilder.addRequestInterceptorLast(requestInterceptorHandler);
-    RequestExecutor requestExecutor = new RequestExecutor(httpClientBuilder.build(), objectMapper);
+    RequestExecutor requestExecutor;
+    if (isAsyncHttpClientEnabled()) {
+      asyncHttpClientBuilder.addRequestInterceptorLast(requestInterceptorHandler);
+      requestExecutor = new AsyncRequestExecutor(asyncHttpClientBuilder::build, objectMapper, handlerExecutor);
+    } else {
+      httpClientBuilder.addRequestInterceptorLast(requestInterceptorHandler);
+      requestExecutor = new RequestExecutor(httpClientBuilder.build(), objectMapper);
+    }
 
     engineClient = new EngineClient(workerId, maxTasks, asyncResponseTimeout, urlResolver, requestExecutor, usePriority,
         orderingConfig);
@@ -340,6 +383,10 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     topicSubscriptionManager = new TopicSubscriptionManager(engineClient, typedValues, lockDuration);
     topicSubscriptionManager.setBackoffStrategy(getBackoffStrategy());
 
+    if (handlerExecutor != null) {
+      topicSubscriptionManager.setHandlerExecutor(handlerExecutor, getMaxTasksInFlightPerTopic());
+    }
+
     if (isBackoffStrategyDisabled) {
       topicSubscriptionManager.disableBackoffStrategy();
     }
@@ -423,6 +470,10 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     return workerId;
   }
 
+  protected boolean isAsyncHttpClientEnabled() {
+    return asyncHttpClientBuilder != null;
+  }
+
   protected List<ClientRequestInterceptor> getInterceptors() {
     return interceptors;
   }
@@ -447,6 +498,10 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     return backoffStrategy;
   }
 
+  protected int getMaxTasksInFlightPerTopic() {
+    return maxTasksInFlightPerTopic != null ? maxTasksInFlightPerTopic : 2 * maxTasks;
+  }
+
   public String getDefaultSerializationFormat() {
     return defaultSerializationFormat;
   }
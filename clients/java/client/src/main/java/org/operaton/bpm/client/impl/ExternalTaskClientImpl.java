@@ -40,6 +40,7 @@ public class ExternalTaskClientImpl implements ExternalTaskClient {
   @Override
   public void stop() {
     topicSubscriptionManager.stop();
+    topicSubscriptionManager.getEngineClient().close();
   }
 
   @Override
@@ -245,4 +245,9 @@ public class ExternalTaskClientLogger extends BaseLogger {
         "030", "Null value is not allowed as '{}'", parameterName));
   }
 
+  public ExternalTaskClientException maxTasksInFlightPerTopicNotGreaterThanZeroException(Integer maxTasksInFlightPerTopic) {
+    return new ExternalTaskClientException(exceptionMessage(
+        "031", "Maximum amount of tasks in flight per topic must be greater than zero, but was '{}'", maxTasksInFlightPerTopic));
+  }
+
 }
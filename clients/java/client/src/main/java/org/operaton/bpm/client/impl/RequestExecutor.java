@@ -19,6 +19,7 @@ package org.operaton.bpm.client.impl;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -71,6 +72,19 @@ public class RequestExecutor {
     return executeRequest(httpRequest, responseClass);
   }
 
+  /**
+   * Sends the request without blocking on the response where the transport allows it.
+   * This transport is blocking, so the request is executed on the calling thread and
+   * the returned future is already completed.
+   */
+  protected <T> CompletableFuture<T> postRequestAsync(String resourceUrl, RequestDto requestDto, Class<T> responseClass) {
+    try {
+      return CompletableFuture.completedFuture(postRequest(resourceUrl, requestDto, responseClass));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   protected byte[] getRequest(String resourceUrl)  {
     ClassicHttpRequest httpRequest = ClassicRequestBuilder.get(URI.create(resourceUrl).normalize())
       .addHeader(HEADER_USER_AGENT)
@@ -80,6 +94,14 @@ public class RequestExecutor {
     return executeRequest(httpRequest, byte[].class);
   }
 
+  /**
+   * Releases the resources of the transport when the client is stopped. The blocking
+   * client is kept, so that the client can be started again.
+   */
+  protected void close() {
+    // nothing to release
+  }
+
   protected <T> T executeRequest(ClassicHttpRequest httpRequest, Class<T> responseClass) {
     try {
       return httpClient.execute(httpRequest, handleResponse(responseClass));
@@ -147,6 +169,19 @@ public class RequestExecutor {
     InputStream inputStream = null;
     try {
       inputStream = httpEntity.getContent();
+      return deserializeResponse(inputStream, responseClass);
+
+    } catch (IOException e) {
+      throw LOG.exceptionWhileDeserializingJsonObject(responseClass, e);
+
+    } finally {
+      IoUtil.closeSilently(inputStream);
+
+    }
+  }
+
+  protected <T> T deserializeResponse(InputStream inputStream, Class<T> responseClass) {
+    try {
       return objectMapper.readValue(inputStream, responseClass);
 
     } catch (JsonParseException e) {
@@ -158,20 +193,11 @@ public class RequestExecutor {
     } catch (IOException e) {
       throw LOG.exceptionWhileDeserializingJsonObject(responseClass, e);
 
-    } finally {
-      IoUtil.closeSilently(inputStream);
-
     }
   }
 
   protected ByteArrayEntity serializeRequest(RequestDto dto)  {
-    byte[] serializedRequest;
-
-    try {
-      serializedRequest = objectMapper.writeValueAsBytes(dto);
-    } catch (JsonProcessingException e) {
-      throw LOG.exceptionWhileSerializingJsonObject(dto, e);
-    }
+    byte[] serializedRequest = serializeRequestBody(dto);
 
     ByteArrayEntity byteArrayEntity = null;
     if (serializedRequest != null) {
@@ -181,4 +207,12 @@ public class RequestExecutor {
     return byteArrayEntity;
   }
 
+  protected byte[] serializeRequestBody(RequestDto dto) {
+    try {
+      return objectMapper.writeValueAsBytes(dto);
+    } catch (JsonProcessingException e) {
+      throw LOG.exceptionWhileSerializingJsonObject(dto, e);
+    }
+  }
+
 }
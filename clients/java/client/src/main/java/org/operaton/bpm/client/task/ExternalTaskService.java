@@ -17,6 +17,7 @@
 package org.operaton.bpm.client.task;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.operaton.bpm.client.exception.BadRequestException;
 import org.operaton.bpm.client.exception.ConnectionLostException;
@@ -282,6 +283,71 @@ public interface ExternalTaskService {
    */
   void handleFailure(String externalTaskId, String errorMessage, String errorDetails, int retries, long retryTimeout, Map<String, Object> variables, Map<String, Object> localVariables);
 
+  /**
+   * Completes a task without blocking the calling thread. If the client has been built
+   * with an asynchronous HTTP transport, the request is sent over a pooled non-blocking
+   * connection; otherwise it is sent synchronously and the returned future is already done.
+   *
+   * @param externalTask    which will be completed
+   * @param variables       are set in the tasks ancestor execution hierarchy
+   * @param localVariables  are set in the execution of the external task instance
+   *
+   * @return a future which is completed once the engine has acknowledged the request or
+   * completed exceptionally with the exceptions thrown by {@link #complete(ExternalTask, Map, Map)}
+   */
+  CompletableFuture<Void> completeAsync(ExternalTask externalTask, Map<String, Object> variables, Map<String, Object> localVariables);
+
+  /**
+   * Completes a task without blocking the calling thread.
+   *
+   * @param externalTaskId  the id of the external task which will be completed
+   * @param variables       are set in the tasks ancestor execution hierarchy
+   * @param localVariables  are set in the execution of the external task instance
+   *
+   * @return a future which is completed once the engine has acknowledged the request or
+   * completed exceptionally with the exceptions thrown by {@link #complete(String, Map, Map)}
+   *
+   * @see #completeAsync(ExternalTask, Map, Map)
+   */
+  CompletableFuture<Void> completeAsync(String externalTaskId, Map<String, Object> variables, Map<String, Object> localVariables);
+
+  /**
+   * Reports a failure to execute a task without blocking the calling thread.
+   *
+   * @param externalTask   the external task for which a failure will be reported
+   * @param errorMessage   indicates the reason of the failure.
+   * @param errorDetails   provides a detailed error description.
+   * @param retries        specifies how often the task should be retried. Must be &gt;= 0.
+   * @param retryTimeout   specifies a timeout in milliseconds before the external task
+   *                       becomes available again for fetching. Must be &gt;= 0.
+   *
+   * @return a future which is completed once the engine has acknowledged the request or
+   * completed exceptionally with the exceptions thrown by {@link #handleFailure(ExternalTask, String, String, int, long)}
+   *
+   * @see #completeAsync(ExternalTask, Map, Map)
+   */
+  CompletableFuture<Void> handleFailureAsync(ExternalTask externalTask, String errorMessage, String errorDetails, int retries, long retryTimeout);
+
+  /**
+   * Reports a failure to execute a task without blocking the calling thread.
+   *
+   * @param externalTaskId the id of the external task for which a failure will be reported
+   * @param errorMessage   indicates the reason of the failure.
+   * @param errorDetails   provides a detailed error description.
+   * @param retries        specifies how often the task should be retried. Must be &gt;= 0.
+   * @param retryTimeout   specifies a timeout in milliseconds before the external task
+   *                       becomes available again for fetching. Must be &gt;= 0.
+   * @param variables      a map of variables to set on the execution the external task is assigned to
+   * @param localVariables a map of variables to set on the execution locally
+   *
+   * @return a future which is completed once the engine has acknowledged the request or
+   * completed exceptionally with the exceptions thrown by
+   * {@link #handleFailure(String, String, String, int, long, Map, Map)}
+   *
+   * @see #completeAsync(ExternalTask, Map, Map)
+   */
+  CompletableFuture<Void> handleFailureAsync(String externalTaskId, String errorMessage, String errorDetails, int retries, long retryTimeout, Map<String, Object> variables, Map<String, Object> localVariables);
+
   /**
    * Reports a business error in the context of a running task.
    * The error code must be specified to identify the BPMN error handler.
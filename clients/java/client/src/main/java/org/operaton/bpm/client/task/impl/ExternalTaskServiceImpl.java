@@ -17,6 +17,9 @@
 package org.operaton.bpm.client.task.impl;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 import org.operaton.bpm.client.impl.EngineClient;
 import org.operaton.bpm.client.impl.EngineClientException;
@@ -124,6 +127,28 @@ public class ExternalTaskServiceImpl implements ExternalTaskService {
     }
   }
 
+  @Override
+  public CompletableFuture<Void> completeAsync(ExternalTask externalTask, Map<String, Object> variables, Map<String, Object> localVariables) {
+    return completeAsync(externalTask.getId(), variables, localVariables);
+  }
+
+  @Override
+  public CompletableFuture<Void> completeAsync(String externalTaskId, Map<String, Object> variables, Map<String, Object> localVariables) {
+    return executeAsync("completing the external task",
+        () -> engineClient.completeAsync(externalTaskId, variables, localVariables));
+  }
+
+  @Override
+  public CompletableFuture<Void> handleFailureAsync(ExternalTask externalTask, String errorMessage, String errorDetails, int retries, long retryTimeout) {
+    return handleFailureAsync(externalTask.getId(), errorMessage, errorDetails, retries, retryTimeout, null, null);
+  }
+
+  @Override
+  public CompletableFuture<Void> handleFailureAsync(String externalTaskId, String errorMessage, String errorDetails, int retries, long retryTimeout, Map<String, Object> variables, Map<String, Object> localVariables) {
+    return executeAsync("notifying a failure",
+        () -> engineClient.failureAsync(externalTaskId, errorMessage, errorDetails, retries, retryTimeout, variables, localVariables));
+  }
+
   @Override
   public void handleBpmnError(ExternalTask externalTask, String errorCode) {
     handleBpmnError(externalTask, errorCode, null, null);
@@ -161,4 +186,28 @@ public class ExternalTaskServiceImpl implements ExternalTaskService {
       throw LOG.handledEngineClientException("extending lock", e);
     }
   }
+
+  protected <T> CompletableFuture<T> executeAsync(String actionName, Supplier<CompletableFuture<T>> request) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    try {
+      request.get().whenComplete((response, e) -> {
+        if (e == null) {
+          result.complete(response);
+        } else {
+          result.completeExceptionally(handleAsyncException(actionName, e));
+        }
+      });
+    } catch (RuntimeException e) {
+      result.completeExceptionally(handleAsyncException(actionName, e));
+    }
+    return result;
+  }
+
+  protected Throwable handleAsyncException(String actionName, Throwable e) {
+    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    if (cause instanceof EngineClientException engineClientException) {
+      return LOG.handledEngineClientException(actionName, engineClientException);
+    }
+    return cause;
+  }
 }
@@ -20,9 +20,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -50,6 +54,9 @@ public class TopicSubscriptionManager implements Runnable {
 
   protected static final TopicSubscriptionManagerLogger LOG = ExternalTaskClientLogger.TOPIC_SUBSCRIPTION_MANAGER_LOGGER;
 
+  /** maximum time to wait for a task handler to finish if all topics reached their limit of tasks in flight */
+  protected static final long MAX_WAIT_FOR_TASKS_IN_FLIGHT = 1000L;
+
   protected ReentrantLock ACQUISITION_MONITOR = new ReentrantLock(false);
   protected Condition IS_WAITING = ACQUISITION_MONITOR.newCondition();
   protected AtomicBoolean isRunning = new AtomicBoolean(false);
@@ -71,6 +78,12 @@ public class TopicSubscriptionManager implements Runnable {
 
   protected long clientLockDuration;
 
+  /** executes the task handlers concurrently, if null the handlers are executed by the acquisition thread */
+  protected Executor handlerExecutor;
+  protected int maxTasksInFlightPerTopic;
+  protected Map<String, AtomicInteger> tasksInFlight = new ConcurrentHashMap<>();
+  protected volatile boolean isWaitingForTasksInFlight;
+
   public TopicSubscriptionManager(EngineClient engineClient, TypedValues typedValues, long clientLockDuration) {
     this.engineClient = engineClient;
     this.subscriptions = new CopyOnWriteArrayList<>();
@@ -106,11 +119,14 @@ public class TopicSubscriptionManager implements Runnable {
         String topicName = externalTask.getTopicName();
         ExternalTaskHandler taskHandler = externalTaskHandlers.get(topicName);
 
-        if (taskHandler != null) {
-          handleExternalTask(externalTask, taskHandler);
+        if (taskHandler == null) {
+          LOG.taskHandlerIsNull(topicName);
+        }
+        else if (isConcurrentExecution()) {
+          submitExternalTask(externalTask, taskHandler);
         }
         else {
-          LOG.taskHandlerIsNull(topicName);
+          handleExternalTask(externalTask, taskHandler);
         }
       });
 
@@ -118,9 +134,23 @@ public class TopicSubscriptionManager implements Runnable {
         runBackoffStrategy(fetchAndLockResponse);
       }
     }
+    else if (isConcurrentExecution() && !subscriptions.isEmpty()) {
+      // all topics reached their limit of tasks in flight, wait for a handler to finish
+      isWaitingForTasksInFlight = true;
+      try {
+        suspend(MAX_WAIT_FOR_TASKS_IN_FLIGHT);
+      }
+      finally {
+        isWaitingForTasksInFlight = false;
+      }
+    }
   }
 
   protected void prepareAcquisition(TopicSubscription subscription) {
+    if (isConcurrentExecution() && getFreeSlots(subscription.getTopicName()) <= 0) {
+      return;
+    }
+
     TopicRequestDto taskTopicRequest = TopicRequestDto.fromTopicSubscription(subscription, clientLockDuration);
     taskTopicRequests.add(taskTopicRequest);
 
@@ -134,7 +164,12 @@ public class TopicSubscriptionManager implements Runnable {
 
     try {
       LOG.fetchAndLock(subscriptions);
-      externalTasks = engineClient.fetchAndLock(subscriptions);
+      if (isConcurrentExecution()) {
+        externalTasks = engineClient.fetchAndLock(subscriptions, getMaxTasksToFetch(subscriptions));
+      }
+      else {
+        externalTasks = engineClient.fetchAndLock(subscriptions);
+      }
 
     } catch (EngineClientException ex) {
       LOG.exceptionWhilePerformingFetchAndLock(ex);
@@ -144,6 +179,50 @@ public class TopicSubscriptionManager implements Runnable {
     return new FetchAndLockResponseDto(externalTasks);
   }
 
+  /**
+   * Topics without free slots are not part of the request, so no more tasks are fetched
+   * than the requested topics can take together. Since the tasks of a fetch may be
+   * distributed arbitrarily among the topics, a single topic may exceed its limit until
+   * its handlers finished.
+   */
+  protected int getMaxTasksToFetch(List<TopicRequestDto> topicRequests) {
+    int freeSlots = 0;
+    for (TopicRequestDto topicRequest : topicRequests) {
+      freeSlots += getFreeSlots(topicRequest.getTopicName());
+    }
+    return Math.min(engineClient.getMaxTasks(), freeSlots);
+  }
+
+  protected int getFreeSlots(String topicName) {
+    AtomicInteger topicTasksInFlight = tasksInFlight.get(topicName);
+    return maxTasksInFlightPerTopic - (topicTasksInFlight != null ? topicTasksInFlight.get() : 0);
+  }
+
+  protected void submitExternalTask(ExternalTask externalTask, ExternalTaskHandler taskHandler) {
+    String topicName = externalTask.getTopicName();
+    AtomicInteger topicTasksInFlight = tasksInFlight.computeIfAbsent(topicName, key -> new AtomicInteger());
+    topicTasksInFlight.incrementAndGet();
+
+    try {
+      handlerExecutor.execute(() -> {
+        try {
+          handleExternalTask(externalTask, taskHandler);
+        }
+        finally {
+          topicTasksInFlight.decrementAndGet();
+          if (isWaitingForTasksInFlight) {
+            // the topic can be fetched for again
+            resume();
+          }
+        }
+      });
+    }
+    catch (RejectedExecutionException e) {
+      topicTasksInFlight.decrementAndGet();
+      LOG.taskExecutionRejected(topicName, e);
+    }
+  }
+
   @SuppressWarnings("rawtypes")
   protected void handleExternalTask(ExternalTask externalTask, ExternalTaskHandler taskHandler) {
     ExternalTaskImpl task = (ExternalTaskImpl) externalTask;
@@ -206,6 +285,25 @@ public class TopicSubscriptionManager implements Runnable {
     return isRunning.get();
   }
 
+  /**
+   * Executes the task handlers on the given executor instead of the acquisition thread.
+   * The next tasks are fetched while the handlers are still running, as long as the
+   * number of tasks in flight of a topic does not exceed the given limit.
+   */
+  public void setHandlerExecutor(Executor handlerExecutor, int maxTasksInFlightPerTopic) {
+    this.handlerExecutor = handlerExecutor;
+    this.maxTasksInFlightPerTopic = maxTasksInFlightPerTopic;
+  }
+
+  public boolean isConcurrentExecution() {
+    return handlerExecutor != null;
+  }
+
+  public int getTasksInFlight(String topicName) {
+    AtomicInteger topicTasksInFlight = tasksInFlight.get(topicName);
+    return topicTasksInFlight != null ? topicTasksInFlight.get() : 0;
+  }
+
   public void setBackoffStrategy(BackoffStrategy backOffStrategy) {
     this.backoffStrategy = backOffStrategy;
   }
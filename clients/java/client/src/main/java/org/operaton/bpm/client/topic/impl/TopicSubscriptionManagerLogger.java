@@ -78,4 +78,10 @@ public class TopicSubscriptionManagerLogger extends ExternalTaskClientLogger {
       "Timed out after %d ms without a signal.".formatted(waitTime));
   }
 
+  protected void taskExecutionRejected(String topicName, Throwable e) {
+    logError(
+      "010",
+      "Task handler execution for topic '%s' rejected by executor, the task is fetched again after its lock expired.".formatted(topicName), e);
+  }
+
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.client.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.client.exception.NotFoundException;
+import org.operaton.bpm.client.task.ExternalTaskService;
+import org.operaton.bpm.client.task.impl.ExternalTaskServiceImpl;
+import org.operaton.bpm.client.variable.impl.DefaultValueMappers;
+import org.operaton.bpm.client.variable.impl.TypedValues;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncRequestExecutorTest {
+
+  protected HttpServer server;
+  protected List<String> receivedRequests;
+  protected ExecutorService completionExecutor;
+  protected AtomicInteger completions;
+  protected AsyncRequestExecutor requestExecutor;
+  protected ExternalTaskService externalTaskService;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    receivedRequests = new CopyOnWriteArrayList<>();
+
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/engine-rest/external-task/", this::handleRequest);
+    server.start();
+
+    completionExecutor = Executors.newSingleThreadExecutor();
+    completions = new AtomicInteger();
+    Executor countingExecutor = runnable -> {
+      completions.incrementAndGet();
+      completionExecutor.execute(runnable);
+    };
+    requestExecutor = new AsyncRequestExecutor(HttpAsyncClients::createDefault, new ObjectMapper(), countingExecutor);
+    String baseUrl = "http://localhost:" + server.getAddress().getPort() + "/engine-rest";
+    EngineClient engineClient = new EngineClient("aWorkerId", 10, null, baseUrl, requestExecutor);
+    engineClient.setTypedValues(new TypedValues(new DefaultValueMappers("application/json")));
+    externalTaskService = new ExternalTaskServiceImpl(engineClient);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    requestExecutor.close();
+    completionExecutor.shutdown();
+    server.stop(0);
+  }
+
+  @Test
+  void shouldCompleteExternalTaskAsynchronously() throws Exception {
+    // when
+    externalTaskService.completeAsync("aTaskId", null, null).get(10, TimeUnit.SECONDS);
+
+    // then
+    assertThat(receivedRequests).hasSize(1);
+    assertThat(receivedRequests.get(0))
+      .startsWith("POST /engine-rest/external-task/aTaskId/complete")
+      .contains("\"workerId\":\"aWorkerId\"");
+  }
+
+  @Test
+  void shouldCompleteExternalTaskSynchronously() {
+    // when
+    externalTaskService.complete("aTaskId", Map.of(), Map.of());
+
+    // then
+    assertThat(receivedRequests).hasSize(1);
+    assertThat(receivedRequests.get(0)).startsWith("POST /engine-rest/external-task/aTaskId/complete");
+  }
+
+  @Test
+  void shouldCompleteFutureExceptionallyOnErrorResponse() {
+    // when
+    var result = externalTaskService.handleFailureAsync("unknownTaskId", "anErrorMessage", null, 0, 0L, null, null);
+
+    // then
+    assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS))
+      .hasCauseInstanceOf(NotFoundException.class)
+      .hasMessageContaining("External task with id unknownTaskId does not exist");
+    assertThat(receivedRequests).hasSize(1);
+    assertThat(receivedRequests.get(0)).startsWith("POST /engine-rest/external-task/unknownTaskId/failure");
+  }
+
+  @Test
+  void shouldCompleteFutureOnCompletionExecutor() throws Exception {
+    // when
+    externalTaskService.completeAsync("aTaskId", null, null).get(10, TimeUnit.SECONDS);
+
+    // then
+    assertThat(completions).hasValue(1);
+  }
+
+  @Test
+  void shouldCompleteBlockingRequestWithoutCompletionExecutor() {
+    // when
+    externalTaskService.complete("aTaskId", Map.of(), Map.of());
+
+    // then
+    assertThat(completions).hasValue(0);
+  }
+
+  @Test
+  void shouldCreateNewHttpClientAfterClose() {
+    // given
+    CloseableHttpAsyncClient closedHttpClient = requestExecutor.getAsyncHttpClient();
+    requestExecutor.close();
+
+    // when
+    externalTaskService.complete("aTaskId", Map.of(), Map.of());
+
+    // then
+    assertThat(requestExecutor.getAsyncHttpClient()).isNotSameAs(closedHttpClient);
+    assertThat(receivedRequests).hasSize(1);
+  }
+
+  protected void handleRequest(HttpExchange exchange) throws IOException {
+    String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    receivedRequests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI() + " " + body);
+
+    if (exchange.getRequestURI().getPath().contains("unknownTaskId")) {
+      byte[] response = "{\"type\":\"RestException\",\"message\":\"External task with id unknownTaskId does not exist\"}"
+        .getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(404, response.length);
+      try (OutputStream responseBody = exchange.getResponseBody()) {
+        responseBody.write(response);
+      }
+    } else {
+      exchange.sendResponseHeaders(204, -1);
+      exchange.close();
+    }
+  }
+
+}
@@ -19,6 +19,10 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +36,7 @@ import org.operaton.bpm.client.task.impl.ExternalTaskImpl;
 import org.operaton.bpm.client.topic.TopicSubscription;
 import org.operaton.bpm.client.topic.impl.TopicSubscriptionBuilderImpl;
 import org.operaton.bpm.client.topic.impl.TopicSubscriptionManager;
+import org.operaton.bpm.client.topic.impl.dto.TopicRequestDto;
 import org.operaton.bpm.client.variable.impl.DefaultValueMappers;
 import org.operaton.bpm.client.variable.impl.TypedValues;
 import org.operaton.bpm.engine.variable.value.PrimitiveValue;
@@ -39,8 +44,13 @@ import org.operaton.bpm.engine.variable.value.PrimitiveValue;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class TopicSubscriptionManagerTest {
@@ -215,6 +225,88 @@ class TopicSubscriptionManagerTest {
 		assertThat(t1Handler.getExecuteCount()).isEqualTo(2);
 	}
 
+	@Test
+	void slowTaskDoesNotStallOtherTopicsWithHandlerExecutor() {
+		ExecutorService handlerExecutor = Executors.newCachedThreadPool();
+		BlockingExternalTaskHandler blockingT0Handler = new BlockingExternalTaskHandler();
+		try {
+			when(engineClient.getMaxTasks()).thenReturn(10);
+			topicSubscriptionManager.setHandlerExecutor(handlerExecutor, 1);
+			stubFetchAndLockForRequestedTopics();
+			subscriptionT0 = new TopicSubscriptionBuilderImpl(T0, topicSubscriptionManager).handler(blockingT0Handler).open();
+			subscribeTopicT1();
+			topicSubscriptionManager.start();
+			waitMillies(1500); // t1 executed twice while t0 is still running
+
+			assertThat(blockingT0Handler.getExecuteCount()).isEqualTo(1);
+			assertThat(topicSubscriptionManager.getTasksInFlight(T0)).isEqualTo(1);
+			assertThat(t1Handler.getExecuteCount()).isEqualTo(2);
+		} finally {
+			topicSubscriptionManager.stop();
+			blockingT0Handler.release();
+			handlerExecutor.shutdown();
+		}
+	}
+
+	@Test
+	void fetchesNoMoreTasksThanTopicsCanTakeWithHandlerExecutor() {
+		ExecutorService handlerExecutor = Executors.newCachedThreadPool();
+		BlockingExternalTaskHandler blockingT0Handler = new BlockingExternalTaskHandler();
+		try {
+			when(engineClient.getMaxTasks()).thenReturn(10);
+			topicSubscriptionManager.setHandlerExecutor(handlerExecutor, 2);
+			stubFetchAndLockForRequestedTopics();
+			subscriptionT0 = new TopicSubscriptionBuilderImpl(T0, topicSubscriptionManager).handler(blockingT0Handler).open();
+			subscribeTopicT1();
+			topicSubscriptionManager.start();
+
+			verify(engineClient, timeout(5000)).fetchAndLock(anyList(), eq(4));
+			// t0 has one task in flight
+			verify(engineClient, timeout(5000)).fetchAndLock(anyList(), eq(3));
+		} finally {
+			topicSubscriptionManager.stop();
+			blockingT0Handler.release();
+			handlerExecutor.shutdown();
+		}
+	}
+
+	@Test
+	void fetchesForIdleTopicOnlyIfOtherTopicIsSaturatedWithHandlerExecutor() {
+		ExecutorService handlerExecutor = Executors.newCachedThreadPool();
+		BlockingExternalTaskHandler blockingT0Handler = new BlockingExternalTaskHandler();
+		try {
+			ExternalTaskImpl secondExternalT0Task = new ExternalTaskImpl();
+			secondExternalT0Task.setTopicName(T0);
+			secondExternalT0Task.setVariables(new HashMap<>());
+			taskList.add(secondExternalT0Task);
+			when(engineClient.getMaxTasks()).thenReturn(10);
+			topicSubscriptionManager.setHandlerExecutor(handlerExecutor, 2);
+			stubFetchAndLockForRequestedTopics();
+			subscriptionT0 = new TopicSubscriptionBuilderImpl(T0, topicSubscriptionManager).handler(blockingT0Handler).open();
+			subscribeTopicT1();
+			topicSubscriptionManager.start();
+
+			verify(engineClient, timeout(5000)).fetchAndLock(anyList(), eq(4));
+			// t0 has two tasks in flight and is left out, t1 is idle
+			verify(engineClient, timeout(5000)).fetchAndLock(argThat(topicRequests -> topicRequests.size() == 1
+					&& topicRequests.get(0).getTopicName().equals(T1)), eq(2));
+			assertThat(topicSubscriptionManager.getTasksInFlight(T0)).isEqualTo(2);
+		} finally {
+			topicSubscriptionManager.stop();
+			blockingT0Handler.release();
+			handlerExecutor.shutdown();
+		}
+	}
+
+	private void stubFetchAndLockForRequestedTopics() {
+		when(engineClient.fetchAndLock(anyList(), anyInt())).thenAnswer(invocation -> {
+			List<TopicRequestDto> topicRequests = invocation.getArgument(0);
+			return taskList.stream()
+					.filter(task -> topicRequests.stream().anyMatch(request -> request.getTopicName().equals(task.getTopicName())))
+					.toList();
+		});
+	}
+
 	private void waitMillies(int millies) {
 		await().pollDelay(Duration.ofMillis(millies)).until(() -> true);
 	}
@@ -268,6 +360,30 @@ class RecordingExternalTaskHandler implements ExternalTaskHandler {
 	}
 }
 
+// Testing class blocking the "execute" calls until released
+class BlockingExternalTaskHandler implements ExternalTaskHandler {
+	private final AtomicInteger executeCount = new AtomicInteger();
+	private final CountDownLatch latch = new CountDownLatch(1);
+
+	@Override
+	public void execute(ExternalTask externalTask, ExternalTaskService externalTaskService) {
+		executeCount.incrementAndGet();
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	public int getExecuteCount() {
+		return executeCount.get();
+	}
+
+	public void release() {
+		latch.countDown();
+	}
+}
+
 // Backup strategy that waits one second to make thread testing reliable
 class OneSecondBackOffStrategy implements BackoffStrategy {
 	@Override
@@ -17,7 +17,6 @@
 package org.operaton.bpm.engine.cdi;
 
 import jakarta.el.ArrayELResolver;
-import jakarta.el.BeanELResolver;
 import jakarta.el.CompositeELResolver;
 import jakarta.el.ELResolver;
 import jakarta.el.ListELResolver;
@@ -28,6 +27,7 @@ import org.operaton.bpm.engine.impl.el.ExpressionManager;
 import org.operaton.bpm.engine.impl.el.JuelExpressionManager;
 import org.operaton.bpm.engine.impl.el.VariableContextElResolver;
 import org.operaton.bpm.engine.impl.el.VariableScopeElResolver;
+import org.operaton.bpm.impl.juel.MethodHandleBeanELResolver;
 
 /**
  * {@link ExpressionManager} for resolving Cdi-managed beans.
@@ -59,7 +59,7 @@ public class CdiExpressionManager extends JuelExpressionManager {
     compositeElResolver.add(new ArrayELResolver());
     compositeElResolver.add(new ListELResolver());
     compositeElResolver.add(new MapELResolver());
-    compositeElResolver.add(new BeanELResolver());
+    compositeElResolver.add(new MethodHandleBeanELResolver());
 
     return compositeElResolver;
   }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.dmn.engine;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * <p>
+ * The result of a batch evaluation of a decision, see
+ * {@link DmnEngine#evaluateDecisionBatch(DmnDecision, List)}.
+ * </p>
+ *
+ * <p>
+ * The result is stored column-wise: every output name of the decision
+ * result is a column and every {@link DmnDecisionResultEntries} of an
+ * evaluated variable context is a row. A record (i.e., one evaluated variable
+ * context) can have any number of rows, for example none if no rule of a
+ * decision table matched, or multiple if the hit policy collects the results
+ * of all matched rules. The rows of a record are stored consecutively and in
+ * the order of the evaluated variable contexts.
+ * </p>
+ */
+public interface DmnDecisionBatchResult extends Serializable {
+
+  /**
+   * @return the number of evaluated variable contexts
+   */
+  int getRecordCount();
+
+  /**
+   * @return the number of rows of all records
+   */
+  int getRowCount();
+
+  /**
+   * @return the output names of the result in the order of their first occurrence
+   */
+  List<String> getOutputNames();
+
+  /**
+   * Returns the index of the first row of a record.
+   *
+   * @param recordIndex the index of the evaluated variable context
+   * @return the index of the first row of the record, or the index of the
+   *         next record's first row if the record has no rows
+   *
+   * @throws IndexOutOfBoundsException
+   *           if the record index is out of range
+   */
+  int getFirstRow(int recordIndex);
+
+  /**
+   * Returns the number of rows of a record.
+   *
+   * @param recordIndex the index of the evaluated variable context
+   * @return the number of rows of the record
+   *
+   * @throws IndexOutOfBoundsException
+   *           if the record index is out of range
+   */
+  int getRowCount(int recordIndex);
+
+  /**
+   * Returns the record a row belongs to.
+   *
+   * @param row the index of the row
+   * @return the index of the evaluated variable context which produced the row
+   *
+   * @throws IndexOutOfBoundsException
+   *           if the row index is out of range
+   */
+  int getRecordIndex(int row);
+
+  /**
+   * Returns the values of an output for all rows. The list contains
+   * <code>null</code> for rows which have no entry for the output name.
+   *
+   * @param outputName the name of the output
+   * @return the values of the output, or an empty list if no row has an
+   *         entry for the output name
+   */
+  <T> List<T> getColumn(String outputName);
+
+  /**
+   * Returns the value of an output in a row.
+   *
+   * @param row the index of the row
+   * @param outputName the name of the output
+   * @return the value of the output, or <code>null</code> if the row has no
+   *         entry for the output name
+   *
+   * @throws IndexOutOfBoundsException
+   *           if the row index is out of range
+   */
+  <T> T getValue(int row, String outputName);
+
+}
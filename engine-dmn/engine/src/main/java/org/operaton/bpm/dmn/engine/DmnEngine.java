@@ -344,4 +344,40 @@ public interface DmnEngine {
    */
   DmnDecisionResult evaluateDecision(String decisionKey, DmnModelInstance dmnModelInstance, VariableContext variableContext);
 
+  /**
+   * Evaluates a decision for each of the given variable contexts. The decision is
+   * evaluated in the same way as by {@link #evaluateDecision(DmnDecision, VariableContext)}
+   * but the evaluation state is shared by all records and the results are
+   * collected in a column-wise {@link DmnDecisionBatchResult}.
+   *
+   * @param decision the {@link DmnDecision} to evaluate
+   * @param variableContexts the variable contexts to evaluate the decision for, one per record
+   * @return the {@link DmnDecisionBatchResult} of all evaluations
+   *
+   * @throws DmnEngineException
+   *           if the decision logic is not supported
+   * @throws DmnEngineException
+   *           if an error occurs during the evaluation of any record
+   */
+  DmnDecisionBatchResult evaluateDecisionBatch(DmnDecision decision, List<? extends VariableContext> variableContexts);
+
+  /**
+   * Evaluates a decision for each of the given variable contexts, optionally in
+   * parallel. If the records are evaluated in parallel, the configured decision
+   * evaluation listeners are notified concurrently and must be thread-safe. The
+   * order of the records in the result is the order of the variable contexts in
+   * both cases.
+   *
+   * @param decision the {@link DmnDecision} to evaluate
+   * @param variableContexts the variable contexts to evaluate the decision for, one per record
+   * @param parallel true to evaluate the records in parallel on the common fork-join pool
+   * @return the {@link DmnDecisionBatchResult} of all evaluations
+   *
+   * @throws DmnEngineException
+   *           if the decision logic is not supported
+   * @throws DmnEngineException
+   *           if an error occurs during the evaluation of any record
+   */
+  DmnDecisionBatchResult evaluateDecisionBatch(DmnDecision decision, List<? extends VariableContext> variableContexts, boolean parallel);
+
 }
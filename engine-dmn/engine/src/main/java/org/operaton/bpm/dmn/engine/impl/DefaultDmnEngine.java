@@ -19,8 +19,10 @@ package org.operaton.bpm.dmn.engine.impl;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.operaton.bpm.dmn.engine.DmnDecision;
+import org.operaton.bpm.dmn.engine.DmnDecisionBatchResult;
 import org.operaton.bpm.dmn.engine.DmnDecisionRequirementsGraph;
 import org.operaton.bpm.dmn.engine.DmnDecisionResult;
 import org.operaton.bpm.dmn.engine.DmnDecisionTableResult;
@@ -37,6 +39,9 @@ public class DefaultDmnEngine implements DmnEngine {
 
   protected static final DmnEngineLogger LOG = DmnLogger.ENGINE_LOGGER;
 
+  /** number of records of a batch evaluation whose decision results are held before they are added to the batch result */
+  protected static final int DECISION_BATCH_CHUNK_SIZE = 1024;
+
   protected DefaultDmnEngineConfiguration dmnEngineConfiguration;
   protected DmnTransformer transformer;
 
@@ -222,4 +227,49 @@ public class DefaultDmnEngine implements DmnEngine {
     throw LOG.unableToFindDecisionWithKey(decisionKey);
   }
 
+  @Override
+  public DmnDecisionBatchResult evaluateDecisionBatch(DmnDecision decision, List<? extends VariableContext> variableContexts) {
+    return evaluateDecisionBatch(decision, variableContexts, false);
+  }
+
+  @Override
+  public DmnDecisionBatchResult evaluateDecisionBatch(DmnDecision decision, List<? extends VariableContext> variableContexts, boolean parallel) {
+    ensureNotNull("decision", decision);
+    ensureNotNull("variableContexts", variableContexts);
+
+    if (decision instanceof DmnDecisionImpl) {
+      // the evaluation handlers only hold configuration, so one decision context serves all records
+      DefaultDmnDecisionContext decisionContext = new DefaultDmnDecisionContext(dmnEngineConfiguration);
+      DmnDecisionBatchResultImpl batchResult = new DmnDecisionBatchResultImpl();
+
+      int recordCount = variableContexts.size();
+      DmnDecisionResult[] chunkResults = new DmnDecisionResult[Math.min(recordCount, DECISION_BATCH_CHUNK_SIZE)];
+
+      for (int chunkStart = 0; chunkStart < recordCount; chunkStart += chunkResults.length) {
+        int chunkOffset = chunkStart;
+        int chunkSize = Math.min(chunkResults.length, recordCount - chunkStart);
+
+        IntStream chunkIndexes = IntStream.range(0, chunkSize);
+        if (parallel) {
+          chunkIndexes = chunkIndexes.parallel();
+        }
+        chunkIndexes.forEach(i -> {
+          VariableContext variableContext = variableContexts.get(chunkOffset + i);
+          ensureNotNull("variableContext", variableContext);
+          chunkResults[i] = decisionContext.evaluateDecision(decision, variableContext);
+        });
+
+        for (int i = 0; i < chunkSize; i++) {
+          batchResult.addRecord(chunkResults[i]);
+          chunkResults[i] = null;
+        }
+      }
+
+      return batchResult;
+    }
+    else {
+      throw LOG.decisionTypeNotSupported(decision);
+    }
+  }
+
 }
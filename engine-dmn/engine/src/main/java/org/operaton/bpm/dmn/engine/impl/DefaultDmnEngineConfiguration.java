@@ -77,6 +77,11 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
    */
   protected boolean enableFeelLegacyBehavior;
 
+  /**
+   * Enable finding the rules matching simple input entries of decision tables by lookup
+   */
+  protected boolean enableDecisionTableRuleIndex = true;
+
   protected String defaultInputExpressionExpressionLanguage;
   protected String defaultInputEntryExpressionLanguage;
   protected String defaultOutputEntryExpressionLanguage;
@@ -614,6 +619,37 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
     return this;
   }
 
+  /**
+   * @return whether the rules matching simple input entries of decision tables are found by lookup
+   */
+  public boolean isEnableDecisionTableRuleIndex() {
+    return enableDecisionTableRuleIndex;
+  }
+
+  /**
+   * Controls whether the rules matching simple FEEL input entries of decision tables, like
+   * literals and ranges, are found by lookup in an index instead of evaluating the input
+   * entries. Enabled by default. Disable it if a custom FEEL engine evaluates such input
+   * entries differently.
+   *
+   * @param enableDecisionTableRuleIndex whether the rule index is used
+   */
+  public void setEnableDecisionTableRuleIndex(boolean enableDecisionTableRuleIndex) {
+    this.enableDecisionTableRuleIndex = enableDecisionTableRuleIndex;
+  }
+
+  /**
+   * Controls whether the rules matching simple FEEL input entries of decision tables are
+   * found by lookup in an index instead of evaluating the input entries.
+   *
+   * @param enableDecisionTableRuleIndex whether the rule index is used
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration enableDecisionTableRuleIndex(boolean enableDecisionTableRuleIndex) {
+    setEnableDecisionTableRuleIndex(enableDecisionTableRuleIndex);
+    return this;
+  }
+
   /**
    * @return whether blank table outputs are swallowed or returned as {@code null}.
    */
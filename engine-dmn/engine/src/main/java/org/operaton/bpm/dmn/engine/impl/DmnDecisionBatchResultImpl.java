@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.dmn.engine.impl;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.operaton.bpm.dmn.engine.DmnDecisionBatchResult;
+import org.operaton.bpm.dmn.engine.DmnDecisionResult;
+import org.operaton.bpm.dmn.engine.DmnDecisionResultEntries;
+import org.operaton.bpm.engine.variable.value.TypedValue;
+
+public class DmnDecisionBatchResultImpl implements DmnDecisionBatchResult {
+
+  @Serial private static final long serialVersionUID = 1L;
+
+  protected static final int INITIAL_CAPACITY = 16;
+
+  /** values of each output, indexed by row */
+  protected final Map<String, ArrayList<Object>> columns = new LinkedHashMap<>();
+
+  /** record index of each row */
+  protected int[] rowRecordIndexes = new int[INITIAL_CAPACITY];
+
+  /** first row of each record, followed by the total row count */
+  protected int[] recordFirstRows = new int[INITIAL_CAPACITY + 1];
+
+  protected int rowCount;
+  protected int recordCount;
+
+  /**
+   * Appends the result of the next evaluated variable context.
+   */
+  public void addRecord(DmnDecisionResult decisionResult) {
+    for (DmnDecisionResultEntries entries : decisionResult) {
+      addRow(entries);
+    }
+
+    recordCount++;
+    if (recordCount == recordFirstRows.length) {
+      recordFirstRows = Arrays.copyOf(recordFirstRows, recordFirstRows.length * 2);
+    }
+    recordFirstRows[recordCount] = rowCount;
+  }
+
+  protected void addRow(DmnDecisionResultEntries entries) {
+    if (rowCount == rowRecordIndexes.length) {
+      rowRecordIndexes = Arrays.copyOf(rowRecordIndexes, rowRecordIndexes.length * 2);
+    }
+    rowRecordIndexes[rowCount] = recordCount;
+
+    for (Map.Entry<String, TypedValue> entry : entries.getEntryMapTyped().entrySet()) {
+      // a column which appears later is padded for the preceding rows
+      ArrayList<Object> column = columns.computeIfAbsent(entry.getKey(), name -> new ArrayList<>(Collections.nCopies(rowCount, null)));
+      TypedValue typedValue = entry.getValue();
+      column.add(typedValue != null ? typedValue.getValue() : null);
+    }
+
+    rowCount++;
+
+    // pad the columns for which this row has no entry
+    for (ArrayList<Object> column : columns.values()) {
+      if (column.size() < rowCount) {
+        column.add(null);
+      }
+    }
+  }
+
+  @Override
+  public int getRecordCount() {
+    return recordCount;
+  }
+
+  @Override
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  @Override
+  public List<String> getOutputNames() {
+    return List.copyOf(columns.keySet());
+  }
+
+  @Override
+  public int getFirstRow(int recordIndex) {
+    Objects.checkIndex(recordIndex, recordCount);
+    return recordFirstRows[recordIndex];
+  }
+
+  @Override
+  public int getRowCount(int recordIndex) {
+    Objects.checkIndex(recordIndex, recordCount);
+    return recordFirstRows[recordIndex + 1] - recordFirstRows[recordIndex];
+  }
+
+  @Override
+  public int getRecordIndex(int row) {
+    Objects.checkIndex(row, rowCount);
+    return rowRecordIndexes[row];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> List<T> getColumn(String outputName) {
+    List<Object> column = columns.get(outputName);
+    if (column != null) {
+      return (List<T>) Collections.unmodifiableList(column);
+    } else {
+      return Collections.emptyList();
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T getValue(int row, String outputName) {
+    Objects.checkIndex(row, rowCount);
+    List<Object> column = columns.get(outputName);
+    if (column != null) {
+      return (T) column.get(row);
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "DmnDecisionBatchResultImpl{" +
+      "recordCount=" + recordCount +
+      ", rowCount=" + rowCount +
+      ", columns=" + columns +
+      '}';
+  }
+
+}
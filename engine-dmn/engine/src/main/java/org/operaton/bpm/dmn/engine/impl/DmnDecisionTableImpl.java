@@ -30,6 +30,8 @@ public class DmnDecisionTableImpl implements DmnDecisionLogic {
   protected List<DmnDecisionTableOutputImpl> outputs = new ArrayList<>();
   protected List<DmnDecisionTableRuleImpl> rules = new ArrayList<>();
 
+  protected DmnDecisionTableRuleIndex ruleIndex;
+
   public DmnHitPolicyHandler getHitPolicyHandler() {
     return hitPolicyHandler;
   }
@@ -62,6 +64,14 @@ public class DmnDecisionTableImpl implements DmnDecisionLogic {
     this.rules = rules;
   }
 
+  public DmnDecisionTableRuleIndex getRuleIndex() {
+    return ruleIndex;
+  }
+
+  public void setRuleIndex(DmnDecisionTableRuleIndex ruleIndex) {
+    this.ruleIndex = ruleIndex;
+  }
+
   @Override
   public String toString() {
     return "DmnDecisionTableImpl{" +
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.dmn.engine.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the rules of a decision table, built when the decision table is transformed.
+ *
+ * <p>
+ * For each input, it maps the simple FEEL input entries of the rules - literals, lists of
+ * literals, comparisons and intervals of numbers, and <code>-</code> - to the rules. So the
+ * rules matching an input value are found by lookup instead of evaluating each of these
+ * input entries. All other input entries are not indexed and have to be evaluated.
+ * </p>
+ *
+ * <p>
+ * An input entry is only indexed for input values of the same type as its literals: a string
+ * entry for string inputs, a number entry for number inputs and a boolean entry for boolean
+ * inputs. For input values of another type, the entry is evaluated by the FEEL engine, so
+ * the result stays exactly the same.
+ * </p>
+ */
+public class DmnDecisionTableRuleIndex {
+
+  protected final int ruleCount;
+  protected final List<InputIndex> inputIndexes = new ArrayList<>();
+
+  public DmnDecisionTableRuleIndex(int ruleCount) {
+    this.ruleCount = ruleCount;
+  }
+
+  public int getRuleCount() {
+    return ruleCount;
+  }
+
+  public List<InputIndex> getInputIndexes() {
+    return inputIndexes;
+  }
+
+  public InputIndex getInputIndex(int inputIdx) {
+    return inputIndexes.get(inputIdx);
+  }
+
+  /**
+   * Converts an input value to the key under which the entries matching the value are
+   * indexed. Numbers are converted to {@link BigDecimal}s without trailing zeros, so that
+   * numerically equal values have the same key.
+   *
+   * @return the key of the value or <code>null</code> if values of this type are not indexed
+   */
+  public static Object toIndexKey(Object value) {
+    if (value instanceof String || value instanceof Boolean) {
+      return value;
+    }
+    else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+      return BigDecimal.valueOf(((Number) value).longValue()).stripTrailingZeros();
+    }
+    else if (value instanceof Double doubleValue) {
+      return Double.isFinite(doubleValue) ? BigDecimal.valueOf(doubleValue).stripTrailingZeros() : null;
+    }
+    else if (value instanceof BigDecimal bigDecimal) {
+      return bigDecimal.stripTrailingZeros();
+    }
+    else if (value instanceof BigInteger bigInteger) {
+      return new BigDecimal(bigInteger).stripTrailingZeros();
+    }
+    else {
+      return null;
+    }
+  }
+
+  public enum ValueType {
+    STRING,
+    NUMBER,
+    BOOLEAN;
+
+    public static ValueType of(Object indexKey) {
+      if (indexKey instanceof String) {
+        return STRING;
+      }
+      else if (indexKey instanceof BigDecimal) {
+        return NUMBER;
+      }
+      else if (indexKey instanceof Boolean) {
+        return BOOLEAN;
+      }
+      else {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * The index of the input entries of one input.
+   */
+  public static class InputIndex {
+
+    protected final BitSet anyValueRules = new BitSet();
+    protected final Map<ValueType, BitSet> indexedRules = new EnumMap<>(ValueType.class);
+    protected final Map<Object, BitSet> rulesByValue = new HashMap<>();
+    protected final List<NumberRange> ranges = new ArrayList<>();
+    protected final List<Integer> rangeRules = new ArrayList<>();
+
+    /**
+     * Adds a rule whose input entry matches any value, i.e. an empty entry or <code>-</code>.
+     */
+    public void addAnyValueRule(int ruleIdx) {
+      anyValueRules.set(ruleIdx);
+    }
+
+    /**
+     * Marks the input entry of a rule as indexed for values of the given type.
+     */
+    public void addIndexedRule(int ruleIdx, ValueType valueType) {
+      indexedRules.computeIfAbsent(valueType, type -> new BitSet()).set(ruleIdx);
+    }
+
+    /**
+     * Adds a value for which the input entry of a rule matches.
+     */
+    public void addValue(int ruleIdx, Object indexKey) {
+      rulesByValue.computeIfAbsent(indexKey, key -> new BitSet()).set(ruleIdx);
+    }
+
+    /**
+     * Adds a range of numbers for which the input entry of a rule matches.
+     */
+    public void addRange(int ruleIdx, NumberRange range) {
+      ranges.add(range);
+      rangeRules.add(ruleIdx);
+    }
+
+    /**
+     * @return the rules whose input entries are matched by the index for the given input
+     *         value. The input entries of all other rules have to be evaluated.
+     */
+    public BitSet getIndexedRules(Object value) {
+      BitSet rules = (BitSet) anyValueRules.clone();
+      ValueType valueType = ValueType.of(toIndexKey(value));
+      if (valueType != null && indexedRules.containsKey(valueType)) {
+        rules.or(indexedRules.get(valueType));
+      }
+      return rules;
+    }
+
+    /**
+     * @return the indexed rules whose input entries match the given input value
+     */
+    public BitSet getMatchingRules(Object value) {
+      BitSet rules = (BitSet) anyValueRules.clone();
+      Object indexKey = toIndexKey(value);
+      if (indexKey != null) {
+        BitSet equalValueRules = rulesByValue.get(indexKey);
+        if (equalValueRules != null) {
+          rules.or(equalValueRules);
+        }
+        if (indexKey instanceof BigDecimal number) {
+          for (int i = 0; i < ranges.size(); i++) {
+            if (ranges.get(i).contains(number)) {
+              rules.set(rangeRules.get(i));
+            }
+          }
+        }
+      }
+      return rules;
+    }
+
+  }
+
+  /**
+   * A range of numbers, e.g. <code>[1..10[</code> or <code>&lt; 5</code>. A missing
+   * start or end means that the range is unbounded on that side.
+   */
+  public static class NumberRange {
+
+    protected final BigDecimal start;
+    protected final boolean startIncluded;
+    protected final BigDecimal end;
+    protected final boolean endIncluded;
+
+    public NumberRange(BigDecimal start, boolean startIncluded, BigDecimal end, boolean endIncluded) {
+      this.start = start;
+      this.startIncluded = startIncluded;
+      this.end = end;
+      this.endIncluded = endIncluded;
+    }
+
+    public boolean contains(BigDecimal number) {
+      if (start != null) {
+        int comparison = number.compareTo(start);
+        if (comparison < 0 || (comparison == 0 && !startIncluded)) {
+          return false;
+        }
+      }
+      if (end != null) {
+        int comparison = number.compareTo(end);
+        return comparison < 0 || (comparison == 0 && endIncluded);
+      }
+      return true;
+    }
+
+    @Override
+    public String toString() {
+      return (startIncluded ? "[" : "]") + start + ".." + end + (endIncluded ? "]" : "[");
+    }
+
+  }
+
+}
@@ -17,6 +17,7 @@
 package org.operaton.bpm.dmn.engine.impl.evaluation;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +38,8 @@ import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableImpl;
 import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableInputImpl;
 import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableOutputImpl;
 import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableRuleIndex;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableRuleIndex.InputIndex;
 import org.operaton.bpm.dmn.engine.impl.DmnExpressionImpl;
 import org.operaton.bpm.dmn.engine.impl.delegate.DmnDecisionTableEvaluationEventImpl;
 import org.operaton.bpm.dmn.engine.impl.delegate.DmnEvaluatedDecisionRuleImpl;
@@ -60,6 +63,7 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
   protected final String outputEntryExpressionLanguage;
 
   protected final boolean returnBlankTableOutputAsNull;
+  protected final boolean enableDecisionTableRuleIndex;
 
   public DecisionTableEvaluationHandler(DefaultDmnEngineConfiguration configuration) {
     expressionEvaluationHandler = new ExpressionEvaluationHandler(configuration);
@@ -71,6 +75,7 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
     inputEntryExpressionLanguage = configuration.getDefaultInputEntryExpressionLanguage();
     outputEntryExpressionLanguage = configuration.getDefaultOutputEntryExpressionLanguage();
     returnBlankTableOutputAsNull = configuration.isReturnBlankTableOutputAsNull();
+    enableDecisionTableRuleIndex = configuration.isEnableDecisionTableRuleIndex();
   }
 
   @Override
@@ -99,6 +104,12 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
   }
 
   protected void evaluateDecisionTable(DmnDecisionTableImpl decisionTable, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    DmnDecisionTableRuleIndex ruleIndex = getRuleIndex(decisionTable);
+    if (ruleIndex != null) {
+      evaluateDecisionTable(decisionTable, ruleIndex, variableContext, evaluationResult);
+      return;
+    }
+
     int inputSize = decisionTable.getInputs().size();
     List<DmnDecisionTableRuleImpl> matchingRules = new ArrayList<>(decisionTable.getRules());
     for (int inputIdx = 0; inputIdx < inputSize; inputIdx++) {
@@ -117,6 +128,73 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
     setEvaluationOutput(decisionTable, matchingRules, variableContext, evaluationResult);
   }
 
+  /**
+   * @return the rule index of the decision table or <code>null</code> if it cannot be used,
+   *         because it is disabled or the input entries are not evaluated by the FEEL engine
+   */
+  protected DmnDecisionTableRuleIndex getRuleIndex(DmnDecisionTableImpl decisionTable) {
+    DmnDecisionTableRuleIndex ruleIndex = decisionTable.getRuleIndex();
+    if (!enableDecisionTableRuleIndex || ruleIndex == null
+        || inputEntryExpressionLanguage == null
+        || !expressionEvaluationHandler.isFeelExpressionLanguage(inputEntryExpressionLanguage)
+        || ruleIndex.getRuleCount() != decisionTable.getRules().size()
+        || ruleIndex.getInputIndexes().size() != decisionTable.getInputs().size()) {
+      return null;
+    }
+    return ruleIndex;
+  }
+
+  protected void evaluateDecisionTable(DmnDecisionTableImpl decisionTable, DmnDecisionTableRuleIndex ruleIndex, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    List<DmnDecisionTableRuleImpl> rules = decisionTable.getRules();
+    BitSet matchingRuleIdxs = new BitSet(rules.size());
+    matchingRuleIdxs.set(0, rules.size());
+
+    int inputSize = decisionTable.getInputs().size();
+    for (int inputIdx = 0; inputIdx < inputSize; inputIdx++) {
+      // evaluate input
+      DmnDecisionTableInputImpl input = decisionTable.getInputs().get(inputIdx);
+      DmnEvaluatedInput evaluatedInput = evaluateInput(input, variableContext);
+      evaluationResult.getInputs().add(evaluatedInput);
+
+      // compose local variable context out of global variable context enhanced with the value of the current input.
+      VariableContext localVariableContext = getLocalVariableContext(input, evaluatedInput, variableContext);
+
+      // filter rules applicable with this input
+      matchingRuleIdxs = evaluateInputForAvailableRules(inputIdx, input, evaluatedInput, ruleIndex.getInputIndex(inputIdx),
+          rules, matchingRuleIdxs, localVariableContext);
+    }
+
+    List<DmnDecisionTableRuleImpl> matchingRules = new ArrayList<>(matchingRuleIdxs.cardinality());
+    for (int ruleIdx = matchingRuleIdxs.nextSetBit(0); ruleIdx >= 0; ruleIdx = matchingRuleIdxs.nextSetBit(ruleIdx + 1)) {
+      matchingRules.add(rules.get(ruleIdx));
+    }
+
+    setEvaluationOutput(decisionTable, matchingRules, variableContext, evaluationResult);
+  }
+
+  /**
+   * Filters the available rules by the input entries of an input. The rules whose input entries
+   * are indexed for the input value are looked up in the index, the input entries of the other
+   * available rules are evaluated.
+   */
+  protected BitSet evaluateInputForAvailableRules(int conditionIdx, DmnDecisionTableInputImpl input, DmnEvaluatedInput evaluatedInput, InputIndex inputIndex, List<DmnDecisionTableRuleImpl> rules, BitSet availableRuleIdxs, VariableContext variableContext) {
+    // without an input expression, the input entries refer to a variable of the context instead of the input value
+    Object inputValue = isNonEmptyExpression(input.getExpression()) ? evaluatedInput.getValue().getValue() : null;
+
+    BitSet matchingRuleIdxs = inputIndex.getMatchingRules(inputValue);
+    matchingRuleIdxs.and(availableRuleIdxs);
+
+    BitSet ruleIdxsToEvaluate = (BitSet) availableRuleIdxs.clone();
+    ruleIdxsToEvaluate.andNot(inputIndex.getIndexedRules(inputValue));
+    for (int ruleIdx = ruleIdxsToEvaluate.nextSetBit(0); ruleIdx >= 0; ruleIdx = ruleIdxsToEvaluate.nextSetBit(ruleIdx + 1)) {
+      DmnExpressionImpl condition = rules.get(ruleIdx).getConditions().get(conditionIdx);
+      if (isConditionApplicable(input, condition, variableContext)) {
+        matchingRuleIdxs.set(ruleIdx);
+      }
+    }
+    return matchingRuleIdxs;
+  }
+
   protected DmnEvaluatedInput evaluateInput(DmnDecisionTableInputImpl input, VariableContext variableContext) {
     DmnEvaluatedInputImpl evaluatedInput = new DmnEvaluatedInputImpl(input);
 
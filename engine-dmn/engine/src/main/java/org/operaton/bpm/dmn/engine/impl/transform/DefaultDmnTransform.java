@@ -306,9 +306,15 @@ public class DefaultDmnTransform implements DmnTransform, DmnElementTransformCon
       }
     }
 
+    dmnDecisionTable.setRuleIndex(createRuleIndex(dmnDecisionTable));
+
     return dmnDecisionTable;
   }
 
+  protected DmnDecisionTableRuleIndex createRuleIndex(DmnDecisionTableImpl dmnDecisionTable) {
+    return new DmnDecisionTableRuleIndexBuilder().build(dmnDecisionTable);
+  }
+
   protected DmnDecisionTableInputImpl transformDecisionTableInput(Input input) {
     DmnElementTransformHandler<Input, DmnDecisionTableInputImpl> handler = handlerRegistry.getHandler(Input.class);
     DmnDecisionTableInputImpl dmnInput = handler.handleElement(this, input);
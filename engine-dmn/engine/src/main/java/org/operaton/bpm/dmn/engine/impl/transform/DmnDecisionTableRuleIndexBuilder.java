@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.dmn.engine.impl.transform;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.operaton.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableRuleIndex;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableRuleIndex.InputIndex;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableRuleIndex.NumberRange;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableRuleIndex.ValueType;
+import org.operaton.bpm.dmn.engine.impl.DmnExpressionImpl;
+
+/**
+ * Builds the {@link DmnDecisionTableRuleIndex} of a transformed decision table.
+ *
+ * <p>
+ * The following FEEL simple unary tests are indexed: empty entries and <code>-</code>,
+ * string literals without escape sequences, number literals, <code>true</code> and
+ * <code>false</code>, comparisons like <code>&lt; 10</code> and intervals like
+ * <code>[10..20[</code> of number literals, and comma separated lists of them as long as
+ * all literals have the same type. All other input entries are evaluated as before.
+ * </p>
+ */
+public class DmnDecisionTableRuleIndexBuilder {
+
+  protected static final String NUMBER = "-?\\d+(?:\\.\\d+)?";
+
+  protected static final Pattern STRING_PATTERN = Pattern.compile("\"([^\"\\\\]*)\"");
+  protected static final Pattern NUMBER_PATTERN = Pattern.compile(NUMBER);
+  protected static final Pattern COMPARISON_PATTERN = Pattern.compile("(<=|>=|<|>)\\s*(" + NUMBER + ")");
+  protected static final Pattern INTERVAL_PATTERN = Pattern.compile(
+    "([\\[\\]])\\s*(" + NUMBER + ")\\s*\\.\\.\\s*(" + NUMBER + ")\\s*([\\[\\]])");
+
+  public DmnDecisionTableRuleIndex build(DmnDecisionTableImpl decisionTable) {
+    List<DmnDecisionTableRuleImpl> rules = decisionTable.getRules();
+    int inputCount = decisionTable.getInputs().size();
+
+    DmnDecisionTableRuleIndex ruleIndex = new DmnDecisionTableRuleIndex(rules.size());
+    for (int inputIdx = 0; inputIdx < inputCount; inputIdx++) {
+      InputIndex inputIndex = new InputIndex();
+      for (int ruleIdx = 0; ruleIdx < rules.size(); ruleIdx++) {
+        List<DmnExpressionImpl> conditions = rules.get(ruleIdx).getConditions();
+        if (conditions.size() != inputCount) {
+          // the rule cannot be matched against the inputs, so nothing can be indexed
+          return null;
+        }
+        indexInputEntry(inputIndex, ruleIdx, conditions.get(inputIdx));
+      }
+      ruleIndex.getInputIndexes().add(inputIndex);
+    }
+    return ruleIndex;
+  }
+
+  protected void indexInputEntry(InputIndex inputIndex, int ruleIdx, DmnExpressionImpl condition) {
+    String expressionLanguage = condition.getExpressionLanguage();
+    if (expressionLanguage != null && !isFeelExpressionLanguage(expressionLanguage)) {
+      return;
+    }
+
+    String expression = condition.getExpression();
+    if (expression == null || expression.trim().isEmpty() || "-".equals(expression.trim())) {
+      inputIndex.addAnyValueRule(ruleIdx);
+      return;
+    }
+
+    List<String> unaryTests = splitUnaryTests(expression);
+    if (unaryTests == null) {
+      return;
+    }
+
+    ValueType valueType = null;
+    List<Object> values = new ArrayList<>();
+    List<NumberRange> ranges = new ArrayList<>();
+    for (String unaryTest : unaryTests) {
+      ValueType unaryTestValueType = parseUnaryTest(unaryTest, values, ranges);
+      if (unaryTestValueType == null || (valueType != null && valueType != unaryTestValueType)) {
+        // not a simple unary test, the entry has to be evaluated
+        return;
+      }
+      valueType = unaryTestValueType;
+    }
+
+    inputIndex.addIndexedRule(ruleIdx, valueType);
+    for (Object value : values) {
+      inputIndex.addValue(ruleIdx, value);
+    }
+    for (NumberRange range : ranges) {
+      inputIndex.addRange(ruleIdx, range);
+    }
+  }
+
+  /**
+   * Parses a simple unary test and adds the values or ranges it matches.
+   *
+   * @return the type of the values matched by the unary test or <code>null</code>
+   *         if it is not a simple unary test
+   */
+  protected ValueType parseUnaryTest(String unaryTest, List<Object> values, List<NumberRange> ranges) {
+    Matcher matcher = STRING_PATTERN.matcher(unaryTest);
+    if (matcher.matches()) {
+      values.add(matcher.group(1));
+      return ValueType.STRING;
+    }
+
+    if ("true".equals(unaryTest) || "false".equals(unaryTest)) {
+      values.add(Boolean.valueOf(unaryTest));
+      return ValueType.BOOLEAN;
+    }
+
+    if (NUMBER_PATTERN.matcher(unaryTest).matches()) {
+      values.add(DmnDecisionTableRuleIndex.toIndexKey(new BigDecimal(unaryTest)));
+      return ValueType.NUMBER;
+    }
+
+    matcher = COMPARISON_PATTERN.matcher(unaryTest);
+    if (matcher.matches()) {
+      String operator = matcher.group(1);
+      BigDecimal number = new BigDecimal(matcher.group(2));
+      boolean included = operator.endsWith("=");
+      if (operator.startsWith("<")) {
+        ranges.add(new NumberRange(null, false, number, included));
+      } else {
+        ranges.add(new NumberRange(number, included, null, false));
+      }
+      return ValueType.NUMBER;
+    }
+
+    matcher = INTERVAL_PATTERN.matcher(unaryTest);
+    if (matcher.matches()) {
+      ranges.add(new NumberRange(
+        new BigDecimal(matcher.group(2)), "[".equals(matcher.group(1)),
+        new BigDecimal(matcher.group(3)), "]".equals(matcher.group(4))));
+      return ValueType.NUMBER;
+    }
+
+    return null;
+  }
+
+  /**
+   * Splits a comma separated list of unary tests. Commas in string literals are ignored.
+   *
+   * @return the trimmed unary tests or <code>null</code> if the expression contains an
+   *         unterminated string literal or an empty unary test
+   */
+  protected List<String> splitUnaryTests(String expression) {
+    List<String> unaryTests = new ArrayList<>();
+    boolean inString = false;
+    int start = 0;
+    for (int i = 0; i < expression.length(); i++) {
+      char c = expression.charAt(i);
+      if (c == '"') {
+        inString = !inString;
+      } else if (c == ',' && !inString) {
+        unaryTests.add(expression.substring(start, i).trim());
+        start = i + 1;
+      }
+    }
+    if (inString) {
+      return null;
+    }
+    unaryTests.add(expression.substring(start).trim());
+
+    if (unaryTests.contains("")) {
+      return null;
+    }
+    return unaryTests;
+  }
+
+  protected boolean isFeelExpressionLanguage(String expressionLanguage) {
+    return DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE.equals(expressionLanguage) ||
+      DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_ALTERNATIVE.equalsIgnoreCase(expressionLanguage) ||
+      DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_DMN12.equals(expressionLanguage) ||
+      DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_DMN13.equals(expressionLanguage) ||
+      DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_DMN14.equals(expressionLanguage) ||
+      DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_DMN15.equals(expressionLanguage);
+  }
+
+}
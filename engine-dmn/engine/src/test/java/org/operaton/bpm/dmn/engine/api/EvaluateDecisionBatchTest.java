@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.dmn.engine.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.dmn.engine.DmnDecisionBatchResult;
+import org.operaton.bpm.dmn.engine.DmnDecisionResult;
+import org.operaton.bpm.dmn.engine.test.DecisionResource;
+import org.operaton.bpm.dmn.engine.test.DmnEngineTest;
+import org.operaton.bpm.engine.variable.Variables;
+import org.operaton.bpm.engine.variable.context.VariableContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EvaluateDecisionBatchTest extends DmnEngineTest {
+
+  private static final String EXAMPLE_DMN = "org/operaton/bpm/dmn/engine/api/Example.dmn";
+  private static final String COLLECT_DMN = "org/operaton/bpm/dmn/engine/evaluate/DecisionTableRuleIndex.dmn";
+
+  private static final String[] STATUSES = { "bronze", "silver", "gold", "platinum" };
+
+  @Test
+  @DecisionResource(resource = EXAMPLE_DMN)
+  void shouldEvaluateBatch() {
+    List<VariableContext> variableContexts = List.of(
+      order("bronze", 200),
+      order("silver", 200),
+      order("silver", 2000),
+      order("platinum", 10),
+      order("gold", 10));
+
+    DmnDecisionBatchResult result = dmnEngine.evaluateDecisionBatch(decision, variableContexts);
+
+    assertThat(result.getRecordCount()).isEqualTo(5);
+    assertThat(result.getRowCount()).isEqualTo(4);
+    assertThat(result.getOutputNames()).containsExactly("result", "reason");
+    assertThat(result.<String>getColumn("result")).containsExactly("notok", "ok", "notok", "ok");
+    assertThat(result.<String>getValue(3, "reason")).isEqualTo("you get anything you want");
+
+    // no rule matched for the platinum order
+    assertThat(result.getRowCount(3)).isZero();
+    assertThat(result.getFirstRow(3)).isEqualTo(3);
+    assertThat(result.getFirstRow(4)).isEqualTo(3);
+    assertThat(result.getRecordIndex(3)).isEqualTo(4);
+  }
+
+  @Test
+  @DecisionResource(resource = COLLECT_DMN)
+  void shouldEvaluateBatchWithMultipleRowsPerRecord() {
+    List<VariableContext> variableContexts = List.of(
+      Variables.createVariables().putValue("category", "a").putValue("amount", 5.0).putValue("vip", false).putValue("limit", 50).asVariableContext(),
+      Variables.createVariables().putValue("category", "b").putValue("amount", -5.0).putValue("vip", true).putValue("limit", 50).asVariableContext(),
+      Variables.createVariables().putValue("category", "c").putValue("amount", 500.0).putValue("vip", true).putValue("limit", 50).asVariableContext());
+
+    DmnDecisionBatchResult result = dmnEngine.evaluateDecisionBatch(decision, variableContexts);
+
+    assertThat(result.getRecordCount()).isEqualTo(3);
+    assertThat(result.<String>getColumn("ruleId")).containsExactly("r1", "r2", "r5", "r2", "r4", "r7");
+    assertThat(result.getRowCount(0)).isEqualTo(3);
+    assertThat(result.getFirstRow(1)).isEqualTo(3);
+    assertThat(result.getRowCount(1)).isEqualTo(1);
+    assertThat(result.getFirstRow(2)).isEqualTo(4);
+    assertThat(result.getRowCount(2)).isEqualTo(2);
+    assertThat(result.getRecordIndex(5)).isEqualTo(2);
+  }
+
+  @Test
+  @DecisionResource(resource = EXAMPLE_DMN)
+  void shouldEvaluateBatchInParallel() {
+    List<VariableContext> variableContexts = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      variableContexts.add(order(STATUSES[i % STATUSES.length], i));
+    }
+
+    DmnDecisionBatchResult result = dmnEngine.evaluateDecisionBatch(decision, variableContexts, true);
+
+    assertThat(result.getRecordCount()).isEqualTo(variableContexts.size());
+
+    List<Object> expectedReasons = new ArrayList<>();
+    for (int i = 0; i < variableContexts.size(); i++) {
+      DmnDecisionResult decisionResult = dmnEngine.evaluateDecision(decision, variableContexts.get(i));
+      assertThat(result.getRowCount(i)).isEqualTo(decisionResult.size());
+      expectedReasons.addAll(decisionResult.collectEntries("reason"));
+    }
+    assertThat(result.getColumn("reason")).isEqualTo(expectedReasons);
+  }
+
+  @Test
+  @DecisionResource(resource = EXAMPLE_DMN)
+  void shouldEvaluateEmptyBatch() {
+    DmnDecisionBatchResult result = dmnEngine.evaluateDecisionBatch(decision, Collections.emptyList());
+
+    assertThat(result.getRecordCount()).isZero();
+    assertThat(result.getRowCount()).isZero();
+    assertThat(result.getOutputNames()).isEmpty();
+    assertThat(result.getColumn("result")).isEmpty();
+  }
+
+  @Test
+  @DecisionResource(resource = EXAMPLE_DMN)
+  void shouldFailBatchWithNullVariableContext() {
+    List<VariableContext> variableContexts = Collections.singletonList(null);
+
+    assertThatThrownBy(() -> dmnEngine.evaluateDecisionBatch(decision, variableContexts))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("variableContext");
+  }
+
+  protected VariableContext order(String status, int sum) {
+    return Variables.createVariables()
+      .putValue("status", status)
+      .putValue("sum", sum)
+      .asVariableContext();
+  }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.dmn.engine.evaluate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableRuleIndex;
+import org.operaton.bpm.dmn.engine.test.DecisionResource;
+import org.operaton.bpm.dmn.engine.test.DmnEngineTest;
+import org.operaton.bpm.engine.variable.VariableMap;
+import org.operaton.bpm.engine.variable.Variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DecisionTableRuleIndexTest extends DmnEngineTest {
+
+  private static final String RULE_INDEX_DMN = "DecisionTableRuleIndex.dmn";
+
+  @AfterEach
+  void reset() {
+    getConfiguration().setEnableDecisionTableRuleIndex(true);
+  }
+
+  @Test
+  @DecisionResource(resource = RULE_INDEX_DMN)
+  void shouldFindMatchingRules() {
+    assertThat(evaluate("a", 5.0, false)).containsExactly("r1", "r2", "r5");
+    assertThat(evaluate("b", -5.0, true)).containsExactly("r2");
+    assertThat(evaluate("c", 500.0, true)).containsExactly("r4", "r7");
+    assertThat(evaluate("a, b", 0.5, true)).containsExactly("r8");
+    assertThat(evaluate("x", 100.0, true)).containsExactly("r3", "r7");
+  }
+
+  @Test
+  @DecisionResource(resource = RULE_INDEX_DMN)
+  void shouldFindSameRulesWithAndWithoutRuleIndex() {
+    for (String category : List.of("a", "b", "c", "a, b", "x")) {
+      for (double amount : new double[] { -5, 0, 0.5, 1, 5, 10, 50, 100, 100.5, 1000, 5000 }) {
+        for (boolean vip : new boolean[] { true, false }) {
+          getConfiguration().setEnableDecisionTableRuleIndex(true);
+          List<String> indexedResult = evaluate(category, amount, vip);
+
+          getConfiguration().setEnableDecisionTableRuleIndex(false);
+          List<String> evaluatedResult = evaluate(category, amount, vip);
+
+          assertThat(indexedResult)
+            .as("category=%s, amount=%s, vip=%s", category, amount, vip)
+            .isEqualTo(evaluatedResult);
+        }
+      }
+    }
+  }
+
+  @Test
+  @DecisionResource(resource = RULE_INDEX_DMN)
+  void shouldIndexSimpleInputEntriesOnly() {
+    DmnDecisionTableRuleIndex ruleIndex = ((DmnDecisionTableImpl) decision.getDecisionLogic()).getRuleIndex();
+
+    assertThat(ruleIndex.getRuleCount()).isEqualTo(8);
+    // 'not("a")' of r6 is evaluated
+    assertThat(ruleIndex.getInputIndex(0).getIndexedRules("x")).hasToString("{0, 1, 2, 3, 4, 6, 7}");
+    // '> limit' of r7 is evaluated
+    assertThat(ruleIndex.getInputIndex(1).getIndexedRules(1.0)).hasToString("{0, 1, 2, 3, 4, 5, 7}");
+    // number entries are evaluated for string values
+    assertThat(ruleIndex.getInputIndex(1).getIndexedRules("1")).hasToString("{0}");
+    assertThat(ruleIndex.getInputIndex(1).getMatchingRules(5L)).hasToString("{0, 1, 4}");
+  }
+
+  protected List<String> evaluate(String category, double amount, boolean vip) {
+    VariableMap variables = Variables.createVariables()
+      .putValue("category", category)
+      .putValue("amount", amount)
+      .putValue("vip", vip)
+      .putValue("limit", 50);
+
+    return new ArrayList<>(dmnEngine.evaluateDecisionTable(decision, variables).collectEntries("ruleId"));
+  }
+
+  protected DefaultDmnEngineConfiguration getConfiguration() {
+    return (DefaultDmnEngineConfiguration) dmnEngine.getConfiguration();
+  }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.dmn.feel.impl.scala;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.camunda.feel.syntaxtree.ParsedExpression;
+
+/**
+ * Bounded, thread-safe cache of parsed FEEL expressions and unary tests, so that the
+ * expressions of a decision are parsed once and not on each evaluation.
+ *
+ * <p>
+ * Lookups are plain reads of a {@link ConcurrentHashMap}. If the cache exceeds its
+ * capacity, the entries added first are discarded first. Hits and misses are counted
+ * to allow monitoring the effectiveness of the cache.
+ * </p>
+ */
+public class ParsedExpressionCache {
+
+  protected final int capacity;
+
+  protected final Map<ParsedExpressionCacheKey, ParsedExpression> parsedExpressions = new ConcurrentHashMap<>();
+  protected final Queue<ParsedExpressionCacheKey> keys = new ConcurrentLinkedQueue<>();
+
+  protected final LongAdder hitCount = new LongAdder();
+  protected final LongAdder missCount = new LongAdder();
+
+  /**
+   * Creates the cache.
+   *
+   * @param capacity the maximum number of parsed expressions to keep, <code>0</code> disables the cache
+   * @throws IllegalArgumentException if the capacity is negative
+   */
+  public ParsedExpressionCache(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("capacity must not be negative");
+    }
+    this.capacity = capacity;
+  }
+
+  /**
+   * Returns the parsed expression for the given key. If it is not cached yet, it is
+   * parsed by the given parser and added to the cache.
+   *
+   * @param key    the kind and text of the expression
+   * @param parser parses the expression text, may throw an exception if the expression is invalid
+   * @return the parsed expression
+   */
+  public ParsedExpression get(ParsedExpressionCacheKey key, Function<String, ParsedExpression> parser) {
+    ParsedExpression parsedExpression = parsedExpressions.get(key);
+    if (parsedExpression != null) {
+      hitCount.increment();
+      return parsedExpression;
+    }
+
+    missCount.increment();
+    parsedExpression = parser.apply(key.getExpression());
+    if (capacity > 0 && parsedExpressions.putIfAbsent(key, parsedExpression) == null) {
+      keys.add(key);
+      evictExceedingEntries();
+    }
+    return parsedExpression;
+  }
+
+  protected void evictExceedingEntries() {
+    while (parsedExpressions.size() > capacity) {
+      ParsedExpressionCacheKey eldestKey = keys.poll();
+      if (eldestKey == null) {
+        return;
+      }
+      parsedExpressions.remove(eldestKey);
+    }
+  }
+
+  /**
+   * @return the number of lookups which found a cached parsed expression
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * @return the number of lookups which had to parse the expression
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * @return the number of cached parsed expressions
+   */
+  public int size() {
+    return parsedExpressions.size();
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Removes all parsed expressions and resets the statistics.
+   */
+  public void clear() {
+    parsedExpressions.clear();
+    keys.clear();
+    hitCount.reset();
+    missCount.reset();
+  }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.dmn.feel.impl.scala;
+
+import java.util.Objects;
+
+/**
+ * Key of a {@link ParsedExpressionCache} entry. Simple expressions and unary tests
+ * are parsed differently, so the same text is cached once per kind. The input of
+ * unary tests is passed on evaluation and is not part of the parsed expression.
+ */
+public class ParsedExpressionCacheKey {
+
+  public enum ExpressionType {
+    SIMPLE_EXPRESSION,
+    SIMPLE_UNARY_TESTS
+  }
+
+  protected final ExpressionType type;
+  protected final String expression;
+
+  public ParsedExpressionCacheKey(ExpressionType type, String expression) {
+    this.type = type;
+    this.expression = expression;
+  }
+
+  public ExpressionType getType() {
+    return type;
+  }
+
+  public String getExpression() {
+    return expression;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(type, expression);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    ParsedExpressionCacheKey other = (ParsedExpressionCacheKey) obj;
+    return type == other.type && Objects.equals(expression, other.expression);
+  }
+
+  @Override
+  public String toString() {
+    return "ParsedExpressionCacheKey [type=" + type + ", expression=" + expression + "]";
+  }
+
+}
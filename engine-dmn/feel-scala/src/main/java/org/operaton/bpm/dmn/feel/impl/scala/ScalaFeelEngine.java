@@ -27,13 +27,16 @@ import scala.util.Right;
 import org.camunda.feel.FeelEngine.Failure;
 import org.camunda.feel.api.FeelEngineApi;
 import org.camunda.feel.api.FeelEngineBuilder;
+import org.camunda.feel.api.ParseResult;
 import org.camunda.feel.context.CustomContext;
 import org.camunda.feel.context.VariableProvider;
 import org.camunda.feel.impl.JavaValueMapper;
+import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.camunda.feel.valuemapper.CustomValueMapper;
 import org.camunda.feel.valuemapper.ValueMapper.CompositeValueMapper;
 
 import org.operaton.bpm.dmn.feel.impl.FeelEngine;
+import org.operaton.bpm.dmn.feel.impl.scala.ParsedExpressionCacheKey.ExpressionType;
 import org.operaton.bpm.dmn.feel.impl.scala.function.CustomFunctionTransformer;
 import org.operaton.bpm.dmn.feel.impl.scala.function.FeelCustomFunctionProvider;
 import org.operaton.bpm.dmn.feel.impl.scala.spin.SpinValueMapperFactory;
@@ -78,7 +81,14 @@ public class ScalaFeelEngine implements FeelEngine {
   protected final FeelEngineApi feelEngineApi;
 
   /**
-   * Constructs an instance of the ScalaFeelEngine.
+   * Caches the parsed simple expressions and unary tests, so that an expression is
+   * parsed once and not on each evaluation.
+   */
+  protected final ParsedExpressionCache parsedExpressionCache;
+
+  /**
+   * Constructs an instance of the ScalaFeelEngine with a parsed expression cache of
+   * the {@link ScalaFeelEngineFactory#DEFAULT_EXPRESSION_CACHE_SIZE default size}.
    *
    * @param functionProviders the list of custom function providers to be used
    *                          when transforming and resolving functions in the FEEL engine.
@@ -86,6 +96,18 @@ public class ScalaFeelEngine implements FeelEngine {
    *                          that can be executed as part of FEEL expressions.
    */
   public ScalaFeelEngine(java.util.List<FeelCustomFunctionProvider> functionProviders) {
+    this(functionProviders, ScalaFeelEngineFactory.DEFAULT_EXPRESSION_CACHE_SIZE);
+  }
+
+  /**
+   * Constructs an instance of the ScalaFeelEngine.
+   *
+   * @param functionProviders   the list of custom function providers to be used
+   *                            when transforming and resolving functions in the FEEL engine.
+   * @param expressionCacheSize the maximum number of parsed expressions to cache,
+   *                            <code>0</code> disables the cache
+   */
+  public ScalaFeelEngine(java.util.List<FeelCustomFunctionProvider> functionProviders, int expressionCacheSize) {
     List<CustomValueMapper> valueMappers = getValueMappers();
 
     CompositeValueMapper compositeValueMapper = new CompositeValueMapper(valueMappers);
@@ -94,6 +116,7 @@ public class ScalaFeelEngine implements FeelEngine {
       compositeValueMapper);
 
     feelEngineApi = buildFeelEngineApi(customFunctionTransformer, compositeValueMapper);
+    parsedExpressionCache = new ParsedExpressionCache(expressionCacheSize);
   }
 
   /**
@@ -116,7 +139,10 @@ public class ScalaFeelEngine implements FeelEngine {
       }
     };
 
-    Either<Failure, Object> either = feelEngineApi.evaluateExpression(expression, context).toEither();
+    ParsedExpression parsedExpression = parsedExpressionCache.get(
+      new ParsedExpressionCacheKey(ExpressionType.SIMPLE_EXPRESSION, expression), this::parseExpression);
+
+    Either<Failure, Object> either = feelEngineApi.evaluate(parsedExpression, context).toEither();
 
     return handleEvaluationResult(either);
   }
@@ -148,8 +174,11 @@ public class ScalaFeelEngine implements FeelEngine {
       }
     };
 
-    // Evaluate the unary tests using the FeelEngineApi
-    Either<Failure, Object> either = feelEngineApi.evaluateUnaryTests(expression, inputVariable, context).toEither();
+    ParsedExpression parsedUnaryTests = parsedExpressionCache.get(
+      new ParsedExpressionCacheKey(ExpressionType.SIMPLE_UNARY_TESTS, expression), this::parseUnaryTests);
+
+    // Evaluate the parsed unary tests using the FeelEngineApi
+    Either<Failure, Object> either = feelEngineApi.evaluateWithInput(parsedUnaryTests, inputVariable, context).toEither();
 
     // Handle the evaluation result
     Object result = handleEvaluationResult(either);
@@ -157,6 +186,45 @@ public class ScalaFeelEngine implements FeelEngine {
     return BoxesRunTime.unboxToBoolean(result);
   }
 
+  /**
+   * Returns the cache of parsed simple expressions and unary tests, e.g. to read its
+   * hit and miss statistics.
+   *
+   * @return the parsed expression cache of this engine
+   */
+  public ParsedExpressionCache getParsedExpressionCache() {
+    return parsedExpressionCache;
+  }
+
+  /**
+   * Parses a simple FEEL expression.
+   *
+   * @param expression the FEEL expression to parse
+   * @return the parsed expression
+   * @throws org.operaton.bpm.dmn.feel.impl.FeelException if the expression is invalid
+   */
+  protected ParsedExpression parseExpression(String expression) {
+    return handleParseResult(feelEngineApi.parseExpression(expression));
+  }
+
+  /**
+   * Parses FEEL unary tests.
+   *
+   * @param expression the unary tests to parse
+   * @return the parsed unary tests
+   * @throws org.operaton.bpm.dmn.feel.impl.FeelException if the unary tests are invalid
+   */
+  protected ParsedExpression parseUnaryTests(String expression) {
+    return handleParseResult(feelEngineApi.parseUnaryTests(expression));
+  }
+
+  private ParsedExpression handleParseResult(ParseResult parseResult) {
+    if (parseResult.isFailure()) {
+      throw LOGGER.evaluationException(parseResult.failure().message());
+    }
+    return parseResult.parsedExpression();
+  }
+
   /**
    * Handles the result of an evaluation by processing the provided `Either` value,
    * which can represent either a successful or failed evaluation.
@@ -30,6 +30,11 @@ import org.operaton.bpm.dmn.feel.impl.scala.function.FeelCustomFunctionProvider;
  */
 public class ScalaFeelEngineFactory implements FeelEngineFactory {
 
+  /**
+   * The default maximum number of parsed expressions cached by an engine.
+   */
+  public static final int DEFAULT_EXPRESSION_CACHE_SIZE = 1000;
+
   /**
    * A protected field that stores a list of custom function providers for the FEEL engine.
    * Custom function providers are instances of {@link FeelCustomFunctionProvider} that define
@@ -37,6 +42,12 @@ public class ScalaFeelEngineFactory implements FeelEngineFactory {
    */
   protected List<FeelCustomFunctionProvider> customFunctionProviders;
 
+  /**
+   * The maximum number of parsed expressions cached by the created engines.
+   * <code>0</code> disables the cache.
+   */
+  protected int expressionCacheSize = DEFAULT_EXPRESSION_CACHE_SIZE;
+
   /**
    * Default constructor for the ScalaFeelEngineFactory.
    * Initializes the factory with default settings and no custom function providers.
@@ -65,7 +76,7 @@ public class ScalaFeelEngineFactory implements FeelEngineFactory {
    */
   @Override
   public FeelEngine createInstance() {
-      return new ScalaFeelEngine(customFunctionProviders);
+      return new ScalaFeelEngine(customFunctionProviders, expressionCacheSize);
    }
 
   /**
@@ -91,5 +102,20 @@ public class ScalaFeelEngineFactory implements FeelEngineFactory {
     return customFunctionProviders;
   }
 
-}
+  /**
+   * Sets the maximum number of parsed expressions cached by the created engines.
+   *
+   * @param expressionCacheSize the cache size, <code>0</code> disables the cache
+   */
+  public void setExpressionCacheSize(int expressionCacheSize) {
+    this.expressionCacheSize = expressionCacheSize;
+  }
+
+  /**
+   * @return the maximum number of parsed expressions cached by the created engines
+   */
+  public int getExpressionCacheSize() {
+    return expressionCacheSize;
+  }
 
+}
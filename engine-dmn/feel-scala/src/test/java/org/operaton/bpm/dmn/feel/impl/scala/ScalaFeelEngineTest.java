@@ -526,4 +526,76 @@ class ScalaFeelEngineTest {
     assertThat(result).isFalse();
   }
 
+  @Test
+  void shouldParseExpressionsOnceAndEvaluateThemFromCache() {
+    ScalaFeelEngine cachingEngine = new ScalaFeelEngine(Collections.emptyList());
+    ParsedExpressionCache cache = cachingEngine.getParsedExpressionCache();
+
+    for (int i = 0; i < 3; i++) {
+      VariableContext variableCtx = Variables.putValue("a", i).putValue("cellInput", i).asVariableContext();
+
+      assertThat((Object) cachingEngine.evaluateSimpleExpression("a + 1", variableCtx)).isEqualTo(i + 1L);
+      assertThat(cachingEngine.evaluateSimpleUnaryTests("< 2", "cellInput", variableCtx)).isEqualTo(i < 2);
+    }
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getMissCount()).isEqualTo(2);
+    assertThat(cache.getHitCount()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldCacheSameTextAsExpressionAndAsUnaryTestsSeparately() {
+    ScalaFeelEngine cachingEngine = new ScalaFeelEngine(Collections.emptyList());
+    VariableContext variableCtx = Variables.putValue("cellInput", 5).asVariableContext();
+
+    assertThat((Object) cachingEngine.evaluateSimpleExpression("5", variableCtx)).isEqualTo(5L);
+    assertThat(cachingEngine.evaluateSimpleUnaryTests("5", "cellInput", variableCtx)).isTrue();
+
+    assertThat(cachingEngine.getParsedExpressionCache().size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotCacheInvalidExpressions() {
+    ScalaFeelEngine cachingEngine = new ScalaFeelEngine(Collections.emptyList());
+    VariableContext variableCtx = Variables.emptyVariableContext();
+
+    for (int i = 0; i < 2; i++) {
+      assertThatExceptionOfType(FeelException.class)
+        .isThrownBy(() -> cachingEngine.evaluateSimpleExpression("a +", variableCtx))
+        .withMessageContaining("failed to parse expression");
+    }
+
+    assertThat(cachingEngine.getParsedExpressionCache().size()).isZero();
+    assertThat(cachingEngine.getParsedExpressionCache().getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldEvictEldestParsedExpressionIfCacheIsFull() {
+    ScalaFeelEngine cachingEngine = new ScalaFeelEngine(Collections.emptyList(), 2);
+    VariableContext variableCtx = Variables.emptyVariableContext();
+
+    cachingEngine.evaluateSimpleExpression("1", variableCtx);
+    cachingEngine.evaluateSimpleExpression("2", variableCtx);
+    cachingEngine.evaluateSimpleExpression("3", variableCtx);
+    cachingEngine.evaluateSimpleExpression("3", variableCtx);
+    cachingEngine.evaluateSimpleExpression("1", variableCtx);
+
+    ParsedExpressionCache cache = cachingEngine.getParsedExpressionCache();
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldEvaluateWithDisabledCache() {
+    ScalaFeelEngine nonCachingEngine = new ScalaFeelEngine(Collections.emptyList(), 0);
+    VariableContext variableCtx = Variables.putValue("a", 1).asVariableContext();
+
+    assertThat((Object) nonCachingEngine.evaluateSimpleExpression("a + 1", variableCtx)).isEqualTo(2L);
+    assertThat((Object) nonCachingEngine.evaluateSimpleExpression("a + 1", variableCtx)).isEqualTo(2L);
+
+    assertThat(nonCachingEngine.getParsedExpressionCache().size()).isZero();
+    assertThat(nonCachingEngine.getParsedExpressionCache().getHitCount()).isZero();
+  }
+
 }
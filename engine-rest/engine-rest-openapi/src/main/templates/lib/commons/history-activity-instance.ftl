@@ -104,5 +104,8 @@
   "withoutTenantId": {
     "type": "boolean",
     "desc": "Only include historic activity instances that belong to no tenant. Value may only be `true`, as `false` is the default behavior."
+  },
+  "pageAfter": {
+    "desc": "Only include historic activity instances that follow the activity instance with the given id in the sort order (keyset pagination). Pass the id of the last activity instance of a page to fetch the next page. Can only be combined with sorting by `activityInstanceId`, `instanceId`, `executionId`, `activityId`, `activityType`, `definitionId` and `startTime`."
   }
 }>
\ No newline at end of file
@@ -0,0 +1,23 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto>
+
+  <@lib.property
+      name = "id"
+      type = "string"
+      desc = "The id of the entity the operation was executed for, e.g. the id of an external task." />
+
+  <@lib.property
+      name = "successful"
+      type = "boolean"
+      desc = "`true` if the operation was executed and committed successfully." />
+
+  <@lib.property
+      name = "error"
+      type = "ref"
+      dto = "ExceptionDto"
+      last = true
+      desc = "The error the operation failed with. `null` if the operation was successful." />
+
+</@lib.dto>
+
+</#macro>
@@ -0,0 +1,13 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto extends = "CompleteExternalTaskDto" >
+
+  <@lib.property
+      name = "externalTaskId"
+      type = "string"
+      last = true
+      desc = "The id of the external task to complete. If no `workerId` is given, the `workerId` of the
+              bulk operation is used." />
+
+</@lib.dto>
+
+</#macro>
@@ -0,0 +1,32 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto extends = "HandleExternalTaskDto" >
+
+  <@lib.property
+      name = "chunkSize"
+      type = "integer"
+      format = "int32"
+      desc = "The number of operations executed in one transaction. Must be > 0. Defaults to the
+              `bulkOperationChunkSize` of the process engine configuration." />
+
+  <@lib.property
+      name = "complete"
+      type = "array"
+      dto = "BulkCompleteExternalTaskDto"
+      desc = "The external tasks to complete." />
+
+  <@lib.property
+      name = "failure"
+      type = "array"
+      dto = "BulkExternalTaskFailureDto"
+      desc = "The external tasks to report a failure for." />
+
+  <@lib.property
+      name = "extendLock"
+      type = "array"
+      dto = "BulkExtendLockOnExternalTaskDto"
+      last = true
+      desc = "The external tasks to extend the lock of." />
+
+</@lib.dto>
+
+</#macro>
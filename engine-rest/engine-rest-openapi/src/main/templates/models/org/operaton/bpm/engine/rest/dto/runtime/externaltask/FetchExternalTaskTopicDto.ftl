@@ -98,10 +98,20 @@
         name = "includeExtensionProperties"
         type = "boolean"
         defaultValue = 'false'
-        last = true
         desc = "Determines whether custom extension properties defined in the BPMN activity of the external task (e.g.
                 via the Extensions tab in the Operaton modeler) should be included in the response. Default: false" />
 
+    <@lib.property
+        name = "weight"
+        type = "integer"
+        format = "int32"
+        last = true
+        desc = "The share of the fetched tasks this topic receives relative to the other topics. Must be greater than
+                zero. As soon as one topic of the request defines a weight, the tasks are distributed across the topics
+                in proportion to their weights, so that a topic with many open tasks cannot take all tasks of the
+                request. Topics without a weight then have a weight of `1`. Capacity a topic cannot use is given to
+                the other topics. Inside a topic, the tasks are selected by priority and the requested sorting." />
+
 
 </@lib.dto>
 
@@ -0,0 +1,19 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto>
+
+  <@lib.property
+      name = "taskId"
+      type = "string"
+      desc = "The id of the task to complete." />
+
+  <@lib.property
+      name = "variables"
+      type = "object"
+      dto = "VariableValueDto"
+      additionalProperties = true
+      last = true
+      desc = "A JSON object containing variable key-value pairs." />
+
+</@lib.dto>
+
+</#macro>
@@ -0,0 +1,12 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto extends = "UserIdDto" >
+
+  <@lib.property
+      name = "taskId"
+      type = "string"
+      last = true
+      desc = "The id of the task to claim or to set the assignee of." />
+
+</@lib.dto>
+
+</#macro>
@@ -0,0 +1,32 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto>
+
+  <@lib.property
+      name = "chunkSize"
+      type = "integer"
+      format = "int32"
+      desc = "The number of operations executed in one transaction. Must be > 0. Defaults to the
+              `bulkOperationChunkSize` of the process engine configuration." />
+
+  <@lib.property
+      name = "claim"
+      type = "array"
+      dto = "BulkTaskUserIdDto"
+      desc = "The tasks to claim and the users to claim them for." />
+
+  <@lib.property
+      name = "assign"
+      type = "array"
+      dto = "BulkTaskUserIdDto"
+      desc = "The tasks to set the assignee of and the new assignees." />
+
+  <@lib.property
+      name = "complete"
+      type = "array"
+      dto = "BulkCompleteTaskDto"
+      last = true
+      desc = "The tasks to complete." />
+
+</@lib.dto>
+
+</#macro>
@@ -4,7 +4,7 @@
       id = "getDecisionDefinitionDmnXmlByKeyAndTenant"
       tag = "Decision Definition"
       summary = "Get XML By Key and Tenant"
-      desc = "Retrieves the XML of the latest version of the decision definition for tenant" />
+      desc = "Retrieves the XML of the latest version of the decision definition for tenant The response carries an `ETag` header. Clients can pass it in the `If-None-Match` header of subsequent requests to receive `304 Not Modified` instead of the unchanged content." />
 
   "parameters" : [
 
@@ -55,6 +55,10 @@
                            }
                         }'] />
 
+    <@lib.response
+        code = "304"
+        desc = "The content has not changed since the request that returned the ETag passed in the `If-None-Match` header."/>
+
     <@lib.response
         code = "404"
         dto = "ExceptionDto"
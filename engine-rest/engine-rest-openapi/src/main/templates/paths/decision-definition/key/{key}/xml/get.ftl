@@ -4,7 +4,7 @@
       id = "getDecisionDefinitionDmnXmlByKey"
       tag = "Decision Definition"
       summary = "Get XML By Key"
-      desc = "Retrieves the XML for the latest version of the decision definition which belongs to no tenant." />
+      desc = "Retrieves the XML for the latest version of the decision definition which belongs to no tenant. The response carries an `ETag` header. Clients can pass it in the `If-None-Match` header of subsequent requests to receive `304 Not Modified` instead of the unchanged content." />
 
   "parameters" : [
 
@@ -48,6 +48,10 @@
                            }
                         }'] />
 
+    <@lib.response
+        code = "304"
+        desc = "The content has not changed since the request that returned the ETag passed in the `If-None-Match` header."/>
+
     <@lib.response
         code = "404"
         dto = "ExceptionDto"
@@ -4,7 +4,7 @@
       id = "getDecisionDefinitionDmnXmlById"
       tag = "Decision Definition"
       summary = "Get XML By Id"
-      desc = "Retrieves the DMN XML of a decision definition." />
+      desc = "Retrieves the DMN XML of a decision definition. The response carries an `ETag` header. Clients can pass it in the `If-None-Match` header of subsequent requests to receive `304 Not Modified` instead of the unchanged content." />
 
   "parameters" : [
 
@@ -48,6 +48,10 @@
                            }
                         }'] />
 
+    <@lib.response
+        code = "304"
+        desc = "The content has not changed since the request that returned the ETag passed in the `If-None-Match` header."/>
+
     <@lib.response
         code = "404"
         dto = "ExceptionDto"
@@ -5,7 +5,7 @@
       id = "getDeploymentResourceData"
       tag = "Deployment"
       summary = "Get Resource (Binary)"
-      desc = "Retrieves the binary content of a deployment resource for the given deployment by id." />
+      desc = "Retrieves the binary content of a deployment resource for the given deployment by id. The response carries an `ETag` header. Clients can pass it in the `If-None-Match` header of subsequent requests to receive `304 Not Modified` instead of the unchanged content." />
 
   "parameters" : [
 
@@ -49,6 +49,10 @@
       }
     },
 
+    <@lib.response
+        code = "304"
+        desc = "The content has not changed since the request that returned the ETag passed in the `If-None-Match` header."/>
+
     <@lib.response
         code = "400"
         dto = "ExceptionDto"
@@ -0,0 +1,92 @@
+<#macro endpoint_macro docsUrl="">
+{
+
+  <@lib.endpointInfo
+      id = "executeExternalTaskBulkOperation"
+      tag = "External Task"
+      summary = "Bulk Operation"
+      desc = "Completes, fails and extends the locks of many external tasks at once. The operations are executed
+              in the order complete, failure, extendLock, in chunks of operations sharing one transaction. If an
+              operation of a chunk fails, the operations of the chunk are executed again in a transaction of their
+              own, so a failing operation does not prevent the others from being executed. A result is returned
+              for each operation." />
+
+  <@lib.requestBody
+      mediaType = "application/json"
+      dto = "ExternalTaskBulkOperationDto"
+      examples = ['"example-1": {
+                       "summary": "POST /external-task/bulk",
+                       "value": {
+                         "workerId": "aWorker",
+                         "chunkSize": 100,
+                         "complete": [
+                           {
+                             "externalTaskId": "anExternalTaskId",
+                             "variables": {
+                               "aVariable": {
+                                 "value": "aStringValue"
+                               }
+                             }
+                           }
+                         ],
+                         "failure": [
+                           {
+                             "externalTaskId": "anotherExternalTaskId",
+                             "errorMessage": "Does not compute",
+                             "retries": 3,
+                             "retryTimeout": 60000
+                           }
+                         ],
+                         "extendLock": [
+                           {
+                             "externalTaskId": "aThirdExternalTaskId",
+                             "newDuration": 100000
+                           }
+                         ]
+                       }
+                     }'] />
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "BulkOperationResultDto"
+        array = true
+        desc = "Request successful."
+        examples = ['"example-1": {
+                       "summary": "Status 200 Response",
+                       "value": [
+                         {
+                           "id": "anExternalTaskId",
+                           "successful": true,
+                           "error": null
+                         },
+                         {
+                           "id": "anotherExternalTaskId",
+                           "successful": false,
+                           "error": {
+                             "type": "NotFoundException",
+                             "message": "Cannot find external task with id anotherExternalTaskId: externalTask is null"
+                           }
+                         },
+                         {
+                           "id": "aThirdExternalTaskId",
+                           "successful": true,
+                           "error": null
+                         }
+                       ]
+                     }'] />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if the chunk size is not greater than zero. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+    <@lib.errorResponses docsUrl=docsUrl last = true />
+
+  }
+}
+
+</#macro>
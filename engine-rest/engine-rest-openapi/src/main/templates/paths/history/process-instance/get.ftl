@@ -6,7 +6,11 @@
       summary = "List Historic Process Instances"
       desc = "Queries for historic process instances that fulfill the given parameters.
               The size of the result set can be retrieved by using the
-              [Get Process Instance Count](${docsUrl}/reference/rest/history/process-instance/get-process-instance-query-count/) method." />
+              [Get Process Instance Count](${docsUrl}/reference/rest/history/process-instance/get-process-instance-query-count/) method.
+
+              With the `Accept` header `application/x-ndjson`, the result is streamed as newline
+              delimited JSON, one object per line, while the query is paged through internally.
+              The memory held by the server then does not depend on the number of results." />
 
   "parameters" : [
 
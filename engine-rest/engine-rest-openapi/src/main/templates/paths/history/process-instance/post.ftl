@@ -7,7 +7,11 @@
       desc = "Queries for historic process instances that fulfill the given parameters.
               This method is slightly more powerful than the
               [Get Process Instance](${docsUrl}/reference/rest/history/process-instance/get-process-instance-query/)
-              because it allows filtering by multiple process variables of types `String`, `Number` or `Boolean`." />
+              because it allows filtering by multiple process variables of types `String`, `Number` or `Boolean`.
+
+              With the `Accept` header `application/x-ndjson`, the result is streamed as newline
+              delimited JSON, one object per line, while the query is paged through internally.
+              The memory held by the server then does not depend on the number of results." />
 
   "parameters" : [
     <#assign last = true >
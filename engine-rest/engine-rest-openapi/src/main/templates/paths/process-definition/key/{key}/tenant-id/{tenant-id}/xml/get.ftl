@@ -6,7 +6,7 @@
       tag = "Process Definition"
       summary = "Get XML"
       desc = "Retrieves latest version the BPMN 2.0 XML of a process definition.
-              Returns the XML for the latest version of the process definition for tenant." />
+              Returns the XML for the latest version of the process definition for tenant. The response carries an `ETag` header. Clients can pass it in the `If-None-Match` header of subsequent requests to receive `304 Not Modified` instead of the unchanged content." />
 
   "parameters" : [
 
@@ -49,6 +49,10 @@
                      }
                    }'
                  ] />
+    <@lib.response
+        code = "304"
+        desc = "The content has not changed since the request that returned the ETag passed in the `If-None-Match` header."/>
+
     <@lib.response
         code = "403"
         dto = "AuthorizationExceptionDto"
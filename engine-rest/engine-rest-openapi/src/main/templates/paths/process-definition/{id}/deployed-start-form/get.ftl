@@ -6,7 +6,7 @@
       tag = "Process Definition"
       summary = "Get Deployed Start Form"
       desc = "Retrieves the deployed form that can be referenced from a start event.
-      For further information please refer to [User Guide](${docsUrl}/user-guide/task-forms/#embedded-task-forms)." />
+      For further information please refer to [User Guide](${docsUrl}/user-guide/task-forms/#embedded-task-forms). The response carries an `ETag` header. Clients can pass it in the `If-None-Match` header of subsequent requests to receive `304 Not Modified` instead of the unchanged content." />
 
   "parameters" : [
 
@@ -58,6 +58,10 @@
           }
         ] />
 
+    <@lib.response
+        code = "304"
+        desc = "The content has not changed since the request that returned the ETag passed in the `If-None-Match` header."/>
+
     <@lib.response
         code = "400"
         dto = "ExceptionDto"
@@ -5,7 +5,7 @@
       id = "getProcessDefinitionBpmn20Xml"
       tag = "Process Definition"
       summary = "Get XML"
-      desc = "Retrieves the BPMN 2.0 XML of a process definition." />
+      desc = "Retrieves the BPMN 2.0 XML of a process definition. The response carries an `ETag` header. Clients can pass it in the `If-None-Match` header of subsequent requests to receive `304 Not Modified` instead of the unchanged content." />
 
   "parameters" : [
 
@@ -42,6 +42,10 @@
                    }'
                  ] />
 
+    <@lib.response
+        code = "304"
+        desc = "The content has not changed since the request that returned the ETag passed in the `If-None-Match` header."/>
+
     <@lib.response
         code = "400"
         dto = "ExceptionDto"
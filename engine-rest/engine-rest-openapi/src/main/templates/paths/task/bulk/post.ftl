@@ -0,0 +1,89 @@
+<#macro endpoint_macro docsUrl="">
+{
+
+  <@lib.endpointInfo
+      id = "executeTaskBulkOperation"
+      tag = "Task"
+      summary = "Bulk Operation"
+      desc = "Claims, assigns and completes many tasks at once. The operations are executed in the order
+              claim, assign, complete, in chunks of operations sharing one transaction. If an operation of
+              a chunk fails, the operations of the chunk are executed again in a transaction of their own,
+              so a failing operation does not prevent the others from being executed. A result is returned
+              for each operation." />
+
+  <@lib.requestBody
+      mediaType = "application/json"
+      dto = "TaskBulkOperationDto"
+      examples = ['"example-1": {
+                       "summary": "POST /task/bulk",
+                       "value": {
+                         "chunkSize": 100,
+                         "claim": [
+                           {
+                             "taskId": "aTaskId",
+                             "userId": "aUserId"
+                           }
+                         ],
+                         "assign": [
+                           {
+                             "taskId": "anotherTaskId",
+                             "userId": "aUserId"
+                           }
+                         ],
+                         "complete": [
+                           {
+                             "taskId": "aThirdTaskId",
+                             "variables": {
+                               "aVariable": {
+                                 "value": "aStringValue"
+                               }
+                             }
+                           }
+                         ]
+                       }
+                     }'] />
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "BulkOperationResultDto"
+        array = true
+        desc = "Request successful."
+        examples = ['"example-1": {
+                       "summary": "Status 200 Response",
+                       "value": [
+                         {
+                           "id": "aTaskId",
+                           "successful": true,
+                           "error": null
+                         },
+                         {
+                           "id": "anotherTaskId",
+                           "successful": false,
+                           "error": {
+                             "type": "NullValueException",
+                             "message": "Cannot find task with id anotherTaskId: task is null"
+                           }
+                         },
+                         {
+                           "id": "aThirdTaskId",
+                           "successful": true,
+                           "error": null
+                         }
+                       ]
+                     }'] />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if the chunk size is not greater than zero. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+    <@lib.errorResponses docsUrl=docsUrl last = true />
+
+  }
+}
+
+</#macro>
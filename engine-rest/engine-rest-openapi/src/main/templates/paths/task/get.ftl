@@ -12,7 +12,11 @@
               assigneeExpression) for specifying an EL expression. These are disabled by default to
               prevent remote code execution. See the section on
               [security considerations](${docsUrl}/user-guide/process-engine/securing-custom-code/)
-              for custom code in the user guide for details." />
+              for custom code in the user guide for details.
+
+              With the `Accept` header `application/x-ndjson`, the result is streamed as newline
+              delimited JSON, one object per line, while the query is paged through internally.
+              The memory held by the server then does not depend on the number of results." />
 
   "parameters" : [
 
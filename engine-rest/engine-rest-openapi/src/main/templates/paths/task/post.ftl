@@ -16,7 +16,11 @@
               expression. These are disabled by default to prevent remote code execution. See the
               section on
               [security considerations for custom code](${docsUrl}/user-guide/process-engine/securing-custom-code/)
-              in the user guide for details." />
+              in the user guide for details.
+
+              With the `Accept` header `application/x-ndjson`, the result is streamed as newline
+              delimited JSON, one object per line, while the query is paged through internally.
+              The memory held by the server then does not depend on the number of results." />
 
   "parameters" : [
 
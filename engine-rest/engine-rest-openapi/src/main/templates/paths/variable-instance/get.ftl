@@ -9,7 +9,11 @@
               properties of variable instances, such as the name or type. The size
               of the result set can be retrieved by using the [Get Variable Instance
               Count](${docsUrl}/reference/rest/variable-instance/get-query-count/)
-              method."
+              method.
+
+              With the `Accept` header `application/x-ndjson`, the result is streamed as newline
+              delimited JSON, one object per line, while the query is paged through internally.
+              The memory held by the server then does not depend on the number of results."
   />
 
   "parameters" : [
@@ -9,7 +9,11 @@
               This method is slightly more powerful than the
               [Get Variable Instances](${docsUrl}/reference/rest/variable-
               instance/get-query/) method because it allows filtering by multiple
-              variable instances of types `String`, `Number` or `Boolean`."
+              variable instances of types `String`, `Number` or `Boolean`.
+
+              With the `Accept` header `application/x-ndjson`, the result is streamed as newline
+              delimited JSON, one object per line, while the query is paged through internally.
+              The memory held by the server then does not depend on the number of results."
   />
 
   "parameters" : [
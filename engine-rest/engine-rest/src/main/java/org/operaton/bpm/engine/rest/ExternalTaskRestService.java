@@ -24,8 +24,10 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.UriInfo;
 
+import org.operaton.bpm.engine.rest.dto.BulkOperationResultDto;
 import org.operaton.bpm.engine.rest.dto.CountResultDto;
 import org.operaton.bpm.engine.rest.dto.batch.BatchDto;
+import org.operaton.bpm.engine.rest.dto.externaltask.ExternalTaskBulkOperationDto;
 import org.operaton.bpm.engine.rest.dto.externaltask.ExternalTaskDto;
 import org.operaton.bpm.engine.rest.dto.externaltask.ExternalTaskQueryDto;
 import org.operaton.bpm.engine.rest.dto.externaltask.FetchExternalTasksExtendedDto;
@@ -70,6 +72,12 @@ public interface ExternalTaskRestService {
   @Produces(MediaType.APPLICATION_JSON)
   void fetchAndLock(FetchExternalTasksExtendedDto dto, @Suspended final AsyncResponse asyncResponse);
 
+  @POST
+  @Path("/bulk")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  List<BulkOperationResultDto> executeBulkOperation(ExternalTaskBulkOperationDto dto);
+
   @Path("/{id}")
   ExternalTaskResource getExternalTask(@PathParam("id") String externalTaskId);
 
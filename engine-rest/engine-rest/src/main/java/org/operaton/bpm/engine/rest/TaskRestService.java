@@ -21,14 +21,18 @@ import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
 
+import org.operaton.bpm.engine.rest.dto.BulkOperationResultDto;
 import org.operaton.bpm.engine.rest.dto.CountResultDto;
+import org.operaton.bpm.engine.rest.dto.task.TaskBulkOperationDto;
 import org.operaton.bpm.engine.rest.dto.task.TaskDto;
 import org.operaton.bpm.engine.rest.dto.task.TaskQueryDto;
 import org.operaton.bpm.engine.rest.hal.Hal;
 import org.operaton.bpm.engine.rest.sub.task.TaskReportResource;
 import org.operaton.bpm.engine.rest.sub.task.TaskResource;
+import org.operaton.bpm.engine.rest.util.QueryResultStreamingOutput;
 
 @Produces(MediaType.APPLICATION_JSON)
 public interface TaskRestService {
@@ -46,6 +50,14 @@ public interface TaskRestService {
   Object getTasks(@Context Request request, @Context UriInfo uriInfo,
                   @QueryParam("firstResult") Integer firstResult, @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Streams the tasks matching the query parameters as newline delimited JSON.
+   */
+  @GET
+  @Produces(QueryResultStreamingOutput.APPLICATION_NDJSON_PRODUCES)
+  Response streamTasks(@Context UriInfo uriInfo,
+                       @QueryParam("firstResult") Integer firstResult, @QueryParam("maxResults") Integer maxResults);
+
   /**
    * Expects the same parameters as {@link TaskRestService#getTasks(UriInfo, Integer, Integer)} (as
    * JSON message body) and allows more than one variable check.
@@ -60,6 +72,15 @@ public interface TaskRestService {
   List<TaskDto> queryTasks(TaskQueryDto query,
       @QueryParam("firstResult") Integer firstResult, @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Streams the tasks matching the query as newline delimited JSON.
+   */
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(QueryResultStreamingOutput.APPLICATION_NDJSON_PRODUCES)
+  Response streamTasks(TaskQueryDto query,
+      @QueryParam("firstResult") Integer firstResult, @QueryParam("maxResults") Integer maxResults);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
@@ -76,6 +97,12 @@ public interface TaskRestService {
   @Consumes(MediaType.APPLICATION_JSON)
   void createTask(TaskDto taskDto);
 
+  @POST
+  @Path("/bulk")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  List<BulkOperationResultDto> executeBulkOperation(TaskBulkOperationDto dto);
+
   @Path("/report")
   TaskReportResource getTaskReportResource();
 
@@ -20,6 +20,7 @@ import java.util.List;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
 
 import org.operaton.bpm.engine.rest.dto.CountResultDto;
@@ -27,6 +28,7 @@ import org.operaton.bpm.engine.rest.dto.runtime.VariableInstanceDto;
 import org.operaton.bpm.engine.rest.dto.runtime.VariableInstanceQueryDto;
 import org.operaton.bpm.engine.rest.sub.VariableResource;
 import org.operaton.bpm.engine.rest.sub.runtime.VariableInstanceResource;
+import org.operaton.bpm.engine.rest.util.QueryResultStreamingOutput;
 import org.operaton.bpm.engine.runtime.VariableInstanceQuery;
 
 /**
@@ -73,6 +75,27 @@ public interface VariableInstanceRestService {
       @QueryParam("maxResults") Integer maxResults,
       @QueryParam(VariableResource.DESERIALIZE_VALUES_QUERY_PARAM) @DefaultValue("true") boolean deserializeObjectValues);
 
+  /**
+   * Streams the variable instances matching the query parameters as newline delimited JSON.
+   */
+  @GET
+  @Produces(QueryResultStreamingOutput.APPLICATION_NDJSON_PRODUCES)
+  Response streamVariableInstances(@Context UriInfo uriInfo,
+      @QueryParam("firstResult") Integer firstResult,
+      @QueryParam("maxResults") Integer maxResults,
+      @QueryParam(VariableResource.DESERIALIZE_VALUES_QUERY_PARAM) @DefaultValue("true") boolean deserializeObjectValues);
+
+  /**
+   * Streams the variable instances matching the query as newline delimited JSON.
+   */
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(QueryResultStreamingOutput.APPLICATION_NDJSON_PRODUCES)
+  Response streamVariableInstances(VariableInstanceQueryDto queryDto,
+      @QueryParam("firstResult") Integer firstResult,
+      @QueryParam("maxResults") Integer maxResults,
+      @QueryParam(VariableResource.DESERIALIZE_VALUES_QUERY_PARAM) @DefaultValue("true") boolean deserializeObjectValues);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
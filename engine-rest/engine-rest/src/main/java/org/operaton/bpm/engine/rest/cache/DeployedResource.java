@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.rest.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
+
+import org.operaton.bpm.engine.ProcessEngineException;
+
+/**
+ * The content of a deployed resource, like the XML of a process definition or a deployed form,
+ * together with a strong entity tag. Unless given explicitly, the entity tag is derived from the content.
+ */
+public class DeployedResource {
+
+  protected static final String DIGEST_ALGORITHM = "SHA-256";
+
+  protected final byte[] content;
+  protected final String mediaType;
+  protected final String fileName;
+  protected final EntityTag entityTag;
+
+  public DeployedResource(byte[] content, String mediaType) {
+    this(content, mediaType, null);
+  }
+
+  public DeployedResource(byte[] content, String mediaType, String fileName) {
+    this(content, mediaType, fileName, new EntityTag(createHash(content)));
+  }
+
+  public DeployedResource(byte[] content, String mediaType, String fileName, EntityTag entityTag) {
+    this.content = content;
+    this.mediaType = mediaType;
+    this.fileName = fileName;
+    this.entityTag = entityTag;
+  }
+
+  /**
+   * @return a strong entity tag derived from the given identifier, for resources which are identified
+   *   by an immutable id, so that the tag can be computed without reading their content
+   */
+  public static EntityTag createEntityTag(String identifier) {
+    return new EntityTag(createHash(identifier.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  protected static String createHash(byte[] content) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+      return HexFormat.of().formatHex(digest.digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new ProcessEngineException("Cannot lookup hash algorithm '%s'".formatted(DIGEST_ALGORITHM));
+    }
+  }
+
+  /**
+   * @return a builder for a <code>304 Not Modified</code> response if the client already has the
+   *   current content (<code>If-None-Match</code>), or <code>null</code> if the content has to be sent
+   */
+  public ResponseBuilder evaluatePreconditions(Request request) {
+    return request.evaluatePreconditions(entityTag);
+  }
+
+  public byte[] getContent() {
+    return content;
+  }
+
+  public String getMediaType() {
+    return mediaType;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public EntityTag getEntityTag() {
+    return entityTag;
+  }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.rest.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.Supplier;
+
+import org.operaton.bpm.engine.ProcessEngine;
+
+/**
+ * <p>Bounded in-process cache for the content of deployed resources, which cannot change
+ * once deployed. Entries are keyed by the process engine, the type of the resource and the
+ * id of the definition or deployment resource. The cache is bounded by the total size of
+ * the cached content in bytes; the least recently used resources are evicted first and
+ * resources larger than the maximum size are not cached at all.</p>
+ *
+ * <p>The cache only saves reading the content from the database. Callers must still make sure
+ * that the definition exists and that the user is authorized to read it before serving
+ * a cached resource.</p>
+ *
+ * <p>The cache is disabled by default and can be enabled with {@link DeployedResourceCacheBootstrap}.</p>
+ */
+public class DeployedResourceCache {
+
+  public static final String PROCESS_MODEL = "process-model";
+  public static final String DECISION_MODEL = "decision-model";
+  public static final String DEPLOYED_START_FORM = "deployed-start-form";
+  public static final String DEPLOYMENT_RESOURCE = "deployment-resource";
+
+  protected static final DeployedResourceCache INSTANCE = new DeployedResourceCache();
+
+  protected volatile ResourceMap cache;
+
+  public static DeployedResourceCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * @param maxSize the maximum total size of the cached content in bytes
+   */
+  public void enable(long maxSize) {
+    cache = new ResourceMap(maxSize);
+  }
+
+  public void disable() {
+    cache = null;
+  }
+
+  public boolean isEnabled() {
+    return cache != null;
+  }
+
+  /**
+   * Returns the cached resource or loads and caches it.
+   *
+   * @param engine the engine the resource is deployed to
+   * @param type the type of the resource, e.g. {@link #PROCESS_MODEL}
+   * @param id the id identifying the resource among the resources of its type
+   * @param loader loads the resource if it is not cached
+   */
+  public DeployedResource getResource(ProcessEngine engine, String type, String id, Supplier<DeployedResource> loader) {
+    ResourceMap currentCache = cache;
+    if (currentCache == null) {
+      return loader.get();
+    }
+
+    String key = engine.getName() + "/" + type + "/" + id;
+    DeployedResource resource = currentCache.get(key);
+    if (resource == null) {
+      resource = loader.get();
+      currentCache.put(key, resource);
+    }
+    return resource;
+  }
+
+  /**
+   * @return the total size of the cached content in bytes
+   */
+  public long getSize() {
+    ResourceMap currentCache = cache;
+    return currentCache != null ? currentCache.getSize() : 0;
+  }
+
+  protected static class ResourceMap {
+
+    protected final long maxSize;
+    protected final LinkedHashMap<String, DeployedResource> resources = new LinkedHashMap<>(16, 0.75f, true);
+    protected long size;
+
+    public ResourceMap(long maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    public synchronized DeployedResource get(String key) {
+      return resources.get(key);
+    }
+
+    public synchronized void put(String key, DeployedResource resource) {
+      long resourceSize = resource.getContent().length;
+      if (resourceSize > maxSize) {
+        return;
+      }
+
+      DeployedResource previous = resources.put(key, resource);
+      if (previous != null) {
+        size -= previous.getContent().length;
+      }
+      size += resourceSize;
+
+      // the entries are in access order, so the added resource is the last one to be evicted
+      Iterator<DeployedResource> leastRecentlyUsed = resources.values().iterator();
+      while (size > maxSize) {
+        size -= leastRecentlyUsed.next().getContent().length;
+        leastRecentlyUsed.remove();
+      }
+    }
+
+    public synchronized long getSize() {
+      return size;
+    }
+  }
+
+}
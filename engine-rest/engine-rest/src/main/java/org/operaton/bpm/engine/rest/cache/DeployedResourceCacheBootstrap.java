@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.rest.cache;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+
+/**
+ * Enables the {@link DeployedResourceCache} if the context parameter {@value #CONTEXT_PARAM_NAME}
+ * configures the maximum total size of the cached content in bytes, e.g.
+ *
+ * <pre>
+ * &lt;context-param&gt;
+ *   &lt;param-name&gt;org.operaton.bpm.engine.rest.cache.deployed-resources.max-size&lt;/param-name&gt;
+ *   &lt;param-value&gt;10485760&lt;/param-value&gt;
+ * &lt;/context-param&gt;
+ * </pre>
+ *
+ * Without the context parameter the cache stays disabled.
+ */
+public class DeployedResourceCacheBootstrap implements ServletContextListener {
+
+  public static final String CONTEXT_PARAM_NAME = "org.operaton.bpm.engine.rest.cache.deployed-resources.max-size";
+
+  @Override
+  public void contextInitialized(ServletContextEvent sce) {
+    String contextParameter = sce.getServletContext().getInitParameter(CONTEXT_PARAM_NAME);
+    if (contextParameter != null) {
+      DeployedResourceCache.getInstance().enable(parseMaxSize(contextParameter));
+    }
+  }
+
+  @Override
+  public void contextDestroyed(ServletContextEvent sce) {
+    DeployedResourceCache.getInstance().disable();
+  }
+
+  protected long parseMaxSize(String contextParameter) {
+    try {
+      long maxSize = Long.parseLong(contextParameter.trim());
+      if (maxSize > 0) {
+        return maxSize;
+      }
+    } catch (NumberFormatException e) {
+      // fall through
+    }
+    throw new IllegalArgumentException("Parameter %s has to be a positive integer, was '%s'"
+        .formatted(CONTEXT_PARAM_NAME, contextParameter));
+  }
+
+}
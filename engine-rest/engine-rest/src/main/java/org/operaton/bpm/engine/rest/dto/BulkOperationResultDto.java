@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.rest.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.operaton.bpm.engine.BulkOperationResult;
+
+public class BulkOperationResultDto {
+
+  protected String id;
+  protected boolean successful;
+  protected ExceptionDto error;
+
+  public String getId() {
+    return id;
+  }
+
+  public boolean isSuccessful() {
+    return successful;
+  }
+
+  public ExceptionDto getError() {
+    return error;
+  }
+
+  public static BulkOperationResultDto fromOperationResult(BulkOperationResult result) {
+    BulkOperationResultDto dto = new BulkOperationResultDto();
+    dto.id = result.getId();
+    dto.successful = result.isSuccessful();
+    if (result.getException() != null) {
+      dto.error = ExceptionDto.fromException(result.getException());
+    }
+    return dto;
+  }
+
+  public static List<BulkOperationResultDto> fromOperationResults(List<BulkOperationResult> results) {
+    List<BulkOperationResultDto> dtos = new ArrayList<>();
+    for (BulkOperationResult result : results) {
+      dtos.add(fromOperationResult(result));
+    }
+    return dtos;
+  }
+
+}
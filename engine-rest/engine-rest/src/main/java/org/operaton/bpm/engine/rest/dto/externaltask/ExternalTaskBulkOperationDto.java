@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.rest.dto.externaltask;
+
+import java.util.List;
+
+/**
+ * Completes, fails and extends the locks of many external tasks at once. The
+ * operations are executed in the order complete, failure, extendLock.
+ */
+public class ExternalTaskBulkOperationDto extends HandleExternalTaskDto {
+
+  protected Integer chunkSize;
+  protected List<BulkCompleteExternalTaskDto> complete;
+  protected List<BulkExternalTaskFailureDto> failure;
+  protected List<BulkExtendLockOnExternalTaskDto> extendLock;
+
+  public Integer getChunkSize() {
+    return chunkSize;
+  }
+
+  public void setChunkSize(Integer chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
+  public List<BulkCompleteExternalTaskDto> getComplete() {
+    return complete;
+  }
+
+  public void setComplete(List<BulkCompleteExternalTaskDto> complete) {
+    this.complete = complete;
+  }
+
+  public List<BulkExternalTaskFailureDto> getFailure() {
+    return failure;
+  }
+
+  public void setFailure(List<BulkExternalTaskFailureDto> failure) {
+    this.failure = failure;
+  }
+
+  public List<BulkExtendLockOnExternalTaskDto> getExtendLock() {
+    return extendLock;
+  }
+
+  public void setExtendLock(List<BulkExtendLockOnExternalTaskDto> extendLock) {
+    this.extendLock = extendLock;
+  }
+
+}
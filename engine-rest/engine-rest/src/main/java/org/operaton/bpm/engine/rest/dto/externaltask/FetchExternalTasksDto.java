@@ -108,6 +108,7 @@ public class FetchExternalTasksDto {
     protected boolean deserializeValues;
     protected boolean localVariables;
     protected boolean includeExtensionProperties;
+    protected Integer weight;
 
     protected boolean withoutTenantId;
     protected String[] tenantIdIn;
@@ -202,6 +203,12 @@ public class FetchExternalTasksDto {
     public void setIncludeExtensionProperties(boolean includeExtensionProperties) {
       this.includeExtensionProperties = includeExtensionProperties;
     }
+    public Integer getWeight() {
+      return weight;
+    }
+    public void setWeight(Integer weight) {
+      this.weight = weight;
+    }
   }
 
   public ExternalTaskQueryTopicBuilder buildQuery(ProcessEngine processEngine) {
@@ -271,6 +278,10 @@ public class FetchExternalTasksDto {
       if(topic.isIncludeExtensionProperties()) {
         topicBuilder.includeExtensionProperties();
       }
+
+      if (topic.getWeight() != null) {
+        topicBuilder.weight(topic.getWeight());
+      }
     });
 
     return topicBuilder;
@@ -85,6 +85,7 @@ public class HistoricActivityInstanceQueryDto extends AbstractQueryDto<HistoricA
   protected Date finishedAfter;
   protected List<String> tenantIds;
   protected Boolean withoutTenantId;
+  protected String pageAfter;
 
   public HistoricActivityInstanceQueryDto() {
   }
@@ -188,6 +189,11 @@ public class HistoricActivityInstanceQueryDto extends AbstractQueryDto<HistoricA
     this.withoutTenantId = withoutTenantId;
   }
 
+  @OperatonQueryParam("pageAfter")
+  public void setPageAfter(String pageAfter) {
+    this.pageAfter = pageAfter;
+  }
+
   @Override
   protected boolean isValidSortByValue(String value) {
     return VALID_SORT_BY_VALUES.contains(value);
@@ -257,6 +263,9 @@ public class HistoricActivityInstanceQueryDto extends AbstractQueryDto<HistoricA
     if (TRUE.equals(withoutTenantId)) {
       query.withoutTenantId();
     }
+    if (pageAfter != null) {
+      query.pageAfter(pageAfter);
+    }
   }
 
   @Override
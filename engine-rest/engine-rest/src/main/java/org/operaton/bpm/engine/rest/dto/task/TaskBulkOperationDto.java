@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.rest.dto.task;
+
+import java.util.List;
+
+/**
+ * Claims, assigns and completes many tasks at once. The operations are executed
+ * in the order claim, assign, complete.
+ */
+public class TaskBulkOperationDto {
+
+  protected Integer chunkSize;
+  protected List<BulkTaskUserIdDto> claim;
+  protected List<BulkTaskUserIdDto> assign;
+  protected List<BulkCompleteTaskDto> complete;
+
+  public Integer getChunkSize() {
+    return chunkSize;
+  }
+
+  public void setChunkSize(Integer chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
+  public List<BulkTaskUserIdDto> getClaim() {
+    return claim;
+  }
+
+  public void setClaim(List<BulkTaskUserIdDto> claim) {
+    this.claim = claim;
+  }
+
+  public List<BulkTaskUserIdDto> getAssign() {
+    return assign;
+  }
+
+  public void setAssign(List<BulkTaskUserIdDto> assign) {
+    this.assign = assign;
+  }
+
+  public List<BulkCompleteTaskDto> getComplete() {
+    return complete;
+  }
+
+  public void setComplete(List<BulkCompleteTaskDto> complete) {
+    this.complete = complete;
+  }
+
+}
@@ -28,6 +28,7 @@ import org.operaton.bpm.engine.rest.dto.history.HistoricProcessInstanceDto;
 import org.operaton.bpm.engine.rest.dto.history.HistoricProcessInstanceQueryDto;
 import org.operaton.bpm.engine.rest.dto.history.batch.removaltime.SetRemovalTimeToHistoricProcessInstancesDto;
 import org.operaton.bpm.engine.rest.sub.history.HistoricProcessInstanceResource;
+import org.operaton.bpm.engine.rest.util.QueryResultStreamingOutput;
 
 @Path(HistoricProcessInstanceRestService.PATH)
 @Produces(MediaType.APPLICATION_JSON)
@@ -64,6 +65,23 @@ public interface HistoricProcessInstanceRestService {
   List<HistoricProcessInstanceDto> queryHistoricProcessInstances(HistoricProcessInstanceQueryDto query, @QueryParam("firstResult") Integer firstResult,
       @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Streams the historic process instances matching the query parameters as newline delimited JSON.
+   */
+  @GET
+  @Produces(QueryResultStreamingOutput.APPLICATION_NDJSON_PRODUCES)
+  Response streamHistoricProcessInstances(@Context UriInfo uriInfo, @QueryParam("firstResult") Integer firstResult,
+      @QueryParam("maxResults") Integer maxResults);
+
+  /**
+   * Streams the historic process instances matching the query as newline delimited JSON.
+   */
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(QueryResultStreamingOutput.APPLICATION_NDJSON_PRODUCES)
+  Response streamHistoricProcessInstances(HistoricProcessInstanceQueryDto query, @QueryParam("firstResult") Integer firstResult,
+      @QueryParam("maxResults") Integer maxResults);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
@@ -25,17 +25,25 @@ import jakarta.ws.rs.core.UriInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.operaton.bpm.engine.BadUserRequestException;
+import org.operaton.bpm.engine.BulkOperationResult;
 import org.operaton.bpm.engine.ExternalTaskService;
 import org.operaton.bpm.engine.ProcessEngine;
 import org.operaton.bpm.engine.batch.Batch;
 import org.operaton.bpm.engine.exception.NotFoundException;
 import org.operaton.bpm.engine.externaltask.ExternalTask;
+import org.operaton.bpm.engine.externaltask.ExternalTaskBulkOperationBuilder;
 import org.operaton.bpm.engine.externaltask.ExternalTaskQuery;
 import org.operaton.bpm.engine.externaltask.UpdateExternalTaskRetriesBuilder;
 import org.operaton.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.operaton.bpm.engine.rest.ExternalTaskRestService;
+import org.operaton.bpm.engine.rest.dto.BulkOperationResultDto;
 import org.operaton.bpm.engine.rest.dto.CountResultDto;
+import org.operaton.bpm.engine.rest.dto.VariableValueDto;
 import org.operaton.bpm.engine.rest.dto.batch.BatchDto;
+import org.operaton.bpm.engine.rest.dto.externaltask.BulkCompleteExternalTaskDto;
+import org.operaton.bpm.engine.rest.dto.externaltask.BulkExtendLockOnExternalTaskDto;
+import org.operaton.bpm.engine.rest.dto.externaltask.BulkExternalTaskFailureDto;
+import org.operaton.bpm.engine.rest.dto.externaltask.ExternalTaskBulkOperationDto;
 import org.operaton.bpm.engine.rest.dto.externaltask.ExternalTaskDto;
 import org.operaton.bpm.engine.rest.dto.externaltask.ExternalTaskQueryDto;
 import org.operaton.bpm.engine.rest.dto.externaltask.FetchExternalTasksExtendedDto;
@@ -106,6 +114,58 @@ public class ExternalTaskRestServiceImpl extends AbstractRestProcessEngineAware
     fetchAndLockHandler.addPendingRequest(dto, asyncResponse, getProcessEngine());
   }
 
+  @Override
+  public List<BulkOperationResultDto> executeBulkOperation(ExternalTaskBulkOperationDto dto) {
+    ProcessEngine engine = getProcessEngine();
+    ExternalTaskBulkOperationBuilder builder = engine.getExternalTaskService().bulkOperation();
+
+    if (dto.getComplete() != null) {
+      for (BulkCompleteExternalTaskDto completeDto : dto.getComplete()) {
+        builder.complete(completeDto.getExternalTaskId(),
+            getWorkerId(completeDto.getWorkerId(), dto),
+            VariableValueDto.toMap(completeDto.getVariables(), engine, getObjectMapper()),
+            VariableValueDto.toMap(completeDto.getLocalVariables(), engine, getObjectMapper()));
+      }
+    }
+
+    if (dto.getFailure() != null) {
+      for (BulkExternalTaskFailureDto failureDto : dto.getFailure()) {
+        builder.handleFailure(failureDto.getExternalTaskId(),
+            getWorkerId(failureDto.getWorkerId(), dto),
+            failureDto.getErrorMessage(),
+            failureDto.getErrorDetails(),
+            failureDto.getRetries(),
+            failureDto.getRetryTimeout(),
+            VariableValueDto.toMap(failureDto.getVariables(), engine, getObjectMapper()),
+            VariableValueDto.toMap(failureDto.getLocalVariables(), engine, getObjectMapper()));
+      }
+    }
+
+    if (dto.getExtendLock() != null) {
+      for (BulkExtendLockOnExternalTaskDto extendLockDto : dto.getExtendLock()) {
+        builder.extendLock(extendLockDto.getExternalTaskId(),
+            getWorkerId(extendLockDto.getWorkerId(), dto),
+            extendLockDto.getNewDuration());
+      }
+    }
+
+    if (dto.getChunkSize() != null) {
+      builder.chunkSize(dto.getChunkSize());
+    }
+
+    try {
+      List<BulkOperationResult> results = builder.execute();
+      return BulkOperationResultDto.fromOperationResults(results);
+    }
+    catch (BadUserRequestException e) {
+      throw new InvalidRequestException(Status.BAD_REQUEST, e.getMessage());
+    }
+  }
+
+  protected String getWorkerId(String workerId, ExternalTaskBulkOperationDto dto) {
+    return workerId != null ? workerId : dto.getWorkerId();
+  }
+
   @Override
   public ExternalTaskResource getExternalTask(String externalTaskId) {
     return new ExternalTaskResourceImpl(getProcessEngine(), externalTaskId, getObjectMapper());
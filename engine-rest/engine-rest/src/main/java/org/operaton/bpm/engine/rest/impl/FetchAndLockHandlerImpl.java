@@ -17,10 +17,26 @@
 package org.operaton.bpm.engine.rest.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jakarta.servlet.ServletContext;
@@ -33,9 +49,11 @@ import org.operaton.bpm.engine.ProcessEngine;
 import org.operaton.bpm.engine.externaltask.ExternalTaskQueryTopicBuilder;
 import org.operaton.bpm.engine.externaltask.LockedExternalTask;
 import org.operaton.bpm.engine.impl.ProcessEngineImpl;
+import org.operaton.bpm.engine.impl.externaltask.ExternalTaskAvailableListener;
 import org.operaton.bpm.engine.impl.identity.Authentication;
 import org.operaton.bpm.engine.impl.util.ClockUtil;
 import org.operaton.bpm.engine.impl.util.SingleConsumerCondition;
+import org.operaton.bpm.engine.rest.dto.externaltask.FetchExternalTasksDto;
 import org.operaton.bpm.engine.rest.dto.externaltask.FetchExternalTasksExtendedDto;
 import org.operaton.bpm.engine.rest.dto.externaltask.LockedExternalTaskDto;
 import org.operaton.bpm.engine.rest.exception.InvalidRequestException;
@@ -53,11 +71,13 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
   protected static final String UNIQUE_WORKER_REQUEST_PARAM_NAME = "fetch-and-lock-unique-worker-request";
   protected static final String BLOCKING_QUEUE_CAPACITY_PARAM_NAME = "fetch-and-lock-queue-capacity";
+  protected static final String DISPATCHER_THREADS_PARAM_NAME = "fetch-and-lock-dispatcher-threads";
 
   protected static final long PENDING_REQUEST_FETCH_INTERVAL = 30L * 1000;
   protected static final long MAX_BACK_OFF_TIME = Long.MAX_VALUE;
   protected static final long MAX_REQUEST_TIMEOUT = 1800000; // 30 minutes
   protected static final int DEFAULT_BLOCKING_QUEUE_CAPACITY = 200;
+  protected static final int DEFAULT_DISPATCHER_THREADS = 1;
 
   protected SingleConsumerCondition condition;
 
@@ -71,6 +91,16 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
   protected boolean isUniqueWorkerRequest;
 
+  protected int dispatcherThreads = DEFAULT_DISPATCHER_THREADS;
+  protected ExecutorService dispatcherExecutor;
+
+  protected ExternalTaskAvailableListener externalTaskListener = this::onExternalTasksAvailable;
+  protected Set<String> availableTopicNames = ConcurrentHashMap.newKeySet();
+  protected AtomicBoolean isUnknownTopicAvailable = new AtomicBoolean();
+
+  /** timestamp at which all pending requests are fetched for again */
+  protected long nextFullFetchTime;
+
   public FetchAndLockHandlerImpl() {
     this.condition = new SingleConsumerCondition(handlerThread);
   }
@@ -95,23 +125,174 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
     queue.drainTo(newRequests);
 
+    Set<FetchAndLockRequest> addedRequests = Collections.newSetFromMap(new IdentityHashMap<>());
     if (!newRequests.isEmpty()) {
       if (isUniqueWorkerRequest) {
         removeDuplicates();
       }
 
       pendingRequests.addAll(newRequests);
+      addedRequests.addAll(newRequests);
       newRequests.clear();
     }
 
     LOG.log(Level.FINEST, "Number of pending requests {0}", pendingRequests.size());
 
+    // if the handler was woken up because tasks of known topics became available, only the
+    // requests for these topics are fetched for until the next regular fetch is due
+    Set<String> topicNames = drainAvailableTopicNames();
+    long currentTime = ClockUtil.getCurrentTime().getTime();
+    boolean isFullFetch = topicNames == null || topicNames.isEmpty() || currentTime >= nextFullFetchTime;
+
+    Collection<List<FetchAndLockRequest>> groups = groupPendingRequests();
+    if (!isFullFetch) {
+      groups = selectAffectedGroups(groups, topicNames, addedRequests);
+      LOG.log(Level.FINEST, "Fetching for {0} groups affected by topics {1}", new Object[] { groups.size(), topicNames });
+    }
+
     long backoffTime = MAX_BACK_OFF_TIME; //timestamp
 
-    Iterator<FetchAndLockRequest> iterator = pendingRequests.iterator();
+    Set<FetchAndLockRequest> completedRequests = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (RequestGroupResult result : fetchAndLockForGroups(groups)) {
+      completedRequests.addAll(result.completedRequests());
+      backoffTime = Math.min(backoffTime, result.backoffTime());
+    }
+    pendingRequests.removeIf(completedRequests::contains);
+
+    final long waitTime = Math.max(0, backoffTime);
+
+    if (!isFullFetch) {
+      nextFullFetchTime = Math.min(nextFullFetchTime, currentTime + waitTime);
+      suspend(nextFullFetchTime - currentTime);
+    }
+    else if (pendingRequests.isEmpty()) {
+      nextFullFetchTime = currentTime;
+      suspend(waitTime);
+    }
+    else {
+      // if there are pending requests, try fetch periodically to ensure tasks created on other
+      // cluster nodes and tasks with expired timeouts can be fetched in a timely manner
+      long suspendTime = Math.min(PENDING_REQUEST_FETCH_INTERVAL, waitTime);
+      nextFullFetchTime = currentTime + suspendTime;
+      suspend(suspendTime);
+    }
+  }
+
+  /**
+   * Called after tasks became available in a process engine of this application.
+   */
+  protected void onExternalTasksAvailable(String processEngineName, Set<String> topicNames) {
+    if (topicNames == null) {
+      isUnknownTopicAvailable.set(true);
+    }
+    else {
+      availableTopicNames.addAll(topicNames);
+    }
+    condition.signal();
+  }
+
+  /**
+   * @return the topics of the tasks which became available since the last call, <code>null</code>
+   *   if tasks of unknown topics became available
+   */
+  protected Set<String> drainAvailableTopicNames() {
+    Set<String> topicNames = new HashSet<>();
+    Iterator<String> iterator = availableTopicNames.iterator();
     while (iterator.hasNext()) {
+      topicNames.add(iterator.next());
+      iterator.remove();
+    }
+    return isUnknownTopicAvailable.getAndSet(false) ? null : topicNames;
+  }
+
+  /**
+   * Selects the groups which fetch for one of the given topics, contain a request
+   * added in this cycle or contain an expired request.
+   */
+  protected Collection<List<FetchAndLockRequest>> selectAffectedGroups(Collection<List<FetchAndLockRequest>> groups,
+                                                                       Set<String> topicNames,
+                                                                       Set<FetchAndLockRequest> addedRequests) {
+    List<List<FetchAndLockRequest>> affectedGroups = new ArrayList<>();
+    for (List<FetchAndLockRequest> group : groups) {
+      if (isFetchingForTopics(group.get(0), topicNames)
+          || group.stream().anyMatch(request -> addedRequests.contains(request) || isExpired(request))) {
+        affectedGroups.add(group);
+      }
+    }
+    return affectedGroups;
+  }
+
+  protected boolean isFetchingForTopics(FetchAndLockRequest request, Set<String> topicNames) {
+    List<FetchExternalTasksDto.FetchExternalTaskTopicDto> topics = request.getDto().getTopics();
+    return topics != null && topics.stream().anyMatch(topic -> topicNames.contains(topic.getTopicName()));
+  }
+
+  /**
+   * Groups the pending requests which fetch from the same process engine with the
+   * same authentication and topic filters, i.e. which would find the same tasks.
+   */
+  protected Collection<List<FetchAndLockRequest>> groupPendingRequests() {
+    Map<RequestGroupKey, List<FetchAndLockRequest>> groups = new LinkedHashMap<>();
+    for (FetchAndLockRequest pendingRequest : pendingRequests) {
+      groups.computeIfAbsent(RequestGroupKey.of(pendingRequest), key -> new ArrayList<>()).add(pendingRequest);
+    }
+    return groups.values();
+  }
+
+  protected List<RequestGroupResult> fetchAndLockForGroups(Collection<List<FetchAndLockRequest>> groups) {
+    List<RequestGroupResult> results = new ArrayList<>();
+
+    if (dispatcherExecutor == null || groups.size() < 2) {
+      for (List<FetchAndLockRequest> group : groups) {
+        results.add(fetchAndLockForGroup(group));
+      }
+      return results;
+    }
 
-      FetchAndLockRequest pendingRequest = iterator.next();
+    List<Callable<RequestGroupResult>> tasks = new ArrayList<>();
+    for (List<FetchAndLockRequest> group : groups) {
+      tasks.add(() -> fetchAndLockForGroup(group));
+    }
+
+    try {
+      for (Future<RequestGroupResult> future : dispatcherExecutor.invokeAll(tasks)) {
+        try {
+          results.add(future.get());
+        } catch (ExecutionException e) {
+          // the requests of the group stay pending and are retried with the next cycle
+          LOG.log(Level.WARNING, "Exception occurred during fetch and lock for a group of requests", e.getCause());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    return results;
+  }
+
+  /**
+   * Fetches and locks tasks for the requests of one group in the order in which
+   * they arrived. As soon as a request does not receive as many tasks as it asked
+   * for, no tasks are left for the other requests of the group, so they are not
+   * fetched for in this cycle.
+   */
+  protected RequestGroupResult fetchAndLockForGroup(List<FetchAndLockRequest> group) {
+    List<FetchAndLockRequest> completedRequests = new ArrayList<>();
+    long backoffTime = MAX_BACK_OFF_TIME;
+    boolean isExhausted = false;
+
+    for (FetchAndLockRequest pendingRequest : group) {
+
+      if (isExhausted) {
+        if (isExpired(pendingRequest)) {
+          pendingRequest.getAsyncResponse().resume(Collections.<LockedExternalTaskDto>emptyList());
+          completedRequests.add(pendingRequest);
+        }
+        else {
+          backoffTime = Math.min(backoffTime, getTimeUntilTimeout(pendingRequest));
+        }
+        continue;
+      }
 
       LOG.log(Level.FINEST, "Fetching tasks for request {0}", pendingRequest);
 
@@ -122,6 +303,7 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
       if (result.wasSuccessful()) {
 
         List<LockedExternalTaskDto> lockedTasks = result.getTasks();
+        isExhausted = lockedTasks.size() < pendingRequest.getDto().getMaxTasks();
 
         if (!lockedTasks.isEmpty() || isExpired(pendingRequest)) {
           AsyncResponse asyncResponse = pendingRequest.getAsyncResponse();
@@ -129,11 +311,10 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
           LOG.log(Level.FINEST, "resume and remove request with {0}", lockedTasks);
 
-          iterator.remove();
+          completedRequests.add(pendingRequest);
         }
         else {
-          final long msUntilTimeout = pendingRequest.getTimeoutTimestamp() - ClockUtil.getCurrentTime().getTime();
-          backoffTime = Math.min(backoffTime, msUntilTimeout);
+          backoffTime = Math.min(backoffTime, getTimeUntilTimeout(pendingRequest));
         }
       }
       else {
@@ -143,20 +324,15 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
         LOG.log(Level.FINEST, "Resume and remove request with error", processEngineException);
 
-        iterator.remove();
+        completedRequests.add(pendingRequest);
       }
     }
 
-    final long waitTime = Math.max(0, backoffTime);
+    return new RequestGroupResult(completedRequests, backoffTime);
+  }
 
-    if (pendingRequests.isEmpty()) {
-      suspend(waitTime);
-    }
-    else {
-      // if there are pending requests, try fetch periodically to ensure tasks created on other
-      // cluster nodes and tasks with expired timeouts can be fetched in a timely manner
-      suspend(Math.min(PENDING_REQUEST_FETCH_INTERVAL, waitTime));
-    }
+  protected long getTimeUntilTimeout(FetchAndLockRequest request) {
+    return request.getTimeoutTimestamp() - ClockUtil.getCurrentTime().getTime();
   }
 
   protected void removeDuplicates() {
@@ -183,18 +359,21 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
     }
 
     isRunning = true;
+    if (dispatcherThreads > 1) {
+      dispatcherExecutor = createDispatcherExecutor(dispatcherThreads);
+    }
     handlerThread.start();
     if (queue == null) {
       initializeQueue(DEFAULT_BLOCKING_QUEUE_CAPACITY);
     }
 
-    ProcessEngineImpl.EXT_TASK_CONDITIONS.addConsumer(condition);
+    ProcessEngineImpl.EXT_TASK_LISTENERS.add(externalTaskListener);
   }
 
   @Override
   public void shutdown() {
     try {
-      ProcessEngineImpl.EXT_TASK_CONDITIONS.removeConsumer(condition);
+      ProcessEngineImpl.EXT_TASK_LISTENERS.remove(externalTaskListener);
     }
     finally {
       isRunning = false;
@@ -207,6 +386,20 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
       LOG.log(Level.WARNING, "Shutting down the handler thread failed", e);
       Thread.currentThread().interrupt();
     }
+
+    if (dispatcherExecutor != null) {
+      dispatcherExecutor.shutdown();
+      dispatcherExecutor = null;
+    }
+  }
+
+  protected ExecutorService createDispatcherExecutor(int threads) {
+    AtomicInteger threadCount = new AtomicInteger();
+    return Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "%s-%d".formatted(getClass().getSimpleName(), threadCount.incrementAndGet()));
+      thread.setDaemon(true);
+      return thread;
+    });
   }
 
   protected void suspend(long millis) {
@@ -355,6 +548,8 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
       if (servletContext != null) {
         parseUniqueWorkerRequestParam(servletContext.getInitParameter(UNIQUE_WORKER_REQUEST_PARAM_NAME));
         queueCapacity = parseBlockingQueueCapacityParam(servletContext.getInitParameter(BLOCKING_QUEUE_CAPACITY_PARAM_NAME));
+        dispatcherThreads = parsePositiveIntegerParam(DISPATCHER_THREADS_PARAM_NAME,
+            servletContext.getInitParameter(DISPATCHER_THREADS_PARAM_NAME), DEFAULT_DISPATCHER_THREADS);
       }
     }
 
@@ -375,22 +570,73 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
   }
 
   private static int parseBlockingQueueCapacityParam(String queueSizeRequestParam) {
-    int capacity = DEFAULT_BLOCKING_QUEUE_CAPACITY;
-    if (queueSizeRequestParam != null) {
+    return parsePositiveIntegerParam(BLOCKING_QUEUE_CAPACITY_PARAM_NAME, queueSizeRequestParam, DEFAULT_BLOCKING_QUEUE_CAPACITY);
+  }
+
+  private static int parsePositiveIntegerParam(String paramName, String paramValue, int defaultValue) {
+    int value = defaultValue;
+    if (paramValue != null) {
       try {
-        final int parsedCapacity = Integer.parseInt(queueSizeRequestParam);
-        if (parsedCapacity <= 0) {
-          throw new IllegalArgumentException("Parameter %s has to be greater than zero".formatted(BLOCKING_QUEUE_CAPACITY_PARAM_NAME));
+        final int parsedValue = Integer.parseInt(paramValue);
+        if (parsedValue <= 0) {
+          throw new IllegalArgumentException("Parameter %s has to be greater than zero".formatted(paramName));
         }
-        capacity = parsedCapacity;
+        value = parsedValue;
       } catch (IllegalArgumentException e) {
-        LOG.log(Level.WARNING, e, () -> "Invalid blocking queue capacity parameter: [%s], falling back to default value".formatted(queueSizeRequestParam));
+        LOG.log(Level.WARNING, e, () -> "Invalid %s parameter: [%s], falling back to default value".formatted(paramName, paramValue));
       }
     }
-    return capacity;
+    return value;
   }
 
   public List<FetchAndLockRequest> getPendingRequests() {
     return pendingRequests;
   }
+
+  /**
+   * Identifies requests which would find the same tasks: they fetch from the same
+   * process engine, with the same authentication and the same topic filters.
+   */
+  protected record RequestGroupKey(String processEngineName,
+                                   String userId,
+                                   List<String> groupIds,
+                                   List<String> tenantIds,
+                                   List<List<Object>> topicFilters) {
+
+    protected static RequestGroupKey of(FetchAndLockRequest request) {
+      Authentication authentication = request.getAuthentication();
+
+      List<List<Object>> topicFilters = new ArrayList<>();
+      List<FetchExternalTasksDto.FetchExternalTaskTopicDto> topics = request.getDto().getTopics();
+      if (topics != null) {
+        for (FetchExternalTasksDto.FetchExternalTaskTopicDto topic : topics) {
+          topicFilters.add(Arrays.asList(
+              topic.getTopicName(),
+              topic.getBusinessKey(),
+              topic.getProcessDefinitionId(),
+              asList(topic.getProcessDefinitionIdIn()),
+              topic.getProcessDefinitionKey(),
+              asList(topic.getProcessDefinitionKeyIn()),
+              topic.getProcessDefinitionVersionTag(),
+              topic.getProcessVariables(),
+              topic.isWithoutTenantId(),
+              asList(topic.getTenantIdIn())));
+        }
+      }
+
+      return new RequestGroupKey(request.getProcessEngineName(),
+          authentication != null ? authentication.getUserId() : null,
+          authentication != null ? authentication.getGroupIds() : null,
+          authentication != null ? authentication.getTenantIds() : null,
+          topicFilters);
+    }
+
+    private static List<String> asList(String[] values) {
+      return values != null ? Arrays.asList(values) : null;
+    }
+  }
+
+  protected record RequestGroupResult(List<FetchAndLockRequest> completedRequests, long backoffTime) {
+  }
+
 }
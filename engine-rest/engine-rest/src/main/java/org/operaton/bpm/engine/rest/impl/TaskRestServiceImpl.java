@@ -24,12 +24,18 @@ import jakarta.ws.rs.core.Response.Status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.operaton.bpm.engine.BadUserRequestException;
+import org.operaton.bpm.engine.BulkOperationResult;
 import org.operaton.bpm.engine.ProcessEngine;
 import org.operaton.bpm.engine.TaskService;
 import org.operaton.bpm.engine.exception.NotValidException;
 import org.operaton.bpm.engine.rest.TaskRestService;
+import org.operaton.bpm.engine.rest.dto.BulkOperationResultDto;
 import org.operaton.bpm.engine.rest.dto.CountResultDto;
 import org.operaton.bpm.engine.rest.dto.VariableValueDto;
+import org.operaton.bpm.engine.rest.dto.task.BulkCompleteTaskDto;
+import org.operaton.bpm.engine.rest.dto.task.BulkTaskUserIdDto;
+import org.operaton.bpm.engine.rest.dto.task.TaskBulkOperationDto;
 import org.operaton.bpm.engine.rest.dto.task.TaskDto;
 import org.operaton.bpm.engine.rest.dto.task.TaskQueryDto;
 import org.operaton.bpm.engine.rest.dto.task.TaskWithAttachmentAndCommentDto;
@@ -41,8 +47,10 @@ import org.operaton.bpm.engine.rest.sub.task.TaskReportResource;
 import org.operaton.bpm.engine.rest.sub.task.TaskResource;
 import org.operaton.bpm.engine.rest.sub.task.impl.TaskReportResourceImpl;
 import org.operaton.bpm.engine.rest.sub.task.impl.TaskResourceImpl;
+import org.operaton.bpm.engine.rest.util.QueryResultStreamingOutput;
 import org.operaton.bpm.engine.rest.util.QueryUtil;
 import org.operaton.bpm.engine.task.Task;
+import org.operaton.bpm.engine.task.TaskBulkOperationBuilder;
 import org.operaton.bpm.engine.task.TaskQuery;
 import org.operaton.bpm.engine.variable.VariableMap;
 
@@ -98,7 +106,29 @@ public class TaskRestServiceImpl extends AbstractRestProcessEngineAware implemen
 
     List<Task> matchingTasks = executeTaskQuery(firstResult, maxResults, query);
 
+    return toTaskDtos(engine, queryDto, matchingTasks);
+  }
+
+  @Override
+  public Response streamTasks(UriInfo uriInfo, Integer firstResult, Integer maxResults) {
+    TaskQueryDto queryDto = new TaskQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    return streamTasks(queryDto, firstResult, maxResults);
+  }
 
+  @Override
+  public Response streamTasks(TaskQueryDto queryDto, Integer firstResult, Integer maxResults) {
+    ProcessEngine engine = getProcessEngine();
+    queryDto.setObjectMapper(getObjectMapper());
+    TaskQuery query = queryDto.toQuery(engine);
+
+    // enable initialization of form key:
+    query.initializeFormKeys();
+
+    return QueryResultStreamingOutput.ndJson(query, firstResult, maxResults, getObjectMapper(),
+        page -> toTaskDtos(engine, queryDto, page));
+  }
+
+  protected List<TaskDto> toTaskDtos(ProcessEngine engine, TaskQueryDto queryDto, List<Task> matchingTasks) {
     boolean withTaskVariables = Boolean.TRUE.equals(queryDto.getWithTaskVariablesInReturn());
     boolean withTaskLocalVariables = Boolean.TRUE.equals(queryDto.getWithTaskLocalVariablesInReturn());
     boolean withCommentInfo = Boolean.TRUE.equals(queryDto.getWithCommentAttachmentInfo());
@@ -164,6 +194,43 @@ public class TaskRestServiceImpl extends AbstractRestProcessEngineAware implemen
 
   }
 
+  @Override
+  public List<BulkOperationResultDto> executeBulkOperation(TaskBulkOperationDto dto) {
+    ProcessEngine engine = getProcessEngine();
+    TaskBulkOperationBuilder builder = engine.getTaskService().bulkOperation();
+
+    if (dto.getClaim() != null) {
+      for (BulkTaskUserIdDto claimDto : dto.getClaim()) {
+        builder.claim(claimDto.getTaskId(), claimDto.getUserId());
+      }
+    }
+
+    if (dto.getAssign() != null) {
+      for (BulkTaskUserIdDto assignDto : dto.getAssign()) {
+        builder.setAssignee(assignDto.getTaskId(), assignDto.getUserId());
+      }
+    }
+
+    if (dto.getComplete() != null) {
+      for (BulkCompleteTaskDto completeDto : dto.getComplete()) {
+        builder.complete(completeDto.getTaskId(),
+            VariableValueDto.toMap(completeDto.getVariables(), engine, getObjectMapper()));
+      }
+    }
+
+    if (dto.getChunkSize() != null) {
+      builder.chunkSize(dto.getChunkSize());
+    }
+
+    try {
+      List<BulkOperationResult> results = builder.execute();
+      return BulkOperationResultDto.fromOperationResults(results);
+    }
+    catch (BadUserRequestException e) {
+      throw new InvalidRequestException(Status.BAD_REQUEST, e.getMessage());
+    }
+  }
+
   @Override
   public TaskReportResource getTaskReportResource() {
     return new TaskReportResourceImpl(getProcessEngine());
@@ -18,6 +18,7 @@ package org.operaton.bpm.engine.rest.impl;
 
 import java.util.ArrayList;
 import java.util.List;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,6 +30,7 @@ import org.operaton.bpm.engine.rest.dto.runtime.VariableInstanceDto;
 import org.operaton.bpm.engine.rest.dto.runtime.VariableInstanceQueryDto;
 import org.operaton.bpm.engine.rest.sub.runtime.VariableInstanceResource;
 import org.operaton.bpm.engine.rest.sub.runtime.impl.VariableInstanceResourceImpl;
+import org.operaton.bpm.engine.rest.util.QueryResultStreamingOutput;
 import org.operaton.bpm.engine.rest.util.QueryUtil;
 import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.runtime.VariableInstanceQuery;
@@ -52,6 +54,32 @@ public class VariableInstanceRestServiceImpl extends AbstractRestProcessEngineAw
 
   @Override
   public List<VariableInstanceDto> queryVariableInstances(VariableInstanceQueryDto queryDto, Integer firstResult, Integer maxResults, boolean deserializeObjectValues) {
+    VariableInstanceQuery query = createVariableInstanceQuery(queryDto, deserializeObjectValues);
+
+    List<VariableInstance> matchingInstances = QueryUtil.list(query, firstResult, maxResults);
+
+    List<VariableInstanceDto> instanceResults = new ArrayList<>();
+    for (VariableInstance instance : matchingInstances) {
+      VariableInstanceDto resultInstance = VariableInstanceDto.fromVariableInstance(instance);
+      instanceResults.add(resultInstance);
+    }
+    return instanceResults;
+  }
+
+  @Override
+  public Response streamVariableInstances(UriInfo uriInfo, Integer firstResult, Integer maxResults, boolean deserializeObjectValues) {
+    VariableInstanceQueryDto queryDto = new VariableInstanceQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    return streamVariableInstances(queryDto, firstResult, maxResults, deserializeObjectValues);
+  }
+
+  @Override
+  public Response streamVariableInstances(VariableInstanceQueryDto queryDto, Integer firstResult, Integer maxResults, boolean deserializeObjectValues) {
+    VariableInstanceQuery query = createVariableInstanceQuery(queryDto, deserializeObjectValues);
+    return QueryResultStreamingOutput.ndJson(query, firstResult, maxResults, getObjectMapper(),
+        page -> page.stream().map(VariableInstanceDto::fromVariableInstance).toList());
+  }
+
+  protected VariableInstanceQuery createVariableInstanceQuery(VariableInstanceQueryDto queryDto, boolean deserializeObjectValues) {
     ProcessEngine engine = getProcessEngine();
     queryDto.setObjectMapper(getObjectMapper());
     VariableInstanceQuery query = queryDto.toQuery(engine);
@@ -64,14 +92,7 @@ public class VariableInstanceRestServiceImpl extends AbstractRestProcessEngineAw
       query.disableCustomObjectDeserialization();
     }
 
-    List<VariableInstance> matchingInstances = QueryUtil.list(query, firstResult, maxResults);
-
-    List<VariableInstanceDto> instanceResults = new ArrayList<>();
-    for (VariableInstance instance : matchingInstances) {
-      VariableInstanceDto resultInstance = VariableInstanceDto.fromVariableInstance(instance);
-      instanceResults.add(resultInstance);
-    }
-    return instanceResults;
+    return query;
   }
 
   @Override
@@ -42,6 +42,7 @@ import org.operaton.bpm.engine.rest.exception.InvalidRequestException;
 import org.operaton.bpm.engine.rest.history.HistoricProcessInstanceRestService;
 import org.operaton.bpm.engine.rest.sub.history.HistoricProcessInstanceResource;
 import org.operaton.bpm.engine.rest.sub.history.impl.HistoricProcessInstanceResourceImpl;
+import org.operaton.bpm.engine.rest.util.QueryResultStreamingOutput;
 import org.operaton.bpm.engine.rest.util.QueryUtil;
 import org.operaton.bpm.engine.rest.util.URLEncodingUtil;
 
@@ -84,6 +85,21 @@ public class HistoricProcessInstanceRestServiceImpl implements HistoricProcessIn
     return historicProcessInstanceDtoResults;
   }
 
+  @Override
+  public Response streamHistoricProcessInstances(UriInfo uriInfo, Integer firstResult, Integer maxResults) {
+    HistoricProcessInstanceQueryDto queryDto = new HistoricProcessInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
+    return streamHistoricProcessInstances(queryDto, firstResult, maxResults);
+  }
+
+  @Override
+  public Response streamHistoricProcessInstances(HistoricProcessInstanceQueryDto queryDto, Integer firstResult, Integer maxResults) {
+    queryDto.setObjectMapper(objectMapper);
+    HistoricProcessInstanceQuery query = queryDto.toQuery(processEngine);
+
+    return QueryResultStreamingOutput.ndJson(query, firstResult, maxResults, objectMapper,
+        page -> page.stream().map(HistoricProcessInstanceDto::fromHistoricProcessInstance).toList());
+  }
+
   @Override
   public CountResultDto getHistoricProcessInstancesCount(UriInfo uriInfo) {
     HistoricProcessInstanceQueryDto queryDto = new HistoricProcessInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
@@ -21,13 +21,13 @@ import java.util.Map;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
 
 import org.operaton.bpm.engine.rest.dto.HistoryTimeToLiveDto;
 import org.operaton.bpm.engine.rest.dto.VariableValueDto;
 import org.operaton.bpm.engine.rest.dto.dmn.EvaluateDecisionDto;
-import org.operaton.bpm.engine.rest.dto.repository.DecisionDefinitionDiagramDto;
 import org.operaton.bpm.engine.rest.dto.repository.DecisionDefinitionDto;
 
 public interface DecisionDefinitionResource {
@@ -39,7 +39,7 @@ public interface DecisionDefinitionResource {
   @GET
   @Path("/xml")
   @Produces(MediaType.APPLICATION_JSON)
-  DecisionDefinitionDiagramDto getDecisionDefinitionDmnXml();
+  Response getDecisionDefinitionDmnXml(@Context Request request);
 
   @GET
   @Path("/diagram")
@@ -21,7 +21,9 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 
 import org.operaton.bpm.engine.rest.dto.repository.DeploymentResourceDto;
@@ -42,6 +44,6 @@ public interface DeploymentResourcesResource {
 
   @GET
   @Path("/{resourceId}/data")
-  Response getDeploymentResourceData(@PathParam("resourceId") String resourceId);
+  Response getDeploymentResourceData(@PathParam("resourceId") String resourceId, @Context Request request);
 
 }
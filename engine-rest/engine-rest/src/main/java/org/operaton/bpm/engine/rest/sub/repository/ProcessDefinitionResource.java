@@ -21,6 +21,7 @@ import java.util.Map;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
 
@@ -29,7 +30,6 @@ import org.operaton.bpm.engine.rest.dto.StatisticsResultDto;
 import org.operaton.bpm.engine.rest.dto.VariableValueDto;
 import org.operaton.bpm.engine.rest.dto.batch.BatchDto;
 import org.operaton.bpm.engine.rest.dto.repository.CalledProcessDefinitionDto;
-import org.operaton.bpm.engine.rest.dto.repository.ProcessDefinitionDiagramDto;
 import org.operaton.bpm.engine.rest.dto.repository.ProcessDefinitionDto;
 import org.operaton.bpm.engine.rest.dto.repository.ProcessDefinitionSuspensionStateDto;
 import org.operaton.bpm.engine.rest.dto.runtime.ProcessInstanceDto;
@@ -47,7 +47,7 @@ public interface ProcessDefinitionResource {
   @GET
   @Path("/xml")
   @Produces(MediaType.APPLICATION_JSON)
-  ProcessDefinitionDiagramDto getProcessDefinitionBpmn20Xml();
+  Response getProcessDefinitionBpmn20Xml(@Context Request request);
 
   @GET
   @Path("/diagram")
@@ -93,7 +93,7 @@ public interface ProcessDefinitionResource {
 
   @GET
   @Path("/deployed-start-form")
-  Response getDeployedStartForm();
+  Response getDeployedStartForm(@Context Request request);
 
   @GET
   @Path("/rendered-form")
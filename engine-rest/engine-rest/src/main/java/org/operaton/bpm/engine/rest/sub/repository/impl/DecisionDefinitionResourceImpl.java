@@ -20,7 +20,10 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
 import jakarta.ws.rs.core.Response.Status;
 import jakarta.ws.rs.core.UriInfo;
 
@@ -34,6 +37,8 @@ import org.operaton.bpm.engine.exception.NotFoundException;
 import org.operaton.bpm.engine.exception.NotValidException;
 import org.operaton.bpm.engine.impl.util.IoUtil;
 import org.operaton.bpm.engine.repository.DecisionDefinition;
+import org.operaton.bpm.engine.rest.cache.DeployedResource;
+import org.operaton.bpm.engine.rest.cache.DeployedResourceCache;
 import org.operaton.bpm.engine.rest.dto.HistoryTimeToLiveDto;
 import org.operaton.bpm.engine.rest.dto.VariableValueDto;
 import org.operaton.bpm.engine.rest.dto.dmn.EvaluateDecisionDto;
@@ -87,13 +92,36 @@ public class DecisionDefinitionResourceImpl implements DecisionDefinitionResourc
   }
 
   @Override
-  public DecisionDefinitionDiagramDto getDecisionDefinitionDmnXml() {
+  public Response getDecisionDefinitionDmnXml(Request request) {
+    DeployedResourceCache cache = DeployedResourceCache.getInstance();
+    if (cache.isEnabled()) {
+      // the cache neither checks authorizations nor whether the definition has been deleted
+      try {
+        engine.getRepositoryService().getDecisionDefinition(decisionDefinitionId);
+      } catch (NotFoundException e) {
+        throw new InvalidRequestException(Status.NOT_FOUND, e, e.getMessage());
+      }
+    }
+    DeployedResource decisionModel = cache.getResource(engine, DeployedResourceCache.DECISION_MODEL, decisionDefinitionId, this::loadDecisionModel);
+
+    ResponseBuilder notModified = decisionModel.evaluatePreconditions(request);
+    if (notModified != null) {
+      return notModified.build();
+    }
+
+    DecisionDefinitionDiagramDto diagram = DecisionDefinitionDiagramDto.create(decisionDefinitionId, new String(decisionModel.getContent(), UTF_8));
+    return Response.ok(diagram, MediaType.APPLICATION_JSON)
+        .tag(decisionModel.getEntityTag())
+        .build();
+  }
+
+  protected DeployedResource loadDecisionModel() {
     InputStream decisionModelInputStream = null;
     try {
       decisionModelInputStream = engine.getRepositoryService().getDecisionModel(decisionDefinitionId);
 
       byte[] decisionModel = IoUtil.readInputStream(decisionModelInputStream, "decisionModelDmnXml");
-      return DecisionDefinitionDiagramDto.create(decisionDefinitionId, new String(decisionModel, UTF_8));
+      return new DeployedResource(decisionModel, MediaType.APPLICATION_XML);
     } catch (NotFoundException e) {
       throw new InvalidRequestException(Status.NOT_FOUND, e, e.getMessage());
     } catch (NotValidException e) {
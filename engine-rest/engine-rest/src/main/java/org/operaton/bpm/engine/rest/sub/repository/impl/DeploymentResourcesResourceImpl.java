@@ -21,13 +21,19 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
 import jakarta.ws.rs.core.Response.Status;
 
 import org.operaton.bpm.engine.ProcessEngine;
 import org.operaton.bpm.engine.RepositoryService;
+import org.operaton.bpm.engine.impl.util.IoUtil;
 import org.operaton.bpm.engine.repository.Resource;
+import org.operaton.bpm.engine.rest.cache.DeployedResource;
+import org.operaton.bpm.engine.rest.cache.DeployedResourceCache;
 import org.operaton.bpm.engine.rest.dto.repository.DeploymentResourceDto;
 import org.operaton.bpm.engine.rest.exception.InvalidRequestException;
 import org.operaton.bpm.engine.rest.sub.repository.DeploymentResourcesResource;
@@ -114,7 +120,66 @@ public class DeploymentResourcesResourceImpl implements DeploymentResourcesResou
   }
 
   @Override
-  public Response getDeploymentResourceData(String resourceId) {
+  public Response getDeploymentResourceData(String resourceId, Request request) {
+    DeployedResourceCache cache = DeployedResourceCache.getInstance();
+    if (!cache.isEnabled()) {
+      return streamDeploymentResourceData(resourceId, request);
+    }
+
+    // the cache neither checks authorizations nor whether the deployment has been deleted,
+    // reading the resource names checks the authorization like reading the resource does
+    if (engine.getRepositoryService().getDeploymentResourceNames(deploymentId).isEmpty()) {
+      throw new InvalidRequestException(Status.NOT_FOUND,
+          "Deployment resource '%s' for deployment id '%s' does not exist.".formatted(resourceId, deploymentId));
+    }
+    DeployedResource resource = cache.getResource(engine, DeployedResourceCache.DEPLOYMENT_RESOURCE,
+        deploymentId + "/" + resourceId, () -> loadDeploymentResourceData(resourceId));
+
+    ResponseBuilder notModified = resource.evaluatePreconditions(request);
+    if (notModified != null) {
+      return notModified.build();
+    }
+
+    return Response
+        .ok(resource.getContent(), resource.getMediaType())
+        .header("Content-Disposition", URLEncodingUtil.buildAttachmentValue(resource.getFileName()))
+        .tag(resource.getEntityTag())
+        .build();
+  }
+
+  protected Response streamDeploymentResourceData(String resourceId, Request request) {
+    InputStream resourceAsStream = getResourceAsStream(resourceId);
+
+    EntityTag entityTag = createEntityTag(resourceId);
+    ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+    if (notModified != null) {
+      IoUtil.closeSilently(resourceAsStream);
+      return notModified.build();
+    }
+
+    DeploymentResourceDto resource = getDeploymentResource(resourceId);
+    return Response
+        .ok(resourceAsStream, getMediaType(resource))
+        .header("Content-Disposition", URLEncodingUtil.buildAttachmentValue(getFileName(resource)))
+        .tag(entityTag)
+        .build();
+  }
+
+  protected DeployedResource loadDeploymentResourceData(String resourceId) {
+    InputStream resourceAsStream = getResourceAsStream(resourceId);
+
+    byte[] content;
+    try {
+      content = IoUtil.readInputStream(resourceAsStream, "deploymentResourceData");
+    } finally {
+      IoUtil.closeSilently(resourceAsStream);
+    }
+
+    DeploymentResourceDto resource = getDeploymentResource(resourceId);
+    return new DeployedResource(content, getMediaType(resource), getFileName(resource), createEntityTag(resourceId));
+  }
+
+  protected InputStream getResourceAsStream(String resourceId) {
     RepositoryService repositoryService = engine.getRepositoryService();
     InputStream resourceAsStream = repositoryService.getResourceAsStreamById(deploymentId, resourceId);
 
@@ -123,10 +188,20 @@ public class DeploymentResourcesResourceImpl implements DeploymentResourcesResou
           "Deployment resource '%s' for deployment id '%s' does not exist.".formatted(resourceId, deploymentId));
     }
 
-    DeploymentResourceDto resource = getDeploymentResource(resourceId);
+    return resourceAsStream;
+  }
+
+  /**
+   * Deployment resources cannot change, so the entity tag is derived from the ids
+   * without reading the content.
+   */
+  protected EntityTag createEntityTag(String resourceId) {
+    return DeployedResource.createEntityTag(deploymentId + "/" + resourceId);
+  }
+
+  protected String getFileName(DeploymentResourceDto resource) {
     String name = resource.getName();
     String filename = null;
-    String mediaType = null;
 
     if (name != null) {
       name = name.replace("\\", "/");
@@ -135,7 +210,20 @@ public class DeploymentResourcesResourceImpl implements DeploymentResourcesResou
         int idx = filenameParts.length-1;
         filename = filenameParts[idx];
       }
+    }
+
+    if (filename == null) {
+      filename = "data";
+    }
 
+    return filename;
+  }
+
+  protected String getMediaType(DeploymentResourceDto resource) {
+    String name = resource.getName();
+    String mediaType = null;
+
+    if (name != null) {
       String[] extensionParts = name.split("\\.");
       if (extensionParts.length > 0) {
         int idx = extensionParts.length-1;
@@ -146,17 +234,10 @@ public class DeploymentResourcesResourceImpl implements DeploymentResourcesResou
       }
     }
 
-    if (filename == null) {
-      filename = "data";
-    }
-
     if (mediaType == null) {
       mediaType = MediaType.APPLICATION_OCTET_STREAM;
     }
 
-    return Response
-        .ok(resourceAsStream, mediaType)
-        .header("Content-Disposition", URLEncodingUtil.buildAttachmentValue(filename))
-        .build();
+    return mediaType;
   }
 }
@@ -22,9 +22,12 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
 import jakarta.ws.rs.core.Response.Status;
 import jakarta.ws.rs.core.UriInfo;
 
@@ -42,6 +45,8 @@ import org.operaton.bpm.engine.management.ActivityStatistics;
 import org.operaton.bpm.engine.management.ActivityStatisticsQuery;
 import org.operaton.bpm.engine.repository.ProcessDefinition;
 import org.operaton.bpm.engine.rest.ProcessInstanceRestService;
+import org.operaton.bpm.engine.rest.cache.DeployedResource;
+import org.operaton.bpm.engine.rest.cache.DeployedResourceCache;
 import org.operaton.bpm.engine.rest.dto.HistoryTimeToLiveDto;
 import org.operaton.bpm.engine.rest.dto.StatisticsResultDto;
 import org.operaton.bpm.engine.rest.dto.VariableValueDto;
@@ -238,12 +243,26 @@ public class ProcessDefinitionResourceImpl implements ProcessDefinitionResource
   }
 
   @Override
-  public ProcessDefinitionDiagramDto getProcessDefinitionBpmn20Xml() {
+  public Response getProcessDefinitionBpmn20Xml(Request request) {
+    DeployedResource processModel = getDeployedResource(DeployedResourceCache.PROCESS_MODEL, this::loadProcessModel);
+
+    ResponseBuilder notModified = processModel.evaluatePreconditions(request);
+    if (notModified != null) {
+      return notModified.build();
+    }
+
+    ProcessDefinitionDiagramDto diagram = ProcessDefinitionDiagramDto.create(processDefinitionId, new String(processModel.getContent(), UTF_8));
+    return Response.ok(diagram, MediaType.APPLICATION_JSON)
+        .tag(processModel.getEntityTag())
+        .build();
+  }
+
+  protected DeployedResource loadProcessModel() {
     InputStream processModelIn = null;
     try {
       processModelIn = engine.getRepositoryService().getProcessModel(processDefinitionId);
       byte[] processModel = IoUtil.readInputStream(processModelIn, "processModelBpmn20Xml");
-      return ProcessDefinitionDiagramDto.create(processDefinitionId, new String(processModel, UTF_8));
+      return new DeployedResource(processModel, MediaType.APPLICATION_XML);
     } catch (NotFoundException e) {
       throw new InvalidRequestException(Status.NOT_FOUND, e, "No matching definition with id %s".formatted(processDefinitionId));
     } finally {
@@ -251,6 +270,19 @@ public class ProcessDefinitionResourceImpl implements ProcessDefinitionResource
     }
   }
 
+  protected DeployedResource getDeployedResource(String type, Supplier<DeployedResource> loader) {
+    DeployedResourceCache cache = DeployedResourceCache.getInstance();
+    if (cache.isEnabled()) {
+      // the cache neither checks authorizations nor whether the definition has been deleted
+      try {
+        engine.getRepositoryService().getProcessDefinition(processDefinitionId);
+      } catch (NotFoundException e) {
+        throw new InvalidRequestException(Status.NOT_FOUND, e, "No matching definition with id %s".formatted(processDefinitionId));
+      }
+    }
+    return cache.getResource(engine, type, processDefinitionId, loader);
+  }
+
   @Override
   public Response getProcessDefinitionDiagram() {
     ProcessDefinition definition = engine.getRepositoryService().getProcessDefinition(processDefinitionId);
@@ -427,10 +459,18 @@ public class ProcessDefinitionResourceImpl implements ProcessDefinitionResource
   }
 
   @Override
-  public Response getDeployedStartForm() {
+  public Response getDeployedStartForm(Request request) {
     try {
-      InputStream deployedStartForm = engine.getFormService().getDeployedStartForm(processDefinitionId);
-      return Response.ok(deployedStartForm, getStartFormMediaType(processDefinitionId)).build();
+      DeployedResource deployedStartForm = getDeployedStartFormResource();
+
+      ResponseBuilder notModified = deployedStartForm.evaluatePreconditions(request);
+      if (notModified != null) {
+        return notModified.build();
+      }
+
+      return Response.ok(deployedStartForm.getContent(), deployedStartForm.getMediaType())
+          .tag(deployedStartForm.getEntityTag())
+          .build();
     } catch (NotFoundException e) {
       throw new InvalidRequestException(Status.NOT_FOUND, e.getMessage());
     } catch (NullValueException | BadUserRequestException e) {
@@ -440,6 +480,26 @@ public class ProcessDefinitionResourceImpl implements ProcessDefinitionResource
     }
   }
 
+  protected DeployedResource getDeployedStartFormResource() {
+    if (DeployedResourceCache.getInstance().isEnabled()
+        && engine.getFormService().getStartFormData(processDefinitionId).getOperatonFormRef() != null) {
+      // a form reference may resolve to another form once a new version of the form is deployed
+      return loadDeployedStartForm();
+    }
+    return getDeployedResource(DeployedResourceCache.DEPLOYED_START_FORM, this::loadDeployedStartForm);
+  }
+
+  protected DeployedResource loadDeployedStartForm() {
+    InputStream deployedStartForm = null;
+    try {
+      deployedStartForm = engine.getFormService().getDeployedStartForm(processDefinitionId);
+      byte[] content = IoUtil.readInputStream(deployedStartForm, "deployedStartForm");
+      return new DeployedResource(content, getStartFormMediaType(processDefinitionId));
+    } finally {
+      IoUtil.closeSilently(deployedStartForm);
+    }
+  }
+
   protected String getStartFormMediaType(String processDefinitionId) {
     String formKey = engine.getFormService().getStartFormKey(processDefinitionId);
     OperatonFormRef operatonFormRef = engine.getFormService().getStartFormData(processDefinitionId).getOperatonFormRef();
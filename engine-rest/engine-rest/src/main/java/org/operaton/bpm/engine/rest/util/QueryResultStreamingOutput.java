@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.rest.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import org.operaton.bpm.engine.query.Query;
+
+/**
+ * Writes the results of a query as newline delimited JSON, one DTO per line, while paging
+ * through the query. Only one page of results is held in memory, no matter how many results
+ * are requested. Every page is selected by its own query execution, so results which are
+ * inserted or deleted concurrently can shift between pages.
+ *
+ * @param <U> the type of the query results
+ */
+public class QueryResultStreamingOutput<U> implements StreamingOutput {
+
+  public static final String APPLICATION_NDJSON = "application/x-ndjson";
+  public static final MediaType APPLICATION_NDJSON_TYPE = new MediaType("application", "x-ndjson");
+
+  /**
+   * The media type produced by resource methods which stream query results. Its quality
+   * of source is lowered, so that a request accepting any media type is answered by the
+   * JSON method of the same resource.
+   */
+  public static final String APPLICATION_NDJSON_PRODUCES = APPLICATION_NDJSON + ";qs=0.5";
+
+  public static final int DEFAULT_PAGE_SIZE = 1000;
+
+  protected final Query<?, U> query;
+  protected final int firstResult;
+  protected final int maxResults;
+  protected final ObjectMapper objectMapper;
+  protected final Function<List<U>, List<?>> pageMapper;
+  protected int pageSize = DEFAULT_PAGE_SIZE;
+
+  /**
+   * @param pageMapper maps a page of query results to the DTOs which are written
+   */
+  public QueryResultStreamingOutput(Query<?, U> query, Integer firstResult, Integer maxResults,
+                                    ObjectMapper objectMapper, Function<List<U>, List<?>> pageMapper) {
+    this.query = query;
+    this.firstResult = firstResult != null ? firstResult : 0;
+    this.maxResults = maxResults != null ? maxResults : Integer.MAX_VALUE;
+    this.objectMapper = objectMapper;
+    this.pageMapper = pageMapper;
+  }
+
+  public static <U> Response ndJson(Query<?, U> query, Integer firstResult, Integer maxResults,
+                                    ObjectMapper objectMapper, Function<List<U>, List<?>> pageMapper) {
+    QueryResultStreamingOutput<U> output = new QueryResultStreamingOutput<>(query, firstResult, maxResults,
+        objectMapper, pageMapper);
+    return Response.ok(output, APPLICATION_NDJSON_TYPE).build();
+  }
+
+  @Override
+  public void write(OutputStream output) throws IOException {
+    int position = firstResult;
+    int remaining = maxResults;
+
+    while (remaining > 0) {
+      int currentPageSize = Math.min(pageSize, remaining);
+      List<U> page = query.listPage(position, currentPageSize);
+
+      for (Object dto : pageMapper.apply(page)) {
+        output.write(objectMapper.writeValueAsBytes(dto));
+        output.write('\n');
+      }
+      output.flush();
+
+      if (page.size() < currentPageSize) {
+        break;
+      }
+
+      position += currentPageSize;
+      remaining -= currentPageSize;
+    }
+  }
+
+  public void setPageSize(int pageSize) {
+    this.pageSize = pageSize;
+  }
+
+}
@@ -36,6 +36,7 @@ import org.operaton.bpm.engine.impl.bpmn.parser.ResourceReportImpl;
 import org.operaton.bpm.engine.impl.calendar.DateTimeUtil;
 import org.operaton.bpm.engine.impl.util.ReflectUtil;
 import org.operaton.bpm.engine.repository.*;
+import org.operaton.bpm.engine.rest.cache.DeployedResourceCache;
 import org.operaton.bpm.engine.rest.exception.InvalidRequestException;
 import org.operaton.bpm.engine.rest.helper.MockProvider;
 import org.operaton.bpm.engine.rest.util.container.TestContainerExtension;
@@ -47,6 +48,7 @@ import static io.restassured.path.json.JsonPath.from;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.Mockito.*;
 
 public class DeploymentRestServiceInteractionTest extends AbstractRestServiceTest {
@@ -274,6 +276,74 @@ public class DeploymentRestServiceInteractionTest extends AbstractRestServiceTes
 
   }
 
+  @Test
+  void testGetDeploymentResourceDataFromCache() {
+    when(mockRepositoryService.getDeploymentResourceNames(EXAMPLE_DEPLOYMENT_ID)).thenReturn(List.of(EXAMPLE_DEPLOYMENT_RESOURCE_NAME));
+    DeployedResourceCache.getInstance().enable(1024 * 1024);
+    try {
+      given()
+          .pathParam("id", EXAMPLE_DEPLOYMENT_ID)
+          .pathParam("resourceId", EXAMPLE_DEPLOYMENT_RESOURCE_ID)
+        .then().expect().statusCode(Status.OK.getStatusCode())
+        .when().get(SINGLE_RESOURCE_DATA_URL);
+
+      Response response = given()
+          .pathParam("id", EXAMPLE_DEPLOYMENT_ID)
+          .pathParam("resourceId", EXAMPLE_DEPLOYMENT_RESOURCE_ID)
+        .then().expect().statusCode(Status.OK.getStatusCode())
+        .when().get(SINGLE_RESOURCE_DATA_URL);
+
+      assertThat(response.asString()).contains("<?xml");
+      verify(mockRepositoryService, times(1)).getResourceAsStreamById(EXAMPLE_DEPLOYMENT_ID, EXAMPLE_DEPLOYMENT_RESOURCE_ID);
+      verify(mockRepositoryService, times(2)).getDeploymentResourceNames(EXAMPLE_DEPLOYMENT_ID);
+    } finally {
+      DeployedResourceCache.getInstance().disable();
+    }
+  }
+
+  @Test
+  void testGetDeploymentResourceDataFromCacheThrowsAuthorizationException() {
+    String message = "expected exception";
+    when(mockRepositoryService.getDeploymentResourceNames(EXAMPLE_DEPLOYMENT_ID)).thenThrow(new AuthorizationException(message));
+    DeployedResourceCache.getInstance().enable(1024 * 1024);
+    try {
+      given()
+          .pathParam("id", EXAMPLE_DEPLOYMENT_ID)
+          .pathParam("resourceId", EXAMPLE_DEPLOYMENT_RESOURCE_ID)
+        .then().expect()
+          .statusCode(Status.FORBIDDEN.getStatusCode())
+          .body("type", is(AuthorizationException.class.getSimpleName()))
+          .body("message", is(message))
+        .when().get(SINGLE_RESOURCE_DATA_URL);
+    } finally {
+      DeployedResourceCache.getInstance().disable();
+    }
+  }
+
+  @Test
+  void testGetDeploymentResourceDataNotModified() {
+    String entityTag = given()
+        .pathParam("id", EXAMPLE_DEPLOYMENT_ID)
+        .pathParam("resourceId", EXAMPLE_DEPLOYMENT_RESOURCE_ID)
+      .then()
+        .expect()
+          .statusCode(Status.OK.getStatusCode())
+          .header("ETag", notNullValue())
+      .when().get(SINGLE_RESOURCE_DATA_URL)
+        .getHeader("ETag");
+
+    when(mockRepositoryService.getResourceAsStreamById(EXAMPLE_DEPLOYMENT_ID, EXAMPLE_DEPLOYMENT_RESOURCE_ID)).thenReturn(createMockDeploymentResourceBpmnData());
+
+    given()
+        .pathParam("id", EXAMPLE_DEPLOYMENT_ID)
+        .pathParam("resourceId", EXAMPLE_DEPLOYMENT_RESOURCE_ID)
+        .header("If-None-Match", entityTag)
+      .then()
+        .expect()
+          .statusCode(Status.NOT_MODIFIED.getStatusCode())
+      .when().get(SINGLE_RESOURCE_DATA_URL);
+  }
+
   @Test
   void testGetDeploymentSvgResourceData() {
     Resource resource = MockProvider.createMockDeploymentSvgResource();
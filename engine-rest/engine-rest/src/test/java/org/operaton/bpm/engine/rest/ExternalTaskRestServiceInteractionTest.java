@@ -35,6 +35,7 @@ import org.mockito.Mockito;
 
 import org.operaton.bpm.engine.AuthorizationException;
 import org.operaton.bpm.engine.BadUserRequestException;
+import org.operaton.bpm.engine.BulkOperationResult;
 import org.operaton.bpm.engine.ExternalTaskService;
 import org.operaton.bpm.engine.ProcessEngineException;
 import org.operaton.bpm.engine.batch.Batch;
@@ -93,6 +94,7 @@ public class ExternalTaskRestServiceInteractionTest extends AbstractRestServiceT
   protected static final String PRIORITY_EXTERNAL_TASK_URL = SINGLE_EXTERNAL_TASK_URL + "/priority";
   protected static final String LOCK_EXTERNAL_TASK = SINGLE_EXTERNAL_TASK_URL + "/lock";
   protected static final String EXTEND_LOCK_ON_EXTERNAL_TASK = SINGLE_EXTERNAL_TASK_URL + "/extendLock";
+  protected static final String BULK_EXTERNAL_TASK_URL = EXTERNAL_TASK_URL + "/bulk";
 
 
   protected ExternalTaskService externalTaskService;
@@ -857,6 +859,84 @@ public class ExternalTaskRestServiceInteractionTest extends AbstractRestServiceT
     verifyNoMoreInteractions(fetchTopicBuilder, fetchTopicBuilder, externalTaskService);
   }
 
+  @Test
+  void testBulkOperation() {
+    ExternalTaskBulkOperationBuilder bulkOperationBuilder = mock(ExternalTaskBulkOperationBuilder.class, RETURNS_SELF);
+    when(externalTaskService.bulkOperation()).thenReturn(bulkOperationBuilder);
+
+    BulkOperationResult successfulResult = mock(BulkOperationResult.class);
+    when(successfulResult.getId()).thenReturn("anExternalTaskId");
+    when(successfulResult.isSuccessful()).thenReturn(true);
+    BulkOperationResult failedResult = mock(BulkOperationResult.class);
+    when(failedResult.getId()).thenReturn("anotherExternalTaskId");
+    when(failedResult.getException()).thenReturn(new NotFoundException("not found"));
+    when(bulkOperationBuilder.execute()).thenReturn(List.of(successfulResult, failedResult));
+
+    Map<String, Object> completion = new HashMap<>();
+    completion.put("externalTaskId", "anExternalTaskId");
+    Map<String, Object> failure = new HashMap<>();
+    failure.put("externalTaskId", "anotherExternalTaskId");
+    failure.put("workerId", "anotherWorkerId");
+    failure.put("errorMessage", "anErrorMessage");
+    failure.put("retries", 3);
+    failure.put("retryTimeout", 1000);
+    Map<String, Object> lockExtension = new HashMap<>();
+    lockExtension.put("externalTaskId", "aThirdExternalTaskId");
+    lockExtension.put("newDuration", 5000);
+
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("workerId", "aWorkerId");
+    parameters.put("chunkSize", 50);
+    parameters.put("complete", List.of(completion));
+    parameters.put("failure", List.of(failure));
+    parameters.put("extendLock", List.of(lockExtension));
+
+    given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(parameters)
+    .then()
+      .expect()
+      .statusCode(Status.OK.getStatusCode())
+      .body("[0].id", equalTo("anExternalTaskId"))
+      .body("[0].successful", equalTo(true))
+      .body("[1].id", equalTo("anotherExternalTaskId"))
+      .body("[1].successful", equalTo(false))
+      .body("[1].error.type", equalTo(NotFoundException.class.getSimpleName()))
+      .body("[1].error.message", equalTo("not found"))
+    .when()
+      .post(BULK_EXTERNAL_TASK_URL);
+
+    InOrder inOrder = inOrder(bulkOperationBuilder);
+    inOrder.verify(bulkOperationBuilder).complete("anExternalTaskId", "aWorkerId", emptyMap(), emptyMap());
+    inOrder.verify(bulkOperationBuilder).handleFailure("anotherExternalTaskId", "anotherWorkerId", "anErrorMessage",
+        null, 3, 1000L, emptyMap(), emptyMap());
+    inOrder.verify(bulkOperationBuilder).extendLock("aThirdExternalTaskId", "aWorkerId", 5000L);
+    inOrder.verify(bulkOperationBuilder).chunkSize(50);
+    inOrder.verify(bulkOperationBuilder).execute();
+  }
+
+  @Test
+  void testBulkOperationWithInvalidChunkSize() {
+    ExternalTaskBulkOperationBuilder bulkOperationBuilder = mock(ExternalTaskBulkOperationBuilder.class, RETURNS_SELF);
+    when(externalTaskService.bulkOperation()).thenReturn(bulkOperationBuilder);
+    doThrow(new BadUserRequestException("chunkSize is not greater than 0")).when(bulkOperationBuilder).execute();
+
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("workerId", "aWorkerId");
+    parameters.put("chunkSize", 0);
+
+    given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(parameters)
+    .then()
+      .expect()
+      .statusCode(Status.BAD_REQUEST.getStatusCode())
+      .body("type", equalTo(InvalidRequestException.class.getSimpleName()))
+      .body("message", equalTo("chunkSize is not greater than 0"))
+    .when()
+      .post(BULK_EXTERNAL_TASK_URL);
+  }
+
   @Test
   void testComplete() {
     Map<String, String> parameters = new HashMap<>();
@@ -47,6 +47,7 @@ import org.operaton.bpm.engine.impl.repository.CalledProcessDefinitionImpl;
 import org.operaton.bpm.engine.impl.util.IoUtil;
 import org.operaton.bpm.engine.impl.util.ReflectUtil;
 import org.operaton.bpm.engine.repository.*;
+import org.operaton.bpm.engine.rest.cache.DeployedResourceCache;
 import org.operaton.bpm.engine.rest.dto.HistoryTimeToLiveDto;
 import org.operaton.bpm.engine.rest.exception.InvalidRequestException;
 import org.operaton.bpm.engine.rest.exception.RestException;
@@ -243,6 +244,47 @@ public class ProcessDefinitionRestServiceInteractionTest extends AbstractRestSer
       .contains(MockProvider.EXAMPLE_PROCESS_DEFINITION_ID);
   }
 
+  @Test
+  void testProcessDefinitionBpmn20XmlNotModified() {
+    String entityTag = given().pathParam("id", MockProvider.EXAMPLE_PROCESS_DEFINITION_ID)
+    .then().expect()
+      .statusCode(Status.OK.getStatusCode())
+      .header("ETag", notNullValue())
+    .when().get(XML_DEFINITION_URL)
+      .getHeader("ETag");
+
+    when(repositoryServiceMock.getProcessModel(MockProvider.EXAMPLE_PROCESS_DEFINITION_ID)).thenReturn(createMockProcessDefinitionBpmn20Xml());
+
+    given().pathParam("id", MockProvider.EXAMPLE_PROCESS_DEFINITION_ID)
+      .header("If-None-Match", entityTag)
+    .then().expect()
+      .statusCode(Status.NOT_MODIFIED.getStatusCode())
+      .body(emptyString())
+    .when().get(XML_DEFINITION_URL);
+  }
+
+  @Test
+  void testProcessDefinitionBpmn20XmlRetrievalFromCache() {
+    DeployedResourceCache.getInstance().enable(1024 * 1024);
+    try {
+      given().pathParam("id", MockProvider.EXAMPLE_PROCESS_DEFINITION_ID)
+      .then().expect()
+        .statusCode(Status.OK.getStatusCode())
+      .when().get(XML_DEFINITION_URL);
+
+      Response response = given().pathParam("id", MockProvider.EXAMPLE_PROCESS_DEFINITION_ID)
+      .then().expect()
+        .statusCode(Status.OK.getStatusCode())
+      .when().get(XML_DEFINITION_URL);
+
+      assertThat(response.asString()).contains("<?xml");
+      verify(repositoryServiceMock, times(1)).getProcessModel(MockProvider.EXAMPLE_PROCESS_DEFINITION_ID);
+      verify(repositoryServiceMock, times(2)).getProcessDefinition(MockProvider.EXAMPLE_PROCESS_DEFINITION_ID);
+    } finally {
+      DeployedResourceCache.getInstance().disable();
+    }
+  }
+
   @Test
   void testProcessDiagramRetrieval() throws Exception {
     // setup additional mock behavior
@@ -3960,6 +4002,57 @@ public class ProcessDefinitionRestServiceInteractionTest extends AbstractRestSer
     verify(formServiceMock).getDeployedStartForm(MockProvider.EXAMPLE_PROCESS_DEFINITION_ID);
   }
 
+  @Test
+  void testGetDeployedStartFormFromCache() {
+    when(formServiceMock.getDeployedStartForm(MockProvider.EXAMPLE_PROCESS_DEFINITION_ID))
+        .thenReturn(new ByteArrayInputStream("Test".getBytes()));
+    DeployedResourceCache.getInstance().enable(1024 * 1024);
+    try {
+      for (int i = 0; i < 2; i++) {
+        given()
+        .pathParam("id", MockProvider.EXAMPLE_PROCESS_DEFINITION_ID)
+        .then().expect()
+        .statusCode(Status.OK.getStatusCode())
+        .body(equalTo("Test"))
+        .when()
+        .get(DEPLOYED_START_FORM_URL);
+      }
+
+      verify(formServiceMock, times(1)).getDeployedStartForm(MockProvider.EXAMPLE_PROCESS_DEFINITION_ID);
+    } finally {
+      DeployedResourceCache.getInstance().disable();
+    }
+  }
+
+  @Test
+  void testGetDeployedStartFormWithFormRefNotCached() {
+    StartFormData mockStartFormData = MockProvider.createMockStartFormDataUsingFormRef();
+    when(formServiceMock.getStartFormData(MockProvider.EXAMPLE_PROCESS_DEFINITION_ID)).thenReturn(mockStartFormData);
+    // the form reference resolves to the second version of the form once it is deployed
+    when(formServiceMock.getDeployedStartForm(MockProvider.EXAMPLE_PROCESS_DEFINITION_ID))
+        .thenReturn(new ByteArrayInputStream("Version 1".getBytes()), new ByteArrayInputStream("Version 2".getBytes()));
+    DeployedResourceCache.getInstance().enable(1024 * 1024);
+    try {
+      given()
+      .pathParam("id", MockProvider.EXAMPLE_PROCESS_DEFINITION_ID)
+      .then().expect()
+      .statusCode(Status.OK.getStatusCode())
+      .body(equalTo("Version 1"))
+      .when()
+      .get(DEPLOYED_START_FORM_URL);
+
+      given()
+      .pathParam("id", MockProvider.EXAMPLE_PROCESS_DEFINITION_ID)
+      .then().expect()
+      .statusCode(Status.OK.getStatusCode())
+      .body(equalTo("Version 2"))
+      .when()
+      .get(DEPLOYED_START_FORM_URL);
+    } finally {
+      DeployedResourceCache.getInstance().disable();
+    }
+  }
+
   @Test
   void testGetDeployedStartFormWithoutAuthorization() {
     String message = "unauthorized";
@@ -31,6 +31,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import org.operaton.bpm.ProcessApplicationService;
@@ -123,6 +124,7 @@ public class TaskRestServiceInteractionTest extends
   protected static final String SINGLE_TASK_SINGLE_ATTACHMENT_DATA_URL = SINGLE_TASK_ATTACHMENTS_URL + "/{attachmentId}/data";
 
   protected static final String TASK_CREATE_URL = TASK_SERVICE_URL + "/create";
+  protected static final String BULK_TASK_URL = TASK_SERVICE_URL + "/bulk";
 
   protected static final String HANDLE_BPMN_ERROR_URL = SINGLE_TASK_URL + "/bpmnError";
   protected static final String HANDLE_BPMN_ESCALATION_URL = SINGLE_TASK_URL + "/bpmnEscalation";
@@ -1336,6 +1338,77 @@ public class TaskRestServiceInteractionTest extends
       .post(CLAIM_TASK_URL);
   }
 
+  @Test
+  void testBulkOperation() {
+    TaskBulkOperationBuilder bulkOperationBuilder = mock(TaskBulkOperationBuilder.class, RETURNS_SELF);
+    when(taskServiceMock.bulkOperation()).thenReturn(bulkOperationBuilder);
+
+    BulkOperationResult successfulResult = mock(BulkOperationResult.class);
+    when(successfulResult.getId()).thenReturn(EXAMPLE_TASK_ID);
+    when(successfulResult.isSuccessful()).thenReturn(true);
+    BulkOperationResult failedResult = mock(BulkOperationResult.class);
+    when(failedResult.getId()).thenReturn("anotherTaskId");
+    when(failedResult.getException()).thenReturn(new TaskAlreadyClaimedException("anotherTaskId", "aUserId"));
+    when(bulkOperationBuilder.execute()).thenReturn(List.of(successfulResult, failedResult));
+
+    Map<String, Object> claim = new HashMap<>();
+    claim.put("taskId", EXAMPLE_TASK_ID);
+    claim.put("userId", EXAMPLE_USER_ID);
+    Map<String, Object> assignment = new HashMap<>();
+    assignment.put("taskId", "anotherTaskId");
+    assignment.put("userId", EXAMPLE_USER_ID);
+    Map<String, Object> completion = new HashMap<>();
+    completion.put("taskId", "aThirdTaskId");
+
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("chunkSize", 50);
+    parameters.put("claim", List.of(claim));
+    parameters.put("assign", List.of(assignment));
+    parameters.put("complete", List.of(completion));
+
+    given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(parameters)
+    .then()
+      .expect()
+      .statusCode(Status.OK.getStatusCode())
+      .body("[0].id", equalTo(EXAMPLE_TASK_ID))
+      .body("[0].successful", equalTo(true))
+      .body("[1].id", equalTo("anotherTaskId"))
+      .body("[1].successful", equalTo(false))
+      .body("[1].error.type", equalTo(TaskAlreadyClaimedException.class.getSimpleName()))
+    .when()
+      .post(BULK_TASK_URL);
+
+    InOrder inOrder = inOrder(bulkOperationBuilder);
+    inOrder.verify(bulkOperationBuilder).claim(EXAMPLE_TASK_ID, EXAMPLE_USER_ID);
+    inOrder.verify(bulkOperationBuilder).setAssignee("anotherTaskId", EXAMPLE_USER_ID);
+    inOrder.verify(bulkOperationBuilder).complete("aThirdTaskId", emptyMap());
+    inOrder.verify(bulkOperationBuilder).chunkSize(50);
+    inOrder.verify(bulkOperationBuilder).execute();
+  }
+
+  @Test
+  void testBulkOperationWithInvalidChunkSize() {
+    TaskBulkOperationBuilder bulkOperationBuilder = mock(TaskBulkOperationBuilder.class, RETURNS_SELF);
+    when(taskServiceMock.bulkOperation()).thenReturn(bulkOperationBuilder);
+    doThrow(new BadUserRequestException("chunkSize is not greater than 0")).when(bulkOperationBuilder).execute();
+
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("chunkSize", 0);
+
+    given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(parameters)
+    .then()
+      .expect()
+      .statusCode(Status.BAD_REQUEST.getStatusCode())
+      .body("type", equalTo(InvalidRequestException.class.getSimpleName()))
+      .body("message", equalTo("chunkSize is not greater than 0"))
+    .when()
+      .post(BULK_TASK_URL);
+  }
+
   @Test
   void testUnclaimTask() {
     given().pathParam("id", EXAMPLE_TASK_ID)
@@ -17,6 +17,7 @@
 package org.operaton.bpm.engine.rest;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -292,6 +293,48 @@ public class VariableInstanceRestServiceQueryTest extends AbstractRestServiceTes
     verify(mockedQuery, never()).disableCustomObjectDeserialization();
   }
 
+  @Test
+  void testStreamVariableInstancesAsNdJson() {
+    when(mockedQuery.listPage(0, 1000)).thenReturn(createMockVariableInstanceList(mockInstance));
+
+    Response response = given()
+        .header("Accept", "application/x-ndjson")
+      .then().expect()
+        .statusCode(Status.OK.getStatusCode())
+        .contentType("application/x-ndjson")
+      .when().get(VARIABLE_INSTANCE_QUERY_URL);
+
+    String[] lines = response.asString().split("\n");
+    assertThat(lines).hasSize(1);
+    assertThat(from(lines[0]).getString("id")).isEqualTo(mockInstanceBuilder.getId());
+
+    verify(mockedQuery).listPage(0, 1000);
+    verify(mockedQuery).disableBinaryFetching();
+    verify(mockedQuery, never()).list();
+  }
+
+  @Test
+  void testStreamVariableInstancesPagesThroughQuery() {
+    when(mockedQuery.listPage(0, 1000)).thenReturn(Collections.nCopies(1000, mockInstance));
+    when(mockedQuery.listPage(1000, 500)).thenReturn(createMockVariableInstanceList(mockInstance));
+
+    Response response = given()
+        .header("Accept", "application/x-ndjson")
+        .contentType(POST_JSON_CONTENT_TYPE)
+        .body(EMPTY_JSON_OBJECT)
+        .queryParam("maxResults", 1500)
+      .then().expect()
+        .statusCode(Status.OK.getStatusCode())
+      .when().post(VARIABLE_INSTANCE_QUERY_URL);
+
+    assertThat(response.asString().split("\n")).hasSize(1001);
+
+    InOrder inOrder = inOrder(mockedQuery);
+    inOrder.verify(mockedQuery).listPage(0, 1000);
+    inOrder.verify(mockedQuery).listPage(1000, 500);
+    verify(mockedQuery, never()).list();
+  }
+
   @Test
   void testVariableInstanceRetrieval() {
     String queryVariableName = "aVariableInstanceName";
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.ws.rs.container.AsyncResponse;
@@ -375,6 +376,134 @@ class FetchAndLockHandlerTest {
     assertThat(handler.getPendingRequests()).hasSize(2);
   }
 
+  @Test
+  void shouldFetchOnceForRequestsWithSameTopicsWhenNoTasksAvailable() {
+    // given
+    doReturn(Collections.emptyList()).when(externalTaskQueryTopicBuilder).execute();
+
+    handler.addPendingRequest(createDto(5000L, "aWorkerId"), mock(AsyncResponse.class), processEngine);
+    handler.addPendingRequest(createDto(5000L, "anotherWorkerId"), mock(AsyncResponse.class), processEngine);
+    clearInvocations(externalTaskQueryTopicBuilder);
+
+    // when
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(1)).execute();
+    assertThat(handler.getPendingRequests()).hasSize(2);
+  }
+
+  @Test
+  void shouldFetchForEachRequestOfGroupWhileTasksAvailable() {
+    // given
+    doReturn(Collections.emptyList()).when(externalTaskQueryTopicBuilder).execute();
+
+    AsyncResponse asyncResponse = mock(AsyncResponse.class);
+    AsyncResponse anotherAsyncResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(createDto(5000L, "aWorkerId"), asyncResponse, processEngine);
+    handler.addPendingRequest(createDto(5000L, "anotherWorkerId"), anotherAsyncResponse, processEngine);
+    clearInvocations(externalTaskQueryTopicBuilder);
+
+    List<LockedExternalTask> tasks = Collections.nCopies(5, lockedExternalTaskMock);
+    doReturn(tasks).doReturn(Collections.emptyList()).when(externalTaskQueryTopicBuilder).execute();
+
+    // when
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(2)).execute();
+    verify(asyncResponse).resume(argThat(Matchers.hasSize(5)));
+    verify(anotherAsyncResponse, never()).resume(any());
+    assertThat(handler.getPendingRequests()).hasSize(1);
+  }
+
+  @Test
+  void shouldFetchForEachGroupOfRequests() {
+    // given
+    doReturn(Collections.emptyList()).when(externalTaskQueryTopicBuilder).execute();
+
+    FetchExternalTasksExtendedDto anotherTopicDto = createDto(5000L, "anotherWorkerId");
+    anotherTopicDto.getTopics().get(0).setTopicName("anotherTopicName");
+
+    handler.addPendingRequest(createDto(5000L, "aWorkerId"), mock(AsyncResponse.class), processEngine);
+    handler.addPendingRequest(anotherTopicDto, mock(AsyncResponse.class), processEngine);
+    clearInvocations(externalTaskQueryTopicBuilder);
+
+    // when
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(2)).execute();
+    assertThat(handler.getPendingRequests()).hasSize(2);
+  }
+
+  @Test
+  void shouldFetchOnlyForGroupsOfAvailableTopics() {
+    // given
+    doReturn(Collections.emptyList()).when(externalTaskQueryTopicBuilder).execute();
+
+    FetchExternalTasksExtendedDto anotherTopicDto = createDto(5000L, "anotherWorkerId");
+    anotherTopicDto.getTopics().get(0).setTopicName("anotherTopicName");
+
+    handler.addPendingRequest(createDto(5000L, "aWorkerId"), mock(AsyncResponse.class), processEngine);
+    handler.addPendingRequest(anotherTopicDto, mock(AsyncResponse.class), processEngine);
+    handler.acquire();
+    clearInvocations(externalTaskQueryTopicBuilder);
+
+    // when
+    handler.onExternalTasksAvailable("default", Set.of("anotherTopicName"));
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(1)).execute();
+    verify(externalTaskQueryTopicBuilder).topic(eq("anotherTopicName"), anyLong());
+    verify(externalTaskQueryTopicBuilder, never()).topic(eq("aTopicName"), anyLong());
+    assertThat(handler.getPendingRequests()).hasSize(2);
+  }
+
+  @Test
+  void shouldFetchForAllGroupsWhenTopicsOfAvailableTasksUnknown() {
+    // given
+    doReturn(Collections.emptyList()).when(externalTaskQueryTopicBuilder).execute();
+
+    FetchExternalTasksExtendedDto anotherTopicDto = createDto(5000L, "anotherWorkerId");
+    anotherTopicDto.getTopics().get(0).setTopicName("anotherTopicName");
+
+    handler.addPendingRequest(createDto(5000L, "aWorkerId"), mock(AsyncResponse.class), processEngine);
+    handler.addPendingRequest(anotherTopicDto, mock(AsyncResponse.class), processEngine);
+    handler.acquire();
+    clearInvocations(externalTaskQueryTopicBuilder);
+
+    // when
+    handler.onExternalTasksAvailable("default", null);
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(2)).execute();
+  }
+
+  @Test
+  void shouldFetchForAllGroupsWhenFetchIntervalElapsed() {
+    // given
+    doReturn(Collections.emptyList()).when(externalTaskQueryTopicBuilder).execute();
+
+    FetchExternalTasksExtendedDto anotherTopicDto = createDto(50000L, "anotherWorkerId");
+    anotherTopicDto.getTopics().get(0).setTopicName("anotherTopicName");
+
+    handler.addPendingRequest(createDto(50000L, "aWorkerId"), mock(AsyncResponse.class), processEngine);
+    handler.addPendingRequest(anotherTopicDto, mock(AsyncResponse.class), processEngine);
+    handler.acquire();
+    clearInvocations(externalTaskQueryTopicBuilder);
+
+    // when
+    addSecondsToClock(30);
+    handler.onExternalTasksAvailable("default", Set.of("anotherTopicName"));
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(2)).execute();
+  }
+
   @Test
   void shouldResumeAsyncResponseDueToTooManyRequests() {
     // given
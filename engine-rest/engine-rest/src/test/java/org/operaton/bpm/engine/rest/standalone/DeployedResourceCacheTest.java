@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.rest.standalone;
+
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletContextEvent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.rest.cache.DeployedResource;
+import org.operaton.bpm.engine.rest.cache.DeployedResourceCache;
+import org.operaton.bpm.engine.rest.cache.DeployedResourceCacheBootstrap;
+
+import static org.operaton.bpm.engine.rest.cache.DeployedResourceCache.DEPLOYMENT_RESOURCE;
+import static org.operaton.bpm.engine.rest.cache.DeployedResourceCacheBootstrap.CONTEXT_PARAM_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DeployedResourceCacheTest {
+
+  protected DeployedResourceCache cache = DeployedResourceCache.getInstance();
+  protected DeployedResourceCacheBootstrap contextListener;
+  protected ProcessEngine engine;
+  protected List<String> loadedResources;
+
+  @BeforeEach
+  void setUp() {
+    contextListener = new DeployedResourceCacheBootstrap();
+    engine = mock(ProcessEngine.class);
+    when(engine.getName()).thenReturn("default");
+    loadedResources = new ArrayList<>();
+  }
+
+  @AfterEach
+  void destroy() {
+    contextListener.contextDestroyed(null);
+  }
+
+  @Test
+  void testCacheDisabledWithoutContextParameter() {
+    contextListener.contextInitialized(createServletContextEvent(null));
+
+    assertThat(cache.isEnabled()).isFalse();
+
+    getResource("a", 1);
+    getResource("a", 1);
+    assertThat(loadedResources).containsExactly("a", "a");
+  }
+
+  @Test
+  void testCacheEnabledByContextParameter() {
+    contextListener.contextInitialized(createServletContextEvent(" 100 "));
+
+    assertThat(cache.isEnabled()).isTrue();
+
+    getResource("a", 1);
+    getResource("a", 1);
+    assertThat(loadedResources).containsExactly("a");
+    assertThat(cache.getSize()).isEqualTo(1);
+  }
+
+  @Test
+  void testCacheDisabledOnContextDestroyed() {
+    contextListener.contextInitialized(createServletContextEvent("100"));
+    getResource("a", 1);
+
+    contextListener.contextDestroyed(null);
+
+    assertThat(cache.isEnabled()).isFalse();
+    assertThat(cache.getSize()).isZero();
+  }
+
+  @Test
+  void testInvalidContextParameter() {
+    ServletContextEvent notANumber = createServletContextEvent("ten");
+    ServletContextEvent notPositive = createServletContextEvent("0");
+
+    assertThatThrownBy(() -> contextListener.contextInitialized(notANumber))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining(CONTEXT_PARAM_NAME);
+    assertThatThrownBy(() -> contextListener.contextInitialized(notPositive))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining(CONTEXT_PARAM_NAME);
+    assertThat(cache.isEnabled()).isFalse();
+  }
+
+  @Test
+  void testCacheBoundedBySize() {
+    cache.enable(10);
+
+    getResource("a", 4);
+    getResource("b", 4);
+    // a is now used more recently than b
+    getResource("a", 4);
+    getResource("c", 4);
+
+    assertThat(cache.getSize()).isEqualTo(8);
+    assertThat(loadedResources).containsExactly("a", "b", "c");
+
+    getResource("a", 4);
+    getResource("c", 4);
+    getResource("b", 4);
+    assertThat(loadedResources).containsExactly("a", "b", "c", "b");
+  }
+
+  @Test
+  void testResourceLargerThanMaxSizeNotCached() {
+    cache.enable(10);
+    getResource("a", 4);
+
+    getResource("large", 11);
+    getResource("large", 11);
+
+    assertThat(loadedResources).containsExactly("a", "large", "large");
+    assertThat(cache.getSize()).isEqualTo(4);
+  }
+
+  protected DeployedResource getResource(String id, int size) {
+    return cache.getResource(engine, DEPLOYMENT_RESOURCE, id, () -> {
+      loadedResources.add(id);
+      return new DeployedResource(new byte[size], "text/plain");
+    });
+  }
+
+  protected ServletContextEvent createServletContextEvent(String contextParameter) {
+    ServletContext servletContext = mock(ServletContext.class);
+    when(servletContext.getInitParameter(CONTEXT_PARAM_NAME)).thenReturn(contextParameter);
+    ServletContextEvent event = mock(ServletContextEvent.class);
+    when(event.getServletContext()).thenReturn(servletContext);
+    return event;
+  }
+
+}
@@ -18,7 +18,6 @@ package org.operaton.bpm.engine.spring;
 
 import java.util.Map;
 import jakarta.el.ArrayELResolver;
-import jakarta.el.BeanELResolver;
 import jakarta.el.CompositeELResolver;
 import jakarta.el.ELResolver;
 import jakarta.el.ListELResolver;
@@ -32,6 +31,7 @@ import org.operaton.bpm.engine.impl.el.ReadOnlyMapELResolver;
 import org.operaton.bpm.engine.impl.el.VariableContextElResolver;
 import org.operaton.bpm.engine.impl.el.VariableScopeElResolver;
 import org.operaton.bpm.engine.impl.mock.MockElResolver;
+import org.operaton.bpm.impl.juel.MethodHandleBeanELResolver;
 
 
 /**
@@ -84,7 +84,7 @@ public class SpringExpressionManager extends JuelExpressionManager {
     compositeElResolver.add(new ArrayELResolver());
     compositeElResolver.add(new ListELResolver());
     compositeElResolver.add(new MapELResolver());
-    compositeElResolver.add(new BeanELResolver());
+    compositeElResolver.add(new MethodHandleBeanELResolver());
 
     return compositeElResolver;
   }
@@ -40,6 +40,7 @@ import org.operaton.bpm.engine.impl.scripting.ExecutableScript;
 import org.operaton.bpm.engine.impl.util.ClassLoaderUtil;
 import org.operaton.bpm.engine.impl.variable.serializer.VariableSerializers;
 import org.operaton.bpm.engine.repository.DeploymentBuilder;
+import org.operaton.bpm.impl.juel.MethodHandleBeanELResolver;
 
 
 /**
@@ -179,7 +180,7 @@ public abstract class AbstractProcessApplication implements ProcessApplicationIn
   @Override
   public synchronized BeanELResolver getBeanElResolver() {
     if (processApplicationBeanElResolver == null) {
-      processApplicationBeanElResolver = new BeanELResolver();
+      processApplicationBeanElResolver = new MethodHandleBeanELResolver();
     }
     return processApplicationBeanElResolver;
   }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine;
+
+/**
+ * The result of a single operation of a bulk operation.
+ *
+ * @see ExternalTaskService#bulkOperation()
+ * @see TaskService#bulkOperation()
+ */
+public interface BulkOperationResult {
+
+  /**
+   * @return the id of the entity the operation was executed for, e.g. the id of a task or an external task
+   */
+  String getId();
+
+  /**
+   * @return true if the operation was executed and committed successfully
+   */
+  boolean isSuccessful();
+
+  /**
+   * @return the exception the operation failed with or <code>null</code> if it was successful
+   */
+  RuntimeException getException();
+
+}
@@ -25,6 +25,7 @@ import org.operaton.bpm.engine.authorization.Resources;
 import org.operaton.bpm.engine.batch.Batch;
 import org.operaton.bpm.engine.exception.NotFoundException;
 import org.operaton.bpm.engine.externaltask.ExternalTask;
+import org.operaton.bpm.engine.externaltask.ExternalTaskBulkOperationBuilder;
 import org.operaton.bpm.engine.externaltask.ExternalTaskQuery;
 import org.operaton.bpm.engine.externaltask.ExternalTaskQueryBuilder;
 import org.operaton.bpm.engine.externaltask.FetchAndLockBuilder;
@@ -195,6 +196,15 @@ public interface ExternalTaskService {
    */
   void extendLock(String externalTaskId, String workerId, long newLockDuration);
 
+  /**
+   * <p>Completes, fails or extends the locks of many external tasks at once using
+   * a fluent builder. The operations are executed in chunks sharing one transaction,
+   * and a result is returned for each operation.</p>
+   *
+   * @see ExternalTaskBulkOperationBuilder
+   */
+  ExternalTaskBulkOperationBuilder bulkOperation();
+
   /**
    * <p>Signals that an external task could not be successfully executed.
    * The task must be assigned to the given worker. The number of retries left can be specified. In addition, a timeout can be
@@ -259,6 +259,14 @@ public abstract class ProcessEngineConfiguration {
   /** the number of seconds the jdbc driver will wait for a response from the database */
   protected Integer jdbcStatementTimeout;
   protected boolean jdbcBatchProcessing = true;
+  /**
+   * the maximum number of operations sent to the database in one jdbc batch when
+   * {@link #jdbcBatchProcessing} is enabled. Inserts of one entity type are flushed
+   * consecutively, so a larger value lets them share a batch. Within a batch, inserts of
+   * history events, variables, byte arrays and messages are combined into multi-row inserts
+   * on databases which support them (all but Oracle).
+   */
+  protected int jdbcBatchProcessingMaxStatements = 50;
 
   protected int defaultNumberOfRetries = JobEntity.DEFAULT_RETRIES;
 
@@ -737,6 +745,15 @@ public abstract class ProcessEngineConfiguration {
     return this;
   }
 
+  public int getJdbcBatchProcessingMaxStatements() {
+    return jdbcBatchProcessingMaxStatements;
+  }
+
+  public ProcessEngineConfiguration setJdbcBatchProcessingMaxStatements(int jdbcBatchProcessingMaxStatements) {
+    this.jdbcBatchProcessingMaxStatements = jdbcBatchProcessingMaxStatements;
+    return this;
+  }
+
   public boolean isJobExecutorActivate() {
     return jobExecutorActivate;
   }
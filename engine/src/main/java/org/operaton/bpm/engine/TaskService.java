@@ -38,6 +38,7 @@ import org.operaton.bpm.engine.task.IdentityLink;
 import org.operaton.bpm.engine.task.IdentityLinkType;
 import org.operaton.bpm.engine.task.NativeTaskQuery;
 import org.operaton.bpm.engine.task.Task;
+import org.operaton.bpm.engine.task.TaskBulkOperationBuilder;
 import org.operaton.bpm.engine.task.TaskQuery;
 import org.operaton.bpm.engine.task.TaskReport;
 import org.operaton.bpm.engine.variable.VariableMap;
@@ -331,6 +332,15 @@ public interface TaskService {
    */
   VariableMap completeWithVariablesInReturn(String taskId, Map<String, Object> variables, boolean deserializeValues);
 
+  /**
+   * <p>Claims, assigns or completes many tasks at once using a fluent builder.
+   * The operations are executed in chunks sharing one transaction, and a result
+   * is returned for each operation.</p>
+   *
+   * @see TaskBulkOperationBuilder
+   */
+  TaskBulkOperationBuilder bulkOperation();
+
   /**
    * Changes the assignee of the given task to the given userId.
    * No check is done whether the user is known by the identity component.
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.externaltask;
+
+import java.util.List;
+import java.util.Map;
+
+import org.operaton.bpm.engine.BulkOperationResult;
+import org.operaton.bpm.engine.ExternalTaskService;
+
+/**
+ * <p>Fluent builder to complete, fail or extend the locks of many external tasks
+ * at once. The operations are executed in the order in which they were added,
+ * in chunks of operations sharing one transaction.</p>
+ *
+ * <p>If an operation of a chunk fails, the transaction of the chunk is rolled back
+ * and each of its operations is executed again in a transaction of its own. So a
+ * failing operation does not prevent the other operations from being executed.</p>
+ *
+ * <p>The builder must not be executed within an existing transaction, otherwise
+ * a failing operation rolls back all operations.</p>
+ */
+public interface ExternalTaskBulkOperationBuilder {
+
+  /**
+   * Adds the completion of an external task.
+   *
+   * @see ExternalTaskService#complete(String, String)
+   */
+  ExternalTaskBulkOperationBuilder complete(String externalTaskId, String workerId);
+
+  /**
+   * Adds the completion of an external task submitting variables.
+   *
+   * @see ExternalTaskService#complete(String, String, Map, Map)
+   */
+  ExternalTaskBulkOperationBuilder complete(String externalTaskId, String workerId, Map<String, Object> variables,
+                                            Map<String, Object> localVariables);
+
+  /**
+   * Adds the failure of an external task.
+   *
+   * @see ExternalTaskService#handleFailure(String, String, String, String, int, long, Map, Map)
+   */
+  ExternalTaskBulkOperationBuilder handleFailure(String externalTaskId, String workerId, String errorMessage,
+                                                 String errorDetails, int retries, long retryDuration,
+                                                 Map<String, Object> variables, Map<String, Object> localVariables);
+
+  /**
+   * Adds the extension of the lock of an external task.
+   *
+   * @see ExternalTaskService#extendLock(String, String, long)
+   */
+  ExternalTaskBulkOperationBuilder extendLock(String externalTaskId, String workerId, long newLockDuration);
+
+  /**
+   * Sets the number of operations executed in one transaction. Defaults to the
+   * <code>bulkOperationChunkSize</code> of the process engine configuration.
+   *
+   * @param chunkSize the number of operations per transaction, must be greater than zero
+   */
+  ExternalTaskBulkOperationBuilder chunkSize(int chunkSize);
+
+  /**
+   * Executes the operations.
+   *
+   * @return one result per operation in the order in which the operations were added
+   */
+  List<BulkOperationResult> execute();
+
+}
@@ -147,4 +147,17 @@ public interface ExternalTaskQueryTopicBuilder extends ExternalTaskQueryBuilder
    * @return this builder
    */
   ExternalTaskQueryTopicBuilder includeExtensionProperties();
+
+  /**
+   * Define the share of the fetched tasks this topic receives relative to the other topics.
+   * As soon as a weight is defined for one of the topics, the tasks are selected per topic
+   * and distributed in proportion to the weights, so that a topic with many open tasks
+   * cannot take all the tasks of the request. Topics without a weight then have a weight of 1.
+   * Capacity a topic cannot use because it has not enough tasks is given to the other topics.
+   * Inside a topic, the tasks are still selected by priority and the configured ordering.
+   *
+   * @param weight the weight of the topic, must be greater than zero
+   * @return this builder
+   */
+  ExternalTaskQueryTopicBuilder weight(int weight);
 }
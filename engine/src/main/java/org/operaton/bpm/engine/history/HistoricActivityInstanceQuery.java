@@ -143,6 +143,24 @@ public interface HistoricActivityInstanceQuery extends Query<HistoricActivityIns
   /** Only selects historic activity instances that have no tenant id. */
   HistoricActivityInstanceQuery withoutTenantId();
 
+  /**
+   * Only select historic activity instances which follow the historic activity instance
+   * with the given id in the order of the query (keyset pagination). Unlike
+   * {@link #listPage(int, int)} with a large first result, the database does not need
+   * to skip the preceding results, so the id of the last result of a page can be used
+   * to efficiently fetch the next page.
+   *
+   * <p>The ordering is completed by the id, so that it is unique. Only ordering by id,
+   * process instance id, execution id, activity id, activity type, process definition id
+   * and start time is supported.</p>
+   *
+   * @throws org.operaton.bpm.engine.exception.NotValidException when the query is executed
+   *   with an unsupported ordering
+   * @throws org.operaton.bpm.engine.BadUserRequestException when the query is executed and
+   *   no historic activity instance with the given id exists
+   */
+  HistoricActivityInstanceQuery pageAfter(String historicActivityInstanceId);
+
   /**
    * Order by tenant id (needs to be followed by {@link #asc()} or {@link #desc()}).
    * Note that the ordering of historic activity instances without tenant id is database-specific.
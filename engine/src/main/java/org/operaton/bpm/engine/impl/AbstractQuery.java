@@ -25,10 +25,12 @@ import java.util.*;
 import org.joda.time.DateTime;
 import org.jspecify.annotations.Nullable;
 
+import org.operaton.bpm.engine.BadUserRequestException;
 import org.operaton.bpm.engine.ProcessEngineException;
 import org.operaton.bpm.engine.exception.NotValidException;
 import org.operaton.bpm.engine.impl.QueryValidators.AdhocQueryValidator;
 import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.db.DbEntity;
 import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
 import org.operaton.bpm.engine.impl.interceptor.Command;
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
@@ -66,6 +68,13 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
 
   protected boolean maxResultsLimitEnabled;
 
+  protected String keysetAfterId;
+
+  protected QueryProperty keysetIdProperty;
+
+  /** the ordering by id which makes the order unique for keyset pagination; kept after all other orderings */
+  protected QueryOrderingProperty keysetOrderingProperty;
+
   protected AbstractQuery() {
   }
 
@@ -89,6 +98,15 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
 
   @SuppressWarnings("unchecked")
   public T orderBy(QueryOrderingProperty orderProperty) {
+    if (isKeysetOrderingPropertyLast()) {
+      if (orderProperty.getQueryProperty().equals(keysetOrderingProperty.getQueryProperty())) {
+        // the order is unique already
+        orderingProperties.remove(orderingProperties.size() - 1);
+      } else {
+        orderingProperties.add(orderingProperties.size() - 1, orderProperty);
+        return (T) this;
+      }
+    }
     this.orderingProperties.add(orderProperty);
     return (T) this;
   }
@@ -107,8 +125,9 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
   public T direction(Direction direction) {
     QueryOrderingProperty currentOrderingProperty = null;
 
-    if (!orderingProperties.isEmpty()) {
-      currentOrderingProperty = orderingProperties.get(orderingProperties.size() - 1);
+    int currentIndex = orderingProperties.size() - (isKeysetOrderingPropertyLast() ? 2 : 1);
+    if (currentIndex >= 0) {
+      currentOrderingProperty = orderingProperties.get(currentIndex);
     }
 
     ensureNotNull(NotValidException.class, "You should call any of the orderBy methods first before specifying a direction", "currentOrderingProperty", currentOrderingProperty);
@@ -118,6 +137,9 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
     }
 
     currentOrderingProperty.setDirection(direction);
+    if (isKeysetOrderingPropertyLast()) {
+      keysetOrderingProperty.setDirection(direction);
+    }
     return (T) this;
   }
 
@@ -129,6 +151,95 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
 
   }
 
+  /**
+   * Selects only the results after the result with the given id in the order of the query
+   * (keyset pagination). Unless the query is ordered by id already, the order is made unique
+   * by an ordering by id, which is kept after all ordering properties added later and takes
+   * the direction of the ordering property before it. The mapping of the query includes the
+   * conditions via {@code Commons.keysetPagination}.
+   *
+   * @param afterId the id of the result after which results are selected
+   * @param idProperty the property of the id column of the query
+   */
+  protected void initKeysetPagination(String afterId, QueryProperty idProperty) {
+    keysetAfterId = afterId;
+    keysetIdProperty = idProperty;
+    if (keysetOrderingProperty != null) {
+      return;
+    }
+    for (QueryOrderingProperty orderingProperty : orderingProperties) {
+      if (idProperty.equals(orderingProperty.getQueryProperty())) {
+        return;
+      }
+    }
+    Direction direction = Direction.ASCENDING;
+    if (!orderingProperties.isEmpty() && orderingProperties.get(orderingProperties.size() - 1).getDirection() != null) {
+      direction = orderingProperties.get(orderingProperties.size() - 1).getDirection();
+    }
+    keysetOrderingProperty = new QueryOrderingProperty(idProperty, direction);
+    orderingProperties.add(keysetOrderingProperty);
+  }
+
+  protected boolean isKeysetOrderingPropertyLast() {
+    return keysetOrderingProperty != null
+        && !orderingProperties.isEmpty()
+        && orderingProperties.get(orderingProperties.size() - 1) == keysetOrderingProperty;
+  }
+
+  /**
+   * Checks that keyset pagination is only combined with orderings the mapping supports.
+   *
+   * @param keysetProperties the properties which can be ordered by, must refer to non-null columns of the
+   *   queried table
+   */
+  protected void checkKeysetOrdering(Collection<QueryProperty> keysetProperties) {
+    if (keysetAfterId == null) {
+      return;
+    }
+    for (QueryOrderingProperty orderingProperty : orderingProperties) {
+      if (orderingProperty.getRelation() != null || !keysetProperties.contains(orderingProperty.getQueryProperty())) {
+        throw new NotValidException("Invalid query: pagination after a result is not supported when ordering by '%s'"
+            .formatted(orderingProperty.getQueryProperty().getName()));
+      }
+    }
+  }
+
+  /**
+   * Ensures that the result to page after exists, as the keyset conditions select no
+   * results at all otherwise.
+   */
+  protected void checkKeysetCursorExists(CommandContext commandContext, Class<? extends DbEntity> entityType) {
+    if (keysetAfterId != null && commandContext.getDbEntityManager().selectById(entityType, keysetAfterId) == null) {
+      throw new BadUserRequestException("Invalid query: the result with id '%s' to page after does not exist"
+          .formatted(keysetAfterId));
+    }
+  }
+
+  public String getKeysetAfterId() {
+    return keysetAfterId;
+  }
+
+  /**
+   * @return the disjuncts of the condition selecting the results after {@link #keysetAfterId},
+   * one per ordering property up to the first ordering by a unique column
+   */
+  public List<KeysetCondition> getKeysetConditions() {
+    if (keysetAfterId == null) {
+      return null;
+    }
+    List<KeysetCondition> keysetConditions = new ArrayList<>();
+    List<String> equalColumns = new ArrayList<>();
+    for (QueryOrderingProperty orderingProperty : orderingProperties) {
+      String column = orderingProperty.getQueryProperty().getName();
+      keysetConditions.add(new KeysetCondition(new ArrayList<>(equalColumns), column, orderingProperty.getDirection()));
+      if (orderingProperty.getQueryProperty().equals(keysetIdProperty)) {
+        break;
+      }
+      equalColumns.add(column);
+    }
+    return keysetConditions;
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public @Nullable U singleResult() {
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.operaton.bpm.engine.BadUserRequestException;
+import org.operaton.bpm.engine.BulkOperationResult;
+import org.operaton.bpm.engine.impl.interceptor.Command;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensurePositive;
+
+/**
+ * <p>Executes the operations of a bulk operation in the order in which they were
+ * added, in chunks of operations sharing one transaction.</p>
+ *
+ * <p>If an operation of a chunk fails, the transaction of the chunk is rolled back
+ * and each of its operations is executed again in a transaction of its own. Every
+ * execution creates new commands, so that no state of a rolled back transaction
+ * is carried over into the next one.</p>
+ */
+public class BulkOperationExecutor {
+
+  protected final CommandExecutor commandExecutor;
+
+  protected List<String> ids = new ArrayList<>();
+  protected List<Supplier<? extends Command<?>>> commandFactories = new ArrayList<>();
+  protected BiConsumer<CommandContext, List<String>> chunkPreparation = (commandContext, chunkIds) -> { };
+
+  public BulkOperationExecutor(CommandExecutor commandExecutor) {
+    this.commandExecutor = commandExecutor;
+  }
+
+  /**
+   * @param id the id of the entity the operation is executed for
+   * @param commandFactory creates the command which executes the operation
+   */
+  public void addOperation(String id, Supplier<? extends Command<?>> commandFactory) {
+    ids.add(id);
+    commandFactories.add(commandFactory);
+  }
+
+  /**
+   * @param chunkPreparation called within the transaction of every chunk with the ids
+   * of its operations, before the operations are executed
+   */
+  public void setChunkPreparation(BiConsumer<CommandContext, List<String>> chunkPreparation) {
+    this.chunkPreparation = chunkPreparation;
+  }
+
+  /**
+   * @param chunkSize the number of operations per transaction, must be greater than zero
+   * @return one result per operation in the order in which the operations were added
+   */
+  public List<BulkOperationResult> execute(int chunkSize) {
+    ensurePositive(BadUserRequestException.class, "chunkSize", (long) chunkSize);
+
+    List<BulkOperationResult> results = new ArrayList<>(ids.size());
+    for (int start = 0; start < ids.size(); start += chunkSize) {
+      results.addAll(executeChunk(start, Math.min(start + chunkSize, ids.size())));
+    }
+    return results;
+  }
+
+  protected List<BulkOperationResult> executeChunk(int start, int end) {
+    List<String> chunkIds = ids.subList(start, end);
+    List<Supplier<? extends Command<?>>> chunkCommandFactories = commandFactories.subList(start, end);
+
+    List<BulkOperationResult> results = new ArrayList<>(chunkIds.size());
+    try {
+      commandExecutor.execute(commandContext -> {
+        chunkPreparation.accept(commandContext, chunkIds);
+        for (Supplier<? extends Command<?>> commandFactory : chunkCommandFactories) {
+          commandFactory.get().execute(commandContext);
+        }
+        return null;
+      });
+      for (String id : chunkIds) {
+        results.add(BulkOperationResultImpl.successful(id));
+      }
+    } catch (RuntimeException e) {
+      if (chunkIds.size() == 1) {
+        results.add(BulkOperationResultImpl.failed(chunkIds.get(0), e));
+      } else {
+        // the transaction of the chunk was rolled back, isolate the failing operations
+        for (int i = start; i < end; i++) {
+          results.addAll(executeChunk(i, i + 1));
+        }
+      }
+    }
+    return results;
+  }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl;
+
+import org.operaton.bpm.engine.BulkOperationResult;
+
+public class BulkOperationResultImpl implements BulkOperationResult {
+
+  protected final String id;
+  protected final RuntimeException exception;
+
+  protected BulkOperationResultImpl(String id, RuntimeException exception) {
+    this.id = id;
+    this.exception = exception;
+  }
+
+  public static BulkOperationResultImpl successful(String id) {
+    return new BulkOperationResultImpl(id, null);
+  }
+
+  public static BulkOperationResultImpl failed(String id, RuntimeException exception) {
+    return new BulkOperationResultImpl(id, exception);
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public boolean isSuccessful() {
+    return exception == null;
+  }
+
+  @Override
+  public RuntimeException getException() {
+    return exception;
+  }
+
+  @Override
+  public String toString() {
+    return "BulkOperationResultImpl [id=" + id
+        + ", successful=" + isSuccessful()
+        + ", exception=" + exception + "]";
+  }
+
+}
@@ -21,6 +21,7 @@ import java.util.Map;
 
 import org.operaton.bpm.engine.ExternalTaskService;
 import org.operaton.bpm.engine.batch.Batch;
+import org.operaton.bpm.engine.externaltask.ExternalTaskBulkOperationBuilder;
 import org.operaton.bpm.engine.externaltask.ExternalTaskQuery;
 import org.operaton.bpm.engine.externaltask.ExternalTaskQueryBuilder;
 import org.operaton.bpm.engine.externaltask.FetchAndLockBuilder;
@@ -36,6 +37,7 @@ import org.operaton.bpm.engine.impl.cmd.SetExternalTaskPriorityCmd;
 import org.operaton.bpm.engine.impl.cmd.SetExternalTaskRetriesCmd;
 import org.operaton.bpm.engine.impl.cmd.UnlockExternalTaskCmd;
 import org.operaton.bpm.engine.impl.cmd.UpdateExternalTaskRetriesBuilderImpl;
+import org.operaton.bpm.engine.impl.externaltask.ExternalTaskBulkOperationBuilderImpl;
 import org.operaton.bpm.engine.impl.externaltask.ExternalTaskQueryTopicBuilderImpl;
 import org.operaton.bpm.engine.impl.externaltask.FetchAndLockBuilderImpl;
 
@@ -46,6 +48,8 @@ import org.operaton.bpm.engine.impl.externaltask.FetchAndLockBuilderImpl;
  */
 public class ExternalTaskServiceImpl extends ServiceImpl implements ExternalTaskService {
 
+  protected int bulkOperationChunkSize = 100;
+
   @Override
   public ExternalTaskQueryBuilder fetchAndLock(int maxTasks, String workerId) {
     return fetchAndLock(maxTasks, workerId, false);
@@ -81,6 +85,11 @@ public class ExternalTaskServiceImpl extends ServiceImpl implements ExternalTask
     commandExecutor.execute(new CompleteExternalTaskCmd(externalTaskId, workerId, variables, localVariables));
   }
 
+  @Override
+  public ExternalTaskBulkOperationBuilder bulkOperation() {
+    return new ExternalTaskBulkOperationBuilderImpl(commandExecutor, bulkOperationChunkSize);
+  }
+
   @Override
   public void handleFailure(String externalTaskId, String workerId, String errorMessage, int retries, long retryDuration) {
     this.handleFailure(externalTaskId,workerId,errorMessage,null,retries,retryDuration);
@@ -175,4 +184,12 @@ public class ExternalTaskServiceImpl extends ServiceImpl implements ExternalTask
     commandExecutor.execute(new ExtendLockOnExternalTaskCmd(externalTaskId, workerId, lockDuration));
   }
 
+  public int getBulkOperationChunkSize() {
+    return bulkOperationChunkSize;
+  }
+
+  public void setBulkOperationChunkSize(int bulkOperationChunkSize) {
+    this.bulkOperationChunkSize = bulkOperationChunkSize;
+  }
+
 }
@@ -19,14 +19,17 @@ package org.operaton.bpm.engine.impl;
 import java.io.Serial;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 import org.operaton.bpm.engine.ProcessEngineException;
 import org.operaton.bpm.engine.history.HistoricActivityInstance;
 import org.operaton.bpm.engine.history.HistoricActivityInstanceQuery;
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
 import org.operaton.bpm.engine.impl.pvm.runtime.ActivityInstanceState;
 import org.operaton.bpm.engine.impl.util.CompareUtil;
+import org.operaton.bpm.engine.query.QueryProperty;
 
 import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
@@ -37,6 +40,16 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
   implements HistoricActivityInstanceQuery {
 
   @Serial private static final long serialVersionUID = 1L;
+
+  protected static final Set<QueryProperty> KEYSET_PROPERTIES = Set.of(
+      HistoricActivityInstanceQueryProperty.HISTORIC_ACTIVITY_INSTANCE_ID,
+      HistoricActivityInstanceQueryProperty.PROCESS_INSTANCE_ID,
+      HistoricActivityInstanceQueryProperty.EXECUTION_ID,
+      HistoricActivityInstanceQueryProperty.ACTIVITY_ID,
+      HistoricActivityInstanceQueryProperty.ACTIVITY_TYPE,
+      HistoricActivityInstanceQueryProperty.PROCESS_DEFINITION_ID,
+      HistoricActivityInstanceQueryProperty.START);
+
   protected String activityInstanceId;
   protected String processInstanceId;
   protected String executionId;
@@ -66,6 +79,7 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
   @Override
   public long executeCount(CommandContext commandContext) {
     checkQueryOk();
+    checkKeysetCursorExists(commandContext, HistoricActivityInstanceEntity.class);
     return commandContext
       .getHistoricActivityInstanceManager()
       .findHistoricActivityInstanceCountByQueryCriteria(this);
@@ -74,6 +88,7 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
   @Override
   public List<HistoricActivityInstance> executeList(CommandContext commandContext, Page page) {
     checkQueryOk();
+    checkKeysetCursorExists(commandContext, HistoricActivityInstanceEntity.class);
     return commandContext
       .getHistoricActivityInstanceManager()
       .findHistoricActivityInstancesByQueryCriteria(this, page);
@@ -197,6 +212,19 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
     return this;
   }
 
+  @Override
+  public HistoricActivityInstanceQuery pageAfter(String historicActivityInstanceId) {
+    ensureNotNull("historicActivityInstanceId", historicActivityInstanceId);
+    initKeysetPagination(historicActivityInstanceId, HistoricActivityInstanceQueryProperty.HISTORIC_ACTIVITY_INSTANCE_ID);
+    return this;
+  }
+
+  @Override
+  protected void checkQueryOk() {
+    super.checkQueryOk();
+    checkKeysetOrdering(KEYSET_PROPERTIES);
+  }
+
   @Override
   protected boolean hasExcludingConditions() {
     return super.hasExcludingConditions()
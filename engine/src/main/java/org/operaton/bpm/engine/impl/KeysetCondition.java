@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * One disjunct of a keyset pagination condition: the rows whose values in {@link #getEqualColumns()}
+ * equal those of the cursor row and whose value in {@link #getColumn()} follows the one of the
+ * cursor row in the direction of the ordering.
+ */
+public class KeysetCondition implements Serializable {
+
+  @Serial private static final long serialVersionUID = 1L;
+
+  protected final List<String> equalColumns;
+  protected final String column;
+  protected final String operator;
+
+  public KeysetCondition(List<String> equalColumns, String column, Direction direction) {
+    this.equalColumns = equalColumns;
+    this.column = column;
+    this.operator = Direction.DESCENDING.getName().equals(direction.getName()) ? "<" : ">";
+  }
+
+  public List<String> getEqualColumns() {
+    return equalColumns;
+  }
+
+  public String getColumn() {
+    return column;
+  }
+
+  public String getOperator() {
+    return operator;
+  }
+
+}
@@ -16,14 +16,18 @@
  */
 package org.operaton.bpm.engine.impl;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.operaton.bpm.engine.*;
 import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.operaton.bpm.engine.impl.cfg.TransactionContextFactory;
 import org.operaton.bpm.engine.impl.el.ExpressionManager;
+import org.operaton.bpm.engine.impl.externaltask.ExternalTaskAvailableListener;
 import org.operaton.bpm.engine.impl.history.HistoryLevel;
 import org.operaton.bpm.engine.impl.history.event.SimpleIpBasedProvider;
+import org.operaton.bpm.engine.impl.history.handler.AsyncDbHistoryEventHandler;
 import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
 import org.operaton.bpm.engine.impl.interceptor.SessionFactory;
 import org.operaton.bpm.engine.impl.jobexecutor.JobExecutor;
@@ -38,6 +42,9 @@ public class ProcessEngineImpl implements ProcessEngine {
   /** external task conditions used to signal long polling in rest API */
   public static final CompositeCondition EXT_TASK_CONDITIONS = new CompositeCondition();
 
+  /** external task listeners notified about the topics of available tasks, used by long polling in rest API */
+  public static final List<ExternalTaskAvailableListener> EXT_TASK_LISTENERS = new CopyOnWriteArrayList<>();
+
   private static final ProcessEngineLogger LOG = ProcessEngineLogger.INSTANCE;
 
   protected String name;
@@ -153,6 +160,11 @@ public class ProcessEngineImpl implements ProcessEngine {
       jobExecutor.unregisterProcessEngine(this);
     }
 
+    if (processEngineConfiguration.getAsyncDbHistoryEventHandler() != null) {
+      processEngineConfiguration.getAsyncDbHistoryEventHandler()
+        .shutdown(AsyncDbHistoryEventHandler.DEFAULT_SHUTDOWN_TIMEOUT);
+    }
+
     commandExecutorSchemaOperations.execute(new SchemaOperationProcessEngineClose());
 
     processEngineConfiguration.close();
@@ -28,6 +28,7 @@ import org.operaton.bpm.engine.BadUserRequestException;
 import org.operaton.bpm.engine.ProcessEngineException;
 import org.operaton.bpm.engine.TaskService;
 import org.operaton.bpm.engine.impl.cmd.*;
+import org.operaton.bpm.engine.impl.task.TaskBulkOperationBuilderImpl;
 import org.operaton.bpm.engine.impl.util.ExceptionUtil;
 import org.operaton.bpm.engine.task.Attachment;
 import org.operaton.bpm.engine.task.Comment;
@@ -36,6 +37,7 @@ import org.operaton.bpm.engine.task.IdentityLink;
 import org.operaton.bpm.engine.task.IdentityLinkType;
 import org.operaton.bpm.engine.task.NativeTaskQuery;
 import org.operaton.bpm.engine.task.Task;
+import org.operaton.bpm.engine.task.TaskBulkOperationBuilder;
 import org.operaton.bpm.engine.task.TaskQuery;
 import org.operaton.bpm.engine.task.TaskReport;
 import org.operaton.bpm.engine.variable.VariableMap;
@@ -50,6 +52,8 @@ import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
  */
 public class TaskServiceImpl extends ServiceImpl implements TaskService {
 
+  protected int bulkOperationChunkSize = 100;
+
   @Override
   public Task newTask() {
     return newTask(null);
@@ -165,6 +169,11 @@ public class TaskServiceImpl extends ServiceImpl implements TaskService {
     commandExecutor.execute(new CompleteTaskCmd(taskId, variables, false, false));
   }
 
+  @Override
+  public TaskBulkOperationBuilder bulkOperation() {
+    return new TaskBulkOperationBuilderImpl(commandExecutor, bulkOperationChunkSize);
+  }
+
   @Override
   public VariableMap completeWithVariablesInReturn(String taskId, Map<String, Object> variables, boolean deserializeValues) {
     return commandExecutor.execute(new CompleteTaskCmd(taskId, variables, true, deserializeValues));
@@ -535,4 +544,12 @@ public class TaskServiceImpl extends ServiceImpl implements TaskService {
   public void handleEscalation(String taskId, String escalationCode, Map<String, Object> variables) {
     commandExecutor.execute(new HandleTaskEscalationCmd(taskId, escalationCode, variables));
   }
+
+  public int getBulkOperationChunkSize() {
+    return bulkOperationChunkSize;
+  }
+
+  public void setBulkOperationChunkSize(int bulkOperationChunkSize) {
+    this.bulkOperationChunkSize = bulkOperationChunkSize;
+  }
 }
@@ -154,4 +154,10 @@ public class ConfigurationLogger extends ProcessEngineLogger {
             + "Please keep in mind that levels different from 'READ_COMMITTED' are known to cause deadlocks and other unexpected behaviours.",
         transactionIsolationLevel);
   }
+
+  public void logSkipLockedNotSupported(String databaseType, String databaseVersion) {
+    logWarn("021", "Property jobExecutorAcquireWithSkipLocked is enabled but database '{}' in version '{}' "
+            + "does not support SKIP LOCKED. Jobs are acquired without SKIP LOCKED instead.",
+        databaseType, databaseVersion);
+  }
 }
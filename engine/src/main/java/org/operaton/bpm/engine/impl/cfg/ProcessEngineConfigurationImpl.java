@@ -140,8 +140,10 @@ import org.operaton.bpm.engine.impl.cmmn.transformer.CmmnTransformListener;
 import org.operaton.bpm.engine.impl.cmmn.transformer.CmmnTransformer;
 import org.operaton.bpm.engine.impl.cmmn.transformer.DefaultCmmnTransformFactory;
 import org.operaton.bpm.engine.impl.db.DbIdGenerator;
+import org.operaton.bpm.engine.impl.db.PrefetchingDbIdGenerator;
 import org.operaton.bpm.engine.impl.db.entitymanager.DbEntityManagerFactory;
 import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityCacheKeyMapping;
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.SecondLevelEntityCache;
 import org.operaton.bpm.engine.impl.db.sql.DbSqlPersistenceProviderFactory;
 import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
 import org.operaton.bpm.engine.impl.delegate.DefaultDelegateInterceptor;
@@ -196,6 +198,7 @@ import org.operaton.bpm.engine.impl.history.HistoryRemovalTimeProvider;
 import org.operaton.bpm.engine.impl.history.event.HistoricDecisionInstanceManager;
 import org.operaton.bpm.engine.impl.history.event.HostnameProvider;
 import org.operaton.bpm.engine.impl.history.event.SimpleIpBasedProvider;
+import org.operaton.bpm.engine.impl.history.handler.AsyncDbHistoryEventHandler;
 import org.operaton.bpm.engine.impl.history.handler.CompositeDbHistoryEventHandler;
 import org.operaton.bpm.engine.impl.history.handler.CompositeHistoryEventHandler;
 import org.operaton.bpm.engine.impl.history.handler.DbHistoryEventHandler;
@@ -465,6 +468,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected DataSource idGeneratorDataSource;
   protected String idGeneratorDataSourceJndiName;
 
+  /**
+   * If true, the default id generator hands out ids lock-free and fetches the
+   * next id block asynchronously, see {@link PrefetchingDbIdGenerator}.
+   */
+  protected boolean idGeneratorPrefetchEnabled = false;
+
+  /**
+   * Number of remaining ids in the current block at which the next block is prefetched.
+   * A value &lt;= 0 prefetches when a quarter of the block is left.
+   */
+  protected int idGeneratorPrefetchThreshold = 0;
+
+  /**
+   * Upper bound for the adaptive id block size of the prefetching id generator.
+   * Values &lt;= {@link #idBlockSize} disable adaptive block sizing.
+   */
+  protected int idGeneratorMaxBlockSize = 0;
+
   // INCIDENT HANDLER /////////////////////////////////////////////////////////
 
   protected Map<String, IncidentHandler> incidentHandlers;
@@ -491,6 +512,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected Map<String, Integer> invocationsPerBatchJobByBatchType;
 
+  /**
+   * Number of operations of a task or external task bulk operation executed in one transaction
+   */
+  protected int bulkOperationChunkSize = 100;
+
   /**
    * seconds to wait between polling for batch completion
    */
@@ -700,6 +726,26 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected boolean enableDefaultDbHistoryEventHandler = true;
 
+  /**
+   * If true (and the default {@link DbHistoryEventHandler} is enabled), history events are
+   * written to the database after the producing transaction has committed by an
+   * {@link AsyncDbHistoryEventHandler} instead of within the transaction. Disabled by default,
+   * since the events are queued in memory until they are written: the history of committed
+   * transactions is lost if the engine terminates abnormally before.
+   */
+  protected boolean enableAsyncDbHistoryEventHandler = false;
+
+  /** the number of threads writing history events asynchronously */
+  protected int asyncHistoryEventDrainerCount = AsyncDbHistoryEventHandler.DEFAULT_DRAINER_COUNT;
+
+  /** the maximum number of committed transactions queued per history event drainer */
+  protected int asyncHistoryEventQueueCapacity = AsyncDbHistoryEventHandler.DEFAULT_QUEUE_CAPACITY;
+
+  /** the number of history events after which a drainer stops adding transactions to a command */
+  protected int asyncHistoryEventMaxEventsPerCommand = AsyncDbHistoryEventHandler.DEFAULT_MAX_EVENTS_PER_COMMAND;
+
+  protected AsyncDbHistoryEventHandler asyncDbHistoryEventHandler;
+
   protected PermissionProvider permissionProvider;
 
   protected boolean isExecutionTreePrefetchEnabled = true;
@@ -751,6 +797,23 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected DbEntityCacheKeyMapping dbEntityCacheKeyMapping = DbEntityCacheKeyMapping.defaultEntityCacheKeyMapping();
 
+  /**
+   * Allows enabling a process engine wide cache for read-mostly entities, shared by all
+   * transactions. Default setting is false. Changes made by other process engines
+   * sharing the database become visible after {@link #secondLevelEntityCacheTimeToLive}.
+   * Only entities looked up by id are cached (job definitions by default); authorization
+   * and tenant membership queries always hit the database.
+   */
+  protected boolean isSecondLevelEntityCacheEnabled = false;
+
+  /** The maximum number of cached entities per entity type. */
+  protected int secondLevelEntityCacheCapacity = 1000;
+
+  /** The time in milliseconds after which an entity in the second level cache expires. */
+  protected long secondLevelEntityCacheTimeToLive = 60000;
+
+  protected SecondLevelEntityCache secondLevelEntityCache;
+
   /**
    * the metrics registry
    */
@@ -1104,6 +1167,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     initSqlSessionFactory();
     initIdentityProviderSessionFactory();
     initSessionFactories();
+    initAsyncDbHistoryEventHandler();
+    initSecondLevelEntityCache();
     initValueTypeResolver();
     initTypeValidator();
     initSerialization();
@@ -1577,6 +1642,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     if (service instanceof RepositoryServiceImpl repositorySrvc) {
       repositorySrvc.setDeploymentCharset(getDefaultCharset());
     }
+    if (service instanceof TaskServiceImpl taskSrvc) {
+      taskSrvc.setBulkOperationChunkSize(getBulkOperationChunkSize());
+    }
+    if (service instanceof ExternalTaskServiceImpl externalTaskSrvc) {
+      externalTaskSrvc.setBulkOperationChunkSize(getBulkOperationChunkSize());
+    }
   }
 
   // DataSource ///////////////////////////////////////////////////////////////
@@ -1722,6 +1793,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
       initDatabaseVendorAndVersion(databaseMetaData);
 
+      if (jobExecutorAcquireWithSkipLocked && !isSkipLockedSupported(databaseMetaData)) {
+        LOG.logSkipLockedNotSupported(databaseType, databaseVersion);
+        jobExecutorAcquireWithSkipLocked = false;
+      }
+
     } catch (SQLException e) {
       throw LOG.databaseConnectionAccessException(e);
     } finally {
@@ -1767,6 +1843,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return databaseName;
   }
 
+  /**
+   * MySQL supports SKIP LOCKED since version 8, MariaDB since version 10.6.
+   */
+  protected boolean isSkipLockedSupported(DatabaseMetaData databaseMetaData) throws SQLException {
+    int majorVersion = databaseMetaData.getDatabaseMajorVersion();
+    int minorVersion = databaseMetaData.getDatabaseMinorVersion();
+    if (DbSqlSessionFactory.MYSQL.equals(databaseType)) {
+      return majorVersion >= 8;
+    } else if (DbSqlSessionFactory.MARIADB.equals(databaseType)) {
+      return majorVersion > 10 || (majorVersion == 10 && minorVersion >= 6);
+    }
+    return true;
+  }
+
   protected void initDatabaseVendorAndVersion(DatabaseMetaData databaseMetaData) throws SQLException {
     databaseVendor = databaseMetaData.getDatabaseProductName();
     databaseVersion = databaseMetaData.getDatabaseProductVersion();
@@ -2397,6 +2487,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
   }
 
+  // second level entity cache ///////////////////////////////////////////////
+
+  protected void initSecondLevelEntityCache() {
+    if (isSecondLevelEntityCacheEnabled && secondLevelEntityCache == null) {
+      secondLevelEntityCache = SecondLevelEntityCache.defaultSecondLevelEntityCache(
+          secondLevelEntityCacheCapacity, secondLevelEntityCacheTimeToLive);
+    }
+  }
+
   // id generator /////////////////////////////////////////////////////////////
 
   protected void initIdGenerator() {
@@ -2418,7 +2517,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         idGeneratorCommandExecutor = commandExecutorTxRequiresNew;
       }
 
-      DbIdGenerator dbIdGenerator = new DbIdGenerator();
+      DbIdGenerator dbIdGenerator;
+      if (idGeneratorPrefetchEnabled) {
+        PrefetchingDbIdGenerator prefetchingIdGenerator = new PrefetchingDbIdGenerator();
+        prefetchingIdGenerator.setPrefetchThreshold(idGeneratorPrefetchThreshold);
+        prefetchingIdGenerator.setMaxIdBlockSize(idGeneratorMaxBlockSize);
+        dbIdGenerator = prefetchingIdGenerator;
+      } else {
+        dbIdGenerator = new DbIdGenerator();
+      }
       dbIdGenerator.setIdBlockSize(idBlockSize);
       dbIdGenerator.setCommandExecutor(idGeneratorCommandExecutor);
       idGenerator = dbIdGenerator;
@@ -2764,7 +2871,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected void initHistoryEventHandler() {
     if (historyEventHandler == null) {
-      if (enableDefaultDbHistoryEventHandler) {
+      if (enableDefaultDbHistoryEventHandler && enableAsyncDbHistoryEventHandler) {
+        asyncDbHistoryEventHandler = new AsyncDbHistoryEventHandler(asyncHistoryEventDrainerCount,
+            asyncHistoryEventQueueCapacity, asyncHistoryEventMaxEventsPerCommand);
+        CompositeHistoryEventHandler compositeHistoryEventHandler = new CompositeHistoryEventHandler(customHistoryEventHandlers);
+        compositeHistoryEventHandler.add(asyncDbHistoryEventHandler);
+        historyEventHandler = compositeHistoryEventHandler;
+      } else if (enableDefaultDbHistoryEventHandler) {
         historyEventHandler = new CompositeDbHistoryEventHandler(customHistoryEventHandlers);
       } else {
         historyEventHandler = new CompositeHistoryEventHandler(customHistoryEventHandlers);
@@ -2772,6 +2885,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
   }
 
+  protected void initAsyncDbHistoryEventHandler() {
+    if (asyncDbHistoryEventHandler != null) {
+      asyncDbHistoryEventHandler.setCommandExecutor(commandExecutorTxRequiresNew);
+      addSessionFactory(asyncDbHistoryEventHandler.getSessionFactory());
+    }
+  }
+
   // password digest //////////////////////////////////////////////////////////
 
   protected void initPasswordDigest() {
@@ -3818,6 +3938,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.idGeneratorDataSourceJndiName = idGeneratorDataSourceJndiName;
   }
 
+  public boolean isIdGeneratorPrefetchEnabled() {
+    return idGeneratorPrefetchEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setIdGeneratorPrefetchEnabled(boolean idGeneratorPrefetchEnabled) {
+    this.idGeneratorPrefetchEnabled = idGeneratorPrefetchEnabled;
+    return this;
+  }
+
+  public int getIdGeneratorPrefetchThreshold() {
+    return idGeneratorPrefetchThreshold;
+  }
+
+  public ProcessEngineConfigurationImpl setIdGeneratorPrefetchThreshold(int idGeneratorPrefetchThreshold) {
+    this.idGeneratorPrefetchThreshold = idGeneratorPrefetchThreshold;
+    return this;
+  }
+
+  public int getIdGeneratorMaxBlockSize() {
+    return idGeneratorMaxBlockSize;
+  }
+
+  public ProcessEngineConfigurationImpl setIdGeneratorMaxBlockSize(int idGeneratorMaxBlockSize) {
+    this.idGeneratorMaxBlockSize = idGeneratorMaxBlockSize;
+    return this;
+  }
+
   public ProcessApplicationManager getProcessApplicationManager() {
     return processApplicationManager;
   }
@@ -3867,6 +4014,51 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.enableDefaultDbHistoryEventHandler = enableDefaultDbHistoryEventHandler;
   }
 
+  public boolean isEnableAsyncDbHistoryEventHandler() {
+    return enableAsyncDbHistoryEventHandler;
+  }
+
+  /**
+   * Enables writing history events after commit by an {@link AsyncDbHistoryEventHandler}.
+   * Note that the handler keeps committed events in memory until they are written, so
+   * history can be lost if the engine crashes or is killed.
+   */
+  public ProcessEngineConfigurationImpl setEnableAsyncDbHistoryEventHandler(boolean enableAsyncDbHistoryEventHandler) {
+    this.enableAsyncDbHistoryEventHandler = enableAsyncDbHistoryEventHandler;
+    return this;
+  }
+
+  public int getAsyncHistoryEventDrainerCount() {
+    return asyncHistoryEventDrainerCount;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncHistoryEventDrainerCount(int asyncHistoryEventDrainerCount) {
+    this.asyncHistoryEventDrainerCount = asyncHistoryEventDrainerCount;
+    return this;
+  }
+
+  public int getAsyncHistoryEventQueueCapacity() {
+    return asyncHistoryEventQueueCapacity;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncHistoryEventQueueCapacity(int asyncHistoryEventQueueCapacity) {
+    this.asyncHistoryEventQueueCapacity = asyncHistoryEventQueueCapacity;
+    return this;
+  }
+
+  public int getAsyncHistoryEventMaxEventsPerCommand() {
+    return asyncHistoryEventMaxEventsPerCommand;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncHistoryEventMaxEventsPerCommand(int asyncHistoryEventMaxEventsPerCommand) {
+    this.asyncHistoryEventMaxEventsPerCommand = asyncHistoryEventMaxEventsPerCommand;
+    return this;
+  }
+
+  public AsyncDbHistoryEventHandler getAsyncDbHistoryEventHandler() {
+    return asyncDbHistoryEventHandler;
+  }
+
   public List<HistoryEventHandler> getCustomHistoryEventHandlers() {
     return customHistoryEventHandlers;
   }
@@ -3946,6 +4138,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.invocationsPerBatchJob = invocationsPerBatchJob;
   }
 
+  public int getBulkOperationChunkSize() {
+    return bulkOperationChunkSize;
+  }
+
+  public ProcessEngineConfigurationImpl setBulkOperationChunkSize(int bulkOperationChunkSize) {
+    this.bulkOperationChunkSize = bulkOperationChunkSize;
+    return this;
+  }
+
   public int getBatchPollTime() {
     return batchPollTime;
   }
@@ -4324,6 +4525,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public boolean isSecondLevelEntityCacheEnabled() {
+    return isSecondLevelEntityCacheEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setSecondLevelEntityCacheEnabled(boolean isSecondLevelEntityCacheEnabled) {
+    this.isSecondLevelEntityCacheEnabled = isSecondLevelEntityCacheEnabled;
+    return this;
+  }
+
+  public int getSecondLevelEntityCacheCapacity() {
+    return secondLevelEntityCacheCapacity;
+  }
+
+  public ProcessEngineConfigurationImpl setSecondLevelEntityCacheCapacity(int secondLevelEntityCacheCapacity) {
+    this.secondLevelEntityCacheCapacity = secondLevelEntityCacheCapacity;
+    return this;
+  }
+
+  public long getSecondLevelEntityCacheTimeToLive() {
+    return secondLevelEntityCacheTimeToLive;
+  }
+
+  public ProcessEngineConfigurationImpl setSecondLevelEntityCacheTimeToLive(long secondLevelEntityCacheTimeToLive) {
+    this.secondLevelEntityCacheTimeToLive = secondLevelEntityCacheTimeToLive;
+    return this;
+  }
+
+  public SecondLevelEntityCache getSecondLevelEntityCache() {
+    return secondLevelEntityCache;
+  }
+
+  public ProcessEngineConfigurationImpl setSecondLevelEntityCache(SecondLevelEntityCache secondLevelEntityCache) {
+    this.secondLevelEntityCache = secondLevelEntityCache;
+    return this;
+  }
+
   public DbEntityCacheKeyMapping getDbEntityCacheKeyMapping() {
     return dbEntityCacheKeyMapping;
   }
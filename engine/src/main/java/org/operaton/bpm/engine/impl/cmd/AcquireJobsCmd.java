@@ -18,6 +18,7 @@ package org.operaton.bpm.engine.impl.cmd;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.List;
@@ -34,6 +35,7 @@ import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.jobexecutor.AcquiredJobs;
 import org.operaton.bpm.engine.impl.jobexecutor.JobExecutor;
 import org.operaton.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.JobManager;
 import org.operaton.bpm.engine.impl.util.ClockUtil;
 
 
@@ -62,9 +64,7 @@ public class AcquireJobsCmd implements Command<AcquiredJobs>, OptimisticLockingL
 
     acquiredJobs = new AcquiredJobs(numJobsToAcquire);
 
-    List<AcquirableJobEntity> jobs = commandContext
-      .getJobManager()
-      .findNextJobsToExecute(new Page(0, numJobsToAcquire));
+    List<AcquirableJobEntity> jobs = findNextJobsToExecute(commandContext);
 
     Map<String, List<String>> exclusiveJobsByProcessInstance = new HashMap<>();
 
@@ -72,7 +72,10 @@ public class AcquireJobsCmd implements Command<AcquiredJobs>, OptimisticLockingL
 
     for (AcquirableJobEntity job : jobs) {
 
-      lockJob(job);
+      if (!isLockedByJobExecutor(job)) {
+        lockJob(job);
+      }
+      acquiredJobs.addAcquiredJob(job);
 
       if(job.isExclusive()) {
         String processInstanceId = selectProcessInstanceId(job, isAcquireExclusiveOverProcessHierarchies);
@@ -98,16 +101,34 @@ public class AcquireJobsCmd implements Command<AcquiredJobs>, OptimisticLockingL
     return acquiredJobs;
   }
 
+  protected List<AcquirableJobEntity> findNextJobsToExecute(CommandContext commandContext) {
+    JobManager jobManager = commandContext.getJobManager();
+    Page page = new Page(0, numJobsToAcquire);
+
+    if (jobManager.isLockOnAcquisitionSupported()) {
+      // jobs are locked by the statement which acquires them
+      return jobManager.findAndLockNextJobsToExecute(page, jobExecutor.getLockOwner(), calculateLockExpirationTime());
+    }
+    return jobManager.findNextJobsToExecute(page);
+  }
+
+  protected boolean isLockedByJobExecutor(AcquirableJobEntity job) {
+    return job.getLockOwner() != null && job.getLockOwner().equals(jobExecutor.getLockOwner());
+  }
+
   protected void lockJob(AcquirableJobEntity job) {
     String lockOwner = jobExecutor.getLockOwner();
     job.setLockOwner(lockOwner);
+    job.setLockExpirationTime(calculateLockExpirationTime());
+  }
 
+  protected Date calculateLockExpirationTime() {
     int lockTimeInMillis = jobExecutor.getLockTimeInMillis();
 
     GregorianCalendar gregorianCalendar = new GregorianCalendar();
     gregorianCalendar.setTime(ClockUtil.getCurrentTime());
     gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
-    job.setLockExpirationTime(gregorianCalendar.getTime());
+    return gregorianCalendar.getTime();
   }
 
   @Override
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.cmd;
+
+import java.util.Date;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.operaton.bpm.engine.impl.interceptor.Command;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.persistence.entity.JobManager;
+import org.operaton.commons.utils.CollectionUtil;
+
+/**
+ * Extends the locks of acquired jobs which have not been executed yet. Jobs
+ * which are not locked by the given lock owner anymore are left untouched.
+ */
+public class ExtendJobLocksCmd implements Command<Void> {
+
+  protected static final int MAX_JOB_IDS_PER_STATEMENT = 500;
+
+  protected List<String> jobIds;
+  protected String lockOwner;
+  protected Date lockExpirationTime;
+
+  public ExtendJobLocksCmd(List<String> jobIds, String lockOwner, Date lockExpirationTime) {
+    this.jobIds = jobIds;
+    this.lockOwner = lockOwner;
+    this.lockExpirationTime = lockExpirationTime;
+  }
+
+  @Override
+  public @Nullable Void execute(CommandContext commandContext) {
+    if (jobIds.isEmpty()) {
+      return null;
+    }
+    JobManager jobManager = commandContext.getJobManager();
+    for (List<String> partition : CollectionUtil.partition(jobIds, MAX_JOB_IDS_PER_STATEMENT)) {
+      jobManager.updateJobLockExpirationTime(partition, lockOwner, lockExpirationTime);
+    }
+    return null;
+  }
+
+}
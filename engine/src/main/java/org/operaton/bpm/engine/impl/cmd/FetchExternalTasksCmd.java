@@ -19,6 +19,7 @@ package org.operaton.bpm.engine.impl.cmd;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -37,6 +38,7 @@ import org.operaton.bpm.engine.impl.interceptor.Command;
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.operaton.bpm.engine.impl.persistence.entity.ExternalTaskEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.ExternalTaskManager;
 import org.operaton.bpm.engine.impl.util.EnsureUtil;
 
 import static org.operaton.bpm.engine.impl.Direction.DESCENDING;
@@ -80,9 +82,7 @@ public class FetchExternalTasksCmd implements Command<List<LockedExternalTask>>
       instruction.ensureVariablesInitialized();
     }
 
-    List<ExternalTaskEntity> externalTasks = commandContext
-      .getExternalTaskManager()
-      .selectExternalTasksForTopics(new ArrayList<>(fetchInstructions.values()), maxResults, orderingProperties);
+    List<ExternalTaskEntity> externalTasks = selectExternalTasks(commandContext.getExternalTaskManager());
 
     final List<LockedExternalTask> result = new ArrayList<>();
 
@@ -115,6 +115,73 @@ public class FetchExternalTasksCmd implements Command<List<LockedExternalTask>>
     return result;
   }
 
+  protected List<ExternalTaskEntity> selectExternalTasks(ExternalTaskManager externalTaskManager) {
+    if (!isWeightedFetching()) {
+      return externalTaskManager.selectExternalTasksForTopics(new ArrayList<>(fetchInstructions.values()), maxResults,
+          orderingProperties);
+    }
+
+    if (maxResults == 0) {
+      return Collections.emptyList();
+    }
+
+    // select the candidates of every topic on its own, so that a topic with many
+    // tasks of high priority cannot take the capacity of the other topics
+    List<WeightedTopicCandidates> topics = new LinkedList<>();
+    for (TopicFetchInstruction instruction : fetchInstructions.values()) {
+      List<ExternalTaskEntity> candidates = externalTaskManager.selectExternalTasksForTopics(
+          Collections.singletonList(instruction), maxResults, orderingProperties);
+
+      if (!candidates.isEmpty()) {
+        int weight = instruction.getWeight() != null ? instruction.getWeight() : 1;
+        topics.add(new WeightedTopicCandidates(weight, candidates.iterator()));
+      }
+    }
+
+    return distributeByWeight(topics);
+  }
+
+  /**
+   * Takes the candidates of the topics by smooth weighted round-robin: in every round, the topic
+   * with the highest current weight contributes its next candidate and its current weight is lowered
+   * by the total weight. Topics without further candidates drop out, so their share goes to the others.
+   */
+  protected List<ExternalTaskEntity> distributeByWeight(List<WeightedTopicCandidates> topics) {
+    List<ExternalTaskEntity> result = new ArrayList<>();
+
+    while (result.size() < maxResults && !topics.isEmpty()) {
+      int totalWeight = 0;
+      WeightedTopicCandidates selectedTopic = null;
+
+      for (WeightedTopicCandidates topic : topics) {
+        topic.currentWeight += topic.weight;
+        totalWeight += topic.weight;
+
+        if (selectedTopic == null || topic.currentWeight > selectedTopic.currentWeight) {
+          selectedTopic = topic;
+        }
+      }
+
+      selectedTopic.currentWeight -= totalWeight;
+      result.add(selectedTopic.candidates.next());
+
+      if (!selectedTopic.candidates.hasNext()) {
+        topics.remove(selectedTopic);
+      }
+    }
+
+    return result;
+  }
+
+  protected boolean isWeightedFetching() {
+    for (TopicFetchInstruction instruction : fetchInstructions.values()) {
+      if (instruction.getWeight() != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   protected void filterOnOptimisticLockingFailure(CommandContext commandContext, final List<LockedExternalTask> tasks) {
     commandContext.getDbEntityManager().registerOptimisticLockingListener(new OptimisticLockingListener() {
 
@@ -166,6 +233,10 @@ public class FetchExternalTasksCmd implements Command<List<LockedExternalTask>>
     for (TopicFetchInstruction instruction : fetchInstructions.values()) {
       EnsureUtil.ensureNotNull("topicName", instruction.getTopicName());
       EnsureUtil.ensurePositive("lockTime", instruction.getLockDuration());
+
+      if (instruction.getWeight() != null) {
+        EnsureUtil.ensurePositive("weight", (long) instruction.getWeight());
+      }
     }
   }
 
@@ -183,4 +254,16 @@ public class FetchExternalTasksCmd implements Command<List<LockedExternalTask>>
 
     return results;
   }
+
+  protected static class WeightedTopicCandidates {
+
+    protected final int weight;
+    protected final Iterator<ExternalTaskEntity> candidates;
+    protected int currentWeight;
+
+    protected WeightedTopicCandidates(int weight, Iterator<ExternalTaskEntity> candidates) {
+      this.weight = weight;
+      this.candidates = candidates;
+    }
+  }
 }
@@ -28,6 +28,7 @@ import org.operaton.bpm.engine.ProcessEngineException;
 
 import org.jspecify.annotations.Nullable;
 import org.operaton.bpm.engine.impl.cfg.CommandChecker;
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityCacheIndex;
 import org.operaton.bpm.engine.impl.interceptor.Command;
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.persistence.entity.ActivityInstanceImpl;
@@ -405,17 +406,15 @@ public class GetActivityInstanceCmd implements Command<ActivityInstance> {
 
     // first try to load from cache
     // check whether the process instance is already (partially) loaded in command context
-    List<ExecutionEntity> cachedExecutions = commandContext.getDbEntityManager().getCachedEntitiesByType(ExecutionEntity.class);
-    for (ExecutionEntity executionEntity : cachedExecutions) {
-      if(processInstanceId.equals(executionEntity.getProcessInstanceId())) {
-        // found one execution from process instance
-        result = new ArrayList<>();
-        ExecutionEntity processInstance = executionEntity.getProcessInstance();
-        // add process instance
-        result.add(processInstance);
-        loadChildExecutionsFromCache(processInstance, result);
-        break;
-      }
+    List<ExecutionEntity> cachedExecutions = commandContext.getDbEntityManager()
+        .getCachedEntitiesByIndex(DbEntityCacheIndex.EXECUTIONS_BY_PROCESS_INSTANCE_ID, processInstanceId);
+    if (!cachedExecutions.isEmpty()) {
+      // found one execution from process instance
+      result = new ArrayList<>();
+      ExecutionEntity processInstance = cachedExecutions.get(0).getProcessInstance();
+      // add process instance
+      result.add(processInstance);
+      loadChildExecutionsFromCache(processInstance, result);
     }
 
     if(result == null) {
@@ -801,6 +801,24 @@ public class EnginePersistenceLogger extends ProcessEngineLogger {
     );
   }
 
+  public void asyncHistoryEventsNotWritten(int eventCount, Throwable cause) {
+    logError(
+      "111",
+      "Could not write {} asynchronously handled history events: {}",
+      eventCount,
+      cause.getMessage(),
+      cause
+    );
+  }
+
+  public void asyncHistoryEventsPendingOnShutdown(long transactionCount) {
+    logWarn(
+      "112",
+      "The history events of {} transactions have not been written before the history event handler was shut down.",
+      transactionCount
+    );
+  }
+
   // exception code 110 is already taken. See requiredOperatonAdminOrPermissionException() for details.
 
   public static List<SQLException> findRelatedSqlExceptions(Throwable exception) {
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.operaton.bpm.engine.impl.cmd.GetNextIdBlockCmd;
+
+/**
+ * {@link DbIdGenerator} which hands out ids from an atomic counter instead of
+ * a synchronized block.
+ *
+ * <p>
+ * Once the remaining ids of the current block drop to the configured
+ * low-water mark ({@link #setPrefetchThreshold(int)}), the next block is fetched
+ * asynchronously so that the threads exhausting the current block normally do
+ * not have to wait for the database. Only switching from one block to the next
+ * is guarded by a lock.
+ * </p>
+ *
+ * <p>
+ * If a maximum block size greater than the id block size is configured
+ * ({@link #setMaxIdBlockSize(int)}), the size of fetched blocks adapts to the
+ * observed consumption rate: blocks used up faster than half the
+ * {@link #setTargetBlockDurationMillis(long) target duration} double in size,
+ * blocks lasting longer than twice the target duration halve in size, never
+ * dropping below the configured id block size.
+ * </p>
+ */
+public class PrefetchingDbIdGenerator extends DbIdGenerator {
+
+  public static final long DEFAULT_TARGET_BLOCK_DURATION_MILLIS = 5000;
+
+  protected int prefetchThreshold;
+  protected int maxIdBlockSize;
+  protected long targetBlockDurationMillis = DEFAULT_TARGET_BLOCK_DURATION_MILLIS;
+  protected Executor prefetchExecutor = PrefetchingDbIdGenerator::runOnDaemonThread;
+
+  // initialized in reset(), which is already invoked by the super constructor
+  protected volatile IdRange currentRange;
+  protected AtomicReference<CompletableFuture<IdBlock>> prefetchedBlock;
+  protected volatile int currentBlockSize;
+
+  protected final Object rangeSwitchLock = new Object();
+
+  @Override
+  public String getNextId() {
+    while (true) {
+      IdRange range = currentRange;
+      long id = range.nextId.getAndIncrement();
+      if (id <= range.lastId) {
+        if (range.lastId - id == range.lowWaterMark) {
+          // exactly one thread observes the low-water mark of a range
+          prefetchNewBlock();
+        }
+        return Long.toString(id);
+      }
+      switchRange(range);
+    }
+  }
+
+  @Override
+  protected void getNewBlock() {
+    switchRange(currentRange);
+  }
+
+  protected void switchRange(IdRange exhaustedRange) {
+    synchronized (rangeSwitchLock) {
+      if (currentRange != exhaustedRange) {
+        // another thread has already switched to a new block
+        return;
+      }
+      IdBlock idBlock = takePrefetchedBlock();
+      if (idBlock == null) {
+        idBlock = fetchBlock(currentBlockSize());
+      }
+      adaptBlockSize(exhaustedRange);
+      currentRange = new IdRange(idBlock, lowWaterMark(idBlock), System.currentTimeMillis());
+    }
+  }
+
+  protected void prefetchNewBlock() {
+    int blockSize = currentBlockSize();
+    CompletableFuture<IdBlock> prefetch = new CompletableFuture<>();
+    if (prefetchedBlock.compareAndSet(null, prefetch)) {
+      try {
+        prefetchExecutor.execute(() -> {
+          try {
+            prefetch.complete(fetchBlock(blockSize));
+          } catch (Throwable t) {
+            prefetch.completeExceptionally(t);
+          }
+        });
+      } catch (RuntimeException e) {
+        // executor rejected the prefetch; the block will be fetched synchronously
+        prefetchedBlock.compareAndSet(prefetch, null);
+      }
+    }
+  }
+
+  /**
+   * @return the prefetched block or <code>null</code> if no prefetch was
+   * started or it failed, in which case the caller fetches synchronously.
+   */
+  protected IdBlock takePrefetchedBlock() {
+    CompletableFuture<IdBlock> prefetch = prefetchedBlock.getAndSet(null);
+    if (prefetch == null) {
+      return null;
+    }
+    try {
+      return prefetch.join();
+    } catch (CompletionException e) {
+      return null;
+    }
+  }
+
+  protected IdBlock fetchBlock(int blockSize) {
+    return commandExecutor.execute(new GetNextIdBlockCmd(blockSize));
+  }
+
+  protected void adaptBlockSize(IdRange exhaustedRange) {
+    if (maxIdBlockSize <= idBlockSize || exhaustedRange.startTime < 0) {
+      return;
+    }
+    long duration = System.currentTimeMillis() - exhaustedRange.startTime;
+    int blockSize = currentBlockSize();
+    if (duration < targetBlockDurationMillis / 2) {
+      currentBlockSize = (int) Math.min((long) blockSize * 2, maxIdBlockSize);
+    } else if (duration > targetBlockDurationMillis * 2) {
+      currentBlockSize = Math.max(blockSize / 2, idBlockSize);
+    }
+  }
+
+  protected int currentBlockSize() {
+    int blockSize = currentBlockSize;
+    return blockSize > 0 ? blockSize : idBlockSize;
+  }
+
+  protected long lowWaterMark(IdBlock idBlock) {
+    long blockSize = idBlock.getLastId() - idBlock.getNextId() + 1;
+    long threshold = prefetchThreshold > 0 ? prefetchThreshold : blockSize / 4;
+    return Math.min(threshold, blockSize - 1);
+  }
+
+  @Override
+  public void reset() {
+    currentRange = new IdRange(new IdBlock(0, -1), 0, -1);
+    prefetchedBlock = new AtomicReference<>();
+    currentBlockSize = 0;
+  }
+
+  public int getPrefetchThreshold() {
+    return prefetchThreshold;
+  }
+
+  /**
+   * @param prefetchThreshold the number of remaining ids in the current block at
+   * which the next block is fetched asynchronously. A value <code>&lt;= 0</code>
+   * prefetches when a quarter of the block is left.
+   */
+  public void setPrefetchThreshold(int prefetchThreshold) {
+    this.prefetchThreshold = prefetchThreshold;
+  }
+
+  public int getMaxIdBlockSize() {
+    return maxIdBlockSize;
+  }
+
+  public void setMaxIdBlockSize(int maxIdBlockSize) {
+    this.maxIdBlockSize = maxIdBlockSize;
+  }
+
+  public long getTargetBlockDurationMillis() {
+    return targetBlockDurationMillis;
+  }
+
+  public void setTargetBlockDurationMillis(long targetBlockDurationMillis) {
+    this.targetBlockDurationMillis = targetBlockDurationMillis;
+  }
+
+  public Executor getPrefetchExecutor() {
+    return prefetchExecutor;
+  }
+
+  public void setPrefetchExecutor(Executor prefetchExecutor) {
+    this.prefetchExecutor = prefetchExecutor;
+  }
+
+  protected static void runOnDaemonThread(Runnable runnable) {
+    Thread thread = new Thread(runnable, "operaton-id-prefetch");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  protected static class IdRange {
+
+    protected final AtomicLong nextId;
+    protected final long lastId;
+    protected final long lowWaterMark;
+    protected final long startTime;
+
+    protected IdRange(IdBlock idBlock, long lowWaterMark, long startTime) {
+      this.nextId = new AtomicLong(idBlock.getNextId());
+      this.lastId = idBlock.getLastId();
+      this.lowWaterMark = lowWaterMark;
+      this.startTime = startTime;
+    }
+  }
+}
@@ -18,7 +18,11 @@ package org.operaton.bpm.engine.impl.db.entitymanager;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -28,16 +32,20 @@ import org.operaton.bpm.engine.ProcessEngineException;
 import org.operaton.bpm.engine.impl.*;
 import org.operaton.bpm.engine.impl.cfg.IdGenerator;
 import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.cfg.TransactionState;
 import org.operaton.bpm.engine.impl.cmmn.entity.repository.CaseDefinitionQueryImpl;
 import org.operaton.bpm.engine.impl.context.Context;
 import org.operaton.bpm.engine.impl.db.*;
 import org.operaton.bpm.engine.impl.db.entitymanager.cache.CachedDbEntity;
 import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityCache;
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityCacheIndex;
 import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityState;
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.SecondLevelEntityCache;
 import org.operaton.bpm.engine.impl.db.entitymanager.operation.*;
 import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperation.State;
 import org.operaton.bpm.engine.impl.identity.db.DbGroupQueryImpl;
 import org.operaton.bpm.engine.impl.identity.db.DbUserQueryImpl;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.interceptor.Session;
 import org.operaton.bpm.engine.impl.jobexecutor.JobExecutorContext;
 import org.operaton.bpm.engine.impl.persistence.entity.ByteArrayEntity;
@@ -66,10 +74,19 @@ public class DbEntityManager implements Session, EntityLoadListener {
 
   protected DbEntityCache dbEntityCache;
 
+  protected @Nullable SecondLevelEntityCache secondLevelEntityCache;
+
+  /**
+   * Second level cache entries written by this session, invalidated again when the
+   * transaction commits. A <code>null</code> id invalidates all entities of the type.
+   */
+  protected Map<Class<?>, Set<String>> secondLevelCacheInvalidations;
+
   protected DbOperationManager dbOperationManager;
 
   protected PersistenceSession persistenceSession;
   protected boolean isIgnoreForeignKeysForNextFlush;
+  protected int batchSize = BATCH_SIZE;
 
   public DbEntityManager(IdGenerator idGenerator, @Nullable PersistenceSession persistenceSession) {
     this.idGenerator = idGenerator;
@@ -78,7 +95,23 @@ public class DbEntityManager implements Session, EntityLoadListener {
       this.persistenceSession.addEntityLoadListener(this);
     }
     initializeEntityCache();
+    initializeSecondLevelEntityCache();
     initializeOperationManager();
+    initializeBatchSize();
+  }
+
+  protected void initializeSecondLevelEntityCache() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (processEngineConfiguration != null) {
+      secondLevelEntityCache = processEngineConfiguration.getSecondLevelEntityCache();
+    }
+  }
+
+  protected void initializeBatchSize() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (processEngineConfiguration != null && processEngineConfiguration.getJdbcBatchProcessingMaxStatements() > 0) {
+      batchSize = processEngineConfiguration.getJdbcBatchProcessingMaxStatements();
+    }
   }
 
   protected void initializeOperationManager() {
@@ -188,6 +221,10 @@ public class DbEntityManager implements Session, EntityLoadListener {
       return persistentObject;
     }
 
+    if (secondLevelEntityCache != null && secondLevelEntityCache.isCached(entityClass)) {
+      return selectByIdFromSecondLevelCache(entityClass, id);
+    }
+
     persistentObject = persistenceSession.selectById(entityClass, id);
 
     if (persistentObject==null) {
@@ -197,6 +234,22 @@ public class DbEntityManager implements Session, EntityLoadListener {
     return persistentObject;
   }
 
+  protected <T extends DbEntity> @Nullable T selectByIdFromSecondLevelCache(Class<T> entityClass, String id) {
+    T cachedObject = secondLevelEntityCache.get(entityClass, id);
+    if (cachedObject != null) {
+      // treat the copy like an entity loaded from the database
+      onEntityLoaded(cachedObject);
+      return dbEntityCache.get(entityClass, id);
+    }
+
+    long epoch = secondLevelEntityCache.getEpoch(entityClass);
+    T persistentObject = persistenceSession.selectById(entityClass, id);
+    if (persistentObject != null) {
+      secondLevelEntityCache.put(persistentObject, epoch);
+    }
+    return persistentObject;
+  }
+
   public <T extends DbEntity> T getCachedEntity(Class<T> type, String id) {
     return dbEntityCache.get(type, id);
   }
@@ -205,6 +258,10 @@ public class DbEntityManager implements Session, EntityLoadListener {
     return dbEntityCache.getEntitiesByType(type);
   }
 
+  public <T extends DbEntity> List<T> getCachedEntitiesByIndex(DbEntityCacheIndex<T> index, String key) {
+    return dbEntityCache.getEntitiesByIndex(index, key);
+  }
+
   protected @NonNull List filterLoadedObjects(@NonNull List<Object> loadedObjects) {
     if (loadedObjects.isEmpty() || loadedObjects.get(0) == null) {
       return loadedObjects;
@@ -290,6 +347,8 @@ public class DbEntityManager implements Session, EntityLoadListener {
 
     LOG.databaseFlushSummary(operationsToFlush);
 
+    invalidateSecondLevelCache(operationsToFlush);
+
     // If we want to delete all table data as bulk operation, on tables which have self references,
     // We need to turn the foreign key check off on MySQL and MariaDB.
     // On other databases we have to do nothing, the mapped statement will be empty.
@@ -299,7 +358,7 @@ public class DbEntityManager implements Session, EntityLoadListener {
     }
 
     try {
-      final List<List<DbOperation>> batches = CollectionUtil.partition(operationsToFlush, BATCH_SIZE);
+      final List<List<DbOperation>> batches = CollectionUtil.partition(operationsToFlush, batchSize);
       for (List<DbOperation> batch : batches) {
         flushDbOperations(batch, operationsToFlush);
       }
@@ -312,6 +371,60 @@ public class DbEntityManager implements Session, EntityLoadListener {
     }
   }
 
+  /**
+   * Invalidates the second level cache entries affected by the given operations now
+   * and again after the transaction committed, so that concurrent transactions
+   * neither keep nor re-cache the state from before the commit.
+   */
+  protected void invalidateSecondLevelCache(List<DbOperation> operations) {
+    if (secondLevelEntityCache == null) {
+      return;
+    }
+
+    for (DbOperation operation : operations) {
+      Class<? extends DbEntity> entityType = operation.getEntityType();
+      if (operation.getOperationType() == INSERT || !secondLevelEntityCache.isCached(entityType)) {
+        continue;
+      }
+
+      if (secondLevelCacheInvalidations == null) {
+        secondLevelCacheInvalidations = new HashMap<>();
+        registerSecondLevelCacheInvalidationOnCommit();
+      }
+      Set<String> invalidatedIds = secondLevelCacheInvalidations.computeIfAbsent(entityType, type -> new HashSet<>());
+
+      if (operation instanceof DbEntityOperation entityOperation) {
+        String id = entityOperation.getEntity().getId();
+        secondLevelEntityCache.invalidate(entityType, id);
+        invalidatedIds.add(id);
+      } else {
+        secondLevelEntityCache.invalidateType(entityType);
+        // a null id marks the whole type as invalidated
+        invalidatedIds.add(null);
+      }
+    }
+  }
+
+  protected void registerSecondLevelCacheInvalidationOnCommit() {
+    CommandContext commandContext = Context.getCommandContext();
+    if (commandContext == null) {
+      return;
+    }
+    final SecondLevelEntityCache cache = secondLevelEntityCache;
+    final Map<Class<?>, Set<String>> invalidations = secondLevelCacheInvalidations;
+    commandContext.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, context -> {
+      for (Map.Entry<Class<?>, Set<String>> invalidation : invalidations.entrySet()) {
+        if (invalidation.getValue().contains(null)) {
+          cache.invalidateType(invalidation.getKey());
+        } else {
+          for (String id : invalidation.getValue()) {
+            cache.invalidate(invalidation.getKey(), id);
+          }
+        }
+      }
+    });
+  }
+
   protected void flushDbOperations(List<DbOperation> operationsToFlush,
                                    List<DbOperation> allOperations) {
 
@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.operaton.bpm.engine.ProcessEngineException;
 
@@ -65,6 +66,12 @@ public class DbEntityCache {
    */
   protected Map<Class<?>, Map<String, CachedDbEntity>> cachedEntites = new HashMap<>();
 
+  /**
+   * Secondary indexes by cache key, built on demand by {@link #getEntitiesByIndex(DbEntityCacheIndex, String)}
+   * and updated whenever an entity with the same cache key is put into or removed from the cache.
+   */
+  protected Map<Class<?>, Map<DbEntityCacheIndex<?>, IndexedEntities>> indexes = new HashMap<>();
+
   protected DbEntityCacheKeyMapping cacheKeyMapping;
 
   public DbEntityCache() {
@@ -127,6 +134,64 @@ public class DbEntityCache {
     }
   }
 
+  /**
+   * Looks up the cached entities whose indexed attribute equals the given key,
+   * e.g. all cached executions of a process instance. In contrast to filtering the
+   * result of {@link #getEntitiesByType(Class)}, this only scans all cached
+   * entities of the type on the first lookup of the index.
+   *
+   * @param index the index to use
+   * @param key the value of the indexed attribute
+   * @return the matching entities, an empty list if there are none
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends DbEntity> List<T> getEntitiesByIndex(DbEntityCacheIndex<T> index, String key) {
+    if (key == null) {
+      return Collections.emptyList();
+    }
+    Class<?> cacheKey = cacheKeyMapping.getEntityCacheKey(index.getEntityType());
+    Map<String, CachedDbEntity> entities = cachedEntites.get(cacheKey);
+    if (entities == null) {
+      return Collections.emptyList();
+    }
+
+    IndexedEntities indexedEntities = indexes
+        .computeIfAbsent(cacheKey, k -> new HashMap<>())
+        .computeIfAbsent(index, k -> buildIndex(index, entities));
+
+    List<T> result = new ArrayList<>();
+    for (CachedDbEntity cachedEntity : indexedEntities.get(key)) {
+      result.add((T) cachedEntity.getEntity());
+    }
+    return result;
+  }
+
+  protected IndexedEntities buildIndex(DbEntityCacheIndex<?> index, Map<String, CachedDbEntity> entities) {
+    IndexedEntities indexedEntities = new IndexedEntities(index);
+    for (CachedDbEntity cachedEntity : entities.values()) {
+      indexedEntities.put(cachedEntity);
+    }
+    return indexedEntities;
+  }
+
+  protected void updateIndexes(Class<?> cacheKey, CachedDbEntity cachedEntity) {
+    Map<DbEntityCacheIndex<?>, IndexedEntities> indexesOfType = indexes.get(cacheKey);
+    if (indexesOfType != null && cachedEntity != null) {
+      for (IndexedEntities indexedEntities : indexesOfType.values()) {
+        indexedEntities.put(cachedEntity);
+      }
+    }
+  }
+
+  protected void removeFromIndexes(Class<?> cacheKey, String id) {
+    Map<DbEntityCacheIndex<?>, IndexedEntities> indexesOfType = indexes.get(cacheKey);
+    if (indexesOfType != null) {
+      for (IndexedEntities indexedEntities : indexesOfType.values()) {
+        indexedEntities.remove(id);
+      }
+    }
+  }
+
   /**
    * Looks up an entity in the cache.
    *
@@ -201,14 +266,16 @@ public class DbEntityCache {
     Map<String, CachedDbEntity> map = cachedEntites.computeIfAbsent(cacheKey, k -> new HashMap<>());
 
     // check whether this object is already present in the cache
-    CachedDbEntity existingCachedEntity = map.get(entityToAdd.getEntity().getId());
+    String id = entityToAdd.getEntity().getId();
+    CachedDbEntity existingCachedEntity = map.get(id);
     if (existingCachedEntity == null) {
       // no such entity exists -> put it into the cache
-      map.put(entityToAdd.getEntity().getId(), entityToAdd);
+      map.put(id, entityToAdd);
     } else {
       // the same entity is already cached
       handleDuplicateEntityPut(entityToAdd, existingCachedEntity, map);
     }
+    updateIndexes(cacheKey, map.get(id));
   }
 
   private void handleDuplicateEntityPut(CachedDbEntity entityToAdd, CachedDbEntity existingCachedEntity, Map<String, CachedDbEntity> map) {
@@ -284,6 +351,7 @@ public class DbEntityCache {
     Class<?> cacheKey = cacheKeyMapping.getEntityCacheKey(e.getClass());
     Map<String, CachedDbEntity> typeMap = cachedEntites.get(cacheKey);
     if(typeMap != null) {
+      removeFromIndexes(cacheKey, e.getId());
       return typeMap.remove(e.getId()) != null;
     } else {
       return false;
@@ -406,4 +474,92 @@ public class DbEntityCache {
     }
   }
 
+  /**
+   * The entries of one secondary index. Entities are grouped by their key and
+   * by id, so that putting or removing a single entity does not require to
+   * rebuild the index.
+   *
+   * <p>
+   * Transient entities often get the indexed attribute only after they were put
+   * into the cache (e.g. the process instance id of a new execution). Transient
+   * entities without a key are therefore re-checked on each lookup until they
+   * have one. Entities are moved to their current key when a lookup finds them
+   * under an outdated key.
+   * </p>
+   */
+  protected static class IndexedEntities {
+
+    protected final DbEntityCacheIndex<?> index;
+
+    protected final Map<String, Map<String, CachedDbEntity>> entitiesByKey = new HashMap<>();
+
+    /** transient entities whose key was not set when they were indexed */
+    protected final Map<String, CachedDbEntity> unkeyedEntities = new HashMap<>();
+
+    /** the key under which each entity id is indexed */
+    protected final Map<String, String> keysById = new HashMap<>();
+
+    public IndexedEntities(DbEntityCacheIndex<?> index) {
+      this.index = index;
+    }
+
+    public void put(CachedDbEntity cachedEntity) {
+      String id = cachedEntity.getEntity().getId();
+      remove(id);
+
+      String key = index.getKey(cachedEntity.getEntity());
+      if (key != null) {
+        entitiesByKey.computeIfAbsent(key, k -> new HashMap<>()).put(id, cachedEntity);
+        keysById.put(id, key);
+      }
+      else if (cachedEntity.getEntityState() == TRANSIENT) {
+        unkeyedEntities.put(id, cachedEntity);
+      }
+    }
+
+    public void remove(String id) {
+      unkeyedEntities.remove(id);
+
+      String key = keysById.remove(id);
+      if (key != null) {
+        Map<String, CachedDbEntity> entities = entitiesByKey.get(key);
+        entities.remove(id);
+        if (entities.isEmpty()) {
+          entitiesByKey.remove(key);
+        }
+      }
+    }
+
+    public List<CachedDbEntity> get(String key) {
+      if (!unkeyedEntities.isEmpty()) {
+        reindex(new ArrayList<>(unkeyedEntities.values()), null);
+      }
+
+      Map<String, CachedDbEntity> candidates = entitiesByKey.get(key);
+      if (candidates == null) {
+        return Collections.emptyList();
+      }
+
+      List<CachedDbEntity> result = new ArrayList<>(candidates.size());
+      List<CachedDbEntity> changedEntities = new ArrayList<>();
+      for (CachedDbEntity candidate : candidates.values()) {
+        if (key.equals(index.getKey(candidate.getEntity()))) {
+          result.add(candidate);
+        } else {
+          changedEntities.add(candidate);
+        }
+      }
+      reindex(changedEntities, key);
+      return result;
+    }
+
+    protected void reindex(List<CachedDbEntity> cachedEntities, String previousKey) {
+      for (CachedDbEntity cachedEntity : cachedEntities) {
+        if (!Objects.equals(previousKey, index.getKey(cachedEntity.getEntity()))) {
+          put(cachedEntity);
+        }
+      }
+    }
+  }
+
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.db.entitymanager.cache;
+
+import java.util.function.Function;
+
+import org.operaton.bpm.engine.impl.db.DbEntity;
+import org.operaton.bpm.engine.impl.history.event.HistoricDetailEventEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoricVariableInstanceEntity;
+
+/**
+ * A secondary index of the {@link DbEntityCache}, grouping the cached entities of
+ * one type by an attribute value (e.g. all executions of a process instance).
+ *
+ * <p>
+ * The cache builds an index on its first lookup and updates it whenever an
+ * entity of the indexed type is added to or removed from the cache. Lookups only
+ * return entities whose current attribute value matches the requested key. Indexed
+ * attributes are expected not to change once they have been initialized after
+ * the entity was created.
+ * </p>
+ *
+ * @param <T> the type of the indexed entities
+ */
+public class DbEntityCacheIndex<T extends DbEntity> {
+
+  public static final DbEntityCacheIndex<ExecutionEntity> EXECUTIONS_BY_PROCESS_INSTANCE_ID =
+      new DbEntityCacheIndex<>(ExecutionEntity.class, ExecutionEntity::getProcessInstanceId);
+
+  public static final DbEntityCacheIndex<HistoricVariableInstanceEntity> HISTORIC_VARIABLES_BY_PROCESS_INSTANCE_ID =
+      new DbEntityCacheIndex<>(HistoricVariableInstanceEntity.class, HistoricVariableInstanceEntity::getProcessInstanceId);
+
+  public static final DbEntityCacheIndex<HistoricVariableInstanceEntity> HISTORIC_VARIABLES_BY_CASE_INSTANCE_ID =
+      new DbEntityCacheIndex<>(HistoricVariableInstanceEntity.class, HistoricVariableInstanceEntity::getCaseInstanceId);
+
+  public static final DbEntityCacheIndex<HistoricDetailEventEntity> HISTORIC_DETAILS_BY_TASK_ID =
+      new DbEntityCacheIndex<>(HistoricDetailEventEntity.class, HistoricDetailEventEntity::getTaskId);
+
+  protected final Class<T> entityType;
+  protected final Function<T, String> keyFunction;
+
+  public DbEntityCacheIndex(Class<T> entityType, Function<T, String> keyFunction) {
+    this.entityType = entityType;
+    this.keyFunction = keyFunction;
+  }
+
+  public Class<T> getEntityType() {
+    return entityType;
+  }
+
+  /**
+   * @return the key of the entity in this index or <code>null</code> if the
+   * entity is not of the indexed type
+   */
+  public String getKey(DbEntity entity) {
+    if (entityType.isInstance(entity)) {
+      return keyFunction.apply(entityType.cast(entity));
+    }
+    return null;
+  }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.db.entitymanager.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+import org.jspecify.annotations.Nullable;
+
+import org.operaton.bpm.engine.impl.db.DbEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.JobDefinitionEntity;
+import org.operaton.bpm.engine.impl.util.ClockUtil;
+import org.operaton.commons.utils.cache.Cache;
+import org.operaton.commons.utils.cache.ConcurrentLruCache;
+
+/**
+ * A process engine wide cache for read-mostly entities, shared by all transactions.
+ * In contrast to the {@link DbEntityCache}, which lives for one command, this cache
+ * serves {@link org.operaton.bpm.engine.impl.db.entitymanager.DbEntityManager#selectById(Class, String)}
+ * from memory across commands.
+ *
+ * <p>
+ * Only registered entity types are cached. Cached entities are never handed out
+ * directly: each hit returns a copy created by the copier registered for the type, so
+ * that changes made in one transaction do not leak into others.
+ * </p>
+ *
+ * <p>
+ * Every type has a write epoch which is incremented when an entity of the type is
+ * flushed (update, delete or bulk operation) and again when the writing transaction
+ * commits. An entity loaded from the database is only cached if the epoch did not
+ * change while it was loaded, so that entities read before a concurrent write
+ * committed are never cached. Changes made by other engine nodes are not observed;
+ * entries therefore expire after a configurable time to live.
+ * </p>
+ *
+ * <p>
+ * The cache is limited to lookups by id; by default only {@link JobDefinitionEntity}
+ * is registered. Authorization checks and tenant memberships are not cached: they are
+ * evaluated by queries (authorization checks are joined into the query SQL), and query
+ * results carry no id and revision which a write could be matched against.
+ * </p>
+ */
+public class SecondLevelEntityCache {
+
+  protected final int capacity;
+  protected final long timeToLive;
+
+  protected final Map<Class<?>, Region<?>> regions = new ConcurrentHashMap<>();
+
+  protected final LongAdder hits = new LongAdder();
+  protected final LongAdder misses = new LongAdder();
+  protected final LongAdder evictions = new LongAdder();
+  protected final LongAdder invalidations = new LongAdder();
+
+  /**
+   * @param capacity the maximum number of cached entities per entity type
+   * @param timeToLive the time in milliseconds after which a cached entity expires
+   */
+  public SecondLevelEntityCache(int capacity, long timeToLive) {
+    this.capacity = capacity;
+    this.timeToLive = timeToLive;
+  }
+
+  /**
+   * Enables caching for the given entity type.
+   *
+   * @param entityType the entity type to cache
+   * @param copier creates a detached copy of an entity which contains all persistent state
+   */
+  public <T extends DbEntity> void registerEntityType(Class<T> entityType, UnaryOperator<T> copier) {
+    regions.put(entityType, new Region<>(copier, capacity));
+  }
+
+  public boolean isCached(Class<?> entityType) {
+    return regions.containsKey(entityType);
+  }
+
+  /**
+   * @return a copy of the cached entity or <code>null</code> if the entity is not cached
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends DbEntity> @Nullable T get(Class<T> entityType, String id) {
+    Region<T> region = (Region<T>) regions.get(entityType);
+    if (region == null) {
+      return null;
+    }
+    CacheEntry<T> entry = region.entries.get(id);
+    if (entry == null) {
+      misses.increment();
+      return null;
+    }
+    if (ClockUtil.getCurrentTime().getTime() - entry.loadTime > timeToLive) {
+      region.entries.remove(id);
+      evictions.increment();
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    return region.copier.apply(entry.entity);
+  }
+
+  /**
+   * @return the current write epoch of the entity type; to be obtained before the
+   * entity is selected and passed to {@link #put(DbEntity, long)} afterwards.
+   */
+  public long getEpoch(Class<?> entityType) {
+    Region<?> region = regions.get(entityType);
+    return region != null ? region.epoch.get() : -1;
+  }
+
+  /**
+   * Caches a copy of an entity which has just been loaded from the database.
+   *
+   * @param entity the loaded entity
+   * @param epoch the epoch of the entity type before the entity was selected
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends DbEntity> void put(T entity, long epoch) {
+    Region<T> region = (Region<T>) regions.get(entity.getClass());
+    if (region == null || region.epoch.get() != epoch) {
+      return;
+    }
+    String id = entity.getId();
+    CacheEntry<T> entry = new CacheEntry<>(region.copier.apply(entity), ClockUtil.getCurrentTime().getTime());
+    boolean evicting = region.entries.size() >= capacity && region.entries.get(id) == null;
+    region.entries.put(id, entry);
+    if (evicting) {
+      evictions.increment();
+    }
+    // a writer increments the epoch before it invalidates, so re-checking
+    // removes entries which raced with a concurrent write
+    if (region.epoch.get() != epoch) {
+      region.entries.remove(id);
+    }
+  }
+
+  /**
+   * Invalidates a single cached entity and increments the epoch of its type.
+   */
+  public void invalidate(Class<?> entityType, String id) {
+    Region<?> region = regions.get(entityType);
+    if (region != null) {
+      region.epoch.incrementAndGet();
+      region.entries.remove(id);
+      invalidations.increment();
+    }
+  }
+
+  /**
+   * Invalidates all cached entities of a type and increments its epoch, e.g. after a
+   * bulk update which does not reveal the affected ids.
+   */
+  public void invalidateType(Class<?> entityType) {
+    Region<?> region = regions.get(entityType);
+    if (region != null) {
+      region.epoch.incrementAndGet();
+      region.entries.clear();
+      invalidations.increment();
+    }
+  }
+
+  public void clear() {
+    for (Class<?> entityType : regions.keySet()) {
+      invalidateType(entityType);
+    }
+  }
+
+  public int size() {
+    int size = 0;
+    for (Region<?> region : regions.values()) {
+      size += region.entries.size();
+    }
+    return size;
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  public long getInvalidationCount() {
+    return invalidations.sum();
+  }
+
+  /**
+   * @return a cache for the read-mostly entity types of the engine which are not
+   * already cached by the {@link org.operaton.bpm.engine.impl.persistence.deploy.cache.DeploymentCache}
+   */
+  public static SecondLevelEntityCache defaultSecondLevelEntityCache(int capacity, long timeToLive) {
+    SecondLevelEntityCache cache = new SecondLevelEntityCache(capacity, timeToLive);
+    cache.registerEntityType(JobDefinitionEntity.class, SecondLevelEntityCache::copyJobDefinition);
+    return cache;
+  }
+
+  protected static JobDefinitionEntity copyJobDefinition(JobDefinitionEntity jobDefinition) {
+    JobDefinitionEntity copy = new JobDefinitionEntity();
+    copy.setId(jobDefinition.getId());
+    copy.setRevision(jobDefinition.getRevision());
+    copy.setProcessDefinitionId(jobDefinition.getProcessDefinitionId());
+    copy.setProcessDefinitionKey(jobDefinition.getProcessDefinitionKey());
+    copy.setActivityId(jobDefinition.getActivityId());
+    copy.setJobType(jobDefinition.getJobType());
+    copy.setJobConfiguration(jobDefinition.getJobConfiguration());
+    copy.setSuspensionState(jobDefinition.getSuspensionState());
+    copy.setJobPriority(jobDefinition.getOverridingJobPriority());
+    copy.setTenantId(jobDefinition.getTenantId());
+    copy.setDeploymentId(jobDefinition.getDeploymentId());
+    return copy;
+  }
+
+  protected static class Region<T extends DbEntity> {
+
+    protected final UnaryOperator<T> copier;
+    protected final Cache<String, CacheEntry<T>> entries;
+    protected final AtomicLong epoch = new AtomicLong();
+
+    protected Region(UnaryOperator<T> copier, int capacity) {
+      this.copier = copier;
+      this.entries = new ConcurrentLruCache<>(capacity);
+    }
+  }
+
+  protected record CacheEntry<T>(T entity, long loadTime) {
+  }
+
+}
@@ -20,6 +20,7 @@ import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -42,6 +43,10 @@ import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
 /**
  * For mybatis {@link ExecutorType#BATCH}
+ *
+ * <p>Consecutive inserts of the same entity type are combined into multi-row insert
+ * statements if the database and the entity type support them, see
+ * {@link DbSqlSessionFactory#getMultiRowInsertStatement(DbEntity)}.
  */
 public class BatchDbSqlSession extends DbSqlSession {
 
@@ -55,9 +60,14 @@ public class BatchDbSqlSession extends DbSqlSession {
 
   @Override
   public FlushResult executeDbOperations(List<DbOperation> operations) {
-    for (DbOperation operation : operations) {
-      // stage operation
-      executeDbOperation(operation);
+    // the number of operations applied by each staged statement
+    List<Integer> statementSizes = new ArrayList<>();
+    int index = 0;
+    while (index < operations.size()) {
+      // stage operation(s)
+      int statementSize = stageDbOperations(operations, index);
+      statementSizes.add(statementSize);
+      index += statementSize;
     }
 
     List<BatchResult> batchResults;
@@ -65,19 +75,72 @@ public class BatchDbSqlSession extends DbSqlSession {
       // applies all operations
       batchResults = flushBatchOperations();
     } catch (PersistenceException e) {
-      return postProcessBatchFailure(operations, e);
+      return postProcessBatchFailure(operations, statementSizes, e);
+    }
+
+    return postProcessBatchSuccess(operations, statementSizes, batchResults);
+  }
+
+  /**
+   * Stages the operation at the given index. If it is followed by inserts of the same entity
+   * type, they are staged together as one multi-row insert.
+   *
+   * @return the number of staged operations
+   */
+  protected int stageDbOperations(List<DbOperation> operations, int index) {
+    DbOperation operation = operations.get(index);
+    if (operation.getOperationType() == DbOperationType.INSERT) {
+      List<DbEntityOperation> inserts = collectConsecutiveInserts(operations, index);
+      if (inserts.size() > 1) {
+        String statement = dbSqlSessionFactory.getMultiRowInsertStatement(inserts.get(0).getEntity());
+        insertEntities(statement, inserts);
+        return inserts.size();
+      }
     }
 
-    return postProcessBatchSuccess(operations, batchResults);
+    executeDbOperation(operation);
+    return 1;
   }
 
-  protected FlushResult postProcessBatchSuccess(List<DbOperation> operations, List<BatchResult> batchResults) {
+  protected List<DbEntityOperation> collectConsecutiveInserts(List<DbOperation> operations, int index) {
+    DbEntityOperation first = (DbEntityOperation) operations.get(index);
+    List<DbEntityOperation> inserts = new ArrayList<>();
+    inserts.add(first);
+
+    if (dbSqlSessionFactory.getMultiRowInsertStatement(first.getEntity()) == null) {
+      return inserts;
+    }
+
+    int maxRows = dbSqlSessionFactory.getMaxRowsPerInsert();
+    for (int i = index + 1; i < operations.size() && inserts.size() < maxRows; i++) {
+      DbOperation operation = operations.get(i);
+      if (operation.getOperationType() != DbOperationType.INSERT
+          || operation.getEntityType() != first.getEntityType()) {
+        break;
+      }
+      inserts.add((DbEntityOperation) operation);
+    }
+    return inserts;
+  }
+
+  protected void insertEntities(String insertStatement, List<DbEntityOperation> operations) {
+    List<DbEntity> entities = new ArrayList<>(operations.size());
+    for (DbEntityOperation operation : operations) {
+      LOG.executeDatabaseOperation("INSERT", operation.getEntity());
+      entities.add(operation.getEntity());
+    }
+    sqlSession.insert(insertStatement, entities);
+  }
+
+  protected FlushResult postProcessBatchSuccess(List<DbOperation> operations, List<Integer> statementSizes, List<BatchResult> batchResults) {
     Iterator<DbOperation> operationsIt = operations.iterator();
+    Iterator<Integer> statementSizesIt = statementSizes.iterator();
     List<DbOperation> failedOperations = new ArrayList<>();
     for (BatchResult successfulBatch : batchResults) {
       // even if all batches are successful, there can be concurrent modification failures
       // (e.g. 0 rows updated)
-      postProcessJdbcBatchResult(operationsIt, successfulBatch.getUpdateCounts(), null, failedOperations);
+      int[] operationResults = getOperationResults(successfulBatch.getUpdateCounts(), statementSizesIt);
+      postProcessJdbcBatchResult(operationsIt, operationResults, null, failedOperations);
     }
 
     // there should be no more operations remaining
@@ -88,7 +151,7 @@ public class BatchDbSqlSession extends DbSqlSession {
     return FlushResult.withFailures(failedOperations);
   }
 
-  protected FlushResult postProcessBatchFailure(List<DbOperation> operations, PersistenceException exception) {
+  protected FlushResult postProcessBatchFailure(List<DbOperation> operations, List<Integer> statementSizes, PersistenceException exception) {
     BatchExecutorException batchExecutorException =
         ExceptionUtil.findBatchExecutorException(exception);
 
@@ -101,19 +164,61 @@ public class BatchDbSqlSession extends DbSqlSession {
     BatchUpdateException cause = batchExecutorException.getBatchUpdateException();
 
     Iterator<DbOperation> operationsIt = operations.iterator();
+    Iterator<Integer> statementSizesIt = statementSizes.iterator();
     List<DbOperation> failedOperations = new ArrayList<>();
 
     for (BatchResult successfulBatch : successfulBatches) {
-      postProcessJdbcBatchResult(operationsIt, successfulBatch.getUpdateCounts(), null, failedOperations);
+      int[] operationResults = getOperationResults(successfulBatch.getUpdateCounts(), statementSizesIt);
+      postProcessJdbcBatchResult(operationsIt, operationResults, null, failedOperations);
     }
 
     int[] failedBatchUpdateCounts = cause.getUpdateCounts();
-    postProcessJdbcBatchResult(operationsIt, failedBatchUpdateCounts, exception, failedOperations);
+    int[] failedBatchOperationResults = getOperationResults(failedBatchUpdateCounts, statementSizesIt);
+    if (!containsFailure(failedBatchUpdateCounts) && statementSizesIt.hasNext()) {
+      // case 2 (see below): the next statement failed, a multi-row insert fails for all of its rows
+      int failedStatementSize = statementSizesIt.next();
+      if (failedStatementSize > 1) {
+        failedBatchOperationResults = Arrays.copyOf(failedBatchOperationResults, failedBatchOperationResults.length + failedStatementSize);
+        Arrays.fill(failedBatchOperationResults, failedBatchOperationResults.length - failedStatementSize,
+            failedBatchOperationResults.length, Statement.EXECUTE_FAILED);
+      }
+    }
+    postProcessJdbcBatchResult(operationsIt, failedBatchOperationResults, exception, failedOperations);
 
     List<DbOperation> remainingOperations = CollectionUtil.collectInList(operationsIt);
     return FlushResult.withFailuresAndRemaining(failedOperations, remainingOperations);
   }
 
+  /**
+   * Maps the results of the given jdbc statements to the operations they applied. A multi-row
+   * insert applies several operations with one statement.
+   */
+  protected int[] getOperationResults(int[] statementResults, Iterator<Integer> statementSizesIt) {
+    List<Integer> operationResults = new ArrayList<>(statementResults.length);
+    for (int statementResult : statementResults) {
+      int statementSize = statementSizesIt.hasNext() ? statementSizesIt.next() : 1;
+      if (statementSize == 1) {
+        operationResults.add(statementResult);
+      } else {
+        // the rows of a multi-row insert are applied together
+        int operationResult = statementResult >= 0 ? 1 : statementResult;
+        for (int i = 0; i < statementSize; i++) {
+          operationResults.add(operationResult);
+        }
+      }
+    }
+    return operationResults.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  protected boolean containsFailure(int[] statementResults) {
+    for (int statementResult : statementResults) {
+      if (statementResult == Statement.EXECUTE_FAILED) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * <p>This method can be called with three cases:
    *
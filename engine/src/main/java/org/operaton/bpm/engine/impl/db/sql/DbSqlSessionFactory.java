@@ -108,6 +108,12 @@ public class DbSqlSessionFactory implements SessionFactory {
   private static final Map<String, String> databaseSpecificExtractTimeUnitFromDate = new HashMap<>();
   private static final Map<String, String> databaseSpecificAuthCheckMethodSuffix = new HashMap<>();
 
+  /*
+   * The maximum number of rows inserted by one multi-row insert statement. Databases without
+   * an entry do not support <code>INSERT ... VALUES (...), (...)</code> and insert row by row.
+   */
+  private static final Map<String, Integer> databaseSpecificMaxRowsPerInsert = new HashMap<>();
+
 
   /*
    * On SQL server, the overall maximum number of parameters in a prepared statement
@@ -201,6 +207,8 @@ public class DbSqlSessionFactory implements SessionFactory {
 
     databaseSpecificExtractTimeUnitFromDate.put(H2, defaultExtractTimeUnitFromDate);
 
+    databaseSpecificMaxRowsPerInsert.put(H2, 100);
+
     HashMap<String, String> constants = new HashMap<>();
     constants.put(CONSTANT_EVENT, "'event'");
     constants.put(CONSTANT_OP_MESSAGE, "NEW_VALUE_ || '_|_' || PROPERTY_");
@@ -267,6 +275,8 @@ public class DbSqlSessionFactory implements SessionFactory {
 
       databaseSpecificExtractTimeUnitFromDate.put(mysqlLikeDatabase, defaultExtractTimeUnitFromDate);
 
+      databaseSpecificMaxRowsPerInsert.put(mysqlLikeDatabase, 100);
+
       addDatabaseSpecificStatement(mysqlLikeDatabase, "toggleForeignKey", "toggleForeignKey_mysql");
       addDatabaseSpecificStatement(mysqlLikeDatabase, "selectDeploymentsByQueryCriteria", "selectDeploymentsByQueryCriteria_mysql");
       addDatabaseSpecificStatement(mysqlLikeDatabase, "selectDeploymentCountByQueryCriteria", "selectDeploymentCountByQueryCriteria_mysql");
@@ -411,7 +421,10 @@ public class DbSqlSessionFactory implements SessionFactory {
 
       databaseSpecificExtractTimeUnitFromDate.put(postgresLikeDatabase, defaultExtractTimeUnitFromDate);
 
+      databaseSpecificMaxRowsPerInsert.put(postgresLikeDatabase, 100);
+
       addDatabaseSpecificStatement(postgresLikeDatabase, "insertByteArray", "insertByteArray_postgres");
+      addDatabaseSpecificStatement(postgresLikeDatabase, "bulkInsertByteArray", "bulkInsertByteArray_postgres");
       addDatabaseSpecificStatement(postgresLikeDatabase, "updateByteArray", "updateByteArray_postgres");
       addDatabaseSpecificStatement(postgresLikeDatabase, "selectByteArray", "selectByteArray_postgres");
       addDatabaseSpecificStatement(postgresLikeDatabase, "selectByteArrays", "selectByteArrays_postgres");
@@ -565,6 +578,8 @@ public class DbSqlSessionFactory implements SessionFactory {
 
     databaseSpecificExtractTimeUnitFromDate.put(ORACLE, defaultExtractTimeUnitFromDate);
 
+    // no multi-row inserts, Oracle only supports INSERT ... VALUES (...), (...) from version 23
+
     addDatabaseSpecificStatement(ORACLE, "selectNextJobsToExecute", "selectNextJobsToExecute_oracle");
 
     addDatabaseSpecificStatement(ORACLE, "selectHistoricProcessInstanceDurationReport", "selectHistoricProcessInstanceDurationReport_oracle");
@@ -660,6 +675,8 @@ public class DbSqlSessionFactory implements SessionFactory {
 
     databaseSpecificExtractTimeUnitFromDate.put(DB2, defaultExtractTimeUnitFromDate);
 
+    databaseSpecificMaxRowsPerInsert.put(DB2, 100);
+
     addDatabaseSpecificStatement(DB2, "selectMeterLogAggregatedByTimeInterval", "selectMeterLogAggregatedByTimeInterval_db2_or_mssql");
     addDatabaseSpecificStatement(DB2, "selectExecutionByNativeQuery", "selectExecutionByNativeQuery_mssql_or_db2");
     addDatabaseSpecificStatement(DB2, "selectHistoricActivityInstanceByNativeQuery", "selectHistoricActivityInstanceByNativeQuery_mssql_or_db2");
@@ -761,6 +778,9 @@ public class DbSqlSessionFactory implements SessionFactory {
 
     databaseSpecificExtractTimeUnitFromDate.put(MSSQL, "DATEPART(${extractTimeUnit}, ${extractDateColumn})");
 
+    // keeps the statements below MAXIMUM_NUMBER_PARAMS for entities with up to 40 columns
+    databaseSpecificMaxRowsPerInsert.put(MSSQL, 50);
+
     addDatabaseSpecificStatement(MSSQL, "selectMeterLogAggregatedByTimeInterval", "selectMeterLogAggregatedByTimeInterval_db2_or_mssql");
     addDatabaseSpecificStatement(MSSQL, "selectExecutionByNativeQuery", "selectExecutionByNativeQuery_mssql_or_db2");
     addDatabaseSpecificStatement(MSSQL, "selectHistoricActivityInstanceByNativeQuery", "selectHistoricActivityInstanceByNativeQuery_mssql_or_db2");
@@ -866,6 +886,7 @@ public class DbSqlSessionFactory implements SessionFactory {
   protected Map<Class<?>,String>  updateStatements = new ConcurrentHashMap<>();
   protected Map<Class<?>,String>  deleteStatements = new ConcurrentHashMap<>();
   protected Map<Class<?>,String>  selectStatements = new ConcurrentHashMap<>();
+  protected Map<Class<?>,Optional<String>> multiRowInsertStatements = new ConcurrentHashMap<>();
   protected boolean isDbIdentityUsed = true;
   protected boolean isDbHistoryUsed = true;
   protected boolean cmmnEnabled = true;
@@ -1069,6 +1090,28 @@ public class DbSqlSessionFactory implements SessionFactory {
     return getStatement(object.getClass(), insertStatements, "insert");
   }
 
+  /**
+   * @return the statement inserting several entities of the given type with one multi-row insert, or
+   *   <code>null</code> if there is no such statement for the type or the database does not support it
+   */
+  public String getMultiRowInsertStatement(DbEntity object) {
+    if (getMaxRowsPerInsert() < 2) {
+      return null;
+    }
+    return multiRowInsertStatements.computeIfAbsent(object.getClass(), type -> {
+      String statement = mapStatement("bulkInsert" + getInsertStatement(object).substring("insert".length()));
+      return sqlSessionFactory.getConfiguration().hasStatement(statement) ? Optional.of(statement) : Optional.empty();
+    }).orElse(null);
+  }
+
+  /**
+   * @return the maximum number of rows inserted by one multi-row insert statement
+   */
+  public int getMaxRowsPerInsert() {
+    Integer maxRows = databaseSpecificMaxRowsPerInsert.get(databaseType);
+    return maxRows != null ? maxRows : 1;
+  }
+
   public String getUpdateStatement(DbEntity object) {
     return getStatement(object.getClass(), updateStatements, "update");
   }
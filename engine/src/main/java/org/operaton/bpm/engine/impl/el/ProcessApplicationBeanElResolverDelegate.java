@@ -24,6 +24,7 @@ import org.operaton.bpm.application.ProcessApplicationReference;
 import org.operaton.bpm.application.ProcessApplicationUnavailableException;
 import org.operaton.bpm.engine.ProcessEngineException;
 import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.impl.juel.MethodHandleBeanELResolver;
 
 /**
  * <p>Resolves a {@link BeanELResolver} from the current process application.
@@ -53,7 +54,7 @@ public class ProcessApplicationBeanElResolverDelegate extends AbstractElResolver
       }
 
     } else {
-      return new BeanELResolver();
+      return new MethodHandleBeanELResolver();
     }
 
   }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.externaltask;
+
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Notified after a transaction has committed in which external tasks became
+ * available for fetching, i.e. were created or unlocked. Allows long polling
+ * clients to only fetch the topics for which new tasks exist.
+ */
+@FunctionalInterface
+public interface ExternalTaskAvailableListener {
+
+  /**
+   * @param processEngineName the name of the engine the tasks belong to
+   * @param topicNames the topics of the available tasks or <code>null</code>
+   *   if the topics are not known
+   */
+  void onExternalTasksAvailable(String processEngineName, @Nullable Set<String> topicNames);
+
+}
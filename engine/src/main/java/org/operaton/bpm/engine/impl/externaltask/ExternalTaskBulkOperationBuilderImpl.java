@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.externaltask;
+
+import java.util.List;
+import java.util.Map;
+
+import org.operaton.bpm.engine.BulkOperationResult;
+import org.operaton.bpm.engine.externaltask.ExternalTaskBulkOperationBuilder;
+import org.operaton.bpm.engine.impl.BulkOperationExecutor;
+import org.operaton.bpm.engine.impl.cmd.CompleteExternalTaskCmd;
+import org.operaton.bpm.engine.impl.cmd.ExtendLockOnExternalTaskCmd;
+import org.operaton.bpm.engine.impl.cmd.HandleExternalTaskFailureCmd;
+import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+
+/**
+ * Implementation of {@link ExternalTaskBulkOperationBuilder}.
+ */
+public class ExternalTaskBulkOperationBuilderImpl implements ExternalTaskBulkOperationBuilder {
+
+  protected final BulkOperationExecutor bulkOperationExecutor;
+  protected int chunkSize;
+
+  /**
+   * @param chunkSize the default number of operations executed in one transaction
+   */
+  public ExternalTaskBulkOperationBuilderImpl(CommandExecutor commandExecutor, int chunkSize) {
+    this.bulkOperationExecutor = new BulkOperationExecutor(commandExecutor);
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public ExternalTaskBulkOperationBuilderImpl complete(String externalTaskId, String workerId) {
+    return complete(externalTaskId, workerId, null, null);
+  }
+
+  @Override
+  public ExternalTaskBulkOperationBuilderImpl complete(String externalTaskId, String workerId,
+                                                       Map<String, Object> variables,
+                                                       Map<String, Object> localVariables) {
+    bulkOperationExecutor.addOperation(externalTaskId,
+        () -> new CompleteExternalTaskCmd(externalTaskId, workerId, variables, localVariables));
+    return this;
+  }
+
+  @Override
+  public ExternalTaskBulkOperationBuilderImpl handleFailure(String externalTaskId, String workerId, String errorMessage,
+                                                           String errorDetails, int retries, long retryDuration,
+                                                           Map<String, Object> variables,
+                                                           Map<String, Object> localVariables) {
+    bulkOperationExecutor.addOperation(externalTaskId,
+        () -> new HandleExternalTaskFailureCmd(externalTaskId, workerId, errorMessage, errorDetails,
+            retries, retryDuration, variables, localVariables));
+    return this;
+  }
+
+  @Override
+  public ExternalTaskBulkOperationBuilderImpl extendLock(String externalTaskId, String workerId, long newLockDuration) {
+    bulkOperationExecutor.addOperation(externalTaskId,
+        () -> new ExtendLockOnExternalTaskCmd(externalTaskId, workerId, newLockDuration));
+    return this;
+  }
+
+  @Override
+  public ExternalTaskBulkOperationBuilderImpl chunkSize(int chunkSize) {
+    this.chunkSize = chunkSize;
+    return this;
+  }
+
+  @Override
+  public List<BulkOperationResult> execute() {
+    return bulkOperationExecutor.execute(chunkSize);
+  }
+
+}
@@ -219,4 +219,10 @@ public class ExternalTaskQueryTopicBuilderImpl implements ExternalTaskQueryTopic
     return this;
   }
 
+  @Override
+  public ExternalTaskQueryTopicBuilder weight(int weight) {
+    currentInstruction.setWeight(weight);
+    return this;
+  }
+
 }
@@ -52,6 +52,7 @@ public class TopicFetchInstruction implements Serializable {
   protected boolean deserializeVariables;
   protected boolean localVariables;
   protected boolean includeExtensionProperties;
+  protected Integer weight;
 
   public TopicFetchInstruction(String topicName, long lockDuration) {
     this.topicName = topicName;
@@ -192,4 +193,12 @@ public class TopicFetchInstruction implements Serializable {
     this.includeExtensionProperties = includeExtensionProperties;
   }
 
+  public Integer getWeight() {
+    return weight;
+  }
+
+  public void setWeight(Integer weight) {
+    this.weight = weight;
+  }
+
 }
@@ -0,0 +1,454 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.history.handler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.cfg.TransactionState;
+import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.operaton.bpm.engine.impl.history.event.HistoricDecisionEvaluationEvent;
+import org.operaton.bpm.engine.impl.history.event.HistoricVariableUpdateEventEntity;
+import org.operaton.bpm.engine.impl.history.event.HistoryEvent;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+import org.operaton.bpm.engine.impl.interceptor.Session;
+import org.operaton.bpm.engine.impl.interceptor.SessionFactory;
+
+/**
+ * <p>History event handler that writes history events to the process engine
+ * database asynchronously, after the transaction which produced them has committed.</p>
+ *
+ * <p><strong>This handler can lose history.</strong> Committed events are not persisted
+ * until a drainer writes them: they are queued in memory only, so the history of all
+ * transactions which committed but are still queued is lost if the engine terminates
+ * abnormally, e.g. on a crash or kill. The {@link DbHistoryEventHandler} keeps this
+ * history, since it writes the events within the producing transaction. The handler is
+ * therefore disabled by default and must only be enabled if such gaps in the (audit)
+ * history are acceptable, see
+ * {@link org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl#setEnableAsyncDbHistoryEventHandler(boolean)}.</p>
+ *
+ * <p>The events of a transaction are buffered in a {@link HistoryEventBuffer} session and
+ * handed over to background drainer threads once the transaction commits; events of
+ * rolled back transactions are discarded. The drainers write the events of several
+ * transactions in one command with the behavior of the {@link DbHistoryEventHandler}.
+ * Events are assigned to drainers by their process instance (or case instance) id, so
+ * that the history of an instance is written in the order it was produced.</p>
+ *
+ * <p>The queue of every drainer is bounded: once it is full, committing transactions
+ * block until the drainer has caught up. On {@link #shutdown(long)} the queued events are
+ * written before the drainers stop; events produced afterwards are written synchronously
+ * after commit.</p>
+ *
+ * <p>History is eventually consistent: it may lag behind the runtime state and the
+ * history of an instance may be incomplete while events of previous transactions are
+ * still queued.</p>
+ */
+public class AsyncDbHistoryEventHandler extends DbHistoryEventHandler {
+
+  protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
+
+  public static final int DEFAULT_DRAINER_COUNT = 2;
+  public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+  public static final int DEFAULT_MAX_EVENTS_PER_COMMAND = 500;
+  public static final long DEFAULT_SHUTDOWN_TIMEOUT = 30000;
+
+  protected final Drainer[] drainers;
+  protected final int maxEventsPerCommand;
+
+  protected final AtomicLong pendingBatches = new AtomicLong();
+
+  protected CommandExecutor commandExecutor;
+  protected volatile boolean started;
+  protected volatile boolean shutdown;
+
+  public AsyncDbHistoryEventHandler() {
+    this(DEFAULT_DRAINER_COUNT, DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_EVENTS_PER_COMMAND);
+  }
+
+  /**
+   * @param drainerCount the number of threads writing events
+   * @param queueCapacity the maximum number of committed transactions queued per drainer
+   * @param maxEventsPerCommand the number of events after which a drainer stops adding
+   *          transactions to a command
+   */
+  public AsyncDbHistoryEventHandler(int drainerCount, int queueCapacity, int maxEventsPerCommand) {
+    this.drainers = new Drainer[Math.max(drainerCount, 1)];
+    for (int i = 0; i < drainers.length; i++) {
+      drainers[i] = new Drainer(i, Math.max(queueCapacity, 1));
+    }
+    this.maxEventsPerCommand = Math.max(maxEventsPerCommand, 1);
+  }
+
+  // handling (in the producing transaction) //////////////////////////////////
+
+  @Override
+  public void handleEvent(HistoryEvent historyEvent) {
+    CommandContext commandContext = Context.getCommandContext();
+    commandContext.getSession(HistoryEventBuffer.class)
+      .add(new BufferedHistoryEvent(historyEvent, isInitialEvent(historyEvent)));
+  }
+
+  @Override
+  public void handleEvents(List<HistoryEvent> historyEvents) {
+    for (HistoryEvent historyEvent : historyEvents) {
+      handleEvent(historyEvent);
+    }
+  }
+
+  protected void onTransactionCommitted(List<BufferedHistoryEvent> events) {
+    if (shutdown) {
+      writeEvents(events);
+      return;
+    }
+    ensureStarted();
+
+    // split the events of the transaction by drainer, preserving their order
+    Map<Integer, List<BufferedHistoryEvent>> eventsByDrainer = new LinkedHashMap<>();
+    for (BufferedHistoryEvent event : events) {
+      int drainer = Math.floorMod(getPartitionKey(event.historyEvent()).hashCode(), drainers.length);
+      eventsByDrainer.computeIfAbsent(drainer, k -> new ArrayList<>()).add(event);
+    }
+
+    for (Map.Entry<Integer, List<BufferedHistoryEvent>> entry : eventsByDrainer.entrySet()) {
+      enqueue(drainers[entry.getKey()], entry.getValue());
+    }
+  }
+
+  /**
+   * Queues the events for the drainer, blocking while its queue is full.
+   * The events are written synchronously if the handler is shut down meanwhile.
+   */
+  protected void enqueue(Drainer drainer, List<BufferedHistoryEvent> events) {
+    pendingBatches.incrementAndGet();
+    try {
+      while (!drainer.queue.offer(events, 100, TimeUnit.MILLISECONDS)) {
+        if (shutdown) {
+          pendingBatches.decrementAndGet();
+          writeEvents(events);
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      pendingBatches.decrementAndGet();
+      Thread.currentThread().interrupt();
+      writeEvents(events);
+    }
+  }
+
+  /**
+   * @return the key which determines the drainer of an event; all events of one
+   * history entity must have the same key so that they are written in order.
+   */
+  protected String getPartitionKey(HistoryEvent historyEvent) {
+    if (historyEvent.getProcessInstanceId() != null) {
+      return historyEvent.getProcessInstanceId();
+    } else if (historyEvent.getCaseInstanceId() != null) {
+      return historyEvent.getCaseInstanceId();
+    } else if (historyEvent instanceof HistoricVariableUpdateEventEntity variableUpdateEvent
+        && variableUpdateEvent.getVariableInstanceId() != null) {
+      return variableUpdateEvent.getVariableInstanceId();
+    } else if (historyEvent.getId() != null) {
+      return historyEvent.getId();
+    }
+    return "";
+  }
+
+  // writing (in the drainer's command) ///////////////////////////////////////
+
+  protected void writeEvents(List<BufferedHistoryEvent> events) {
+    writeTransactions(Collections.singletonList(events));
+  }
+
+  /**
+   * Writes the events of the given transactions in as few commands as possible. A new
+   * command is started whenever an event refers to a history entity which a different
+   * event object has already written in the current command, so that it is merged with
+   * the persisted state just as it would be by the {@link DbHistoryEventHandler} in a
+   * later transaction.
+   */
+  protected void writeTransactions(List<List<BufferedHistoryEvent>> transactions) {
+    List<List<BufferedHistoryEvent>> commandTransactions = new ArrayList<>();
+    Map<String, HistoryEvent> writtenEvents = new LinkedHashMap<>();
+
+    for (List<BufferedHistoryEvent> transaction : transactions) {
+      List<BufferedHistoryEvent> commandEvents = null;
+
+      for (BufferedHistoryEvent event : transaction) {
+        HistoryEvent historyEvent = event.historyEvent();
+        String key = historyEvent.getClass().getName() + ":" + historyEvent.getId();
+        HistoryEvent writtenEvent = writtenEvents.get(key);
+
+        if (writtenEvent != null && writtenEvent != historyEvent) {
+          executeWrite(commandTransactions);
+          commandTransactions = new ArrayList<>();
+          commandEvents = null;
+          writtenEvents.clear();
+        }
+        if (commandEvents == null) {
+          commandEvents = new ArrayList<>();
+          commandTransactions.add(commandEvents);
+        }
+        commandEvents.add(event);
+        if (historyEvent.getId() != null) {
+          writtenEvents.put(key, historyEvent);
+        }
+      }
+    }
+
+    if (!commandTransactions.isEmpty()) {
+      executeWrite(commandTransactions);
+    }
+  }
+
+  /**
+   * Writes the events of one or more transactions in one command. If the command
+   * fails, it is retried once; if the retry fails as well, the events of every
+   * transaction are written in a command of their own, so that a single failing
+   * transaction does not cause the events of the others to be lost.
+   */
+  protected void executeWrite(List<List<BufferedHistoryEvent>> transactions) {
+    List<BufferedHistoryEvent> events = new ArrayList<>();
+    for (List<BufferedHistoryEvent> transaction : transactions) {
+      events.addAll(transaction);
+    }
+
+    RuntimeException failure = tryWrite(events);
+    if (failure != null) {
+      failure = tryWrite(events);
+    }
+    if (failure == null) {
+      return;
+    }
+
+    if (transactions.size() == 1) {
+      LOG.asyncHistoryEventsNotWritten(events.size(), failure);
+      return;
+    }
+    for (List<BufferedHistoryEvent> transaction : transactions) {
+      RuntimeException transactionFailure = tryWrite(transaction);
+      if (transactionFailure != null) {
+        LOG.asyncHistoryEventsNotWritten(transaction.size(), transactionFailure);
+      }
+    }
+  }
+
+  /**
+   * @return the exception if the events could not be written, <code>null</code> otherwise
+   */
+  protected RuntimeException tryWrite(List<BufferedHistoryEvent> events) {
+    try {
+      commandExecutor.execute(commandContext -> {
+        for (BufferedHistoryEvent event : events) {
+          writeEvent(event);
+        }
+        return null;
+      });
+      return null;
+    } catch (RuntimeException e) {
+      return e;
+    }
+  }
+
+  protected void writeEvent(BufferedHistoryEvent event) {
+    HistoryEvent historyEvent = event.historyEvent();
+    if (historyEvent instanceof HistoricVariableUpdateEventEntity
+        || historyEvent instanceof HistoricDecisionEvaluationEvent) {
+      super.handleEvent(historyEvent);
+    } else {
+      // the event type may have been changed by the producer after the event was handled
+      insertOrUpdate(historyEvent, event.initialEvent());
+    }
+  }
+
+  // lifecycle ////////////////////////////////////////////////////////////////
+
+  protected synchronized void ensureStarted() {
+    if (!started && !shutdown) {
+      for (Drainer drainer : drainers) {
+        drainer.start();
+      }
+      started = true;
+    }
+  }
+
+  /**
+   * Writes the queued events and stops the drainer threads.
+   *
+   * @param timeout the maximum time in milliseconds to wait for the queued events to be written
+   */
+  public synchronized void shutdown(long timeout) {
+    if (shutdown) {
+      return;
+    }
+    shutdown = true;
+    long deadline = System.currentTimeMillis() + timeout;
+    for (Drainer drainer : drainers) {
+      drainer.stop(deadline);
+    }
+    if (pendingBatches.get() > 0) {
+      LOG.asyncHistoryEventsPendingOnShutdown(pendingBatches.get());
+    }
+  }
+
+  /**
+   * Waits until all events of committed transactions have been written.
+   *
+   * @return <code>true</code> if all events were written within the timeout
+   */
+  public boolean awaitWritten(long timeout) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + timeout;
+    while (pendingBatches.get() > 0) {
+      if (System.currentTimeMillis() >= deadline) {
+        return false;
+      }
+      Thread.sleep(10);
+    }
+    return true;
+  }
+
+  public long getPendingTransactionCount() {
+    return pendingBatches.get();
+  }
+
+  public void setCommandExecutor(CommandExecutor commandExecutor) {
+    this.commandExecutor = commandExecutor;
+  }
+
+  public SessionFactory getSessionFactory() {
+    return new HistoryEventBufferFactory();
+  }
+
+  // drainer //////////////////////////////////////////////////////////////////
+
+  protected class Drainer implements Runnable {
+
+    protected final BlockingQueue<List<BufferedHistoryEvent>> queue;
+    protected final String name;
+    protected Thread thread;
+    protected volatile boolean running;
+
+    protected Drainer(int index, int queueCapacity) {
+      this.queue = new LinkedBlockingQueue<>(queueCapacity);
+      this.name = "operaton-history-drainer-" + index;
+    }
+
+    protected void start() {
+      running = true;
+      thread = new Thread(this, name);
+      thread.setDaemon(true);
+      thread.start();
+    }
+
+    protected void stop(long deadline) {
+      running = false;
+      if (thread != null) {
+        try {
+          thread.join(Math.max(deadline - System.currentTimeMillis(), 1));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        thread.interrupt();
+      }
+    }
+
+    @Override
+    public void run() {
+      while (running || !queue.isEmpty()) {
+        List<BufferedHistoryEvent> batch;
+        try {
+          batch = queue.poll(100, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        if (batch != null) {
+          drain(batch);
+        }
+      }
+    }
+
+    /**
+     * Writes the given batch together with further queued batches.
+     */
+    protected void drain(List<BufferedHistoryEvent> firstBatch) {
+      List<List<BufferedHistoryEvent>> transactions = new ArrayList<>();
+      transactions.add(firstBatch);
+      int eventCount = firstBatch.size();
+      List<BufferedHistoryEvent> next;
+      while (eventCount < maxEventsPerCommand && (next = queue.poll()) != null) {
+        transactions.add(next);
+        eventCount += next.size();
+      }
+      try {
+        writeTransactions(transactions);
+      } finally {
+        pendingBatches.addAndGet(-transactions.size());
+      }
+    }
+  }
+
+  // buffer session ///////////////////////////////////////////////////////////
+
+  protected record BufferedHistoryEvent(HistoryEvent historyEvent, boolean initialEvent) {
+  }
+
+  /**
+   * Collects the history events of one command and passes them to the handler once
+   * its transaction has committed.
+   */
+  public class HistoryEventBuffer implements Session {
+
+    protected final List<BufferedHistoryEvent> events = new ArrayList<>();
+
+    protected HistoryEventBuffer(CommandContext commandContext) {
+      commandContext.getTransactionContext().addTransactionListener(TransactionState.COMMITTED,
+          context -> {
+            if (!events.isEmpty()) {
+              onTransactionCommitted(new ArrayList<>(events));
+              events.clear();
+            }
+          });
+    }
+
+    protected void add(BufferedHistoryEvent event) {
+      events.add(event);
+    }
+  }
+
+  protected class HistoryEventBufferFactory implements SessionFactory {
+
+    @Override
+    public Class<?> getSessionType() {
+      return HistoryEventBuffer.class;
+    }
+
+    @Override
+    public Session openSession() {
+      return new HistoryEventBuffer(Context.getCommandContext());
+    }
+  }
+
+}
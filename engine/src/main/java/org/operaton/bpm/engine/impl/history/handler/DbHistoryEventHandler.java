@@ -61,10 +61,14 @@ public class DbHistoryEventHandler implements HistoryEventHandler {
 
   /** general history event insert behavior */
   protected void insertOrUpdate(HistoryEvent historyEvent) {
+    insertOrUpdate(historyEvent, isInitialEvent(historyEvent));
+  }
+
+  protected void insertOrUpdate(HistoryEvent historyEvent, boolean initialEvent) {
 
     final DbEntityManager dbEntityManager = getDbEntityManager();
 
-    if (isInitialEvent(historyEvent)) {
+    if (initialEvent) {
       dbEntityManager.insert(historyEvent);
     } else {
       if (dbEntityManager.getCachedEntity(historyEvent.getClass(), historyEvent.getId()) == null) {
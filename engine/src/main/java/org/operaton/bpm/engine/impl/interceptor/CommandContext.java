@@ -73,6 +73,7 @@ public class CommandContext {
   protected boolean userOperationLogEnabled = true;
   protected boolean tenantCheckEnabled = true;
   protected boolean restrictUserOperationLogToAuthenticatedUsers;
+  protected boolean jobAddedNotificationRegistered;
 
   protected TransactionContext transactionContext;
   protected Map<Class< ? >, SessionFactory> sessionFactories;
@@ -609,6 +610,18 @@ public class CommandContext {
     this.restrictUserOperationLogToAuthenticatedUsers = restrictUserOperationLogToAuthenticatedUsers;
   }
 
+  /**
+   * @return <code>true</code> if the job executor is already notified about added
+   * jobs once the transaction of this command context has committed
+   */
+  public boolean isJobAddedNotificationRegistered() {
+    return jobAddedNotificationRegistered;
+  }
+
+  public void setJobAddedNotificationRegistered(boolean jobAddedNotificationRegistered) {
+    this.jobAddedNotificationRegistered = jobAddedNotificationRegistered;
+  }
+
   public @Nullable String getOperationId() {
     if (!getOperationLogManager().isUserOperationLogEnabled()) {
       return null;
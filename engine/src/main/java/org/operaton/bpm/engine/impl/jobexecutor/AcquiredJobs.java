@@ -17,11 +17,15 @@
 package org.operaton.bpm.engine.impl.jobexecutor;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.operaton.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
+
 
 /**
  * @author Tom Baeyens
@@ -33,6 +37,7 @@ public class AcquiredJobs {
 
   protected List<List<String>> acquiredJobBatches = new ArrayList<>();
   protected Set<String> acquiredJobIds = new HashSet<>();
+  protected Map<String, AcquirableJobEntity> acquiredJobEntities = new HashMap<>();
 
   protected int numberOfJobsFailedToLock;
 
@@ -58,6 +63,21 @@ public class AcquiredJobs {
     addJobIdBatch(list);
   }
 
+  /**
+   * Keeps the acquired job entity, so that job executors can take its
+   * priority, due date and lock expiration time into account.
+   */
+  public void addAcquiredJob(AcquirableJobEntity job) {
+    acquiredJobEntities.put(job.getId(), job);
+  }
+
+  /**
+   * @return the acquired job entity or <code>null</code> if it is unknown
+   */
+  public AcquirableJobEntity getAcquiredJob(String jobId) {
+    return acquiredJobEntities.get(jobId);
+  }
+
   public boolean contains(String jobId) {
     return acquiredJobIds.contains(jobId);
   }
@@ -70,6 +90,7 @@ public class AcquiredJobs {
     numberOfJobsFailedToLock++;
 
     acquiredJobIds.remove(id);
+    acquiredJobEntities.remove(id);
 
     Iterator<List<String>> batchIterator = acquiredJobBatches.iterator();
     while (batchIterator.hasNext()) {
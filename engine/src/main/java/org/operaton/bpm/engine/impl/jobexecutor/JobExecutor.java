@@ -27,6 +27,7 @@ import org.jspecify.annotations.Nullable;
 import org.operaton.bpm.engine.impl.ProcessEngineImpl;
 import org.operaton.bpm.engine.impl.ProcessEngineLogger;
 import org.operaton.bpm.engine.impl.interceptor.Command;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
 import org.operaton.bpm.engine.management.Metrics;
 import org.operaton.bpm.engine.runtime.Job;
@@ -53,6 +54,7 @@ public abstract class JobExecutor {
   protected AcquireJobsCommandFactory acquireJobsCmdFactory;
   protected AcquireJobsRunnable acquireJobsRunnable;
   protected RejectedJobsHandler rejectedJobsHandler;
+  protected JobNotificationChannel jobNotificationChannel;
   protected Thread jobAcquisitionThread;
 
   protected boolean isAutoActivate;
@@ -86,6 +88,9 @@ public abstract class JobExecutor {
     ensureInitialization();
     startExecutingJobs();
     isActive = true;
+    if (jobNotificationChannel != null) {
+      jobNotificationChannel.start(this);
+    }
   }
 
   public synchronized void shutdown() {
@@ -93,6 +98,9 @@ public abstract class JobExecutor {
       return;
     }
     LOG.shuttingDownTheJobExecutor(getClass().getName());
+    if (jobNotificationChannel != null) {
+      jobNotificationChannel.stop();
+    }
     acquireJobsRunnable.stop();
     stopExecutingJobs();
     ensureCleanup();
@@ -117,6 +125,27 @@ public abstract class JobExecutor {
     }
   }
 
+  /**
+   * Notifies the job executors of the other cluster nodes that a job was added,
+   * if a {@link JobNotificationChannel} is configured.
+   */
+  public void publishJobAdded() {
+    if (jobNotificationChannel != null) {
+      jobNotificationChannel.publishJobAdded();
+    }
+  }
+
+  /**
+   * Notifies the job executors of the other cluster nodes within the transaction of
+   * the given command context that a job was added, if a {@link JobNotificationChannel}
+   * is configured.
+   */
+  public void publishJobAdded(CommandContext commandContext) {
+    if (jobNotificationChannel != null) {
+      jobNotificationChannel.publishJobAdded(commandContext);
+    }
+  }
+
   public synchronized void registerProcessEngine(ProcessEngineImpl processEngine) {
     processEngines.add(processEngine);
 
@@ -366,6 +395,14 @@ public abstract class JobExecutor {
     this.rejectedJobsHandler = rejectedJobsHandler;
   }
 
+  public JobNotificationChannel getJobNotificationChannel() {
+    return jobNotificationChannel;
+  }
+
+  public void setJobNotificationChannel(JobNotificationChannel jobNotificationChannel) {
+    this.jobNotificationChannel = jobNotificationChannel;
+  }
+
   protected void startJobAcquisitionThread() {
 		if (jobAcquisitionThread == null) {
 			jobAcquisitionThread = new Thread(acquireJobsRunnable, getName());
@@ -253,4 +253,33 @@ public class JobExecutorLogger extends ProcessEngineLogger {
     logDebug("040", "Arithmetic exception occurred while computing total queue capacity for logging.");
   }
 
+  public void virtualThreadsNotAvailable() {
+    logInfo("041", "Virtual threads are not available on this Java runtime. Jobs are executed on platform threads instead.");
+  }
+
+  public void jobNotificationFailed(String channel, Exception e) {
+    logWarn("042", "Could not notify other nodes via '{}' that a job was added: {}", channel, e.getMessage(), e);
+  }
+
+  public void jobNotificationListenerFailed(String channel, Exception e) {
+    logWarn("043", "Listening for job notifications via '{}' failed, retrying: {}", channel, e.getMessage(), e);
+  }
+
+  public void jobNotificationReceived(String channel) {
+    logDebug("044", "Received job notification via '{}'", channel);
+  }
+
+  public void extendedLocksOfQueuedJobs(String processEngine, int numJobs) {
+    logDebug("045", "Extended the locks of {} queued jobs for process engine '{}'", numJobs, processEngine);
+  }
+
+  public void exceptionWhileExtendingLocksOfQueuedJobs(String processEngine, Exception e) {
+    logWarn("046", "Could not extend the locks of queued jobs for process engine '{}': {}", processEngine, e.getMessage(), e);
+  }
+
+  public ProcessEngineException jobNotificationException(String channel, Exception e) {
+    return new ProcessEngineException(exceptionMessage(
+        "047", "Could not notify other nodes via '{}' that a job was added: {}", channel, e.getMessage()), e);
+  }
+
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.jobexecutor;
+
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+
+/**
+ * <p>Propagates the notification that a job was added between the
+ * {@link JobExecutor job executors} of a cluster.</p>
+ *
+ * <p>Without a channel, a job created on one node is only picked up by the
+ * job executor of that node right away; the other nodes find it with their
+ * next regular acquisition cycle, i.e. after up to {@link JobExecutor#getMaxWait()}.
+ * With a channel, job acquisition is woken up on all nodes, which allows
+ * much longer idle wait times. Note that timers which become due without a
+ * job being added are still only found by the regular acquisition cycle.</p>
+ *
+ * <p>Implementations must be thread-safe.</p>
+ */
+public interface JobNotificationChannel {
+
+  /**
+   * Starts receiving notifications of other nodes. Called when the job executor is started.
+   *
+   * @param jobExecutor the job executor to wake up via {@link JobExecutor#jobWasAdded()}
+   * when another node added a job
+   */
+  void start(JobExecutor jobExecutor);
+
+  /**
+   * Stops receiving notifications. Called when the job executor is shut down.
+   */
+  void stop();
+
+  /**
+   * Notifies the other nodes that a job was added. Called once after a transaction
+   * which added one or more jobs was committed, also if the job executor of this
+   * node is not active. Implementations must not throw exceptions.
+   */
+  void publishJobAdded();
+
+  /**
+   * Notifies the other nodes that a job was added, as part of the transaction which
+   * added it. Called once before a transaction which added one or more jobs is committed,
+   * on the same conditions as {@link #publishJobAdded()}. Channels which can only send
+   * after the commit do nothing here. An exception fails the transaction.
+   *
+   * @param commandContext the command context of the transaction which added the jobs
+   */
+  default void publishJobAdded(CommandContext commandContext) {
+    // published after the commit by default
+  }
+
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.jobexecutor;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+
+/**
+ * <p>A {@link JobNotificationChannel} based on the <code>LISTEN</code> and
+ * <code>NOTIFY</code> commands of PostgreSQL. All nodes use the database of
+ * the process engine, so no further infrastructure is required.</p>
+ *
+ * <p>The notification is sent with <code>pg_notify</code> on the connection of
+ * the transaction which added the jobs, right before it is committed. PostgreSQL
+ * delivers it with the commit, and not at all if the transaction rolls back.</p>
+ *
+ * <p>Each node listens on a dedicated connection which is opened via the
+ * {@link DriverManager}, not borrowed from the data source of the engine: a
+ * pooled connection would keep listening after being returned to the pool. The
+ * listener thread owns this connection and closes it when it terminates, which
+ * also ends listening. The notifications are received via the <code>PGConnection</code>
+ * API of the PostgreSQL JDBC driver, which is accessed reflectively so that the
+ * engine does not depend on the driver at compile time.</p>
+ */
+public class PostgresJobNotificationChannel implements JobNotificationChannel {
+
+  private static final JobExecutorLogger LOG = ProcessEngineLogger.JOB_EXECUTOR_LOGGER;
+
+  public static final String DEFAULT_CHANNEL_NAME = "operaton_job_added";
+
+  protected static final String PG_CONNECTION_CLASS = "org.postgresql.PGConnection";
+
+  protected final String jdbcUrl;
+  protected final String jdbcUsername;
+  protected final String jdbcPassword;
+  protected String channelName = DEFAULT_CHANNEL_NAME;
+  protected int pollTimeoutInMillis = 1000;
+  protected long retryWaitInMillis = 5 * 1000L;
+
+  protected volatile boolean isActive;
+  protected CountDownLatch stopLatch;
+  protected Thread listenerThread;
+
+  /**
+   * @param jdbcUrl the URL of the engine database, used to open the listening connection
+   * @param jdbcUsername the user of the listening connection
+   * @param jdbcPassword the password of the listening connection
+   */
+  public PostgresJobNotificationChannel(String jdbcUrl, String jdbcUsername, String jdbcPassword) {
+    this.jdbcUrl = jdbcUrl;
+    this.jdbcUsername = jdbcUsername;
+    this.jdbcPassword = jdbcPassword;
+  }
+
+  @Override
+  public synchronized void start(JobExecutor jobExecutor) {
+    if (isActive) {
+      return;
+    }
+    isActive = true;
+    stopLatch = new CountDownLatch(1);
+    listenerThread = new Thread(() -> listen(jobExecutor), jobExecutor.getName() + "-notifications");
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+  }
+
+  /**
+   * Stops the listener thread. It returns from waiting for notifications
+   * after at most {@link #getPollTimeoutInMillis()} and then closes its connection.
+   */
+  @Override
+  public synchronized void stop() {
+    if (!isActive) {
+      return;
+    }
+    isActive = false;
+    // ends a wait before retrying
+    stopLatch.countDown();
+    try {
+      listenerThread.join(2L * pollTimeoutInMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    listenerThread = null;
+  }
+
+  /**
+   * Does nothing, the notification is already sent within the transaction by
+   * {@link #publishJobAdded(CommandContext)}.
+   */
+  @Override
+  public void publishJobAdded() {
+    // sent before the commit
+  }
+
+  @Override
+  public void publishJobAdded(CommandContext commandContext) {
+    Connection connection = commandContext.getDbSqlSession().getSqlSession().getConnection();
+    try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, '')")) {
+      statement.setString(1, channelName);
+      statement.execute();
+    } catch (SQLException e) {
+      throw LOG.jobNotificationException(channelName, e);
+    }
+  }
+
+  protected void listen(JobExecutor jobExecutor) {
+    while (isActive) {
+      try (Connection connection = openListenerConnection()) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + channelName);
+        }
+
+        Class<?> pgConnectionClass = Class.forName(PG_CONNECTION_CLASS, true, connection.getClass().getClassLoader());
+        Object pgConnection = connection.unwrap(pgConnectionClass);
+        Method getNotifications = pgConnectionClass.getMethod("getNotifications", int.class);
+
+        while (isActive) {
+          Object[] notifications = (Object[]) getNotifications.invoke(pgConnection, pollTimeoutInMillis);
+          if (notifications != null && notifications.length > 0) {
+            LOG.jobNotificationReceived(channelName);
+            jobExecutor.jobWasAdded();
+          }
+        }
+
+      } catch (Exception e) {
+        if (isActive) {
+          LOG.jobNotificationListenerFailed(channelName, e);
+          waitBeforeRetry();
+        }
+      }
+    }
+  }
+
+  protected Connection openListenerConnection() throws SQLException {
+    Properties properties = new Properties();
+    if (jdbcUsername != null) {
+      properties.setProperty("user", jdbcUsername);
+    }
+    if (jdbcPassword != null) {
+      properties.setProperty("password", jdbcPassword);
+    }
+    Connection connection = DriverManager.getConnection(jdbcUrl, properties);
+    connection.setAutoCommit(true);
+    return connection;
+  }
+
+  protected void waitBeforeRetry() {
+    try {
+      stopLatch.await(retryWaitInMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      isActive = false;
+    }
+  }
+
+  // getters and setters //////////////////////////////////////////////////////
+
+  public String getChannelName() {
+    return channelName;
+  }
+
+  /**
+   * @param channelName the name of the notification channel; must be a valid
+   * PostgreSQL identifier, as it cannot be passed as a statement parameter
+   */
+  public void setChannelName(String channelName) {
+    if (channelName == null || !channelName.matches("[A-Za-z_]\\w*")) {
+      throw new ProcessEngineException("Invalid notification channel name '%s'".formatted(channelName));
+    }
+    this.channelName = channelName;
+  }
+
+  public int getPollTimeoutInMillis() {
+    return pollTimeoutInMillis;
+  }
+
+  public void setPollTimeoutInMillis(int pollTimeoutInMillis) {
+    this.pollTimeoutInMillis = pollTimeoutInMillis;
+  }
+
+  public long getRetryWaitInMillis() {
+    return retryWaitInMillis;
+  }
+
+  public void setRetryWaitInMillis(long retryWaitInMillis) {
+    this.retryWaitInMillis = retryWaitInMillis;
+  }
+
+}
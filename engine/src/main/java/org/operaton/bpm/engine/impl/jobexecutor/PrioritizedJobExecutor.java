@@ -0,0 +1,342 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.operaton.bpm.engine.impl.ProcessEngineImpl;
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.cmd.ExtendJobLocksCmd;
+import org.operaton.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
+import org.operaton.bpm.engine.impl.util.ClockUtil;
+
+import static org.operaton.bpm.engine.impl.DefaultPriorityProvider.DEFAULT_PRIORITY;
+
+/**
+ * <p>A {@link DefaultJobExecutor} which queues acquired jobs by priority and
+ * due date instead of by acquisition order. The execution threads always pick
+ * the job batch with the highest priority and the earliest due date from the
+ * queue, including batches acquired after others are already queued.</p>
+ *
+ * <p>Jobs stay locked while they wait in the queue: on every acquisition cycle,
+ * the locks of queued jobs which would expire within half of the
+ * {@link #getLockTimeInMillis() lock time} are extended. The acquisition cycle
+ * must therefore run more often than that, i.e. {@link #getMaxWait()} must be
+ * shorter than half of the lock time.</p>
+ *
+ * <p>The queue depth and the time batches waited in the queue are exposed to
+ * size the queue and the acquisition batches.</p>
+ */
+public class PrioritizedJobExecutor extends DefaultJobExecutor {
+
+  private static final JobExecutorLogger LOG = ProcessEngineLogger.JOB_EXECUTOR_LOGGER;
+
+  protected final AtomicLong sequenceNumber = new AtomicLong();
+
+  protected final LongAdder executedBatchCount = new LongAdder();
+  protected final LongAdder totalQueueWaitTime = new LongAdder();
+  protected final AtomicLong maxQueueWaitTime = new AtomicLong();
+
+  @Override
+  protected void ensureInitialization() {
+    super.ensureInitialization();
+    acquireJobsRunnable = new PrioritizedJobAcquisitionRunnable();
+  }
+
+  @Override
+  protected void startExecutingJobs() {
+    if (threadPoolExecutor == null || threadPoolExecutor.isShutdown()) {
+      threadPoolExecutor = new ThreadPoolExecutor(corePoolSize, maxPoolSize, 0L, TimeUnit.MILLISECONDS,
+          new BoundedPriorityBlockingQueue(queueSize));
+      threadPoolExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    super.startExecutingJobs();
+  }
+
+  @Override
+  public void executeJobs(List<String> jobIds, ProcessEngineImpl processEngine) {
+    executeJobs(jobIds, processEngine, null);
+  }
+
+  /**
+   * @param acquiredJobs the result of the acquisition the jobs originate from;
+   * <code>null</code> if unknown, e.g. for jobs which were rejected before
+   */
+  public void executeJobs(List<String> jobIds, ProcessEngineImpl processEngine, AcquiredJobs acquiredJobs) {
+    try {
+      threadPoolExecutor.execute(createQueuedJobBatch(jobIds, processEngine, acquiredJobs));
+
+    } catch (RejectedExecutionException e) {
+
+      logRejectedExecution(processEngine, jobIds.size());
+      rejectedJobsHandler.jobsRejected(jobIds, processEngine, this);
+
+    } finally {
+      int totalQueueCapacity = calculateTotalQueueCapacity(threadPoolExecutor.getQueue().size(),
+          threadPoolExecutor.getQueue().remainingCapacity());
+
+      logJobExecutionInfo(processEngine, threadPoolExecutor.getQueue().size(), totalQueueCapacity,
+          threadPoolExecutor.getMaximumPoolSize(), threadPoolExecutor.getPoolSize());
+    }
+  }
+
+  protected QueuedJobBatch createQueuedJobBatch(List<String> jobIds, ProcessEngineImpl processEngine, AcquiredJobs acquiredJobs) {
+    long now = ClockUtil.getCurrentTime().getTime();
+
+    long priority = Long.MIN_VALUE;
+    long duedate = Long.MAX_VALUE;
+    long lockExpirationTime = Long.MAX_VALUE;
+    for (String jobId : jobIds) {
+      AcquirableJobEntity job = acquiredJobs != null ? acquiredJobs.getAcquiredJob(jobId) : null;
+      if (job == null) {
+        // jobs of unknown origin have waited before; let them run first among jobs of their priority
+        priority = Math.max(priority, DEFAULT_PRIORITY);
+        duedate = Long.MIN_VALUE;
+        lockExpirationTime = now;
+      } else {
+        priority = Math.max(priority, job.getPriority());
+        duedate = Math.min(duedate, job.getDuedate() != null ? job.getDuedate().getTime() : Long.MIN_VALUE);
+        lockExpirationTime = Math.min(lockExpirationTime,
+            job.getLockExpirationTime() != null ? job.getLockExpirationTime().getTime() : now);
+      }
+    }
+
+    return new QueuedJobBatch(jobIds, processEngine, getExecuteJobsRunnable(jobIds, processEngine),
+        priority, duedate, lockExpirationTime);
+  }
+
+  /**
+   * Extends the locks of the queued jobs of the given process engine which
+   * would expire within half of the lock time.
+   */
+  protected void extendLocksOfQueuedJobs(ProcessEngineImpl processEngine) {
+    long now = ClockUtil.getCurrentTime().getTime();
+    long renewalThreshold = now + lockTimeInMillis / 2;
+
+    List<QueuedJobBatch> batches = new ArrayList<>();
+    List<String> jobIds = new ArrayList<>();
+    for (Runnable runnable : threadPoolExecutor.getQueue()) {
+      if (runnable instanceof QueuedJobBatch batch
+          && batch.processEngine == processEngine
+          && batch.lockExpirationTime < renewalThreshold) {
+        batches.add(batch);
+        jobIds.addAll(batch.jobIds);
+      }
+    }
+
+    if (jobIds.isEmpty()) {
+      return;
+    }
+
+    Date lockExpirationTime = new Date(now + lockTimeInMillis);
+    try {
+      processEngine.getProcessEngineConfiguration()
+        .getCommandExecutorTxRequired()
+        .execute(new ExtendJobLocksCmd(jobIds, lockOwner, lockExpirationTime));
+
+      for (QueuedJobBatch batch : batches) {
+        batch.lockExpirationTime = lockExpirationTime.getTime();
+      }
+      LOG.extendedLocksOfQueuedJobs(processEngine.getName(), jobIds.size());
+
+    } catch (Exception e) {
+      LOG.exceptionWhileExtendingLocksOfQueuedJobs(processEngine.getName(), e);
+    }
+  }
+
+  protected void recordQueueWaitTime(long waitTime) {
+    executedBatchCount.increment();
+    totalQueueWaitTime.add(waitTime);
+    maxQueueWaitTime.accumulateAndGet(waitTime, Math::max);
+  }
+
+  // metrics //////////////////////////////////////////////////////////////////
+
+  /**
+   * @return the number of job batches currently waiting in the queue
+   */
+  public int getQueueDepth() {
+    return threadPoolExecutor != null ? threadPoolExecutor.getQueue().size() : 0;
+  }
+
+  /**
+   * @return the number of job batches which were taken for execution
+   */
+  public long getExecutedBatchCount() {
+    return executedBatchCount.sum();
+  }
+
+  /**
+   * @return the accumulated time in milliseconds the executed job batches waited in the queue
+   */
+  public long getTotalQueueWaitTimeInMillis() {
+    return totalQueueWaitTime.sum();
+  }
+
+  /**
+   * @return the longest time in milliseconds a job batch waited in the queue
+   */
+  public long getMaxQueueWaitTimeInMillis() {
+    return maxQueueWaitTime.get();
+  }
+
+  /**
+   * @return the average time in milliseconds a job batch waited in the queue
+   */
+  public long getAverageQueueWaitTimeInMillis() {
+    long count = getExecutedBatchCount();
+    return count > 0 ? getTotalQueueWaitTimeInMillis() / count : 0;
+  }
+
+  // queue ////////////////////////////////////////////////////////////////////
+
+  /**
+   * A job batch waiting for execution, ordered by the highest priority and
+   * the earliest due date of its jobs and then by submission order.
+   */
+  protected class QueuedJobBatch implements Runnable, Comparable<QueuedJobBatch> {
+
+    protected final List<String> jobIds;
+    protected final ProcessEngineImpl processEngine;
+    protected final Runnable executeJobsRunnable;
+    protected final long priority;
+    protected final long duedate;
+    protected final long sequence;
+    protected final long submissionTime;
+    protected volatile long lockExpirationTime;
+
+    protected QueuedJobBatch(List<String> jobIds,
+                             ProcessEngineImpl processEngine,
+                             Runnable executeJobsRunnable,
+                             long priority,
+                             long duedate,
+                             long lockExpirationTime) {
+      this.jobIds = jobIds;
+      this.processEngine = processEngine;
+      this.executeJobsRunnable = executeJobsRunnable;
+      this.priority = priority;
+      this.duedate = duedate;
+      this.lockExpirationTime = lockExpirationTime;
+      this.sequence = sequenceNumber.incrementAndGet();
+      this.submissionTime = System.currentTimeMillis();
+    }
+
+    @Override
+    public void run() {
+      recordQueueWaitTime(System.currentTimeMillis() - submissionTime);
+      executeJobsRunnable.run();
+    }
+
+    @Override
+    public int compareTo(QueuedJobBatch other) {
+      int result = Long.compare(other.priority, priority);
+      if (result == 0) {
+        result = Long.compare(duedate, other.duedate);
+      }
+      if (result == 0) {
+        result = Long.compare(sequence, other.sequence);
+      }
+      return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return this == obj;
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(sequence);
+    }
+  }
+
+  /**
+   * A priority queue which rejects elements beyond its capacity, so that the
+   * thread pool rejects jobs like with a bounded FIFO queue.
+   */
+  protected static class BoundedPriorityBlockingQueue extends PriorityBlockingQueue<Runnable> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final int capacity;
+
+    public BoundedPriorityBlockingQueue(int capacity) {
+      super(Math.max(1, capacity));
+      this.capacity = capacity;
+    }
+
+    @Override
+    public boolean offer(Runnable runnable) {
+      // jobs are only submitted by the acquisition thread, so size cannot grow concurrently
+      if (size() >= capacity) {
+        return false;
+      }
+      return super.offer(runnable);
+    }
+
+    @Override
+    public int remainingCapacity() {
+      return Math.max(0, capacity - size());
+    }
+  }
+
+  // acquisition //////////////////////////////////////////////////////////////
+
+  protected class PrioritizedJobAcquisitionRunnable extends SequentialJobAcquisitionRunnable {
+
+    protected PrioritizedJobAcquisitionRunnable() {
+      super(PrioritizedJobExecutor.this);
+    }
+
+    @Override
+    protected AcquiredJobs acquireJobs(JobAcquisitionContext context,
+                                       JobAcquisitionStrategy acquisitionStrategy,
+                                       ProcessEngineImpl currentProcessEngine) {
+      extendLocksOfQueuedJobs(currentProcessEngine);
+      return super.acquireJobs(context, acquisitionStrategy, currentProcessEngine);
+    }
+
+    @Override
+    protected void executeJobs(JobAcquisitionContext context, ProcessEngineImpl currentProcessEngine, AcquiredJobs acquiredJobs) {
+      // submit those jobs that were acquired in previous cycles but could not be scheduled for execution
+      List<List<String>> additionalJobs = context.getAdditionalJobsByEngine().get(currentProcessEngine.getName());
+      if (additionalJobs != null) {
+        for (List<String> jobBatch : additionalJobs) {
+          LOG.executeJobs(currentProcessEngine.getName(), jobBatch);
+
+          PrioritizedJobExecutor.this.executeJobs(jobBatch, currentProcessEngine, null);
+        }
+      }
+
+      // submit those jobs that were acquired in the current cycle
+      for (List<String> jobIds : acquiredJobs.getJobIdBatches()) {
+        LOG.executeJobs(currentProcessEngine.getName(), jobIds);
+
+        PrioritizedJobExecutor.this.executeJobs(jobIds, currentProcessEngine, acquiredJobs);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.jobexecutor;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+
+/**
+ * <p>A {@link JobNotificationChannel} sending UDP datagrams to a static list
+ * of peer nodes. Each node listens on a local port and sends a datagram to all
+ * peers when a job was added.</p>
+ *
+ * <p>Datagrams may get lost. This is acceptable since a lost notification only
+ * delays the job until the next regular acquisition cycle.</p>
+ */
+public class UdpJobNotificationChannel implements JobNotificationChannel {
+
+  private static final JobExecutorLogger LOG = ProcessEngineLogger.JOB_EXECUTOR_LOGGER;
+
+  protected static final byte[] JOB_ADDED_MESSAGE = "operaton:job-added".getBytes(StandardCharsets.UTF_8);
+
+  protected final InetSocketAddress bindAddress;
+  protected final List<InetSocketAddress> peers;
+
+  protected volatile boolean isActive;
+  protected DatagramSocket socket;
+  protected DatagramSocket sendSocket;
+  protected Thread listenerThread;
+
+  /**
+   * @param port the local port to receive notifications on
+   * @param peers the addresses of the other nodes
+   */
+  public UdpJobNotificationChannel(int port, List<InetSocketAddress> peers) {
+    this(new InetSocketAddress(port), peers);
+  }
+
+  /**
+   * @param bindAddress the local address to receive notifications on
+   * @param peers the addresses of the other nodes
+   */
+  public UdpJobNotificationChannel(InetSocketAddress bindAddress, List<InetSocketAddress> peers) {
+    this.bindAddress = bindAddress;
+    this.peers = List.copyOf(peers);
+  }
+
+  @Override
+  public synchronized void start(JobExecutor jobExecutor) {
+    if (isActive) {
+      return;
+    }
+    try {
+      socket = new DatagramSocket(bindAddress);
+    } catch (SocketException e) {
+      LOG.jobNotificationListenerFailed(getChannelName(), e);
+      return;
+    }
+    isActive = true;
+    DatagramSocket listenerSocket = socket;
+    listenerThread = new Thread(() -> listen(listenerSocket, jobExecutor), jobExecutor.getName() + "-notifications");
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (sendSocket != null) {
+      sendSocket.close();
+      sendSocket = null;
+    }
+    if (!isActive) {
+      return;
+    }
+    isActive = false;
+    // interrupts the blocking receive
+    socket.close();
+    try {
+      listenerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    socket = null;
+    listenerThread = null;
+  }
+
+  @Override
+  public void publishJobAdded() {
+    try {
+      DatagramSocket publishSocket = getSendSocket();
+      for (InetSocketAddress peer : peers) {
+        publishSocket.send(new DatagramPacket(JOB_ADDED_MESSAGE, JOB_ADDED_MESSAGE.length, peer));
+      }
+    } catch (IOException e) {
+      LOG.jobNotificationFailed(getChannelName(), e);
+    }
+  }
+
+  /**
+   * @return the socket notifications are sent from; it is opened once and shared by
+   * all publishing threads until the channel is stopped
+   */
+  protected synchronized DatagramSocket getSendSocket() throws SocketException {
+    if (sendSocket == null || sendSocket.isClosed()) {
+      sendSocket = new DatagramSocket();
+    }
+    return sendSocket;
+  }
+
+  protected void listen(DatagramSocket listenerSocket, JobExecutor jobExecutor) {
+    byte[] buffer = new byte[JOB_ADDED_MESSAGE.length];
+    while (isActive) {
+      DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+      try {
+        listenerSocket.receive(packet);
+        if (isJobAddedMessage(packet)) {
+          LOG.jobNotificationReceived(getChannelName());
+          jobExecutor.jobWasAdded();
+        }
+      } catch (IOException e) {
+        if (isActive) {
+          LOG.jobNotificationListenerFailed(getChannelName(), e);
+        }
+      }
+    }
+  }
+
+  protected boolean isJobAddedMessage(DatagramPacket packet) {
+    return Arrays.equals(packet.getData(), packet.getOffset(), packet.getOffset() + packet.getLength(),
+        JOB_ADDED_MESSAGE, 0, JOB_ADDED_MESSAGE.length);
+  }
+
+  protected String getChannelName() {
+    return "udp:" + bindAddress;
+  }
+
+  public InetSocketAddress getBindAddress() {
+    return bindAddress;
+  }
+
+  public List<InetSocketAddress> getPeers() {
+    return peers;
+  }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.jobexecutor;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.operaton.bpm.engine.impl.ProcessEngineImpl;
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+
+/**
+ * <p>A {@link JobExecutor} which executes every batch of acquired jobs on its own
+ * virtual thread. Instead of a thread pool and a queue, the number of jobs
+ * executed concurrently is limited by {@link #setMaxConcurrentJobs(int)}.</p>
+ *
+ * <p>Every job of an executed batch occupies one execution slot until the batch is
+ * done. Job acquisition never acquires more jobs than can be executed immediately:
+ * the number of jobs to acquire is limited by the number of free execution slots,
+ * and acquisition pauses briefly while all slots are in use.</p>
+ *
+ * <p>Virtual threads require Java 21. On older runtimes, jobs are executed on
+ * platform threads, still limited by the maximum number of concurrent jobs.</p>
+ */
+public class VirtualThreadJobExecutor extends JobExecutor {
+
+  private static final JobExecutorLogger LOG = ProcessEngineLogger.JOB_EXECUTOR_LOGGER;
+
+  public static final int DEFAULT_MAX_CONCURRENT_JOBS = 100;
+
+  protected int maxConcurrentJobs = DEFAULT_MAX_CONCURRENT_JOBS;
+  protected long shutdownTimeoutInMillis = 60 * 1000L;
+
+  protected ExecutorService executorService;
+  protected Semaphore executionPermits;
+
+  @Override
+  protected void ensureInitialization() {
+    super.ensureInitialization();
+    acquireJobsRunnable = new ConcurrencyLimitedJobAcquisitionRunnable();
+  }
+
+  @Override
+  protected void startExecutingJobs() {
+    if (executorService == null || executorService.isShutdown()) {
+      executorService = createExecutorService();
+      executionPermits = new Semaphore(maxConcurrentJobs);
+    }
+    startJobAcquisitionThread();
+  }
+
+  @Override
+  protected void stopExecutingJobs() {
+    stopJobAcquisitionThread();
+
+    executorService.shutdown();
+
+    try {
+      if (!executorService.awaitTermination(shutdownTimeoutInMillis, TimeUnit.MILLISECONDS)) {
+        LOG.timeoutDuringShutdown();
+      }
+    } catch (InterruptedException e) {
+      LOG.interruptedWhileShuttingDownjobExecutor(e);
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void executeJobs(List<String> jobIds, ProcessEngineImpl processEngine) {
+    int permits = getRequiredExecutionSlots(jobIds);
+    if (!executionPermits.tryAcquire(permits)) {
+      rejectJobs(jobIds, processEngine);
+      return;
+    }
+
+    Runnable executeJobsRunnable = getExecuteJobsRunnable(jobIds, processEngine);
+    try {
+      executorService.execute(() -> {
+        try {
+          executeJobsRunnable.run();
+        } finally {
+          executionPermits.release(permits);
+        }
+      });
+
+    } catch (RejectedExecutionException e) {
+      executionPermits.release(permits);
+      rejectJobs(jobIds, processEngine);
+
+    } finally {
+      logJobExecutionInfo(processEngine, 0, 0, maxConcurrentJobs, getActiveJobCount());
+    }
+  }
+
+  /**
+   * @return the number of execution slots occupied by a batch of jobs: one per job,
+   * but at most all slots so that a batch larger than the limit can still be executed
+   */
+  protected int getRequiredExecutionSlots(List<String> jobIds) {
+    return Math.max(Math.min(jobIds.size(), maxConcurrentJobs), 1);
+  }
+
+  protected void rejectJobs(List<String> jobIds, ProcessEngineImpl processEngine) {
+    logRejectedExecution(processEngine, jobIds.size());
+    rejectedJobsHandler.jobsRejected(jobIds, processEngine, this);
+  }
+
+  /**
+   * @return an executor service starting a new virtual thread per task or, if
+   * virtual threads are not available, a new (or cached) platform thread per task
+   */
+  protected ExecutorService createExecutorService() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+
+    } catch (ReflectiveOperationException e) {
+      LOG.virtualThreadsNotAvailable();
+
+      AtomicInteger threadCount = new AtomicInteger();
+      return Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "%s-%d".formatted(getName(), threadCount.incrementAndGet()));
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
+  /**
+   * @return the number of jobs which can be executed immediately
+   */
+  public int getAvailableExecutionSlots() {
+    return executionPermits != null ? executionPermits.availablePermits() : maxConcurrentJobs;
+  }
+
+  /**
+   * @return the number of jobs currently executed
+   */
+  public int getActiveJobCount() {
+    return maxConcurrentJobs - getAvailableExecutionSlots();
+  }
+
+  // getters and setters //////////////////////////////////////////////////////
+
+  public int getMaxConcurrentJobs() {
+    return maxConcurrentJobs;
+  }
+
+  /**
+   * @param maxConcurrentJobs the maximum number of jobs executed concurrently;
+   * takes effect the next time the job executor is started
+   */
+  public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+    this.maxConcurrentJobs = maxConcurrentJobs;
+  }
+
+  public long getShutdownTimeoutInMillis() {
+    return shutdownTimeoutInMillis;
+  }
+
+  public void setShutdownTimeoutInMillis(long shutdownTimeoutInMillis) {
+    this.shutdownTimeoutInMillis = shutdownTimeoutInMillis;
+  }
+
+  public ExecutorService getExecutorService() {
+    return executorService;
+  }
+
+  // acquisition //////////////////////////////////////////////////////////////
+
+  protected class ConcurrencyLimitedJobAcquisitionRunnable extends SequentialJobAcquisitionRunnable {
+
+    protected ConcurrencyLimitedJobAcquisitionRunnable() {
+      super(VirtualThreadJobExecutor.this);
+    }
+
+    @Override
+    protected JobAcquisitionStrategy initializeAcquisitionStrategy() {
+      return new ConcurrencyLimitedJobAcquisitionStrategy();
+    }
+  }
+
+  /**
+   * Limits the number of jobs to acquire to the free execution slots and waits
+   * while no slot is free.
+   */
+  protected class ConcurrencyLimitedJobAcquisitionStrategy extends BackoffJobAcquisitionStrategy {
+
+    protected ConcurrencyLimitedJobAcquisitionStrategy() {
+      super(VirtualThreadJobExecutor.this);
+    }
+
+    @Override
+    public int getNumJobsToAcquire(String processEngine) {
+      return Math.min(super.getNumJobsToAcquire(processEngine), getAvailableExecutionSlots());
+    }
+
+    @Override
+    public long getWaitTime() {
+      long waitTime = super.getWaitTime();
+      if (getAvailableExecutionSlots() == 0) {
+        return Math.max(waitTime, executionSaturationWaitTime);
+      }
+      return waitTime;
+    }
+  }
+
+}
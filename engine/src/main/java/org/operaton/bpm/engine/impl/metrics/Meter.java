@@ -16,30 +16,45 @@
  */
 package org.operaton.bpm.engine.impl.metrics;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
- * A Meter implementation based on AtomicLong
+ * A Meter implementation based on striped atomic counters.
+ *
+ * <p>
+ * Marking threads are spread over several cells to avoid contention on a single
+ * counter. In contrast to {@link java.util.concurrent.atomic.LongAdder#sumThenReset()},
+ * {@link #getAndClear()} drains every cell atomically, so occurrences marked
+ * concurrently with a reset are never lost but reported with the next reset.
+ * </p>
  *
  * @author Daniel Meyer
  *
  */
 public class Meter {
 
-  protected AtomicLong counter = new AtomicLong(0);
+  /** distance between two used cells, keeps cells on separate cache lines */
+  protected static final int CELL_PADDING = 8;
+  protected static final int MAX_CELLS = 64;
+
+  protected final int cellMask;
+  protected final AtomicLongArray cells;
 
   protected String name;
 
   public Meter(String name) {
     this.name = name;
+    int numCells = cellCount();
+    this.cellMask = numCells - 1;
+    this.cells = new AtomicLongArray(numCells * CELL_PADDING);
   }
 
   public void mark() {
-    counter.incrementAndGet();
+    markTimes(1);
   }
 
   public void markTimes(long times) {
-    counter.addAndGet(times);
+    cells.getAndAdd(cellIndex(), times);
   }
 
   public String getName() {
@@ -51,11 +66,31 @@ public class Meter {
   }
 
   public long getAndClear() {
-    return counter.getAndSet(0);
+    long sum = 0;
+    for (int i = 0; i < cells.length(); i += CELL_PADDING) {
+      sum += cells.getAndSet(i, 0);
+    }
+    return sum;
   }
 
   public long get() {
-    return counter.get();
+    long sum = 0;
+    for (int i = 0; i < cells.length(); i += CELL_PADDING) {
+      sum += cells.get(i);
+    }
+    return sum;
+  }
+
+  protected int cellIndex() {
+    int hash = System.identityHashCode(Thread.currentThread());
+    hash ^= (hash >>> 16);
+    return (hash & cellMask) * CELL_PADDING;
+  }
+
+  protected static int cellCount() {
+    int processors = Math.min(Runtime.getRuntime().availableProcessors(), MAX_CELLS);
+    // next power of two, so that the cell can be selected by masking
+    return Integer.highestOneBit(Math.max(processors, 1) * 2 - 1);
   }
 
 }
@@ -18,17 +18,21 @@ package org.operaton.bpm.engine.impl.metrics;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.Nullable;
 
 /**
+ * Holds the meters of a process engine. Meters can be created and marked
+ * concurrently; marking a meter never blocks.
+ *
  * @author Daniel Meyer
  *
  */
 public class MetricsRegistry {
 
-  protected Map<String, Meter> dbMeters = new HashMap<>();
-  protected Map<String, Meter> diagnosticsMeters = new HashMap<>();
+  protected Map<String, Meter> dbMeters = new ConcurrentHashMap<>();
+  protected Map<String, Meter> diagnosticsMeters = new ConcurrentHashMap<>();
 
   public @Nullable Meter getDbMeterByName(String name) {
     return dbMeters.get(name);
@@ -42,6 +46,20 @@ public class MetricsRegistry {
     return diagnosticsMeters;
   }
 
+  /**
+   * Takes a snapshot of all database meters and resets them. Occurrences marked
+   * concurrently are either part of the snapshot or remain in the meter.
+   *
+   * @return the drained value per meter name
+   */
+  public Map<String, Long> getAndClearDbMeters() {
+    Map<String, Long> snapshot = new HashMap<>();
+    for (Meter meter : dbMeters.values()) {
+      snapshot.put(meter.getName(), meter.getAndClear());
+    }
+    return snapshot;
+  }
+
   public void clearDiagnosticsMetrics() {
     diagnosticsMeters.values().forEach(Meter::getAndClear);
   }
@@ -18,6 +18,7 @@ package org.operaton.bpm.engine.impl.metrics.reporter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.TimerTask;
 
 import org.operaton.bpm.engine.impl.ProcessEngineLogger;
@@ -26,7 +27,6 @@ import org.jspecify.annotations.Nullable;
 import org.operaton.bpm.engine.impl.interceptor.Command;
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
-import org.operaton.bpm.engine.impl.metrics.Meter;
 import org.operaton.bpm.engine.impl.metrics.MetricsLogger;
 import org.operaton.bpm.engine.impl.metrics.MetricsRegistry;
 import org.operaton.bpm.engine.impl.persistence.entity.MeterLogEntity;
@@ -68,10 +68,10 @@ public class MetricsCollectionTask extends TimerTask {
   protected void collectMetrics() {
 
     List<MeterLogEntity> logs = new ArrayList<>();
-    for (Meter meter : metricsRegistry.getDbMeters().values()) {
-      logs.add(new MeterLogEntity(meter.getName(),
+    for (Map.Entry<String, Long> meterValue : metricsRegistry.getAndClearDbMeters().entrySet()) {
+      logs.add(new MeterLogEntity(meterValue.getKey(),
           reporterId,
-          meter.getAndClear(),
+          meterValue.getValue(),
           ClockUtil.getCurrentTime()));
 
     }
@@ -23,6 +23,8 @@ import java.util.Map;
 import org.operaton.bpm.engine.impl.db.DbEntity;
 import org.operaton.bpm.engine.impl.db.HasDbRevision;
 
+import static org.operaton.bpm.engine.impl.DefaultPriorityProvider.DEFAULT_PRIORITY;
+
 public class AcquirableJobEntity implements DbEntity, HasDbRevision {
 
   public static final boolean DEFAULT_EXCLUSIVE = true;
@@ -33,6 +35,7 @@ public class AcquirableJobEntity implements DbEntity, HasDbRevision {
   protected String lockOwner;
   protected Date lockExpirationTime;
   protected Date duedate;
+  protected long priority = DEFAULT_PRIORITY;
 
   protected String rootProcessInstanceId;
   protected String processInstanceId;
@@ -84,6 +87,14 @@ public class AcquirableJobEntity implements DbEntity, HasDbRevision {
     this.duedate = duedate;
   }
 
+  public long getPriority() {
+    return priority;
+  }
+
+  public void setPriority(long priority) {
+    this.priority = priority;
+  }
+
   public String getLockOwner() {
     return lockOwner;
   }
@@ -161,6 +172,7 @@ public class AcquirableJobEntity implements DbEntity, HasDbRevision {
         + ", lockOwner=" + lockOwner
         + ", lockExpirationTime=" + lockExpirationTime
         + ", duedate=" + duedate
+        + ", priority=" + priority
         + ", rootProcessInstanceId=" + rootProcessInstanceId
         + ", processInstanceId=" + processInstanceId
         + ", isExclusive=" + isExclusive
@@ -19,8 +19,10 @@ package org.operaton.bpm.engine.impl.persistence.entity;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.operaton.bpm.engine.externaltask.ExternalTask;
 import org.operaton.bpm.engine.impl.ExternalTaskQueryImpl;
@@ -30,6 +32,7 @@ import org.operaton.bpm.engine.impl.cfg.TransactionState;
 import org.operaton.bpm.engine.impl.context.Context;
 import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
 import org.operaton.bpm.engine.impl.db.entitymanager.DbEntityManager;
+import org.operaton.bpm.engine.impl.externaltask.ExternalTaskAvailableListener;
 import org.operaton.bpm.engine.impl.externaltask.TopicFetchInstruction;
 import org.operaton.bpm.engine.impl.persistence.AbstractManager;
 import org.operaton.bpm.engine.impl.util.ClockUtil;
@@ -45,13 +48,17 @@ import static org.operaton.bpm.engine.impl.util.DatabaseUtil.checkDatabaseType;
  */
 public class ExternalTaskManager extends AbstractManager {
 
+  /** topics of the tasks which became available in the current transaction */
+  protected Set<String> availableTopicNames;
+  protected boolean isUnknownTopicAvailable;
+
   public ExternalTaskEntity findExternalTaskById(String id) {
     return getDbEntityManager().selectById(ExternalTaskEntity.class, id);
   }
 
   public void insert(ExternalTaskEntity externalTask) {
     getDbEntityManager().insert(externalTask);
-    fireExternalTaskAvailableEvent();
+    fireExternalTaskAvailableEvent(externalTask.getTopicName());
   }
 
   public void delete(ExternalTaskEntity externalTask) {
@@ -180,10 +187,39 @@ public class ExternalTaskManager extends AbstractManager {
   }
 
   public void fireExternalTaskAvailableEvent() {
-    Context.getCommandContext()
-        .getTransactionContext()
-        .addTransactionListener(TransactionState.COMMITTED, commandContext ->
-        ProcessEngineImpl.EXT_TASK_CONDITIONS.signalAll());
+    fireExternalTaskAvailableEvent(null);
+  }
+
+  /**
+   * Signals long polling clients after the current transaction has committed.
+   * All events of a transaction are collected and published by a single
+   * transaction listener.
+   *
+   * @param topicName the topic of the available task or <code>null</code> if unknown
+   */
+  public void fireExternalTaskAvailableEvent(String topicName) {
+    if (availableTopicNames == null) {
+      availableTopicNames = new HashSet<>();
+      Set<String> topicNames = availableTopicNames;
+      String processEngineName = Context.getProcessEngineConfiguration().getProcessEngineName();
+      Context.getCommandContext()
+          .getTransactionContext()
+          .addTransactionListener(TransactionState.COMMITTED, commandContext ->
+          notifyExternalTasksAvailable(processEngineName, topicNames));
+    }
+    if (topicName == null) {
+      isUnknownTopicAvailable = true;
+    } else {
+      availableTopicNames.add(topicName);
+    }
+  }
+
+  protected void notifyExternalTasksAvailable(String processEngineName, Set<String> topicNames) {
+    ProcessEngineImpl.EXT_TASK_CONDITIONS.signalAll();
+    Set<String> notifiedTopicNames = isUnknownTopicAvailable ? null : Collections.unmodifiableSet(topicNames);
+    for (ExternalTaskAvailableListener listener : ProcessEngineImpl.EXT_TASK_LISTENERS) {
+      listener.onExternalTasksAvailable(processEngineName, notifiedTopicNames);
+    }
   }
 }
 
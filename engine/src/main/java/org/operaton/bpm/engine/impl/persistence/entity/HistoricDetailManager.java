@@ -25,6 +25,7 @@ import org.operaton.bpm.engine.history.HistoricDetail;
 import org.operaton.bpm.engine.impl.HistoricDetailQueryImpl;
 import org.operaton.bpm.engine.impl.Page;
 import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityCacheIndex;
 import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.operaton.bpm.engine.impl.history.event.HistoricDetailEventEntity;
 import org.operaton.bpm.engine.impl.persistence.AbstractHistoricManager;
@@ -93,12 +94,10 @@ public class HistoricDetailManager extends AbstractHistoricManager {
       }
 
       //delete entries in Cache
-      List<HistoricDetailEventEntity> cachedHistoricDetails = getDbEntityManager().getCachedEntitiesByType(HistoricDetailEventEntity.class);
+      List<HistoricDetailEventEntity> cachedHistoricDetails = getDbEntityManager()
+          .getCachedEntitiesByIndex(DbEntityCacheIndex.HISTORIC_DETAILS_BY_TASK_ID, taskId);
       for (HistoricDetailEventEntity historicDetail : cachedHistoricDetails) {
-        // make sure we only delete the right ones (as we cannot make a proper query in the cache)
-        if (taskId.equals(historicDetail.getTaskId())) {
-          historicDetail.delete();
-        }
+        historicDetail.delete();
       }
     }
   }
@@ -20,13 +20,13 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 import org.operaton.bpm.engine.history.HistoricVariableInstance;
 import org.operaton.bpm.engine.history.HistoricVariableInstanceQuery;
 import org.operaton.bpm.engine.impl.HistoricVariableInstanceQueryImpl;
 import org.operaton.bpm.engine.impl.Page;
 import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityCacheIndex;
 import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.operaton.bpm.engine.impl.persistence.AbstractHistoricManager;
 
@@ -92,13 +92,16 @@ public class HistoricVariableInstanceManager extends AbstractHistoricManager {
       }
 
       // delete entries in Cache
-      List <HistoricVariableInstanceEntity> cachedHistoricVariableInstances = getDbEntityManager().getCachedEntitiesByType(HistoricVariableInstanceEntity.class);
+      List<HistoricVariableInstanceEntity> cachedHistoricVariableInstances;
+      if (historicProcessInstanceId != null) {
+        cachedHistoricVariableInstances = getDbEntityManager()
+            .getCachedEntitiesByIndex(DbEntityCacheIndex.HISTORIC_VARIABLES_BY_PROCESS_INSTANCE_ID, historicProcessInstanceId);
+      } else {
+        cachedHistoricVariableInstances = getDbEntityManager()
+            .getCachedEntitiesByIndex(DbEntityCacheIndex.HISTORIC_VARIABLES_BY_CASE_INSTANCE_ID, historicCaseInstanceId);
+      }
       for (HistoricVariableInstanceEntity historicVariableInstance : cachedHistoricVariableInstances) {
-        // make sure we only delete the right ones (as we cannot make a proper query in the cache)
-        if ((historicProcessInstanceId != null && Objects.equals(historicProcessInstanceId, historicVariableInstance.getProcessInstanceId()))
-            || (historicCaseInstanceId != null && Objects.equals(historicCaseInstanceId, historicVariableInstance.getCaseInstanceId()))) {
-          historicVariableInstance.delete();
-        }
+        historicVariableInstance.delete();
       }
     }
   }
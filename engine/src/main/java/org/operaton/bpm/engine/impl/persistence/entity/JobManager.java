@@ -36,6 +36,7 @@ import org.operaton.bpm.engine.impl.cfg.TransactionState;
 import org.operaton.bpm.engine.impl.context.Context;
 import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
 import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.jobexecutor.ExclusiveJobAddedNotification;
 import org.operaton.bpm.engine.impl.jobexecutor.JobExecutor;
 import org.operaton.bpm.engine.impl.jobexecutor.JobExecutorContext;
@@ -65,6 +66,7 @@ public class JobManager extends AbstractManager {
   public static final QueryOrderingProperty JOB_TYPE_ORDERING_PROPERTY = new QueryOrderingProperty(null, JobQueryProperty.TYPE);
   public static final QueryOrderingProperty JOB_DUEDATE_ORDERING_PROPERTY = new QueryOrderingProperty(null, JobQueryProperty.DUEDATE);
   private static final String JOB_ID = "jobId";
+  private static final String JOB_IDS = "jobIds";
   private static final String HANDLER_TYPE = "handlerType";
   private static final String RETRIES = "retries";
   private static final String DUE_DATE = "dueDate";
@@ -74,6 +76,9 @@ public class JobManager extends AbstractManager {
   private static final String NOW = "now";
   private static final String SKIP_LOCKED = "skipLocked";
   private static final String SELECT_NEXT_JOBS_TO_EXECUTE = "selectNextJobsToExecute";
+  private static final String LOCK_NEXT_JOBS_TO_EXECUTE = "lockNextJobsToExecute";
+  private static final String LOCK_OWNER = "lockOwner";
+  private static final String LOCK_EXPIRATION_TIME = "lockExpirationTime";
   private static final String ALWAYS_SET_DUE_DATE = "alwaysSetDueDate";
   private static final String DEPLOYMENT_AWARE = "deploymentAware";
   private static final String JOB_PRIORITY_MIN = "jobPriorityMin";
@@ -153,10 +158,12 @@ public class JobManager extends AbstractManager {
 
   protected void hintJobExecutor(JobEntity job) {
     JobExecutor jobExecutor = Context.getProcessEngineConfiguration().getJobExecutor();
-    if (!jobExecutor.isActive()) {
+    if (!jobExecutor.isActive() && jobExecutor.getJobNotificationChannel() == null) {
+      // nobody to notify
       return;
     }
 
+    CommandContext commandContext = Context.getCommandContext();
     JobExecutorContext jobExecutorContext = Context.getJobExecutorContext();
     TransactionListener transactionListener = null;
     if (isJobPriorityInJobExecutorPriorityRange(job.getPriority())) {
@@ -172,14 +179,23 @@ public class JobManager extends AbstractManager {
         job.setLockExpirationTime(new Date(currentTime.getTime() + jobExecutor.getLockTimeInMillis()));
         job.setLockOwner(jobExecutor.getLockOwner());
         transactionListener = new ExclusiveJobAddedNotification(job.getId(), jobExecutorContext);
-      } else {
+      } else if (!commandContext.isJobAddedNotificationRegistered()) {
         // reset Acquisition strategy and notify the JobExecutor that
-        // a new Job is available for execution on future runs
+        // a new Job is available for execution on future runs;
+        // once per transaction is enough, however many jobs it adds
+        commandContext.setJobAddedNotificationRegistered(true);
         transactionListener = new MessageAddedNotification(jobExecutor);
+        if (jobExecutor.getJobNotificationChannel() != null) {
+          commandContext
+          .getTransactionContext()
+          .addTransactionListener(TransactionState.COMMITTING, jobExecutor::publishJobAdded);
+        }
+      }
+      if (transactionListener != null) {
+        commandContext
+        .getTransactionContext()
+        .addTransactionListener(TransactionState.COMMITTED, transactionListener);
       }
-      Context.getCommandContext()
-      .getTransactionContext()
-      .addTransactionListener(TransactionState.COMMITTED, transactionListener);
     }
   }
 
@@ -212,8 +228,33 @@ public class JobManager extends AbstractManager {
     return (JobEntity) getDbEntityManager().selectOne("selectJob", jobId);
   }
 
-  @SuppressWarnings("unchecked")
   public List<AcquirableJobEntity> findNextJobsToExecute(Page page) {
+    return findNextJobsToExecute(page, null, null);
+  }
+
+  /**
+   * @return <code>true</code> if {@link #findAndLockNextJobsToExecute(Page, String, Date)}
+   * locks non-exclusive jobs within the statement which selects them. This is the case for
+   * PostgreSQL if jobs are acquired with SKIP LOCKED.
+   */
+  public boolean isLockOnAcquisitionSupported() {
+    ProcessEngineConfigurationImpl engineConfiguration = Context.getProcessEngineConfiguration();
+    return engineConfiguration.isJobExecutorAcquireWithSkipLocked()
+        && DbSqlSessionFactory.POSTGRES.equals(engineConfiguration.getDatabaseType());
+  }
+
+  /**
+   * Like {@link #findNextJobsToExecute(Page)}, but if {@link #isLockOnAcquisitionSupported()},
+   * the returned non-exclusive jobs are already locked by the given owner and need no
+   * further update. Exclusive jobs are returned unlocked, since they are acquired without
+   * SKIP LOCKED by a separate statement.
+   */
+  public List<AcquirableJobEntity> findAndLockNextJobsToExecute(Page page, String lockOwner, Date lockExpirationTime) {
+    return findNextJobsToExecute(page, lockOwner, lockExpirationTime);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected List<AcquirableJobEntity> findNextJobsToExecute(Page page, String lockOwner, Date lockExpirationTime) {
     ProcessEngineConfigurationImpl engineConfiguration = Context.getProcessEngineConfiguration();
 
     Map<String,Object> params = new HashMap<>();
@@ -259,6 +300,10 @@ public class JobManager extends AbstractManager {
     params.put("applyExclusiveOverProcessHierarchies", engineConfiguration.isJobExecutorAcquireExclusiveOverProcessHierarchies());
 
     if (skipLocked) {
+      if (lockOwner != null) {
+        params.put(LOCK_OWNER, lockOwner);
+        params.put(LOCK_EXPIRATION_TIME, lockExpirationTime);
+      }
       return findNextJobsToExecuteWithSkipLocked(params, page);
     } else {
       return getDbEntityManager().selectList(SELECT_NEXT_JOBS_TO_EXECUTE, params, page);
@@ -304,6 +349,11 @@ public class JobManager extends AbstractManager {
   @SuppressWarnings("unchecked")
   protected List<AcquirableJobEntity> selectNextJobsToExecuteWithSkipLocked(Map<String, Object> params, int maxResults) {
     String databaseType = Context.getProcessEngineConfiguration().getDatabaseType();
+    if (params.get(LOCK_OWNER) != null && DbSqlSessionFactory.POSTGRES.equals(databaseType)) {
+      // selects and locks in one round-trip; the returned entities are cached with the new
+      // lock owner and revision, so that flushing the acquisition issues no further update
+      return getDbEntityManager().selectList(LOCK_NEXT_JOBS_TO_EXECUTE, params, new Page(0, maxResults));
+    }
     if (DbSqlSessionFactory.ORACLE.equals(databaseType) || DbSqlSessionFactory.DB2.equals(databaseType)) {
       return getDbEntityManager().selectListCursorLimited(SELECT_NEXT_JOBS_TO_EXECUTE, params, maxResults);
     }
@@ -477,6 +527,17 @@ public class JobManager extends AbstractManager {
     getDbEntityManager().update(JobEntity.class, "updateJobPriorityByDefinitionId", parameters);
   }
 
+  /**
+   * Extends the locks of the given jobs which are still held by the lock owner.
+   */
+  public void updateJobLockExpirationTime(List<String> jobIds, String lockOwner, Date lockExpirationTime) {
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put(JOB_IDS, jobIds);
+    parameters.put(LOCK_OWNER, lockOwner);
+    parameters.put(LOCK_EXPIRATION_TIME, lockExpirationTime);
+    getDbEntityManager().update(JobEntity.class, "updateJobLockExpirationTimeByIds", parameters);
+  }
+
   protected void configureQuery(JobQueryImpl query) {
     getAuthorizationManager().configureJobQuery(query);
     getTenantManager().configureQuery(query);
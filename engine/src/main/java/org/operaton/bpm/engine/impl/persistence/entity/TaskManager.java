@@ -16,6 +16,7 @@
  */
 package org.operaton.bpm.engine.impl.persistence.entity;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,9 +27,11 @@ import org.operaton.bpm.engine.impl.TaskQueryImpl;
 import org.operaton.bpm.engine.impl.cfg.auth.ResourceAuthorizationProvider;
 import org.operaton.bpm.engine.impl.context.Context;
 import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
+import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.persistence.AbstractManager;
 import org.operaton.bpm.engine.task.Task;
+import org.operaton.commons.utils.CollectionUtil;
 
 import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
@@ -111,6 +114,15 @@ public class TaskManager extends AbstractManager {
     return getDbEntityManager().selectById(TaskEntity.class, id);
   }
 
+  @SuppressWarnings("unchecked")
+  public List<TaskEntity> findTasksByIds(List<String> ids) {
+    List<TaskEntity> tasks = new ArrayList<>();
+    for (List<String> partition : CollectionUtil.partition(ids, DbSqlSessionFactory.MAXIMUM_NUMBER_PARAMS)) {
+      tasks.addAll(getDbEntityManager().selectList("selectTasksByIds", partition));
+    }
+    return tasks;
+  }
+
   @SuppressWarnings("unchecked")
   public List<TaskEntity> findTasksByExecutionId(String executionId) {
     return getDbEntityManager().selectList("selectTasksByExecutionId", executionId);
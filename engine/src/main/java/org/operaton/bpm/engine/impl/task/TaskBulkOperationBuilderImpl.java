@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.task;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.operaton.bpm.engine.BulkOperationResult;
+import org.operaton.bpm.engine.impl.BulkOperationExecutor;
+import org.operaton.bpm.engine.impl.cmd.AssignTaskCmd;
+import org.operaton.bpm.engine.impl.cmd.ClaimTaskCmd;
+import org.operaton.bpm.engine.impl.cmd.CompleteTaskCmd;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+import org.operaton.bpm.engine.task.TaskBulkOperationBuilder;
+
+/**
+ * Implementation of {@link TaskBulkOperationBuilder}.
+ */
+public class TaskBulkOperationBuilderImpl implements TaskBulkOperationBuilder {
+
+  protected final BulkOperationExecutor bulkOperationExecutor;
+  protected int chunkSize;
+
+  /**
+   * @param chunkSize the default number of operations executed in one transaction
+   */
+  public TaskBulkOperationBuilderImpl(CommandExecutor commandExecutor, int chunkSize) {
+    this.bulkOperationExecutor = new BulkOperationExecutor(commandExecutor);
+    this.bulkOperationExecutor.setChunkPreparation(this::fetchTasks);
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public TaskBulkOperationBuilderImpl claim(String taskId, String userId) {
+    bulkOperationExecutor.addOperation(taskId, () -> new ClaimTaskCmd(taskId, userId));
+    return this;
+  }
+
+  @Override
+  public TaskBulkOperationBuilderImpl setAssignee(String taskId, String userId) {
+    bulkOperationExecutor.addOperation(taskId, () -> new AssignTaskCmd(taskId, userId));
+    return this;
+  }
+
+  @Override
+  public TaskBulkOperationBuilderImpl complete(String taskId) {
+    return complete(taskId, null);
+  }
+
+  @Override
+  public TaskBulkOperationBuilderImpl complete(String taskId, Map<String, Object> variables) {
+    bulkOperationExecutor.addOperation(taskId, () -> new CompleteTaskCmd(taskId, variables, false, false));
+    return this;
+  }
+
+  @Override
+  public TaskBulkOperationBuilderImpl chunkSize(int chunkSize) {
+    this.chunkSize = chunkSize;
+    return this;
+  }
+
+  @Override
+  public List<BulkOperationResult> execute() {
+    return bulkOperationExecutor.execute(chunkSize);
+  }
+
+  /**
+   * Fetches the tasks of a chunk with one query, so the commands find them in the entity cache.
+   */
+  protected void fetchTasks(CommandContext commandContext, List<String> taskIds) {
+    List<String> distinctTaskIds = taskIds.stream()
+        .filter(Objects::nonNull)
+        .distinct()
+        .toList();
+    if (distinctTaskIds.size() > 1) {
+      commandContext.getTaskManager().findTasksByIds(distinctTaskIds);
+    }
+  }
+
+}
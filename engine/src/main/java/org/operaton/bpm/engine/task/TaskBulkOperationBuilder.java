@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.task;
+
+import java.util.List;
+import java.util.Map;
+
+import org.operaton.bpm.engine.BulkOperationResult;
+import org.operaton.bpm.engine.TaskService;
+
+/**
+ * <p>Fluent builder to claim, assign or complete many tasks at once. The operations
+ * are executed in the order in which they were added, in chunks of operations
+ * sharing one transaction. The tasks of a chunk are fetched with a single query
+ * before its operations are executed.</p>
+ *
+ * <p>If an operation of a chunk fails, the transaction of the chunk is rolled back
+ * and each of its operations is executed again in a transaction of its own. So a
+ * failing operation does not prevent the other operations from being executed.</p>
+ *
+ * <p>The builder must not be executed within an existing transaction, otherwise
+ * a failing operation rolls back all operations.</p>
+ */
+public interface TaskBulkOperationBuilder {
+
+  /**
+   * Adds claiming a task.
+   *
+   * @see TaskService#claim(String, String)
+   */
+  TaskBulkOperationBuilder claim(String taskId, String userId);
+
+  /**
+   * Adds changing the assignee of a task.
+   *
+   * @see TaskService#setAssignee(String, String)
+   */
+  TaskBulkOperationBuilder setAssignee(String taskId, String userId);
+
+  /**
+   * Adds the completion of a task.
+   *
+   * @see TaskService#complete(String)
+   */
+  TaskBulkOperationBuilder complete(String taskId);
+
+  /**
+   * Adds the completion of a task submitting variables.
+   *
+   * @see TaskService#complete(String, Map)
+   */
+  TaskBulkOperationBuilder complete(String taskId, Map<String, Object> variables);
+
+  /**
+   * Sets the number of operations executed in one transaction. Defaults to the
+   * <code>bulkOperationChunkSize</code> of the process engine configuration.
+   *
+   * @param chunkSize the number of operations per transaction, must be greater than zero
+   */
+  TaskBulkOperationBuilder chunkSize(int chunkSize);
+
+  /**
+   * Executes the operations.
+   *
+   * @return one result per operation in the order in which the operations were added
+   */
+  List<BulkOperationResult> execute();
+
+}
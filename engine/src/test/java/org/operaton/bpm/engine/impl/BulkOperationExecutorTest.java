@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.BadUserRequestException;
+import org.operaton.bpm.engine.BulkOperationResult;
+import org.operaton.bpm.engine.impl.interceptor.Command;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BulkOperationExecutorTest {
+
+  protected CommandContext commandContext = mock(CommandContext.class);
+
+  protected CommandExecutor commandExecutor = new CommandExecutor() {
+    @Override
+    public <T> T execute(Command<T> command) {
+      return command.execute(commandContext);
+    }
+  };
+
+  protected List<OperationCmd> createdCommands = new ArrayList<>();
+
+  @Test
+  void shouldCreateNewCommandsWhenRetryingOperationsOfFailedChunk() {
+    // given
+    BulkOperationExecutor bulkOperationExecutor = new BulkOperationExecutor(commandExecutor);
+    bulkOperationExecutor.addOperation("first", () -> createCommand(false));
+    bulkOperationExecutor.addOperation("second", () -> createCommand(true));
+
+    // when
+    List<BulkOperationResult> results = bulkOperationExecutor.execute(2);
+
+    // then
+    assertThat(results).extracting(BulkOperationResult::getId).containsExactly("first", "second");
+    assertThat(results).extracting(BulkOperationResult::isSuccessful).containsExactly(true, false);
+    assertThat(results.get(1).getException()).isInstanceOf(BadUserRequestException.class);
+
+    // both operations are executed once within the chunk and once on their own
+    assertThat(createdCommands).hasSize(4).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void shouldPrepareEveryChunk() {
+    // given
+    BulkOperationExecutor bulkOperationExecutor = new BulkOperationExecutor(commandExecutor);
+    for (String id : List.of("a", "b", "c")) {
+      bulkOperationExecutor.addOperation(id, () -> createCommand(false));
+    }
+    List<List<String>> preparedChunks = new ArrayList<>();
+    bulkOperationExecutor.setChunkPreparation((context, chunkIds) -> preparedChunks.add(List.copyOf(chunkIds)));
+
+    // when
+    List<BulkOperationResult> results = bulkOperationExecutor.execute(2);
+
+    // then
+    assertThat(results).allMatch(BulkOperationResult::isSuccessful);
+    assertThat(preparedChunks).containsExactly(List.of("a", "b"), List.of("c"));
+  }
+
+  protected OperationCmd createCommand(boolean failing) {
+    OperationCmd command = new OperationCmd(failing);
+    createdCommands.add(command);
+    return command;
+  }
+
+  protected static class OperationCmd implements Command<Void> {
+
+    protected final boolean failing;
+
+    public OperationCmd(boolean failing) {
+      this.failing = failing;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+      if (failing) {
+        throw new BadUserRequestException("operation failed");
+      }
+      return null;
+    }
+  }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefetchingDbIdGeneratorTest {
+
+  protected CountingIdGenerator idGenerator;
+
+  @BeforeEach
+  void setUp() {
+    idGenerator = new CountingIdGenerator();
+    idGenerator.setIdBlockSize(10);
+    // run prefetches synchronously to make the test deterministic
+    idGenerator.setPrefetchExecutor(Runnable::run);
+  }
+
+  @Test
+  void shouldHandOutConsecutiveIds() {
+    for (int i = 0; i < 25; i++) {
+      assertThat(idGenerator.getNextId()).isEqualTo(Integer.toString(i));
+    }
+  }
+
+  @Test
+  void shouldPrefetchAtLowWaterMark() {
+    idGenerator.setPrefetchThreshold(3);
+
+    // first block is fetched synchronously
+    idGenerator.getNextId();
+    assertThat(idGenerator.fetchedBlocks).hasValue(1);
+
+    // ids 1..5 do not reach the low-water mark
+    for (int i = 1; i < 6; i++) {
+      idGenerator.getNextId();
+    }
+    assertThat(idGenerator.fetchedBlocks).hasValue(1);
+
+    // id 6 leaves three remaining ids in the block
+    idGenerator.getNextId();
+    assertThat(idGenerator.fetchedBlocks).hasValue(2);
+
+    // the prefetched block is used without another fetch
+    for (int i = 7; i < 11; i++) {
+      idGenerator.getNextId();
+    }
+    assertThat(idGenerator.fetchedBlocks).hasValue(2);
+  }
+
+  @Test
+  void shouldFetchSynchronouslyIfPrefetchIsRejected() {
+    idGenerator.setPrefetchExecutor(runnable -> {
+      throw new IllegalStateException("rejected");
+    });
+
+    for (int i = 0; i < 25; i++) {
+      assertThat(idGenerator.getNextId()).isEqualTo(Integer.toString(i));
+    }
+    assertThat(idGenerator.fetchedBlocks).hasValue(3);
+  }
+
+  @Test
+  void shouldGrowBlockSizeIfBlocksAreConsumedFast() {
+    idGenerator.setMaxIdBlockSize(40);
+    idGenerator.setTargetBlockDurationMillis(Long.MAX_VALUE / 4);
+
+    for (int i = 0; i < 200; i++) {
+      idGenerator.getNextId();
+    }
+
+    assertThat(idGenerator.requestedBlockSizes).contains(10, 20, 40);
+    assertThat(idGenerator.requestedBlockSizes).allMatch(size -> size <= 40);
+  }
+
+  @Test
+  void shouldFetchNewBlockAfterReset() {
+    idGenerator.getNextId();
+    idGenerator.reset();
+    idGenerator.getNextId();
+
+    assertThat(idGenerator.fetchedBlocks).hasValue(2);
+  }
+
+  @Test
+  void shouldHandOutUniqueIdsConcurrently() throws Exception {
+    idGenerator.setPrefetchExecutor(PrefetchingDbIdGenerator::runOnDaemonThread);
+    Set<String> ids = ConcurrentHashMap.newKeySet();
+
+    ExecutorService threadPool = Executors.newFixedThreadPool(8);
+    List<Future<?>> tasks = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      tasks.add(threadPool.submit(() -> {
+        for (int j = 0; j < 1000; j++) {
+          ids.add(idGenerator.getNextId());
+        }
+      }));
+    }
+    for (Future<?> task : tasks) {
+      task.get();
+    }
+    threadPool.shutdown();
+    assertThat(threadPool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(ids).hasSize(8000);
+  }
+
+  protected static class CountingIdGenerator extends PrefetchingDbIdGenerator {
+
+    protected final AtomicInteger fetchedBlocks = new AtomicInteger();
+    protected final List<Integer> requestedBlockSizes = new ArrayList<>();
+    protected long nextFreeId = 0;
+
+    @Override
+    protected synchronized IdBlock fetchBlock(int blockSize) {
+      fetchedBlocks.incrementAndGet();
+      requestedBlockSizes.add(blockSize);
+      IdBlock idBlock = new IdBlock(nextFreeId, nextFreeId + blockSize - 1);
+      nextFreeId += blockSize;
+      return idBlock;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.db.entitymanager.cache;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.impl.history.event.HistoricDetailEventEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityCacheIndex.HISTORIC_DETAILS_BY_TASK_ID;
+
+class DbEntityCacheIndexTest {
+
+  protected DbEntityCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new DbEntityCache(DbEntityCacheKeyMapping.defaultEntityCacheKeyMapping());
+  }
+
+  @Test
+  void shouldFindEntitiesByIndexedAttribute() {
+    HistoricDetailEventEntity first = createDetail("1", "task1");
+    HistoricDetailEventEntity second = createDetail("2", "task1");
+    HistoricDetailEventEntity third = createDetail("3", "task2");
+    cache.putTransient(first);
+    cache.putTransient(second);
+    cache.putTransient(third);
+
+    assertThat(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, "task1")).containsExactlyInAnyOrder(first, second);
+    assertThat(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, "task2")).containsExactly(third);
+    assertThat(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, "task3")).isEmpty();
+    assertThat(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, null)).isEmpty();
+  }
+
+  @Test
+  void shouldReflectPutAndRemoveAfterLookup() {
+    HistoricDetailEventEntity first = createDetail("1", "task1");
+    cache.putTransient(first);
+    assertThat(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, "task1")).containsExactly(first);
+
+    HistoricDetailEventEntity second = createDetail("2", "task1");
+    cache.putTransient(second);
+    assertThat(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, "task1")).containsExactlyInAnyOrder(first, second);
+
+    cache.remove(first);
+    assertThat(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, "task1")).containsExactly(second);
+  }
+
+  @Test
+  void shouldNotReturnEntitiesWhoseAttributeChanged() {
+    HistoricDetailEventEntity detail = createDetail("1", "task1");
+    cache.putTransient(detail);
+    assertThat(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, "task1")).containsExactly(detail);
+
+    detail.setTaskId("task2");
+
+    assertThat(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, "task1")).isEmpty();
+    assertThat(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, "task2")).containsExactly(detail);
+  }
+
+  @Test
+  void shouldFindTransientEntityWhoseKeyIsSetAfterPut() {
+    HistoricDetailEventEntity detail = createDetail("1", null);
+    cache.putTransient(detail);
+    assertThat(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, "task1")).isEmpty();
+
+    detail.setTaskId("task1");
+
+    assertThat(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, "task1")).containsExactly(detail);
+  }
+
+  @Test
+  void shouldBuildIndexOnlyOnce() {
+    AtomicInteger builtIndexes = new AtomicInteger();
+    cache = new DbEntityCache(DbEntityCacheKeyMapping.defaultEntityCacheKeyMapping()) {
+      @Override
+      protected IndexedEntities buildIndex(DbEntityCacheIndex<?> index, Map<String, CachedDbEntity> entities) {
+        builtIndexes.incrementAndGet();
+        return super.buildIndex(index, entities);
+      }
+    };
+
+    for (int i = 0; i < 10; i++) {
+      HistoricDetailEventEntity detail = createDetail(String.valueOf(i), "task" + i % 2);
+      cache.putPersistent(detail);
+      assertThat(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, "task" + i % 2)).contains(detail);
+    }
+    cache.remove(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, "task0").get(0));
+
+    assertThat(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, "task0")).hasSize(4);
+    assertThat(cache.getEntitiesByIndex(HISTORIC_DETAILS_BY_TASK_ID, "task1")).hasSize(5);
+    assertThat(builtIndexes.get()).isEqualTo(1);
+  }
+
+  protected HistoricDetailEventEntity createDetail(String id, String taskId) {
+    HistoricDetailEventEntity detail = new HistoricDetailEventEntity();
+    detail.setId(id);
+    detail.setTaskId(taskId);
+    return detail;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.db.entitymanager.cache;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.impl.persistence.entity.JobDefinitionEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.operaton.bpm.engine.impl.util.ClockUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecondLevelEntityCacheTest {
+
+  protected SecondLevelEntityCache cache;
+
+  @BeforeEach
+  void setUp() {
+    ClockUtil.setCurrentTime(new Date(0));
+    cache = SecondLevelEntityCache.defaultSecondLevelEntityCache(2, 1000);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ClockUtil.reset();
+  }
+
+  @Test
+  void shouldReturnCopyOfCachedEntity() {
+    JobDefinitionEntity jobDefinition = createJobDefinition("1");
+    cache.put(jobDefinition, cache.getEpoch(JobDefinitionEntity.class));
+
+    // changes to the loaded entity do not affect the cache
+    jobDefinition.setJobType("changed");
+
+    JobDefinitionEntity cached = cache.get(JobDefinitionEntity.class, "1");
+    assertThat(cached).isNotSameAs(jobDefinition);
+    assertThat(cached.getJobType()).isEqualTo("async-continuation");
+    assertThat(cached.getRevision()).isEqualTo(3);
+    assertThat(cached.getOverridingJobPriority()).isEqualTo(10L);
+    assertThat(cache.get(JobDefinitionEntity.class, "1")).isNotSameAs(cached);
+    assertThat(cache.getHitCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotCacheUnregisteredType() {
+    TaskEntity task = new TaskEntity();
+    task.setId("1");
+    cache.put(task, cache.getEpoch(TaskEntity.class));
+
+    assertThat(cache.isCached(TaskEntity.class)).isFalse();
+    assertThat(cache.get(TaskEntity.class, "1")).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldNotCacheEntityLoadedDuringConcurrentWrite() {
+    long epoch = cache.getEpoch(JobDefinitionEntity.class);
+    cache.invalidate(JobDefinitionEntity.class, "2");
+
+    cache.put(createJobDefinition("1"), epoch);
+
+    assertThat(cache.get(JobDefinitionEntity.class, "1")).isNull();
+    assertThat(cache.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldInvalidateEntityAndType() {
+    cache.put(createJobDefinition("1"), cache.getEpoch(JobDefinitionEntity.class));
+    cache.put(createJobDefinition("2"), cache.getEpoch(JobDefinitionEntity.class));
+
+    cache.invalidate(JobDefinitionEntity.class, "1");
+    assertThat(cache.get(JobDefinitionEntity.class, "1")).isNull();
+    assertThat(cache.get(JobDefinitionEntity.class, "2")).isNotNull();
+
+    cache.invalidateType(JobDefinitionEntity.class);
+    assertThat(cache.get(JobDefinitionEntity.class, "2")).isNull();
+    assertThat(cache.getInvalidationCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldExpireEntries() {
+    cache.put(createJobDefinition("1"), cache.getEpoch(JobDefinitionEntity.class));
+
+    ClockUtil.setCurrentTime(new Date(1001));
+
+    assertThat(cache.get(JobDefinitionEntity.class, "1")).isNull();
+    assertThat(cache.getEvictionCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldEvictWhenCapacityIsReached() {
+    for (int i = 0; i < 3; i++) {
+      cache.put(createJobDefinition(Integer.toString(i)), cache.getEpoch(JobDefinitionEntity.class));
+    }
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getEvictionCount()).isEqualTo(1);
+  }
+
+  protected JobDefinitionEntity createJobDefinition(String id) {
+    JobDefinitionEntity jobDefinition = new JobDefinitionEntity();
+    jobDefinition.setId(id);
+    jobDefinition.setRevision(3);
+    jobDefinition.setJobType("async-continuation");
+    jobDefinition.setJobPriority(10L);
+    return jobDefinition;
+  }
+}
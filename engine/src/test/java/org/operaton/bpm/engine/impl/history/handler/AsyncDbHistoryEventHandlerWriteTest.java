@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.history.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.impl.history.event.HistoryEvent;
+import org.operaton.bpm.engine.impl.interceptor.Command;
+import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncDbHistoryEventHandlerWriteTest {
+
+  protected final List<String> writtenEventIds = new ArrayList<>();
+  protected final List<String> commandEventIds = new ArrayList<>();
+  protected int executedCommands;
+  protected int failingCommands;
+  protected Set<String> failingEventIds = Set.of();
+
+  protected AsyncDbHistoryEventHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    handler = new AsyncDbHistoryEventHandler() {
+      @Override
+      protected void writeEvent(BufferedHistoryEvent event) {
+        String id = event.historyEvent().getId();
+        if (failingEventIds.contains(id)) {
+          throw new ProcessEngineException("cannot write " + id);
+        }
+        commandEventIds.add(id);
+      }
+    };
+    handler.setCommandExecutor(new CommandExecutor() {
+      @Override
+      public <T> T execute(Command<T> command) {
+        executedCommands++;
+        commandEventIds.clear();
+        if (failingCommands > 0) {
+          failingCommands--;
+          throw new ProcessEngineException("command failed");
+        }
+        T result = command.execute(null);
+        // the command committed
+        writtenEventIds.addAll(commandEventIds);
+        return result;
+      }
+    });
+  }
+
+  @Test
+  void shouldWriteTransactionsInOneCommand() {
+    // when
+    handler.writeTransactions(List.of(transaction("a1", "a2"), transaction("b1")));
+
+    // then
+    assertThat(executedCommands).isEqualTo(1);
+    assertThat(writtenEventIds).containsExactly("a1", "a2", "b1");
+  }
+
+  @Test
+  void shouldRetryFailedCommand() {
+    // given
+    failingCommands = 1;
+
+    // when
+    handler.writeTransactions(List.of(transaction("a1", "a2"), transaction("b1")));
+
+    // then
+    assertThat(executedCommands).isEqualTo(2);
+    assertThat(writtenEventIds).containsExactly("a1", "a2", "b1");
+  }
+
+  @Test
+  void shouldWriteTransactionsSeparatelyIfRetryFails() {
+    // given
+    failingEventIds = Set.of("b1");
+
+    // when
+    handler.writeTransactions(List.of(transaction("a1", "a2"), transaction("b1", "b2"), transaction("c1")));
+
+    // then
+    // the batch, its retry and one command per transaction
+    assertThat(executedCommands).isEqualTo(5);
+    assertThat(writtenEventIds).containsExactly("a1", "a2", "c1");
+  }
+
+  @Test
+  void shouldNotRetrySingleTransactionSeparately() {
+    // given
+    failingEventIds = Set.of("a1");
+
+    // when
+    handler.writeEvents(transaction("a1", "a2"));
+
+    // then
+    assertThat(executedCommands).isEqualTo(2);
+    assertThat(writtenEventIds).isEmpty();
+  }
+
+  protected List<AsyncDbHistoryEventHandler.BufferedHistoryEvent> transaction(String... eventIds) {
+    List<AsyncDbHistoryEventHandler.BufferedHistoryEvent> events = new ArrayList<>();
+    for (String eventId : eventIds) {
+      HistoryEvent historyEvent = new HistoryEvent();
+      historyEvent.setId(eventId);
+      events.add(new AsyncDbHistoryEventHandler.BufferedHistoryEvent(historyEvent, true));
+    }
+    return events;
+  }
+
+}
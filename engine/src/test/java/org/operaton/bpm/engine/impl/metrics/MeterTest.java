@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class MeterTest {
+
+  @Test
+  void shouldMarkAndClear() {
+    Meter meter = new Meter("test");
+
+    meter.mark();
+    meter.markTimes(4);
+
+    assertThat(meter.get()).isEqualTo(5);
+    assertThat(meter.getAndClear()).isEqualTo(5);
+    assertThat(meter.get()).isZero();
+  }
+
+  @Test
+  void shouldNotLoseOccurrencesMarkedDuringClear() throws Exception {
+    Meter meter = new Meter("test");
+    int numThreads = 4;
+    int marksPerThread = 100000;
+
+    ExecutorService threadPool = Executors.newFixedThreadPool(numThreads);
+    List<Future<?>> tasks = new ArrayList<>();
+    for (int i = 0; i < numThreads; i++) {
+      tasks.add(threadPool.submit(() -> {
+        for (int j = 0; j < marksPerThread; j++) {
+          meter.mark();
+        }
+      }));
+    }
+
+    long collected = 0;
+    while (!allDone(tasks)) {
+      collected += meter.getAndClear();
+    }
+    collected += meter.getAndClear();
+    threadPool.shutdown();
+
+    assertThat(collected).isEqualTo((long) numThreads * marksPerThread);
+  }
+
+  @Test
+  void shouldSnapshotAndResetDbMeters() {
+    MetricsRegistry registry = new MetricsRegistry();
+    registry.createMeter("first");
+    registry.createDbMeter("second");
+
+    registry.markOccurrence("first", 3);
+    registry.markOccurrence("second");
+
+    assertThat(registry.getAndClearDbMeters()).containsOnly(entry("first", 3L), entry("second", 1L));
+    assertThat(registry.getAndClearDbMeters()).containsOnly(entry("first", 0L), entry("second", 0L));
+    // diagnostics meters are not reset
+    assertThat(registry.getDiagnosticsMeters().get("first").get()).isEqualTo(3);
+  }
+
+  protected boolean allDone(List<Future<?>> tasks) throws Exception {
+    for (Future<?> task : tasks) {
+      if (!task.isDone()) {
+        return false;
+      }
+      task.get();
+    }
+    return true;
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.api.cfg;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.util.ReflectUtil;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.engine.test.Deployment;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class JdbcBatchProcessingMaxStatementsTest {
+
+  protected static final int MAX_STATEMENTS = 3;
+
+  /** the number of statements of each executed jdbc batch */
+  protected static final List<Integer> BATCH_SIZES = new CopyOnWriteArrayList<>();
+
+  /** the number of rows of each statement inserting variable instances */
+  protected static final List<Integer> VARIABLE_INSERT_ROWS = new CopyOnWriteArrayList<>();
+
+  protected static final Pattern ROW_SEPARATOR = Pattern.compile("\\)\\s*,\\s*\\(");
+
+  protected static PooledDataSource pooledDataSource;
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder()
+    .randomEngineName().closeEngineAfterAllTests()
+    .configurator(config -> {
+      config.setJdbcBatchProcessingMaxStatements(MAX_STATEMENTS);
+      pooledDataSource = new PooledDataSource(ReflectUtil.getClassLoader(),
+          config.getJdbcDriver(), config.getJdbcUrl(), config.getJdbcUsername(), config.getJdbcPassword());
+      config.setDataSource(batchCountingDataSource(pooledDataSource));
+    })
+    .build();
+
+  RuntimeService runtimeService;
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+
+  @BeforeEach
+  void setUp() {
+    assumeTrue(processEngineConfiguration.isJdbcBatchProcessing());
+    BATCH_SIZES.clear();
+    VARIABLE_INSERT_ROWS.clear();
+  }
+
+  @AfterAll
+  static void closeDataSource() {
+    pooledDataSource.forceCloseAll();
+  }
+
+  @Test
+  @Deployment(resources = {"org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  void shouldFlushInBatchesOfConfiguredSize() {
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", createVariables(0));
+    BATCH_SIZES.clear();
+    Map<String, Object> variables = createVariables(1);
+
+    // when
+    runtimeService.setVariables(processInstance.getId(), variables);
+
+    // then
+    // the 20 variable updates are consecutive, so they are split into full batches
+    assertThat(BATCH_SIZES).isNotEmpty().allMatch(size -> size <= MAX_STATEMENTS);
+    assertThat(BATCH_SIZES.stream().filter(size -> size == MAX_STATEMENTS).count())
+      .isGreaterThanOrEqualTo(20 / MAX_STATEMENTS);
+    assertThat(runtimeService.getVariables(processInstance.getId())).isEqualTo(variables);
+  }
+
+  @Test
+  @Deployment(resources = {"org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  void shouldCombineInsertsIntoMultiRowInserts() {
+    assumeTrue(processEngineConfiguration.getDbSqlSessionFactory().getMaxRowsPerInsert() > 1);
+    Map<String, Object> variables = createVariables(0);
+
+    // when
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+    // then
+    // the 20 variable inserts are consecutive, so each batch of operations inserts them with one statement;
+    // the first and the last batch may contain other operations, too
+    assertThat(VARIABLE_INSERT_ROWS).allMatch(rows -> rows <= MAX_STATEMENTS);
+    assertThat(VARIABLE_INSERT_ROWS.stream().mapToInt(Integer::intValue).sum()).isEqualTo(20);
+    assertThat(VARIABLE_INSERT_ROWS.stream().filter(rows -> rows == MAX_STATEMENTS).count())
+      .isGreaterThanOrEqualTo(20 / MAX_STATEMENTS - 1);
+    assertThat(runtimeService.getVariables(processInstance.getId())).isEqualTo(variables);
+  }
+
+  protected Map<String, Object> createVariables(int offset) {
+    Map<String, Object> variables = new HashMap<>();
+    for (int i = 0; i < 20; i++) {
+      variables.put("var" + i, i + offset);
+    }
+    return variables;
+  }
+
+  protected static DataSource batchCountingDataSource(DataSource dataSource) {
+    return proxy(DataSource.class, dataSource, (proxy, method, args) -> {
+      Object result = invoke(dataSource, method, args);
+      return result instanceof Connection connection ? batchCountingConnection(connection) : result;
+    });
+  }
+
+  protected static Connection batchCountingConnection(Connection connection) {
+    return proxy(Connection.class, connection, (proxy, method, args) -> {
+      Object result = invoke(connection, method, args);
+      return result instanceof PreparedStatement statement ? batchCountingStatement(statement, (String) args[0]) : result;
+    });
+  }
+
+  protected static PreparedStatement batchCountingStatement(PreparedStatement statement, String sql) {
+    int[] pendingStatements = new int[1];
+    boolean variableInsert = sql.toUpperCase().contains("INSERT INTO") && sql.toUpperCase().contains("ACT_RU_VARIABLE");
+    return proxy(PreparedStatement.class, statement, (proxy, method, args) -> {
+      if ("addBatch".equals(method.getName())) {
+        pendingStatements[0]++;
+        if (variableInsert) {
+          VARIABLE_INSERT_ROWS.add((int) ROW_SEPARATOR.matcher(sql).results().count() + 1);
+        }
+      } else if ("executeBatch".equals(method.getName())) {
+        BATCH_SIZES.add(pendingStatements[0]);
+        pendingStatements[0] = 0;
+      }
+      return invoke(statement, method, args);
+    });
+  }
+
+  protected static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+    return type.cast(Proxy.newProxyInstance(JdbcBatchProcessingMaxStatementsTest.class.getClassLoader(), new Class<?>[] { type }, handler));
+  }
+
+  protected static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.api.externaltask;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.operaton.bpm.engine.BadUserRequestException;
+import org.operaton.bpm.engine.BulkOperationResult;
+import org.operaton.bpm.engine.ExternalTaskService;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.exception.NotFoundException;
+import org.operaton.bpm.engine.externaltask.ExternalTask;
+import org.operaton.bpm.engine.externaltask.LockedExternalTask;
+import org.operaton.bpm.engine.test.Deployment;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.variable.Variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(ProcessEngineExtension.class)
+class ExternalTaskBulkOperationTest {
+
+  protected static final String WORKER_ID = "aWorkerId";
+  protected static final String TOPIC_NAME = "externalTaskTopic";
+  protected static final long LOCK_TIME = 10000L;
+
+  protected RuntimeService runtimeService;
+  protected ExternalTaskService externalTaskService;
+
+  protected List<LockedExternalTask> lockedTasks;
+
+  @BeforeEach
+  void setUp() {
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey("oneExternalTaskProcess");
+    }
+    lockedTasks = externalTaskService.fetchAndLock(5, WORKER_ID)
+        .topic(TOPIC_NAME, LOCK_TIME)
+        .execute();
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/externaltask/oneExternalTaskProcess.bpmn20.xml")
+  @Test
+  void shouldCompleteTasksInChunks() {
+    // when
+    List<BulkOperationResult> results = externalTaskService.bulkOperation()
+        .complete(lockedTasks.get(0).getId(), WORKER_ID)
+        .complete(lockedTasks.get(1).getId(), WORKER_ID, Variables.createVariables().putValue("foo", "bar"), null)
+        .complete(lockedTasks.get(2).getId(), WORKER_ID)
+        .chunkSize(2)
+        .execute();
+
+    // then
+    assertThat(results).extracting(BulkOperationResult::getId)
+        .containsExactly(lockedTasks.get(0).getId(), lockedTasks.get(1).getId(), lockedTasks.get(2).getId());
+    assertThat(results).allMatch(BulkOperationResult::isSuccessful);
+    assertThat(externalTaskService.createExternalTaskQuery().count()).isEqualTo(2);
+    assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(2);
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/externaltask/oneExternalTaskProcess.bpmn20.xml")
+  @Test
+  void shouldHandleFailureAndExtendLocks() {
+    // when
+    List<BulkOperationResult> results = externalTaskService.bulkOperation()
+        .handleFailure(lockedTasks.get(0).getId(), WORKER_ID, "anErrorMessage", "someDetails", 3, 0, null, null)
+        .extendLock(lockedTasks.get(1).getId(), WORKER_ID, 2 * LOCK_TIME)
+        .execute();
+
+    // then
+    assertThat(results).allMatch(BulkOperationResult::isSuccessful);
+
+    ExternalTask failedTask = externalTaskService.createExternalTaskQuery()
+        .externalTaskId(lockedTasks.get(0).getId())
+        .singleResult();
+    assertThat(failedTask.getErrorMessage()).isEqualTo("anErrorMessage");
+    assertThat(failedTask.getRetries()).isEqualTo(3);
+
+    ExternalTask extendedTask = externalTaskService.createExternalTaskQuery()
+        .externalTaskId(lockedTasks.get(1).getId())
+        .singleResult();
+    assertThat(extendedTask.getLockExpirationTime()).isAfter(lockedTasks.get(1).getLockExpirationTime());
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/externaltask/oneExternalTaskProcess.bpmn20.xml")
+  @Test
+  void shouldReportFailedOperationsAndExecuteOthers() {
+    // when
+    List<BulkOperationResult> results = externalTaskService.bulkOperation()
+        .complete(lockedTasks.get(0).getId(), WORKER_ID)
+        .complete("nonExistingTaskId", WORKER_ID)
+        .complete(lockedTasks.get(1).getId(), "anotherWorkerId")
+        .complete(lockedTasks.get(2).getId(), WORKER_ID)
+        .chunkSize(10)
+        .execute();
+
+    // then
+    assertThat(results).extracting(BulkOperationResult::isSuccessful)
+        .containsExactly(true, false, false, true);
+    assertThat(results.get(1).getException()).isInstanceOf(NotFoundException.class);
+    assertThat(results.get(2).getException()).isInstanceOf(BadUserRequestException.class);
+    assertThat(externalTaskService.createExternalTaskQuery().count()).isEqualTo(3);
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/externaltask/oneExternalTaskProcess.bpmn20.xml")
+  @Test
+  void shouldRejectInvalidChunkSize() {
+    var bulkOperation = externalTaskService.bulkOperation()
+        .complete(lockedTasks.get(0).getId(), WORKER_ID)
+        .chunkSize(0);
+
+    assertThatThrownBy(bulkOperation::execute)
+        .isInstanceOf(BadUserRequestException.class)
+        .hasMessageContaining("chunkSize");
+  }
+
+}
@@ -16,6 +16,8 @@
  */
 package org.operaton.bpm.engine.test.api.externaltask;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,11 +30,14 @@ import org.operaton.bpm.engine.RepositoryService;
 import org.operaton.bpm.engine.RuntimeService;
 import org.operaton.bpm.engine.externaltask.LockedExternalTask;
 import org.operaton.bpm.engine.impl.ProcessEngineImpl;
+import org.operaton.bpm.engine.impl.externaltask.ExternalTaskAvailableListener;
 import org.operaton.bpm.engine.impl.util.SingleConsumerCondition;
 import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
 import org.operaton.bpm.model.bpmn.Bpmn;
 import org.operaton.bpm.model.bpmn.BpmnModelInstance;
 
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -46,6 +51,9 @@ class ExternalTaskConditionsTest {
   @Mock
   public SingleConsumerCondition condition;
 
+  @Mock
+  public ExternalTaskAvailableListener listener;
+
   protected RepositoryService repositoryService;
   protected RuntimeService runtimeService;
   protected ExternalTaskService externalTaskService;
@@ -64,6 +72,7 @@ class ExternalTaskConditionsTest {
     MockitoAnnotations.openMocks(this);
 
     ProcessEngineImpl.EXT_TASK_CONDITIONS.addConsumer(condition);
+    ProcessEngineImpl.EXT_TASK_LISTENERS.add(listener);
 
     deploymentId = repositoryService
         .createDeployment()
@@ -76,6 +85,7 @@ class ExternalTaskConditionsTest {
   void tearDown() {
 
     ProcessEngineImpl.EXT_TASK_CONDITIONS.removeConsumer(condition);
+    ProcessEngineImpl.EXT_TASK_LISTENERS.remove(listener);
 
     if (deploymentId != null) {
       repositoryService.deleteDeployment(deploymentId, true);
@@ -128,4 +138,36 @@ class ExternalTaskConditionsTest {
     verify(condition, times(1)).signal();
   }
 
+  @Test
+  void shouldNotifyListenerWithTopicOnTaskCreate() {
+
+    // when
+    runtimeService
+      .startProcessInstanceByKey("theProcess");
+
+    // then
+    verify(listener, times(1)).onExternalTasksAvailable(anyString(), eq(Set.of("theTopic")));
+  }
+
+  @Test
+  void shouldNotifyListenerWithTopicOnUnlock() {
+
+    // given
+    runtimeService
+      .startProcessInstanceByKey("theProcess");
+
+    LockedExternalTask lockedTask = externalTaskService.fetchAndLock(1, "theWorker")
+      .topic("theTopic", 10000)
+      .execute()
+      .get(0);
+
+    reset(listener); // clear notification for create
+
+    // when
+    externalTaskService.unlock(lockedTask.getId());
+
+    // then
+    verify(listener, times(1)).onExternalTasksAvailable(anyString(), eq(Set.of("theTopic")));
+  }
+
 }
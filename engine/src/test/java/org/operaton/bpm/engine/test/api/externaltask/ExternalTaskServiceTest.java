@@ -997,6 +997,61 @@ class ExternalTaskServiceTest {
     assertThat(tasks).hasSize(5);
   }
 
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/externaltask/ExternalTaskServiceTest.testFetchMultipleTopics.bpmn20.xml")
+  @Test
+  void testFetchMultipleTopicsByWeight() {
+    // given ten tasks per topic
+    for (int i = 0; i < 10; i++) {
+      runtimeService.startProcessInstanceByKey("parallelExternalTaskProcess");
+    }
+
+    // when
+    List<LockedExternalTask> tasks = externalTaskService.fetchAndLock(8, WORKER_ID)
+        .topic("topic1", LOCK_TIME).weight(2)
+        .topic("topic2", LOCK_TIME).weight(1)
+        .topic("topic3", LOCK_TIME).weight(1)
+        .execute();
+
+    // then the tasks are distributed in proportion to the weights
+    assertThat(tasks).hasSize(8);
+    assertThat(tasks).filteredOn(task -> "topic1".equals(task.getTopicName())).hasSize(4);
+    assertThat(tasks).filteredOn(task -> "topic2".equals(task.getTopicName())).hasSize(2);
+    assertThat(tasks).filteredOn(task -> "topic3".equals(task.getTopicName())).hasSize(2);
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/externaltask/ExternalTaskServiceTest.testFetchMultipleTopics.bpmn20.xml")
+  @Test
+  void testFetchMultipleTopicsByWeightRedistributesUnusedCapacity() {
+    // given ten tasks per topic, of which only two of topic2 are not locked
+    for (int i = 0; i < 10; i++) {
+      runtimeService.startProcessInstanceByKey("parallelExternalTaskProcess");
+    }
+    externalTaskService.fetchAndLock(8, WORKER_ID).topic("topic2", LOCK_TIME).execute();
+
+    // when
+    List<LockedExternalTask> tasks = externalTaskService.fetchAndLock(10, WORKER_ID)
+        .topic("topic1", LOCK_TIME).weight(1)
+        .topic("topic2", LOCK_TIME).weight(1)
+        .execute();
+
+    // then topic1 receives the capacity topic2 cannot use
+    assertThat(tasks).hasSize(10);
+    assertThat(tasks).filteredOn(task -> "topic1".equals(task.getTopicName())).hasSize(8);
+    assertThat(tasks).filteredOn(task -> "topic2".equals(task.getTopicName())).hasSize(2);
+  }
+
+  @Test
+  void testFetchWithInvalidWeight() {
+    // given
+    var fetchAndLockBuilder = externalTaskService.fetchAndLock(5, WORKER_ID)
+        .topic("topic1", LOCK_TIME).weight(0);
+
+    // when/then
+    assertThatThrownBy(fetchAndLockBuilder::execute)
+        .isInstanceOf(ProcessEngineException.class)
+        .hasMessageContaining("weight");
+  }
+
   @Deployment(resources = "org/operaton/bpm/engine/test/api/externaltask/oneExternalTaskProcess.bpmn20.xml")
   @Test
   void testFetchSuspendedTask() {
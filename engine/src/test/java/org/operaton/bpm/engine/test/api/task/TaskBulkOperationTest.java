@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.api.task;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.operaton.bpm.engine.BadUserRequestException;
+import org.operaton.bpm.engine.BulkOperationResult;
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.TaskAlreadyClaimedException;
+import org.operaton.bpm.engine.TaskService;
+import org.operaton.bpm.engine.task.Task;
+import org.operaton.bpm.engine.test.Deployment;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.variable.Variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(ProcessEngineExtension.class)
+class TaskBulkOperationTest {
+
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+
+  protected List<Task> tasks;
+
+  @BeforeEach
+  void setUp() {
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    }
+    tasks = taskService.createTaskQuery().orderByTaskId().asc().list();
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  @Test
+  void shouldCompleteTasksInChunks() {
+    // when
+    List<BulkOperationResult> results = taskService.bulkOperation()
+        .complete(tasks.get(0).getId())
+        .complete(tasks.get(1).getId(), Variables.createVariables().putValue("foo", "bar"))
+        .complete(tasks.get(2).getId())
+        .chunkSize(2)
+        .execute();
+
+    // then
+    assertThat(results).extracting(BulkOperationResult::getId)
+        .containsExactly(tasks.get(0).getId(), tasks.get(1).getId(), tasks.get(2).getId());
+    assertThat(results).allMatch(BulkOperationResult::isSuccessful);
+    assertThat(taskService.createTaskQuery().count()).isEqualTo(2);
+    assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(2);
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  @Test
+  void shouldClaimAndAssignTasks() {
+    // when
+    List<BulkOperationResult> results = taskService.bulkOperation()
+        .claim(tasks.get(0).getId(), "kermit")
+        .setAssignee(tasks.get(1).getId(), "gonzo")
+        .claim(tasks.get(2).getId(), "kermit")
+        .complete(tasks.get(2).getId())
+        .execute();
+
+    // then
+    assertThat(results).allMatch(BulkOperationResult::isSuccessful);
+    assertThat(taskService.createTaskQuery().taskAssignee("kermit").list())
+        .extracting(Task::getId)
+        .containsExactly(tasks.get(0).getId());
+    assertThat(taskService.createTaskQuery().taskAssignee("gonzo").list())
+        .extracting(Task::getId)
+        .containsExactly(tasks.get(1).getId());
+    assertThat(taskService.createTaskQuery().count()).isEqualTo(4);
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  @Test
+  void shouldReportFailedOperationsAndExecuteOthers() {
+    // given
+    taskService.claim(tasks.get(1).getId(), "gonzo");
+
+    // when
+    List<BulkOperationResult> results = taskService.bulkOperation()
+        .claim(tasks.get(0).getId(), "kermit")
+        .complete("nonExistingTaskId")
+        .claim(tasks.get(1).getId(), "kermit")
+        .complete(tasks.get(2).getId())
+        .chunkSize(10)
+        .execute();
+
+    // then
+    assertThat(results).extracting(BulkOperationResult::isSuccessful)
+        .containsExactly(true, false, false, true);
+    assertThat(results.get(1).getException()).isInstanceOf(ProcessEngineException.class);
+    assertThat(results.get(2).getException()).isInstanceOf(TaskAlreadyClaimedException.class);
+    assertThat(taskService.createTaskQuery().taskId(tasks.get(0).getId()).singleResult().getAssignee()).isEqualTo("kermit");
+    assertThat(taskService.createTaskQuery().taskId(tasks.get(1).getId()).singleResult().getAssignee()).isEqualTo("gonzo");
+    assertThat(taskService.createTaskQuery().count()).isEqualTo(4);
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  @Test
+  void shouldRejectInvalidChunkSize() {
+    var bulkOperation = taskService.bulkOperation()
+        .complete(tasks.get(0).getId())
+        .chunkSize(0);
+
+    assertThatThrownBy(bulkOperation::execute)
+        .isInstanceOf(BadUserRequestException.class)
+        .hasMessageContaining("chunkSize");
+  }
+
+}
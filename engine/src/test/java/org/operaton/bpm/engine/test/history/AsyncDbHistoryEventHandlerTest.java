@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.history;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.operaton.bpm.engine.HistoryService;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.TaskService;
+import org.operaton.bpm.engine.history.HistoricActivityInstance;
+import org.operaton.bpm.engine.history.HistoricProcessInstance;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.operaton.bpm.engine.impl.history.handler.AsyncDbHistoryEventHandler;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.engine.task.Task;
+import org.operaton.bpm.engine.test.Deployment;
+import org.operaton.bpm.engine.test.RequiredHistoryLevel;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.variable.Variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+class AsyncDbHistoryEventHandlerTest {
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder()
+    .randomEngineName().closeEngineAfterAllTests()
+    .configurator(c -> c.setEnableAsyncDbHistoryEventHandler(true))
+    .build();
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+  RuntimeService runtimeService;
+  TaskService taskService;
+  HistoryService historyService;
+
+  @Test
+  void shouldBeDisabledByDefault() {
+    // queued events are lost on a crash, so the handler has to be enabled explicitly
+    assertThat(new StandaloneInMemProcessEngineConfiguration().isEnableAsyncDbHistoryEventHandler()).isFalse();
+  }
+
+  @Test
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  void shouldWriteHistoryAfterCommit() throws InterruptedException {
+    // given
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables().putValue("foo", "bar"));
+    Task task = taskService.createTaskQuery().singleResult();
+    taskService.setVariable(task.getId(), "foo", "baz");
+
+    // when
+    taskService.complete(task.getId());
+    awaitHistoryWritten();
+
+    // then
+    HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery()
+        .processInstanceId(processInstance.getId())
+        .singleResult();
+    assertThat(historicProcessInstance.getState()).isEqualTo(HistoricProcessInstance.STATE_COMPLETED);
+    assertThat(historicProcessInstance.getStartTime()).isNotNull();
+    assertThat(historicProcessInstance.getEndTime()).isNotNull();
+
+    List<HistoricActivityInstance> activityInstances = historyService.createHistoricActivityInstanceQuery()
+        .processInstanceId(processInstance.getId())
+        .list();
+    assertThat(activityInstances).hasSize(3);
+    assertThat(activityInstances).allSatisfy(activityInstance -> {
+      assertThat(activityInstance.getStartTime()).isNotNull();
+      assertThat(activityInstance.getEndTime()).isNotNull();
+    });
+
+    assertThat(historyService.createHistoricTaskInstanceQuery().finished().count()).isEqualTo(1);
+    assertThat(historyService.createHistoricVariableInstanceQuery().singleResult().getValue()).isEqualTo("baz");
+    assertThat(historyService.createHistoricDetailQuery().variableUpdates().count()).isEqualTo(2);
+  }
+
+  @Test
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  void shouldWriteHistoryOfManyTransactions() throws InterruptedException {
+    // when
+    for (int i = 0; i < 20; i++) {
+      runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    }
+    for (Task task : taskService.createTaskQuery().list()) {
+      taskService.complete(task.getId());
+    }
+    awaitHistoryWritten();
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().completed().count()).isEqualTo(20);
+    assertThat(historyService.createHistoricActivityInstanceQuery().finished().count()).isEqualTo(60);
+  }
+
+  @Test
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  void shouldNotWriteHistoryBeforeCommit() throws InterruptedException {
+    // given
+    AsyncDbHistoryEventHandler handler = processEngineConfiguration.getAsyncDbHistoryEventHandler();
+
+    // when
+    String processInstanceId = processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+      // then
+      assertThat(handler.getPendingTransactionCount()).isZero();
+      return processInstance.getId();
+    });
+    awaitHistoryWritten();
+
+    assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(1);
+  }
+
+  protected void awaitHistoryWritten() throws InterruptedException {
+    assertThat(processEngineConfiguration.getAsyncDbHistoryEventHandler().awaitWritten(10000)).isTrue();
+  }
+
+}
@@ -16,6 +16,7 @@
  */
 package org.operaton.bpm.engine.test.history;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
@@ -25,6 +26,7 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import org.operaton.bpm.engine.BadUserRequestException;
 import org.operaton.bpm.engine.CaseService;
 import org.operaton.bpm.engine.HistoryService;
 import org.operaton.bpm.engine.ManagementService;
@@ -32,9 +34,11 @@ import org.operaton.bpm.engine.ProcessEngineConfiguration;
 import org.operaton.bpm.engine.ProcessEngineException;
 import org.operaton.bpm.engine.RuntimeService;
 import org.operaton.bpm.engine.TaskService;
+import org.operaton.bpm.engine.exception.NotValidException;
 import org.operaton.bpm.engine.history.HistoricActivityInstance;
 import org.operaton.bpm.engine.history.HistoricActivityInstanceQuery;
 import org.operaton.bpm.engine.history.HistoricProcessInstance;
+import org.operaton.bpm.engine.impl.HistoricActivityInstanceQueryImpl;
 import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.operaton.bpm.engine.impl.history.event.HistoricActivityInstanceEventEntity;
 import org.operaton.bpm.engine.impl.util.ClockUtil;
@@ -353,6 +357,98 @@ class HistoricActivityInstanceTest {
     assertThat(historyService.createHistoricActivityInstanceQuery().orderByProcessInstanceId().desc().count()).isEqualTo(expectedActivityInstances);
   }
 
+  @Deployment(resources = {"org/operaton/bpm/engine/test/history/HistoricActivityInstanceTest.testSorting.bpmn20.xml"})
+  @Test
+  void testPageAfter() {
+    runtimeService.startProcessInstanceByKey("process");
+    runtimeService.startProcessInstanceByKey("process");
+    runtimeService.startProcessInstanceByKey("process");
+
+    List<HistoricActivityInstance> expected = historyService.createHistoricActivityInstanceQuery()
+        .orderByActivityId().desc()
+        .orderByHistoricActivityInstanceId().desc()
+        .list();
+    assertThat(expected).hasSize(6);
+
+    List<HistoricActivityInstance> paged = new ArrayList<>(expected.subList(0, 2));
+    while (paged.size() < expected.size()) {
+      List<HistoricActivityInstance> page = historyService.createHistoricActivityInstanceQuery()
+          .pageAfter(paged.get(paged.size() - 1).getId())
+          .orderByActivityId().desc()
+          .listPage(0, 2);
+      assertThat(page).hasSize(2);
+      paged.addAll(page);
+    }
+
+    assertThat(paged).extracting(HistoricActivityInstance::getId)
+        .containsExactlyElementsOf(expected.stream().map(HistoricActivityInstance::getId).toList());
+    assertThat(historyService.createHistoricActivityInstanceQuery()
+        .pageAfter(expected.get(5).getId())
+        .orderByActivityId().desc()
+        .list()).isEmpty();
+  }
+
+  @Deployment(resources = {"org/operaton/bpm/engine/test/history/HistoricActivityInstanceTest.testSorting.bpmn20.xml"})
+  @Test
+  void testPageAfterWithoutOrdering() {
+    runtimeService.startProcessInstanceByKey("process");
+    runtimeService.startProcessInstanceByKey("process");
+
+    List<HistoricActivityInstance> expected = historyService.createHistoricActivityInstanceQuery()
+        .orderByHistoricActivityInstanceId().asc()
+        .list();
+
+    List<HistoricActivityInstance> result = historyService.createHistoricActivityInstanceQuery()
+        .pageAfter(expected.get(1).getId())
+        .list();
+
+    assertThat(result).extracting(HistoricActivityInstance::getId)
+        .containsExactlyElementsOf(expected.subList(2, expected.size()).stream().map(HistoricActivityInstance::getId).toList());
+  }
+
+  @Deployment(resources = {"org/operaton/bpm/engine/test/history/HistoricActivityInstanceTest.testSorting.bpmn20.xml"})
+  @Test
+  void testPageAfterIsRepeatable() {
+    runtimeService.startProcessInstanceByKey("process");
+    runtimeService.startProcessInstanceByKey("process");
+
+    List<HistoricActivityInstance> expected = historyService.createHistoricActivityInstanceQuery()
+        .orderByActivityId().asc()
+        .orderByHistoricActivityInstanceId().asc()
+        .list();
+
+    HistoricActivityInstanceQuery query = historyService.createHistoricActivityInstanceQuery()
+        .orderByActivityId().asc()
+        .pageAfter(expected.get(0).getId());
+
+    List<String> expectedIds = expected.subList(1, expected.size()).stream().map(HistoricActivityInstance::getId).toList();
+    assertThat(query.list()).extracting(HistoricActivityInstance::getId).containsExactlyElementsOf(expectedIds);
+    assertThat(query.list()).extracting(HistoricActivityInstance::getId).containsExactlyElementsOf(expectedIds);
+    assertThat(query.count()).isEqualTo(expectedIds.size());
+    assertThat(((HistoricActivityInstanceQueryImpl) query).getOrderingProperties()).hasSize(2);
+  }
+
+  @Test
+  void testPageAfterNonExistingResult() {
+    HistoricActivityInstanceQuery historicActivityInstanceQuery = historyService.createHistoricActivityInstanceQuery()
+        .pageAfter("nonExisting");
+
+    assertThatThrownBy(historicActivityInstanceQuery::list)
+        .isInstanceOf(BadUserRequestException.class)
+        .hasMessageContaining("nonExisting");
+  }
+
+  @Test
+  void testPageAfterWithUnsupportedOrdering() {
+    HistoricActivityInstanceQuery historicActivityInstanceQuery = historyService.createHistoricActivityInstanceQuery()
+        .pageAfter("someId")
+        .orderByHistoricActivityInstanceEndTime().asc();
+
+    assertThatThrownBy(historicActivityInstanceQuery::list)
+        .isInstanceOf(NotValidException.class)
+        .hasMessageContaining("END_TIME_");
+  }
+
   @Test
   void testInvalidSorting() {
     var historicActivityInstanceQuery = historyService.createHistoricActivityInstanceQuery().orderByHistoricActivityInstanceDuration();
@@ -16,6 +16,7 @@
  */
 package org.operaton.bpm.engine.test.jobexecutor;
 
+import java.util.Date;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -32,7 +33,10 @@ import org.operaton.bpm.engine.impl.persistence.entity.JobManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AcquireJobCmdUnitTest {
@@ -122,6 +126,25 @@ class AcquireJobCmdUnitTest {
     checkThatAcquiredJobsInDifferentBatches();
   }
 
+  @Test
+  void jobsLockedOnAcquisition() {
+    // given: a database which locks non-exclusive jobs when acquiring them,
+    // whereas exclusive jobs are returned unlocked
+    AcquirableJobEntity job1 = createNonExclusiveJob(JOB_ID_1, PROCESS_INSTANCE_ID_1);
+    when(job1.getLockOwner()).thenReturn("test");
+    AcquirableJobEntity job2 = createExclusiveJob(JOB_ID_2, PROCESS_INSTANCE_ID_2);
+
+    when(jobManager.isLockOnAcquisitionSupported()).thenReturn(true);
+    when(jobManager.findAndLockNextJobsToExecute(any(Page.class), eq("test"), any(Date.class))).thenReturn(List.of(job1, job2));
+
+    // when the job executor acquire new jobs
+    checkThatAcquiredJobsInDifferentBatches();
+
+    // then only the exclusive job which is not locked yet is updated
+    verify(job1, never()).setLockOwner(any());
+    verify(job2).setLockOwner("test");
+  }
+
   protected AcquirableJobEntity createExclusiveJob(String id, String processInstanceId) {
     AcquirableJobEntity job = createNonExclusiveJob(id, processInstanceId);
     when(job.isExclusive()).thenReturn(true);
@@ -15,13 +15,16 @@
  */
 package org.operaton.bpm.engine.test.jobexecutor;
 
+import java.util.Date;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.operaton.bpm.engine.impl.Page;
 import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
 import org.operaton.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.JobEntity;
 import org.operaton.bpm.engine.impl.test.RequiredDatabase;
 import org.operaton.bpm.engine.impl.util.ClockUtil;
 import org.operaton.bpm.engine.runtime.Job;
@@ -95,6 +98,59 @@ class JobExecutorSkipLockedDatabaseCompatibilityTest extends AbstractJobExecutor
     testSkipLockedBehavior();
   }
 
+  @Test
+  @RequiredDatabase(includes = DbSqlSessionFactory.POSTGRES)
+  @Deployment(resources = {
+    "org/operaton/bpm/engine/test/jobexecutor/simpleAsyncProcess.bpmn20.xml",
+    "org/operaton/bpm/engine/test/jobexecutor/nonExclusiveAsyncProcess.bpmn20.xml"
+  })
+  void testLockOnAcquisitionOnPostgreSQL() {
+    // given: two exclusive and three non-exclusive jobs
+    for (int i = 0; i < 2; i++) {
+      runtimeService.startProcessInstanceByKey("simpleAsyncProcess");
+    }
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("nonExclusiveAsyncProcess");
+    }
+    Date lockExpirationTime = new Date(ClockUtil.getCurrentTime().getTime() + 60000);
+
+    // when: acquiring and locking jobs in one statement
+    List<AcquirableJobEntity> acquirableJobs = configuration.getCommandExecutorTxRequired()
+      .execute(commandContext -> commandContext
+        .getJobManager()
+        .findAndLockNextJobsToExecute(new Page(0, 100), "test-lock-owner", lockExpirationTime));
+
+    // then: all jobs are acquired, but only the non-exclusive ones are locked by the statement
+    assertThat(acquirableJobs).hasSize(5);
+    assertThat(acquirableJobs)
+      .filteredOn(AcquirableJobEntity::isExclusive)
+      .hasSize(2)
+      .extracting(AcquirableJobEntity::getLockOwner)
+      .containsOnlyNulls();
+    assertThat(acquirableJobs)
+      .filteredOn(job -> !job.isExclusive())
+      .hasSize(3)
+      .extracting(AcquirableJobEntity::getLockOwner)
+      .containsOnly("test-lock-owner");
+
+    // and: the locks of the non-exclusive jobs are persisted
+    List<JobEntity> jobs = configuration.getCommandExecutorTxRequired()
+      .execute(commandContext -> acquirableJobs.stream()
+        .map(job -> commandContext.getJobManager().findJobById(job.getId()))
+        .toList());
+    assertThat(jobs)
+      .filteredOn(job -> !job.isExclusive())
+      .allSatisfy(job -> {
+        assertThat(job.getLockOwner()).isEqualTo("test-lock-owner");
+        assertThat(job.getLockExpirationTime()).hasSameTimeAs(lockExpirationTime);
+        assertThat(job.getRevision()).isEqualTo(2);
+      });
+    assertThat(jobs)
+      .filteredOn(JobEntity::isExclusive)
+      .extracting(JobEntity::getLockOwner)
+      .containsOnlyNulls();
+  }
+
   /**
    * Common test logic for all databases.
    * This method verifies that locked jobs are properly skipped
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.jobexecutor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.operaton.bpm.engine.ManagementService;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.jobexecutor.DefaultJobExecutor;
+import org.operaton.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.operaton.bpm.engine.impl.jobexecutor.JobNotificationChannel;
+import org.operaton.bpm.engine.test.Deployment;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobNotificationChannelTest {
+
+  protected static final CountingJobNotificationChannel CHANNEL = new CountingJobNotificationChannel();
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder()
+    .randomEngineName().closeEngineAfterAllTests()
+    .configurator(config -> {
+      JobExecutor jobExecutor = new DefaultJobExecutor();
+      jobExecutor.setJobNotificationChannel(CHANNEL);
+      config.setJobExecutor(jobExecutor);
+    })
+    .build();
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+  RuntimeService runtimeService;
+  ManagementService managementService;
+
+  @BeforeEach
+  void setUp() {
+    CHANNEL.publishedNotifications.set(0);
+  }
+
+  @Test
+  @Deployment(resources = "org/operaton/bpm/engine/test/jobexecutor/simpleAsyncProcess.bpmn20.xml")
+  void shouldPublishOncePerTransaction() {
+    // when
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      for (int i = 0; i < 3; i++) {
+        runtimeService.startProcessInstanceByKey("simpleAsyncProcess");
+      }
+      return null;
+    });
+
+    // then
+    assertThat(managementService.createJobQuery().count()).isEqualTo(3);
+    assertThat(CHANNEL.publishedNotifications.get()).isEqualTo(1);
+  }
+
+  @Test
+  @Deployment(resources = "org/operaton/bpm/engine/test/jobexecutor/simpleAsyncProcess.bpmn20.xml")
+  void shouldPublishForEveryTransaction() {
+    // when
+    runtimeService.startProcessInstanceByKey("simpleAsyncProcess");
+    runtimeService.startProcessInstanceByKey("simpleAsyncProcess");
+
+    // then
+    assertThat(CHANNEL.publishedNotifications.get()).isEqualTo(2);
+  }
+
+  protected static class CountingJobNotificationChannel implements JobNotificationChannel {
+
+    protected final AtomicInteger publishedNotifications = new AtomicInteger();
+
+    @Override
+    public void start(JobExecutor jobExecutor) {
+      // nothing to receive
+    }
+
+    @Override
+    public void stop() {
+      // nothing to receive
+    }
+
+    @Override
+    public void publishJobAdded() {
+      publishedNotifications.incrementAndGet();
+    }
+  }
+
+}
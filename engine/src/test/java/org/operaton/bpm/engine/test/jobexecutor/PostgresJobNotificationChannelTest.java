@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.jobexecutor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.operaton.bpm.engine.impl.jobexecutor.DefaultJobExecutor;
+import org.operaton.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.operaton.bpm.engine.impl.jobexecutor.PostgresJobNotificationChannel;
+import org.operaton.bpm.engine.impl.test.RequiredDatabase;
+import org.operaton.bpm.engine.test.Deployment;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RequiredDatabase(includes = DbSqlSessionFactory.POSTGRES)
+class PostgresJobNotificationChannelTest {
+
+  protected static final String CHANNEL_NAME = "operaton_job_added_test";
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder()
+    .randomEngineName().closeEngineAfterAllTests()
+    .configurator(config -> {
+      JobExecutor jobExecutor = new DefaultJobExecutor();
+      jobExecutor.setJobNotificationChannel(createChannel(config));
+      config.setJobExecutor(jobExecutor);
+    })
+    .build();
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+  RuntimeService runtimeService;
+
+  PostgresJobNotificationChannel listeningChannel;
+  JobExecutor listeningJobExecutor;
+
+  @BeforeEach
+  void startListening() {
+    listeningJobExecutor = mock(JobExecutor.class);
+    when(listeningJobExecutor.getName()).thenReturn("listeningJobExecutor");
+
+    listeningChannel = createChannel(processEngineConfiguration);
+    listeningChannel.start(listeningJobExecutor);
+
+    await().atMost(Duration.ofSeconds(10)).until(() -> countListeningConnections() == 1);
+  }
+
+  @AfterEach
+  void stopListening() {
+    listeningChannel.stop();
+  }
+
+  @Test
+  @Deployment(resources = "org/operaton/bpm/engine/test/jobexecutor/simpleAsyncProcess.bpmn20.xml")
+  void shouldWakeUpListeningNodeOnCommit() {
+    // when
+    runtimeService.startProcessInstanceByKey("simpleAsyncProcess");
+
+    // then
+    verify(listeningJobExecutor, timeout(5000)).jobWasAdded();
+  }
+
+  @Test
+  @Deployment(resources = "org/operaton/bpm/engine/test/jobexecutor/simpleAsyncProcess.bpmn20.xml")
+  void shouldNotWakeUpListeningNodeOnRollback() {
+    // when
+    assertThatThrownBy(() -> processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      runtimeService.startProcessInstanceByKey("simpleAsyncProcess");
+      throw new IllegalStateException("rollback");
+    })).isInstanceOf(IllegalStateException.class);
+
+    // then
+    verify(listeningJobExecutor, after(2000).never()).jobWasAdded();
+  }
+
+  @Test
+  void shouldCloseListeningConnectionOnStop() {
+    // when
+    listeningChannel.stop();
+
+    // then
+    await().atMost(Duration.ofSeconds(10)).until(() -> countListeningConnections() == 0);
+  }
+
+  protected long countListeningConnections() throws SQLException {
+    try (Connection connection = processEngineConfiguration.getDataSource().getConnection();
+         PreparedStatement statement = connection.prepareStatement(
+             "select count(*) from pg_stat_activity where query = ?")) {
+      statement.setString(1, "LISTEN " + CHANNEL_NAME);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        return resultSet.getLong(1);
+      }
+    }
+  }
+
+  protected static PostgresJobNotificationChannel createChannel(ProcessEngineConfigurationImpl config) {
+    PostgresJobNotificationChannel channel = new PostgresJobNotificationChannel(
+        config.getJdbcUrl(), config.getJdbcUsername(), config.getJdbcPassword());
+    channel.setChannelName(CHANNEL_NAME);
+    return channel;
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.jobexecutor;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.ManagementService;
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngines;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.operaton.bpm.engine.impl.cmd.AcquireJobsCmd;
+import org.operaton.bpm.engine.impl.cmd.ExtendJobLocksCmd;
+import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+import org.operaton.bpm.engine.impl.jobexecutor.AcquiredJobs;
+import org.operaton.bpm.engine.impl.jobexecutor.PrioritizedJobExecutor;
+import org.operaton.bpm.engine.impl.persistence.entity.JobEntity;
+import org.operaton.bpm.engine.runtime.Job;
+
+import static org.operaton.bpm.engine.test.util.JobExecutorWaitUtils.waitForJobExecutorToProcessAllJobs;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrioritizedJobExecutorTest {
+
+  private static final String PROCESS_RESOURCE = "org/operaton/bpm/engine/test/jobexecutor/simpleAsyncProcess.bpmn20.xml";
+
+  private PrioritizedJobExecutor jobExecutor;
+  private ProcessEngine processEngine;
+  private ProcessEngineConfigurationImpl configuration;
+
+  @BeforeEach
+  void setUp() {
+    jobExecutor = new PrioritizedJobExecutor();
+
+    configuration = new StandaloneInMemProcessEngineConfiguration();
+    configuration.setProcessEngineName(getClass().getName() + "-engine");
+    configuration.setJdbcUrl("jdbc:h2:mem:prioritized-job-executor-test");
+    configuration.setJobExecutorActivate(false);
+    configuration.setJobExecutor(jobExecutor);
+    configuration.setDbMetricsReporterActivate(false);
+
+    processEngine = configuration.buildProcessEngine();
+    processEngine.getRepositoryService().createDeployment().addClasspathResource(PROCESS_RESOURCE).deploy();
+  }
+
+  @AfterEach
+  void tearDown() {
+    jobExecutor.shutdown();
+    processEngine.close();
+    ProcessEngines.unregister(processEngine);
+  }
+
+  @Test
+  void shouldExecuteJobs() {
+    // given
+    ManagementService managementService = processEngine.getManagementService();
+    for (int i = 0; i < 10; i++) {
+      processEngine.getRuntimeService().startProcessInstanceByKey("simpleAsyncProcess");
+    }
+
+    // when
+    jobExecutor.start();
+    waitForJobExecutorToProcessAllJobs(10000, 100, jobExecutor, managementService);
+
+    // then
+    assertThat(managementService.createJobQuery().count()).isZero();
+    assertThat(jobExecutor.getExecutedBatchCount()).isEqualTo(10);
+    assertThat(jobExecutor.getQueueDepth()).isZero();
+  }
+
+  @Test
+  void shouldExtendLocksOfAcquiredJobs() {
+    // given
+    processEngine.getRuntimeService().startProcessInstanceByKey("simpleAsyncProcess");
+    processEngine.getRuntimeService().startProcessInstanceByKey("simpleAsyncProcess");
+    CommandExecutor commandExecutor = configuration.getCommandExecutorTxRequired();
+
+    AcquiredJobs acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(jobExecutor, 1));
+    String acquiredJobId = acquiredJobs.getJobIdBatches().get(0).get(0);
+    assertThat(acquiredJobs.getAcquiredJob(acquiredJobId)).isNotNull();
+
+    List<String> jobIds = processEngine.getManagementService().createJobQuery().list().stream()
+        .map(Job::getId)
+        .toList();
+    Date lockExpirationTime = new Date(System.currentTimeMillis() + 60 * 60 * 1000L);
+
+    // when
+    commandExecutor.execute(new ExtendJobLocksCmd(jobIds, jobExecutor.getLockOwner(), lockExpirationTime));
+
+    // then only the lock of the acquired job is extended
+    for (String jobId : jobIds) {
+      JobEntity job = (JobEntity) processEngine.getManagementService().createJobQuery().jobId(jobId).singleResult();
+      if (jobId.equals(acquiredJobId)) {
+        assertThat(job.getLockExpirationTime()).hasSameTimeAs(lockExpirationTime);
+      } else {
+        assertThat(job.getLockExpirationTime()).isNull();
+      }
+    }
+  }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.jobexecutor;
+
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.operaton.bpm.engine.impl.jobexecutor.MessageAddedNotification;
+import org.operaton.bpm.engine.impl.jobexecutor.UdpJobNotificationChannel;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UdpJobNotificationChannelTest {
+
+  private UdpJobNotificationChannel channel1;
+  private UdpJobNotificationChannel channel2;
+  private JobExecutor jobExecutor1;
+  private JobExecutor jobExecutor2;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    InetAddress localhost = InetAddress.getLoopbackAddress();
+    InetSocketAddress address1 = new InetSocketAddress(localhost, findFreePort());
+    InetSocketAddress address2 = new InetSocketAddress(localhost, findFreePort());
+
+    channel1 = new UdpJobNotificationChannel(address1, List.of(address2));
+    channel2 = new UdpJobNotificationChannel(address2, List.of(address1));
+
+    jobExecutor1 = mock(JobExecutor.class);
+    jobExecutor2 = mock(JobExecutor.class);
+    when(jobExecutor1.getName()).thenReturn("jobExecutor1");
+    when(jobExecutor2.getName()).thenReturn("jobExecutor2");
+
+    channel1.start(jobExecutor1);
+    channel2.start(jobExecutor2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    channel1.stop();
+    channel2.stop();
+  }
+
+  @Test
+  void shouldWakeUpOtherNode() {
+    // when
+    channel1.publishJobAdded();
+
+    // then
+    verify(jobExecutor2, timeout(5000)).jobWasAdded();
+    verify(jobExecutor1, never()).jobWasAdded();
+  }
+
+  @Test
+  void shouldPublishOnMessageAddedNotification() {
+    // given
+    JobExecutor jobExecutor = mock(JobExecutor.class);
+
+    // when
+    new MessageAddedNotification(jobExecutor).execute(null);
+
+    // then
+    verify(jobExecutor).jobWasAdded();
+    verify(jobExecutor).publishJobAdded();
+  }
+
+  private static int findFreePort() throws IOException {
+    try (DatagramSocket socket = new DatagramSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+}
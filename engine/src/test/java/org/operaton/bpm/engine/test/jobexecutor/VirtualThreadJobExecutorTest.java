@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.jobexecutor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.engine.ManagementService;
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngines;
+import org.operaton.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.operaton.bpm.engine.impl.cfg.StandaloneProcessEngineConfiguration;
+import org.operaton.bpm.engine.impl.jobexecutor.VirtualThreadJobExecutor;
+
+import static org.operaton.bpm.engine.test.util.JobExecutorWaitUtils.waitForJobExecutorToProcessAllJobs;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadJobExecutorTest {
+
+  private static final String PROCESS_RESOURCE = "org/operaton/bpm/engine/test/jobexecutor/simpleAsyncProcess.bpmn20.xml";
+
+  private VirtualThreadJobExecutor jobExecutor;
+  private ProcessEngine processEngine;
+
+  @BeforeEach
+  void setUp() {
+    jobExecutor = new VirtualThreadJobExecutor();
+    jobExecutor.setMaxConcurrentJobs(2);
+
+    StandaloneProcessEngineConfiguration configuration = new StandaloneInMemProcessEngineConfiguration();
+    configuration.setProcessEngineName(getClass().getName() + "-engine");
+    configuration.setJdbcUrl("jdbc:h2:mem:virtual-thread-job-executor-test");
+    configuration.setJobExecutorActivate(false);
+    configuration.setJobExecutor(jobExecutor);
+    configuration.setDbMetricsReporterActivate(false);
+
+    processEngine = configuration.buildProcessEngine();
+    processEngine.getRepositoryService().createDeployment().addClasspathResource(PROCESS_RESOURCE).deploy();
+  }
+
+  @AfterEach
+  void tearDown() {
+    jobExecutor.shutdown();
+    processEngine.close();
+    ProcessEngines.unregister(processEngine);
+  }
+
+  @Test
+  void shouldExecuteJobs() {
+    // given
+    ManagementService managementService = processEngine.getManagementService();
+    for (int i = 0; i < 10; i++) {
+      processEngine.getRuntimeService().startProcessInstanceByKey("simpleAsyncProcess");
+    }
+    assertThat(managementService.createJobQuery().count()).isEqualTo(10);
+
+    // when
+    jobExecutor.start();
+    waitForJobExecutorToProcessAllJobs(10000, 100, jobExecutor, managementService);
+
+    // then
+    assertThat(managementService.createJobQuery().count()).isZero();
+    assertThat(processEngine.getHistoryService().createHistoricProcessInstanceQuery().completed().count()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldReleaseExecutionSlotsAfterExecution() {
+    // given
+    ManagementService managementService = processEngine.getManagementService();
+    processEngine.getRuntimeService().startProcessInstanceByKey("simpleAsyncProcess");
+
+    // when
+    jobExecutor.start();
+    waitForJobExecutorToProcessAllJobs(10000, 100, jobExecutor, managementService);
+    jobExecutor.shutdown();
+
+    // then
+    assertThat(jobExecutor.getActiveJobCount()).isZero();
+    assertThat(jobExecutor.getAvailableExecutionSlots()).isEqualTo(2);
+  }
+
+}
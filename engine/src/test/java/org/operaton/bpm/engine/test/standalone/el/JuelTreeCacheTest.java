@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.standalone.el;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.impl.juel.Builder;
+import org.operaton.bpm.impl.juel.Cache;
+import org.operaton.bpm.impl.juel.Tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JuelTreeCacheTest {
+
+  Builder builder = new Builder();
+
+  @Test
+  void shouldEvictInInsertionOrder() {
+    Cache cache = new Cache(2, null);
+
+    cache.put("a", tree("a"));
+    cache.put("b", tree("b"));
+    cache.put("c", tree("c"));
+
+    assertThat(cache.getPrimarySize()).isEqualTo(2);
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.get("b")).isNotNull();
+    assertThat(cache.get("c")).isNotNull();
+  }
+
+  @Test
+  void shouldGiveReferencedEntriesSecondChance() {
+    Cache cache = new Cache(2, null);
+    cache.put("a", tree("a"));
+    cache.put("b", tree("b"));
+
+    cache.get("a");
+    cache.put("c", tree("c"));
+
+    assertThat(cache.getPrimarySize()).isEqualTo(2);
+    assertThat(cache.get("b")).isNull();
+    assertThat(cache.get("a")).isNotNull();
+    assertThat(cache.get("c")).isNotNull();
+  }
+
+  @Test
+  void shouldMoveEvictedEntriesToSecondaryMap() {
+    Map<String, Tree> secondary = new HashMap<>();
+    Cache cache = new Cache(1, secondary);
+    Tree treeA = tree("a");
+    cache.put("a", treeA);
+
+    cache.put("b", tree("b"));
+
+    assertThat(cache.getPrimarySize()).isEqualTo(1);
+    assertThat(secondary).containsOnlyKeys("a");
+    assertThat(cache.get("a")).isSameAs(treeA);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReplaceEntryWithoutGrowingTheClock() {
+    Cache cache = new Cache(2, null);
+    Tree replacement = tree("a");
+
+    cache.put("a", tree("a"));
+    cache.put("a", tree("a"));
+    cache.put("a", replacement);
+    cache.put("b", tree("b"));
+
+    assertThat(cache.get("a")).isSameAs(replacement);
+
+    cache.put("c", tree("c"));
+    cache.put("d", tree("d"));
+
+    assertThat(cache.getPrimarySize()).isEqualTo(2);
+    assertThat(cache.get("b")).isNull();
+    assertThat(cache.get("c")).isNull();
+    assertThat(cache.get("a")).isSameAs(replacement);
+    assertThat(cache.get("d")).isNotNull();
+  }
+
+  @Test
+  void shouldCountHitsAndMisses() {
+    Cache cache = new Cache(10);
+    assertThat(cache.getHitRate()).isZero();
+
+    cache.put("a", tree("a"));
+    cache.get("a");
+    cache.get("a");
+    cache.get("a");
+    cache.get("unknown");
+
+    assertThat(cache.getHitCount()).isEqualTo(3);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getHitRate()).isEqualTo(0.75);
+  }
+
+  protected Tree tree(String identifier) {
+    return builder.build("${" + identifier + "}");
+  }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.standalone.el;
+
+import java.util.function.Supplier;
+
+import jakarta.el.ELContext;
+import jakarta.el.ELException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.operaton.bpm.impl.juel.MethodHandleBeanELResolver;
+import org.operaton.bpm.impl.juel.SimpleContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MethodHandleBeanELResolverTest {
+
+  MethodHandleBeanELResolver resolver = new MethodHandleBeanELResolver();
+  ELContext context;
+
+  @BeforeEach
+  void setUp() {
+    context = new SimpleContext();
+  }
+
+  @Test
+  void shouldReadProperty() {
+    Object value = resolver.getValue(context, new TestBean("foo"), "name");
+
+    assertThat(value).isEqualTo("foo");
+    assertThat(context.isPropertyResolved()).isTrue();
+  }
+
+  @Test
+  void shouldInvokeMethod() {
+    Object result = resolver.invoke(context, new TestBean("foo"), "concat", null, new Object[] { "bar", 2 });
+
+    assertThat(result).isEqualTo("foobarbar");
+    assertThat(context.isPropertyResolved()).isTrue();
+  }
+
+  @Test
+  void shouldInvokeVoidMethod() {
+    TestBean bean = new TestBean("foo");
+
+    Object result = resolver.invoke(context, bean, "rename", null, new Object[] { "bar" });
+
+    assertThat(result).isNull();
+    assertThat(bean.getName()).isEqualTo("bar");
+  }
+
+  @Test
+  void shouldInvokeOverloadedMethod() {
+    TestBean bean = new TestBean("foo");
+
+    assertThat(resolver.invoke(context, bean, "describe", null, new Object[] { "bar" })).isEqualTo("string bar");
+    assertThat(resolver.invoke(context, bean, "describe", null, new Object[] { 1 })).isEqualTo("integer 1");
+  }
+
+  @Test
+  void shouldCoerceParameters() {
+    // the long parameter is coerced to an int by the bean resolver
+    Object result = resolver.invoke(context, new TestBean("foo"), "concat", null, new Object[] { "bar", 2L });
+
+    assertThat(result).isEqualTo("foobarbar");
+  }
+
+  @Test
+  void shouldInvokeMethodOfNonPublicClass() {
+    Supplier<String> supplier = new Supplier<>() {
+      @Override
+      public String get() {
+        return "foo";
+      }
+    };
+
+    Object result = resolver.invoke(context, supplier, "get", null, new Object[0]);
+
+    assertThat(result).isEqualTo("foo");
+  }
+
+  @Test
+  void shouldWrapExceptionOfInvokedMethod() {
+    TestBean bean = new TestBean("foo");
+    Object[] params = new Object[0];
+
+    assertThatThrownBy(() -> resolver.invoke(context, bean, "fail", null, params))
+      .isInstanceOf(ELException.class)
+      .cause()
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("foo");
+  }
+
+  public static class TestBean {
+
+    private String name;
+
+    public TestBean(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void rename(String name) {
+      this.name = name;
+    }
+
+    public String concat(String suffix, int times) {
+      return name + suffix.repeat(times);
+    }
+
+    public String describe(String value) {
+      return "string " + value;
+    }
+
+    public String describe(Integer value) {
+      return "integer " + value;
+    }
+
+    public String fail() {
+      throw new IllegalStateException(name);
+    }
+
+  }
+
+}
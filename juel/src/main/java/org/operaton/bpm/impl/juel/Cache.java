@@ -16,24 +16,37 @@
 package org.operaton.bpm.impl.juel;
 
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 
 
 /**
- * Simple (thread-safe) LRU cache.
- * After the cache size reached a certain limit, the least recently used entry is removed,
- * when adding a new entry.
+ * Thread-safe cache with approximated LRU eviction.
+ * After the cache size reached a certain limit, an entry which has not been used since the
+ * last eviction pass is removed when adding a new entry (CLOCK algorithm).
+ * Lookups in the primary cache do not lock, so concurrent expression evaluations
+ * do not contend on a shared monitor.
  *
  * @author Christoph Beck
  */
 public final class Cache implements TreeCache {
-  private final Map<String,Tree> primary;
+  private final int size;
+  private final Map<String,CacheEntry> primary;
   private final Map<String,Tree> secondary;
 
+  /** expressions of the primary entries in insertion order, scanned by the eviction clock */
+  private final Queue<String> clock = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
   /**
    * Constructor.
    * Use a {@link WeakHashMap} as secondary map.
@@ -45,43 +58,129 @@ public final class Cache implements TreeCache {
 
 	/**
 	 * Constructor.
-	 * If the least recently used entry is removed from the primary cache, it is added to
-	 * the secondary map.
+	 * If an entry is evicted from the primary cache, it is added to the secondary map.
+	 * The secondary map is only accessed on primary cache misses and evictions.
    * @param size maximum primary cache size
 	 * @param secondary the secondary map (may be <code>null</code>)
 	 */
-	@SuppressWarnings("serial")
 	public Cache(final int size, Map<String,Tree> secondary) {
-		this.primary = Collections.synchronizedMap(new LinkedHashMap<String,Tree>(16, 0.75f, true) {
-			@Override
-			protected boolean removeEldestEntry(Entry<String,Tree> eldest) {
-				if (size() > size) {
-					if (Cache.this.secondary != null) { // move to secondary cache
-						Cache.this.secondary.put(eldest.getKey(), eldest.getValue());
-					}
-					return true;
-				}
-				return false;
-			}
-		});
+		this.size = size;
+		this.primary = new ConcurrentHashMap<>();
 		this.secondary = secondary == null ? null : Collections.synchronizedMap(secondary);
 	}
 
   @Override
   public Tree get(String expression) {
-		if (secondary == null) {
-			return primary.get(expression);
-		} else {
-			Tree tree = primary.get(expression);
-			if (tree == null) {
-				tree = secondary.get(expression);
+		CacheEntry entry = primary.get(expression);
+		if (entry != null) {
+			// avoid writing the shared flag for hot entries which are already marked
+			if (!entry.referenced) {
+				entry.referenced = true;
 			}
-			return tree;
+			hitCount.increment();
+			return entry.tree;
 		}
+		Tree tree = secondary == null ? null : secondary.get(expression);
+		if (tree != null) {
+			hitCount.increment();
+		} else {
+			missCount.increment();
+		}
+		return tree;
 	}
 
   @Override
   public void put(String expression, Tree tree) {
-		primary.put(expression, tree);
+		// a replaced entry keeps the position of the expression in the clock
+		if (primary.put(expression, new CacheEntry(tree)) == null) {
+			clock.offer(expression);
+		}
+		if (primary.size() > size) {
+			evict();
+		}
+	}
+
+	/**
+	 * Remove entries until the primary cache fits its size. Referenced entries get a second
+	 * chance and are moved to the end of the clock. Only one thread evicts at a time, other
+	 * threads continue without waiting, so the cache may exceed its size for a short time.
+	 */
+	private void evict() {
+		if (!evicting.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			// bound the second chances in case concurrent lookups keep marking the entries
+			int secondChances = primary.size();
+			while (primary.size() > size) {
+				String expression = clock.poll();
+				if (expression == null) {
+					break;
+				}
+				CacheEntry entry = primary.get(expression);
+				if (entry == null) {
+					continue;
+				}
+				if (entry.referenced && secondChances-- > 0) {
+					entry.referenced = false;
+					clock.offer(expression);
+				} else if (primary.remove(expression, entry)) {
+					if (secondary != null) {
+						secondary.put(expression, entry.tree);
+					}
+				} else {
+					// replaced by a concurrent put, which did not add the expression to the clock again
+					clock.offer(expression);
+				}
+			}
+		} finally {
+			evicting.set(false);
+		}
+	}
+
+	/**
+	 * @return the maximum primary cache size
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the number of entries in the primary cache
+	 */
+	public int getPrimarySize() {
+		return primary.size();
+	}
+
+	/**
+	 * @return the number of lookups which found a tree in the primary or secondary cache
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * @return the number of lookups which found no tree
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * @return the ratio of hits to lookups, or <code>0</code> if there was no lookup yet
+	 */
+	public double getHitRate() {
+		long hits = hitCount.sum();
+		long lookups = hits + missCount.sum();
+		return lookups == 0 ? 0 : (double) hits / lookups;
+	}
+
+	private static final class CacheEntry {
+		private final Tree tree;
+		private volatile boolean referenced;
+
+		CacheEntry(Tree tree) {
+			this.tree = tree;
+		}
 	}
 }
@@ -244,6 +244,16 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 		this.converter = converter;
 	}
 
+	/**
+	 * Get the tree store used to parse and cache parse trees, e.g. to read the statistics of
+	 * its {@link Cache}.
+	 *
+	 * @return the tree store of this factory
+	 */
+	public TreeStore getTreeStore() {
+		return store;
+	}
+
 	private Properties loadDefaultProperties() {
 		String home = System.getProperty("java.home");
 		String path = "%s%slib%sel.properties".formatted(home, File.separator, File.separator);
@@ -323,9 +333,11 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 
 		// create cache
 		int cacheSize = defaultCacheSize;
-		if (properties != null && properties.containsKey(PROP_CACHE_SIZE)) {
+		// getProperty also looks up the default properties, e.g. JAVA_HOME/lib/el.properties
+		String cacheSizeProperty = properties != null ? properties.getProperty(PROP_CACHE_SIZE) : null;
+		if (cacheSizeProperty != null) {
 			try {
-				cacheSize = Integer.parseInt(properties.getProperty(PROP_CACHE_SIZE));
+				cacheSize = Integer.parseInt(cacheSizeProperty.trim());
 			} catch (NumberFormatException e) {
 				throw new ELException("Cannot parse EL property " + PROP_CACHE_SIZE, e);
 			}
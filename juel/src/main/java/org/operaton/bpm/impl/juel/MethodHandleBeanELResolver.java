@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.impl.juel;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.el.BeanELResolver;
+import jakarta.el.ELContext;
+import jakarta.el.ELException;
+
+/**
+ * Bean resolver which reads properties and invokes methods through cached method handles.
+ * <p>
+ * {@link BeanELResolver} resolves the method to invoke on every call by searching all public
+ * methods of the base class and coercing the parameters. This resolver caches a method handle
+ * per class and property name, respectively per class, method name and number of parameters,
+ * and uses it if
+ * <ul>
+ * <li>the property has a public read method, or</li>
+ * <li>the class has exactly one public method with the name and number of parameters, which is
+ * neither static nor of variable arity, and all parameters are non-null instances of the declared
+ * parameter types.</li>
+ * </ul>
+ * Everything else, e.g. overloaded methods or parameters which need to be coerced, is delegated
+ * to {@link BeanELResolver}, so the resolved values are the same in both cases.
+ * <p>
+ * The method handles are kept in {@link ClassValue}s which are shared by all instances and do not
+ * prevent classes from being unloaded.
+ */
+public class MethodHandleBeanELResolver extends BeanELResolver {
+	private static final Object[] NO_PARAMS = new Object[0];
+
+	private static final ClassValue<ConcurrentMap<String, Optional<BeanMethod>>> PROPERTY_READERS = new ClassValue<>() {
+		@Override
+		protected ConcurrentMap<String, Optional<BeanMethod>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private static final ClassValue<ConcurrentMap<String, Optional<BeanMethod>>> METHODS = new ClassValue<>() {
+		@Override
+		protected ConcurrentMap<String, Optional<BeanMethod>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * Creates a new read/write resolver.
+	 */
+	public MethodHandleBeanELResolver() {
+		super();
+	}
+
+	/**
+	 * Creates a new resolver.
+	 * @param readOnly whether properties can be set by this resolver
+	 */
+	public MethodHandleBeanELResolver(boolean readOnly) {
+		super(readOnly);
+	}
+
+	@Override
+	public Object getValue(ELContext context, Object base, Object property) {
+		if (context != null && base != null && property != null) {
+			Class<?> type = base.getClass();
+			Optional<BeanMethod> reader = PROPERTY_READERS.get(type)
+				.computeIfAbsent(property.toString(), name -> findPropertyReader(type, name));
+			if (reader.isPresent()) {
+				Object value = reader.get().invoke(base, NO_PARAMS);
+				context.setPropertyResolved(base, property);
+				return value;
+			}
+		}
+		return super.getValue(context, base, property);
+	}
+
+	@Override
+	public Object invoke(ELContext context, Object base, Object method, Class<?>[] paramTypes, Object[] params) {
+		if (context != null && base != null && method != null && paramTypes == null) {
+			Class<?> type = base.getClass();
+			String name = method.toString();
+			Object[] args = params != null ? params : NO_PARAMS;
+			Optional<BeanMethod> beanMethod = METHODS.get(type)
+				.computeIfAbsent(name + "/" + args.length, key -> findMethod(type, name, args.length));
+			if (beanMethod.isPresent() && beanMethod.get().isApplicable(args)) {
+				Object result = beanMethod.get().invoke(base, args);
+				context.setPropertyResolved(base, method);
+				return result;
+			}
+		}
+		return super.invoke(context, base, method, paramTypes, params);
+	}
+
+	private static Optional<BeanMethod> findPropertyReader(Class<?> type, String name) {
+		try {
+			for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+				if (name.equals(descriptor.getName())) {
+					return BeanMethod.of(descriptor.getReadMethod());
+				}
+			}
+		} catch (IntrospectionException e) {
+			// let the bean resolver report the error
+		}
+		return Optional.empty();
+	}
+
+	private static Optional<BeanMethod> findMethod(Class<?> type, String name, int parameterCount) {
+		Method candidate = null;
+		for (Method method : type.getMethods()) {
+			if (method.getName().equals(name) && method.getParameterCount() == parameterCount && !method.isBridge()) {
+				if (candidate != null || method.isVarArgs()) {
+					// overload resolution and variable arguments are left to the bean resolver
+					return Optional.empty();
+				}
+				candidate = method;
+			}
+		}
+		return BeanMethod.of(candidate);
+	}
+
+	private static final class BeanMethod {
+		private final MethodHandle handle;
+		private final Class<?>[] parameterTypes;
+
+		private BeanMethod(MethodHandle handle, Class<?>[] parameterTypes) {
+			this.handle = handle;
+			this.parameterTypes = parameterTypes;
+		}
+
+		static Optional<BeanMethod> of(Method method) {
+			if (method == null || Modifier.isStatic(method.getModifiers())) {
+				return Optional.empty();
+			}
+			try {
+				// fails for methods of non-public classes, which the bean resolver looks up in public supertypes
+				MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+				Class<?>[] parameterTypes = method.getParameterTypes();
+				for (int i = 0; i < parameterTypes.length; i++) {
+					parameterTypes[i] = MethodType.methodType(parameterTypes[i]).wrap().returnType();
+				}
+				MethodHandle spreader = handle
+					.asType(handle.type().generic())
+					.asSpreader(Object[].class, parameterTypes.length);
+				return Optional.of(new BeanMethod(spreader, parameterTypes));
+			} catch (IllegalAccessException e) {
+				return Optional.empty();
+			}
+		}
+
+		boolean isApplicable(Object[] args) {
+			for (int i = 0; i < parameterTypes.length; i++) {
+				if (!parameterTypes[i].isInstance(args[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		Object invoke(Object base, Object[] args) {
+			try {
+				return handle.invoke(base, args);
+			} catch (Throwable e) {
+				throw new ELException(e);
+			}
+		}
+	}
+}